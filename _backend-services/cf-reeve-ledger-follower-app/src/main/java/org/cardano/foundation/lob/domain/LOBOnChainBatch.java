@@ -19,4 +19,7 @@ public class LOBOnChainBatch {
     @Builder.Default
     private Set<LOBOnChainTransaction> transactions = new LinkedHashSet<>();
 
+    @Builder.Default
+    private Set<LOBOnChainReport> reports = new LinkedHashSet<>();
+
 }
@@ -0,0 +1,26 @@
+package org.cardano.foundation.lob.domain;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.math.BigInteger;
+
+@Getter
+@Builder
+@EqualsAndHashCode
+public class LOBOnChainReport {
+
+    private String subType;
+
+    private String interval;
+
+    private String year;
+
+    private BigInteger period;
+
+    private String mode;
+
+    private BigInteger ver;
+
+}
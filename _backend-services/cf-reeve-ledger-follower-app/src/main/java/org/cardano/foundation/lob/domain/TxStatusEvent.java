@@ -0,0 +1,22 @@
+package org.cardano.foundation.lob.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Optional;
+
+@AllArgsConstructor
+@Getter
+@Builder
+public class TxStatusEvent {
+
+    private long sequence;
+    private TxStatusEventType type;
+    private String transactionHash;
+    private long absoluteSlot;
+
+    @Builder.Default
+    private Optional<FinalityScore> finalityScore = Optional.empty(); // empty for rolled back transactions
+
+}
@@ -0,0 +1,9 @@
+package org.cardano.foundation.lob.domain;
+
+public enum TxStatusEventType {
+
+    INCLUDED,
+    FINALITY_CHANGED,
+    ROLLED_BACK;
+
+}
@@ -0,0 +1,41 @@
+package org.cardano.foundation.lob.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.cardano.foundation.lob.domain.FinalityScore;
+import org.springframework.data.domain.Persistable;
+
+import static jakarta.persistence.EnumType.STRING;
+
+@Getter
+@Setter
+@Entity(name = "L1TransactionEntity")
+@Table(name = "blockchain_reader_l1_transaction")
+@NoArgsConstructor
+@AllArgsConstructor
+public class L1TransactionEntity extends AuditEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "l1_transaction_hash", nullable = false)
+    private String id;
+
+    @Column(name = "l1_absolute_slot", nullable = false)
+    private Long l1AbsoluteSlot;
+
+    @Column(name = "finality_score", nullable = false)
+    @Enumerated(STRING)
+    private FinalityScore finalityScore;
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+}
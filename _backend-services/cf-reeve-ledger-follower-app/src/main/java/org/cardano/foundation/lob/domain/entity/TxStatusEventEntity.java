@@ -0,0 +1,54 @@
+package org.cardano.foundation.lob.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.cardano.foundation.lob.domain.FinalityScore;
+import org.cardano.foundation.lob.domain.TxStatusEventType;
+
+import static jakarta.persistence.EnumType.STRING;
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+@Getter
+@Setter
+@Entity(name = "TxStatusEventEntity")
+@Table(name = "blockchain_reader_tx_status_event")
+@NoArgsConstructor
+public class TxStatusEventEntity extends AuditEntity {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    @Column(name = "sequence", nullable = false, updatable = false)
+    private Long sequence;
+
+    @Column(name = "event_type", nullable = false)
+    @Enumerated(STRING)
+    private TxStatusEventType type;
+
+    @Column(name = "l1_transaction_hash", nullable = false)
+    private String l1TransactionHash;
+
+    @Column(name = "l1_absolute_slot", nullable = false)
+    private Long l1AbsoluteSlot;
+
+    @Column(name = "finality_score")
+    @Enumerated(STRING)
+    private FinalityScore finalityScore; // null for rolled back transactions
+
+    public TxStatusEventEntity(TxStatusEventType type,
+                               String l1TransactionHash,
+                               long l1AbsoluteSlot,
+                               FinalityScore finalityScore) {
+        this.type = type;
+        this.l1TransactionHash = l1TransactionHash;
+        this.l1AbsoluteSlot = l1AbsoluteSlot;
+        this.finalityScore = finalityScore;
+    }
+
+}
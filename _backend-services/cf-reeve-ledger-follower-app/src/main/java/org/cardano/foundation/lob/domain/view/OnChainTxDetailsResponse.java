@@ -0,0 +1,24 @@
+package org.cardano.foundation.lob.domain.view;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.cardano.foundation.lob.domain.CardanoNetwork;
+import org.cardano.foundation.lob.domain.OnChainTxDetails;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class OnChainTxDetailsResponse {
+
+    // only transactions found on chain, keyed by transaction hash
+    private Map<String, OnChainTxDetails> transactionDetails = new LinkedHashMap<>();
+
+    private CardanoNetwork network;
+
+}
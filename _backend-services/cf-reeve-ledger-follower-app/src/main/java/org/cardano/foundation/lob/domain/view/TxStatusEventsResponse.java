@@ -0,0 +1,26 @@
+package org.cardano.foundation.lob.domain.view;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.cardano.foundation.lob.domain.CardanoNetwork;
+import org.cardano.foundation.lob.domain.TxStatusEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class TxStatusEventsResponse {
+
+    private List<TxStatusEvent> events = new ArrayList<>();
+
+    // sequence to pass as "after" in the next request
+    private long cursor;
+
+    private CardanoNetwork network;
+
+}
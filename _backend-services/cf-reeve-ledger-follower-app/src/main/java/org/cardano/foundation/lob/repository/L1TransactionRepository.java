@@ -0,0 +1,18 @@
+package org.cardano.foundation.lob.repository;
+
+import org.cardano.foundation.lob.domain.entity.L1TransactionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface L1TransactionRepository extends JpaRepository<L1TransactionEntity, String> {
+
+    @Query("SELECT t FROM L1TransactionEntity t WHERE t.finalityScore <> org.cardano.foundation.lob.domain.FinalityScore.FINAL")
+    List<L1TransactionEntity> findNotFinal();
+
+    @Query("SELECT t FROM L1TransactionEntity t WHERE t.l1AbsoluteSlot > :absoluteSlot")
+    List<L1TransactionEntity> findBySlotGreaterThan(@Param("absoluteSlot") long absoluteSlot);
+
+}
@@ -6,10 +6,17 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.Set;
+
 public interface TransactionRepository extends JpaRepository<TransactionEntity, String> {
 
     @Query("DELETE FROM TransactionEntity t where t.l1AbsoluteSlot > :absoluteSlot")
     @Modifying
     void deleteBySlotGreaterThan(@Param("absoluteSlot") long absoluteSlot);
 
+    // transaction_id is CHAR(64), trimmed so ids can be matched against the requested ones
+    @Query("SELECT TRIM(TRAILING FROM t.id) FROM TransactionEntity t WHERE t.id IN :transactionIds")
+    Set<String> findExistingIds(@Param("transactionIds") Collection<String> transactionIds);
+
 }
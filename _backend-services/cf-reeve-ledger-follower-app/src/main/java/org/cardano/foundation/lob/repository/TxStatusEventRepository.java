@@ -0,0 +1,25 @@
+package org.cardano.foundation.lob.repository;
+
+import org.cardano.foundation.lob.domain.entity.TxStatusEventEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TxStatusEventRepository extends JpaRepository<TxStatusEventEntity, Long> {
+
+    @Query("SELECT e FROM TxStatusEventEntity e WHERE e.sequence > :after ORDER BY e.sequence")
+    List<TxStatusEventEntity> findAfter(@Param("after") long after, Limit limit);
+
+    @Query("SELECT COALESCE(MAX(e.sequence), 0) FROM TxStatusEventEntity e")
+    long findLastSequence();
+
+    /**
+     * Takes the transaction scoped advisory lock with the given key, waits until it is free.
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:key)", nativeQuery = true)
+    int lockForTransaction(@Param("key") long key);
+
+}
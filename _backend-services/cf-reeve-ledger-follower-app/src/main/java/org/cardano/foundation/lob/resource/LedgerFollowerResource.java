@@ -16,14 +16,22 @@ import org.cardano.foundation.lob.domain.ChainTip;
 import org.cardano.foundation.lob.domain.OnChainTxDetails;
 import org.cardano.foundation.lob.domain.view.LOBOnChainTxStatusRequest;
 import org.cardano.foundation.lob.domain.view.LOBOnChainTxStatusResponse;
+import org.cardano.foundation.lob.domain.view.OnChainTxDetailsRequest;
+import org.cardano.foundation.lob.domain.view.OnChainTxDetailsResponse;
+import org.cardano.foundation.lob.domain.view.TxStatusEventsResponse;
 import org.cardano.foundation.lob.service.BlockchainDataChainTipService;
 import org.cardano.foundation.lob.service.BlockchainDataTransactionDetailsService;
 import org.cardano.foundation.lob.service.TransactionService;
+import org.cardano.foundation.lob.service.TxStatusFeedService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.http.ProblemDetail;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.stream.Collectors;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
@@ -35,9 +43,13 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 @Slf4j
 public class LedgerFollowerResource {
 
+    private static final int MAX_TX_STATUS_EVENTS_LIMIT = 1_000;
+    private static final int MAX_TX_STATUS_EVENTS_WAIT_SECONDS = 30;
+
     private final BlockchainDataChainTipService blockchainDataChainTipService;
     private final BlockchainDataTransactionDetailsService blockchainDataTransactionDetailsService;
     private final TransactionService transactionService;
+    private final TxStatusFeedService txStatusFeedService;
     private final CardanoNetwork network;
 
     @Tag(name = "ChainTip", description = "ChainTip API")
@@ -91,6 +103,26 @@ public class LedgerFollowerResource {
                 .body(txDetailsM.get());
     }
 
+    @Tag(name = "TxDetails", description = "TxDetails API")
+    @Operation(description = "Details of many transactions in one request, transactions not found on chain are left out", responses = {
+            @ApiResponse(content =
+                    {@Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = OnChainTxDetailsResponse.class))}
+            )
+    })
+    @PostMapping(value = "/tx-details", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> getTxDetails(@Valid @RequestBody OnChainTxDetailsRequest txDetailsRequest) {
+        val txDetailsE = blockchainDataTransactionDetailsService.getTransactionDetails(new LinkedHashSet<>(txDetailsRequest.getTransactionHashes()));
+
+        if (txDetailsE.isLeft()) {
+            log.error("Error getting tx details, issue :{}", txDetailsE.getLeft());
+
+            return ResponseEntity.internalServerError().build();
+        }
+
+        return ResponseEntity.ok()
+                .body(new OnChainTxDetailsResponse(txDetailsE.get(), network));
+    }
+
     @Tag(name = "LOB OnChainStatuses", description = "LOB OnChainStatuses API")
     @Operation(description = "LOB transactions present on chain or not", responses = {
             @ApiResponse(content =
@@ -99,14 +131,44 @@ public class LedgerFollowerResource {
     })
     @PostMapping(value = "/on-chain-statuses", produces = APPLICATION_JSON_VALUE)
     public ResponseEntity<?> getOnChainStatuses(@Valid @RequestBody LOBOnChainTxStatusRequest onChainTxStatusRequest) {
+        val existingTransactionIds = transactionService.findExistingIds(onChainTxStatusRequest.getTransactionIds());
+
         val onChainTxStatuses = onChainTxStatusRequest.getTransactionIds().stream()
                 .collect(Collectors.toMap(
                         transactionId -> transactionId,
-                        transactionService::exists
+                        existingTransactionIds::contains,
+                        (a, b) -> a,
+                        LinkedHashMap::new
                 ));
 
         return ResponseEntity.ok()
                 .body(new LOBOnChainTxStatusResponse(onChainTxStatuses, network));
     }
 
+    @Tag(name = "TxStatusEvents", description = "TxStatusEvents API")
+    @Operation(description = "Status changes of LOB L1 transactions after the given sequence, waits up to waitSeconds for new ones when there are none yet. A negative sequence starts at the current end of the feed.", responses = {
+            @ApiResponse(content =
+                    {@Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = TxStatusEventsResponse.class))}
+            )
+    })
+    @GetMapping(value = "/tx-status-events", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> getTxStatusEvents(@RequestParam(name = "after", defaultValue = "-1") long after,
+                                               @RequestParam(name = "limit", defaultValue = "100") int limit,
+                                               @RequestParam(name = "waitSeconds", defaultValue = "0") int waitSeconds) throws InterruptedException {
+        if (after < 0) {
+            return ResponseEntity.ok()
+                    .body(new TxStatusEventsResponse(new ArrayList<>(), txStatusFeedService.lastSequence(), network));
+        }
+
+        val events = txStatusFeedService.findEvents(
+                after,
+                Math.clamp(limit, 1, MAX_TX_STATUS_EVENTS_LIMIT),
+                Duration.ofSeconds(Math.clamp(waitSeconds, 0, MAX_TX_STATUS_EVENTS_WAIT_SECONDS))
+        );
+        val cursor = events.isEmpty() ? after : events.getLast().getSequence();
+
+        return ResponseEntity.ok()
+                .body(new TxStatusEventsResponse(events, cursor, network));
+    }
+
 }
@@ -4,7 +4,10 @@ import io.vavr.control.Either;
 import org.cardano.foundation.lob.domain.OnChainTxDetails;
 import org.springframework.http.ProblemDetail;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface BlockchainDataTransactionDetailsService {
 
@@ -12,4 +15,20 @@ public interface BlockchainDataTransactionDetailsService {
         return Either.right(Optional.empty());
     }
 
+    /**
+     * Details of the transactions found on chain, keyed by transaction hash. Hashes not found are left out.
+     */
+    default Either<ProblemDetail, Map<String, OnChainTxDetails>> getTransactionDetails(Set<String> transactionHashes) {
+        Map<String, OnChainTxDetails> result = new LinkedHashMap<>();
+        for (String transactionHash : transactionHashes) {
+            Either<ProblemDetail, Optional<OnChainTxDetails>> txDetailsE = getTransactionDetails(transactionHash);
+            if (txDetailsE.isLeft()) {
+                return Either.left(txDetailsE.getLeft());
+            }
+            txDetailsE.get().ifPresent(txDetails -> result.put(transactionHash, txDetails));
+        }
+
+        return Either.right(result);
+    }
+
 }
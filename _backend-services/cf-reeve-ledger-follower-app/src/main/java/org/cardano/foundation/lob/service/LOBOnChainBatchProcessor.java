@@ -6,12 +6,14 @@ import com.bloxbean.cardano.yaci.store.metadata.domain.TxMetadataEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.cardano.foundation.lob.domain.LOBOnChainBatch;
 import org.cardano.foundation.lob.domain.entity.TransactionEntity;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Optional;
 
 import static com.bloxbean.cardano.client.util.HexUtil.decodeHexString;
@@ -23,39 +25,66 @@ public class LOBOnChainBatchProcessor {
 
     private final TransactionService transactionService;
     private final MetadataDeserialiser metadataDeserialiser;
+    private final TxStatusFeedService txStatusFeedService;
 
     @Value("${lob.transaction.metadata_label:1447}")
     private int metadataLabel;
 
     @EventListener
     public void metadataEvent(TxMetadataEvent event) {
-        val txMetadataList = event.getTxMetadataList();
-        for (val txEvent : txMetadataList) {
-            if (txEvent.getLabel().equalsIgnoreCase(String.valueOf(metadataLabel))) {
-                val cborBytes = decodeHexString(txEvent.getCbor().replace("\\x", ""));
-                val cborMetadata = CBORMetadata.deserialize(cborBytes);
-
-                val envelopeCborMap = Optional.ofNullable((CBORMetadataMap) cborMetadata.get(BigInteger.valueOf(metadataLabel)))
-                        .orElseThrow();
-
-                val lobBatch = metadataDeserialiser.decode(envelopeCborMap);
-
-                if (lobBatch.isEmpty()) {
-                    log.warn("Failed to decode transaction {}. Block: {}.", txEvent.getTxHash(), event.getEventMetadata());
-                    continue;
-                }
-
-                for (val lobTx : lobBatch.get().getTransactions()) {
-                    val tx = new TransactionEntity();
-                    tx.setId(lobTx.getId());
-                    tx.setOrganisationId(lobBatch.get().getOrganisationId());
-                    tx.setL1TransactionHash(txEvent.getTxHash());
-                    tx.setL1AbsoluteSlot(txEvent.getSlot());
-
-                    transactionService.storeIfNew(tx);
-                }
+        val lobTxEvents = event.getTxMetadataList().stream()
+                .filter(txEvent -> txEvent.getLabel().equalsIgnoreCase(String.valueOf(metadataLabel)))
+                .toList();
+        if (lobTxEvents.isEmpty()) {
+            return;
+        }
+
+        // decoding is CPU bound and independent per L1 transaction, results keep the order of the L1 transactions
+        val lobBatches = (lobTxEvents.size() > 1 ? lobTxEvents.parallelStream() : lobTxEvents.stream())
+                .map(txEvent -> decode(txEvent.getCbor()))
+                .toList();
+
+        val transactions = new ArrayList<TransactionEntity>();
+        for (int i = 0; i < lobTxEvents.size(); i++) {
+            val txEvent = lobTxEvents.get(i);
+            val lobBatch = lobBatches.get(i);
+
+            if (lobBatch.isEmpty()) {
+                log.warn("Failed to decode transaction {}. Block: {}.", txEvent.getTxHash(), event.getEventMetadata());
+                continue;
+            }
+
+            txStatusFeedService.recordInclusion(txEvent.getTxHash(), txEvent.getSlot());
+
+            for (val lobTx : lobBatch.get().getTransactions()) {
+                val tx = new TransactionEntity();
+                tx.setId(lobTx.getId());
+                tx.setOrganisationId(lobBatch.get().getOrganisationId());
+                tx.setL1TransactionHash(txEvent.getTxHash());
+                tx.setL1AbsoluteSlot(txEvent.getSlot());
+
+                transactions.add(tx);
+            }
+
+            for (val lobReport : lobBatch.get().getReports()) {
+                log.info("Report on chain, txHash: {}, organisationId: {}, subType: {}, interval: {}, year: {}, period: {}, ver: {}",
+                        txEvent.getTxHash(), lobBatch.get().getOrganisationId(), lobReport.getSubType(), lobReport.getInterval(),
+                        lobReport.getYear(), lobReport.getPeriod(), lobReport.getVer());
             }
         }
+
+        // one batch for all LOB transactions of the event instead of a lookup and an insert per transaction
+        transactionService.storeAllIfNew(transactions);
+    }
+
+    private Optional<LOBOnChainBatch> decode(String cbor) {
+        val cborBytes = decodeHexString(cbor.replace("\\x", ""));
+        val cborMetadata = CBORMetadata.deserialize(cborBytes);
+
+        val envelopeCborMap = Optional.ofNullable((CBORMetadataMap) cborMetadata.get(BigInteger.valueOf(metadataLabel)))
+                .orElseThrow();
+
+        return metadataDeserialiser.decode(envelopeCborMap);
     }
 
 }
@@ -6,9 +6,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.cardano.foundation.lob.domain.LOBOnChainBatch;
+import org.cardano.foundation.lob.domain.LOBOnChainReport;
 import org.cardano.foundation.lob.domain.LOBOnChainTransaction;
 import org.springframework.stereotype.Service;
 
+import java.math.BigInteger;
 import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -42,15 +44,45 @@ public class MetadataDeserialiser {
         val orgId = (String) maybeOrgId.get();
 
         Set<LOBOnChainTransaction> txs = new LinkedHashSet<LOBOnChainTransaction>();
+        Set<LOBOnChainReport> reports = new LinkedHashSet<LOBOnChainReport>();
         if(payload.get("type").equals("INDIVIDUAL_TRANSACTIONS")) {
             txs = readTransactions((CBORMetadataList) payload.get("data"));
         }
+        if(payload.get("type").equals("REPORT")) {
+            reports.add(readReport(payload));
+        }
+        // several reports packed into one L1 transaction, each entry has the fields of a single REPORT
+        if(payload.get("type").equals("REPORTS")) {
+            reports = readReports((CBORMetadataList) payload.get("data"));
+        }
         return Optional.of(LOBOnChainBatch.builder()
                 .organisationId(orgId)
                 .transactions(txs)
+                .reports(reports)
                 .build());
     }
 
+    private LOBOnChainReport readReport(CBORMetadataMap cborMetadataMap) {
+        return LOBOnChainReport.builder()
+                .subType((String) cborMetadataMap.get("subType"))
+                .interval((String) cborMetadataMap.get("interval"))
+                .year((String) cborMetadataMap.get("year"))
+                .period((BigInteger) cborMetadataMap.get("period"))
+                .mode((String) cborMetadataMap.get("mode"))
+                .ver((BigInteger) cborMetadataMap.get("ver"))
+                .build();
+    }
+
+    private Set<LOBOnChainReport> readReports(CBORMetadataList cborMetadataList) {
+        val reports = new LinkedHashSet<LOBOnChainReport>();
+
+        for (int i = 0; i < cborMetadataList.size(); i++) {
+            reports.add(readReport((CBORMetadataMap) cborMetadataList.getValueAt(i)));
+        }
+
+        return reports;
+    }
+
     private LOBOnChainTransaction readTransaction(CBORMetadataMap cborMetadataMap) {
         return LOBOnChainTransaction.builder()
                 .id((String) cborMetadataMap.get("id"))
@@ -22,6 +22,7 @@ public class RollbackHandler {
     private boolean initialized = false;
 
     private final TransactionService transactionService;
+    private final TxStatusFeedService txStatusFeedService;
 
     @PostConstruct
     public void init() {
@@ -50,6 +51,7 @@ public class RollbackHandler {
 
         log.info("Rolling back to slot: {}", rollbackEvent.getRollbackTo().getSlot());
         transactionService.deleteAfterSlot(rollbackEvent.getRollbackTo().getSlot());
+        txStatusFeedService.rollbackAfterSlot(rollbackEvent.getRollbackTo().getSlot());
     }
 
 }
@@ -0,0 +1,58 @@
+package org.cardano.foundation.lob.service;
+
+import com.bloxbean.cardano.yaci.store.events.BlockEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sync speed of the follower in blocks per second. Blocks are counted in {@code lob.follower.blocks} and the speed
+ * since the previous report is logged periodically.
+ */
+@Component
+@Slf4j
+public class SyncSpeedReporter {
+
+    private final Counter blocksCounter;
+
+    private final AtomicLong blocks = new AtomicLong();
+    private final AtomicLong lastSlot = new AtomicLong();
+
+    private long lastReportBlocks = 0;
+    private long lastReportNanos = System.nanoTime();
+
+    public SyncSpeedReporter(MeterRegistry meterRegistry) {
+        this.blocksCounter = Counter.builder("lob.follower.blocks")
+                .description("Blocks processed by the ledger follower")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onBlock(BlockEvent blockEvent) {
+        blocksCounter.increment();
+        blocks.incrementAndGet();
+        lastSlot.set(blockEvent.getMetadata().getSlot());
+    }
+
+    @Scheduled(fixedDelayString = "${lob.follower.sync_speed.report_interval:PT1M}")
+    public void report() {
+        val now = System.nanoTime();
+        val currentBlocks = blocks.get();
+        val blocksSinceLastReport = currentBlocks - lastReportBlocks;
+
+        if (blocksSinceLastReport > 0) {
+            val blocksPerSecond = blocksSinceLastReport / ((now - lastReportNanos) / 1e9);
+            log.info("Sync speed: {} blocks/s, blocks: {}, slot: {}", "%.1f".formatted(blocksPerSecond), blocksSinceLastReport, lastSlot.get());
+        }
+
+        lastReportBlocks = currentBlocks;
+        lastReportNanos = now;
+    }
+
+}
@@ -2,12 +2,20 @@ package org.cardano.foundation.lob.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
 import org.cardano.foundation.lob.domain.entity.TransactionEntity;
 import org.cardano.foundation.lob.repository.TransactionRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service("blockchain_reader.TransactionService")
 @Slf4j
@@ -15,7 +23,18 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class TransactionService {
 
+    // keeps the IN list well below the bind parameter limit of the JDBC driver
+    private static final int EXISTING_IDS_PARTITION_SIZE = 1_000;
+
+    private static final String INSERT_IF_NEW = """
+            INSERT INTO blockchain_reader_transaction
+            (transaction_id, organisation_id, l1_absolute_slot, l1_transaction_hash, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (transaction_id) DO NOTHING
+            """;
+
     private final TransactionRepository transactionRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Transactional
     public void store(TransactionEntity transactionEntity) {
@@ -38,10 +57,42 @@ public class TransactionService {
                 );
     }
 
+    /**
+     * Idempotent bulk variant of {@link #storeIfNew(TransactionEntity)}, all transactions are written in one JDBC batch
+     * and the ones already stored are skipped by the database.
+     */
+    @Transactional
+    public void storeAllIfNew(Collection<TransactionEntity> transactionEntities) {
+        if (transactionEntities.isEmpty()) {
+            return;
+        }
+        val now = LocalDateTime.now();
+
+        val rows = transactionEntities.stream()
+                .map(tx -> new Object[] { tx.getId(), tx.getOrganisationId(), tx.getL1AbsoluteSlot(), tx.getL1TransactionHash(), now, now })
+                .toList();
+
+        jdbcTemplate.batchUpdate(INSERT_IF_NEW, rows);
+    }
+
     public boolean exists(String transactionId) {
         return transactionRepository.existsById(transactionId);
     }
 
+    /**
+     * Returns which of the given transaction ids are stored, with one query per partition of ids instead of one per id.
+     */
+    public Set<String> findExistingIds(Collection<String> transactionIds) {
+        val ids = List.copyOf(new LinkedHashSet<>(transactionIds));
+
+        val existingIds = new HashSet<String>();
+        for (int from = 0; from < ids.size(); from += EXISTING_IDS_PARTITION_SIZE) {
+            existingIds.addAll(transactionRepository.findExistingIds(ids.subList(from, Math.min(ids.size(), from + EXISTING_IDS_PARTITION_SIZE))));
+        }
+
+        return existingIds;
+    }
+
     public Optional<TransactionEntity> find(String transactionId) {
         return transactionRepository.findById(transactionId);
     }
@@ -0,0 +1,179 @@
+package org.cardano.foundation.lob.service;
+
+import com.bloxbean.cardano.yaci.store.events.BlockEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.cardano.foundation.lob.domain.TxStatusEvent;
+import org.cardano.foundation.lob.domain.entity.L1TransactionEntity;
+import org.cardano.foundation.lob.domain.entity.TxStatusEventEntity;
+import org.cardano.foundation.lob.repository.L1TransactionRepository;
+import org.cardano.foundation.lob.repository.TxStatusEventRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.cardano.foundation.lob.domain.TxStatusEventType.FINALITY_CHANGED;
+import static org.cardano.foundation.lob.domain.TxStatusEventType.INCLUDED;
+import static org.cardano.foundation.lob.domain.TxStatusEventType.ROLLED_BACK;
+
+/**
+ * Feed of status changes of the L1 transactions carrying our metadata label: inclusions, finality score changes and
+ * rollbacks. Events are appended in the same database transaction as the change and read by sequence, consumers
+ * long-poll with the last sequence they have seen and are woken up as soon as new events are committed.
+ * <p>
+ * Writers append one after another: a sequence is drawn when the event is inserted, so two concurrent writers could
+ * commit out of sequence order and a consumer already past the later sequence would never see the earlier one. Every
+ * writer takes the same advisory lock first and holds it until it commits.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TxStatusFeedService {
+
+    // key of the advisory lock held by writers appending to the feed
+    static final long APPEND_LOCK_KEY = 0x7478_7374_6174_7573L;
+
+    private final L1TransactionRepository l1TransactionRepository;
+    private final TxStatusEventRepository txStatusEventRepository;
+    private final FinalityScoreCalculator finalityScoreCalculator;
+
+    private final Object newEventsMonitor = new Object();
+
+    // incremented whenever events are committed, lets waiters detect events committed while they were reading
+    private long newEventsSignals = 0;
+
+    @Transactional
+    public void recordInclusion(String transactionHash, long absoluteSlot) {
+        lockAppends();
+
+        // idempotent, the same transaction is seen again when the follower re-syncs blocks
+        if (l1TransactionRepository.existsById(transactionHash)) {
+            return;
+        }
+
+        val finalityScore = finalityScoreCalculator.calculateFinalityScore(absoluteSlot, absoluteSlot);
+        l1TransactionRepository.save(new L1TransactionEntity(transactionHash, absoluteSlot, finalityScore));
+
+        append(new TxStatusEventEntity(INCLUDED, transactionHash, absoluteSlot, finalityScore));
+    }
+
+    @EventListener
+    @Transactional
+    public void onBlock(BlockEvent blockEvent) {
+        lockAppends();
+
+        val blockSlot = blockEvent.getMetadata().getSlot();
+
+        for (val l1Transaction : l1TransactionRepository.findNotFinal()) {
+            val finalityScore = finalityScoreCalculator.calculateFinalityScore(blockSlot, l1Transaction.getL1AbsoluteSlot());
+
+            if (finalityScore != l1Transaction.getFinalityScore()) {
+                l1Transaction.setFinalityScore(finalityScore);
+                l1TransactionRepository.save(l1Transaction);
+
+                append(new TxStatusEventEntity(FINALITY_CHANGED, l1Transaction.getId(), l1Transaction.getL1AbsoluteSlot(), finalityScore));
+            }
+        }
+    }
+
+    @Transactional
+    public void rollbackAfterSlot(long absoluteSlot) {
+        lockAppends();
+
+        val rolledBack = l1TransactionRepository.findBySlotGreaterThan(absoluteSlot);
+        if (rolledBack.isEmpty()) {
+            return;
+        }
+        log.info("Rolling back {} L1 transactions after slot: {}", rolledBack.size(), absoluteSlot);
+
+        l1TransactionRepository.deleteAll(rolledBack);
+        for (val l1Transaction : rolledBack) {
+            append(new TxStatusEventEntity(ROLLED_BACK, l1Transaction.getId(), l1Transaction.getL1AbsoluteSlot(), null));
+        }
+    }
+
+    public long lastSequence() {
+        return txStatusEventRepository.findLastSequence();
+    }
+
+    /**
+     * Events with a sequence greater than the given one, in sequence order. When there are none yet it waits up to the
+     * given time for new events to be committed.
+     */
+    public List<TxStatusEvent> findEvents(long after,
+                                          int limit,
+                                          Duration wait) throws InterruptedException {
+        val deadline = System.nanoTime() + wait.toNanos();
+
+        while (true) {
+            long signals;
+            synchronized (newEventsMonitor) {
+                signals = newEventsSignals;
+            }
+
+            val events = txStatusEventRepository.findAfter(after, Limit.of(limit));
+            if (!events.isEmpty()) {
+                return events.stream()
+                        .map(TxStatusFeedService::toTxStatusEvent)
+                        .toList();
+            }
+
+            synchronized (newEventsMonitor) {
+                while (newEventsSignals == signals) {
+                    val remainingMillis = Duration.ofNanos(deadline - System.nanoTime()).toMillis();
+                    if (remainingMillis <= 0) {
+                        return List.of();
+                    }
+                    newEventsMonitor.wait(remainingMillis);
+                }
+            }
+        }
+    }
+
+    // also taken before reading the state an event is derived from, so writers never act on a stale view
+    private void lockAppends() {
+        txStatusEventRepository.lockForTransaction(APPEND_LOCK_KEY);
+    }
+
+    private void append(TxStatusEventEntity event) {
+        txStatusEventRepository.save(event);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // waiters read with their own connection, so they are only woken up once the events are visible to them
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    signalNewEvents();
+                }
+            });
+        } else {
+            signalNewEvents();
+        }
+    }
+
+    private void signalNewEvents() {
+        synchronized (newEventsMonitor) {
+            newEventsSignals++;
+            newEventsMonitor.notifyAll();
+        }
+    }
+
+    private static TxStatusEvent toTxStatusEvent(TxStatusEventEntity event) {
+        return TxStatusEvent.builder()
+                .sequence(event.getSequence())
+                .type(event.getType())
+                .transactionHash(event.getL1TransactionHash())
+                .absoluteSlot(event.getL1AbsoluteSlot())
+                .finalityScore(Optional.ofNullable(event.getFinalityScore()))
+                .build();
+    }
+
+}
@@ -15,7 +15,11 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.http.ProblemDetail;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -32,11 +36,34 @@ public class YaciTransactionDetailsBlockchainDataService implements BlockchainDa
     @Transactional(readOnly = true)
     @Cacheable("trxDetailsCache")
     public Either<ProblemDetail, Optional<OnChainTxDetails>> getTransactionDetails(String transactionHash) {
-        return Either.right(transactionService.getTransaction(transactionHash)
+        val blockchainTipSlot = blockService.getLatestBlock().map(Block::getSlot);
+
+        return Either.right(transactionDetails(transactionHash, blockchainTipSlot, new HashMap<>()));
+    }
+
+    // the chain tip is read once and blocks are looked up once per height for the whole set
+    @Override
+    @Transactional(readOnly = true)
+    public Either<ProblemDetail, Map<String, OnChainTxDetails>> getTransactionDetails(Set<String> transactionHashes) {
+        val blockchainTipSlot = blockService.getLatestBlock().map(Block::getSlot);
+        val blocksByHeight = new HashMap<Long, Optional<Block>>();
+
+        val result = new LinkedHashMap<String, OnChainTxDetails>();
+        for (val transactionHash : transactionHashes) {
+            transactionDetails(transactionHash, blockchainTipSlot, blocksByHeight)
+                    .ifPresent(txDetails -> result.put(transactionHash, txDetails));
+        }
+
+        return Either.right(result);
+    }
+
+    private Optional<OnChainTxDetails> transactionDetails(String transactionHash,
+                                                          Optional<Long> blockchainTipSlotM,
+                                                          Map<Long, Optional<Block>> blocksByHeight) {
+        return transactionService.getTransaction(transactionHash)
                 .flatMap(txn -> {
-                    return blockService.getBlockByNumber(txn.getBlockHeight()).map(txBlock -> {
-                        val blockchainTipSlot = blockService.getLatestBlock()
-                                .map(Block::getSlot)
+                    return blocksByHeight.computeIfAbsent(txn.getBlockHeight(), blockService::getBlockByNumber).map(txBlock -> {
+                        val blockchainTipSlot = blockchainTipSlotM
                                 .orElse(txBlock.getSlot()); // we fallback to block's hash slot if we can't find the blockchain tip
 
                         val txAbsoluteSlot = txBlock.getSlot();
@@ -53,7 +80,7 @@ public class YaciTransactionDetailsBlockchainDataService implements BlockchainDa
                                 .network(network)
                                 .build();
                     });
-                }));
+                });
     }
 
     @Scheduled(fixedRateString = "PT15S")
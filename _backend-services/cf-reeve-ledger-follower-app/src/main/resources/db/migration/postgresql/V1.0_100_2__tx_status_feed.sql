@@ -0,0 +1,30 @@
+-- L1 transactions carrying our metadata label, with the finality score last published for them
+CREATE TABLE blockchain_reader_l1_transaction (
+   l1_transaction_hash CHAR(64) NOT NULL,
+   l1_absolute_slot BIGINT NOT NULL,
+   finality_score VARCHAR(255) NOT NULL,
+
+   created_at TIMESTAMP WITHOUT TIME ZONE,
+   updated_at TIMESTAMP WITHOUT TIME ZONE,
+
+   PRIMARY KEY (l1_transaction_hash)
+);
+
+CREATE INDEX idx_l1_transaction_slot ON blockchain_reader_l1_transaction (l1_absolute_slot);
+
+-- only transactions which did not reach finality yet are looked at on every block
+CREATE INDEX idx_l1_transaction_not_final ON blockchain_reader_l1_transaction (l1_absolute_slot) WHERE finality_score <> 'FINAL';
+
+-- append only feed of status changes, the sequence is the cursor consumers read from
+CREATE TABLE blockchain_reader_tx_status_event (
+   sequence BIGSERIAL NOT NULL,
+   event_type VARCHAR(255) NOT NULL,
+   l1_transaction_hash CHAR(64) NOT NULL,
+   l1_absolute_slot BIGINT NOT NULL,
+   finality_score VARCHAR(255),
+
+   created_at TIMESTAMP WITHOUT TIME ZONE,
+   updated_at TIMESTAMP WITHOUT TIME ZONE,
+
+   PRIMARY KEY (sequence)
+);
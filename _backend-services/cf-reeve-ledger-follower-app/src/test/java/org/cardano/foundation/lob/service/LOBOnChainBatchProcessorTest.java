@@ -0,0 +1,114 @@
+package org.cardano.foundation.lob.service;
+
+import com.bloxbean.cardano.client.exception.CborSerializationException;
+import com.bloxbean.cardano.client.metadata.cbor.CBORMetadata;
+import com.bloxbean.cardano.client.metadata.cbor.CBORMetadataList;
+import com.bloxbean.cardano.client.metadata.cbor.CBORMetadataMap;
+import com.bloxbean.cardano.client.util.HexUtil;
+import com.bloxbean.cardano.yaci.store.metadata.domain.TxMetadataEvent;
+import com.bloxbean.cardano.yaci.store.metadata.domain.TxMetadataLabel;
+import lombok.val;
+import org.cardano.foundation.lob.domain.entity.TransactionEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LOBOnChainBatchProcessorTest {
+
+    private static final int METADATA_LABEL = 1447;
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Mock
+    private TxStatusFeedService txStatusFeedService;
+
+    private LOBOnChainBatchProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = new LOBOnChainBatchProcessor(transactionService, new MetadataDeserialiser(), txStatusFeedService);
+        ReflectionTestUtils.setField(processor, "metadataLabel", METADATA_LABEL);
+    }
+
+    @Test
+    void allTransactionsOfAnEventAreStoredInOneBatch() throws CborSerializationException {
+        val event = mock(TxMetadataEvent.class);
+        when(event.getTxMetadataList()).thenReturn(List.of(
+                txMetadata("l1TxHash1", 100L, "tx1", "tx2"),
+                txMetadata("l1TxHash2", 100L, "tx3")
+        ));
+
+        processor.metadataEvent(event);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<TransactionEntity>> stored = ArgumentCaptor.forClass(Collection.class);
+        verify(transactionService).storeAllIfNew(stored.capture());
+        assertThat(stored.getValue())
+                .extracting(TransactionEntity::getId, TransactionEntity::getL1TransactionHash)
+                .containsExactly(
+                        tuple("tx1", "l1TxHash1"),
+                        tuple("tx2", "l1TxHash1"),
+                        tuple("tx3", "l1TxHash2")
+                );
+        verify(txStatusFeedService).recordInclusion("l1TxHash1", 100L);
+        verify(txStatusFeedService).recordInclusion("l1TxHash2", 100L);
+    }
+
+    @Test
+    void otherLabelsAreIgnored() {
+        val otherLabel = mock(TxMetadataLabel.class);
+        when(otherLabel.getLabel()).thenReturn("674");
+        val event = mock(TxMetadataEvent.class);
+        when(event.getTxMetadataList()).thenReturn(List.of(otherLabel));
+
+        processor.metadataEvent(event);
+
+        verifyNoInteractions(transactionService, txStatusFeedService);
+    }
+
+    private static TxMetadataLabel txMetadata(String l1TxHash, long slot, String... transactionIds) throws CborSerializationException {
+        val org = new CBORMetadataMap();
+        org.put("id", "org123");
+
+        val data = new CBORMetadataList();
+        for (val transactionId : transactionIds) {
+            val tx = new CBORMetadataMap();
+            tx.put("id", transactionId);
+            data.add(tx);
+        }
+
+        val envelope = new CBORMetadataMap();
+        envelope.put("org", org);
+        envelope.put("type", "INDIVIDUAL_TRANSACTIONS");
+        envelope.put("data", data);
+
+        val metadata = new CBORMetadata();
+        metadata.put(BigInteger.valueOf(METADATA_LABEL), envelope);
+
+        val txMetadata = mock(TxMetadataLabel.class);
+        when(txMetadata.getLabel()).thenReturn(String.valueOf(METADATA_LABEL));
+        when(txMetadata.getCbor()).thenReturn(HexUtil.encodeHexString(metadata.serialize()));
+        when(txMetadata.getTxHash()).thenReturn(l1TxHash);
+        when(txMetadata.getSlot()).thenReturn(slot);
+
+        return txMetadata;
+    }
+
+}
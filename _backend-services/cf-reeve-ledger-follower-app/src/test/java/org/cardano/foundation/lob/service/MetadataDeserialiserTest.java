@@ -0,0 +1,72 @@
+package org.cardano.foundation.lob.service;
+
+import com.bloxbean.cardano.client.metadata.cbor.CBORMetadataList;
+import com.bloxbean.cardano.client.metadata.cbor.CBORMetadataMap;
+import lombok.val;
+import org.cardano.foundation.lob.domain.LOBOnChainReport;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+class MetadataDeserialiserTest {
+
+    private final MetadataDeserialiser metadataDeserialiser = new MetadataDeserialiser();
+
+    @Test
+    void decode_shouldReadSingleReport() {
+        val payload = envelope("REPORT");
+        putReport(payload, BigInteger.ONE);
+
+        val batch = metadataDeserialiser.decode(payload);
+
+        assertThat(batch).isPresent();
+        assertThat(batch.get().getOrganisationId()).isEqualTo("org123");
+        assertThat(batch.get().getTransactions()).isEmpty();
+        assertThat(batch.get().getReports())
+                .extracting(LOBOnChainReport::getSubType, LOBOnChainReport::getPeriod)
+                .containsExactly(tuple("BALANCE_SHEET", BigInteger.ONE));
+    }
+
+    @Test
+    void decode_shouldReadPackedReports() {
+        val reports = new CBORMetadataList();
+        for (int period = 1; period <= 3; period++) {
+            val report = new CBORMetadataMap();
+            putReport(report, BigInteger.valueOf(period));
+            reports.add(report);
+        }
+        val payload = envelope("REPORTS");
+        payload.put("data", reports);
+
+        val batch = metadataDeserialiser.decode(payload);
+
+        assertThat(batch).isPresent();
+        assertThat(batch.get().getReports())
+                .extracting(LOBOnChainReport::getPeriod)
+                .containsExactly(BigInteger.ONE, BigInteger.TWO, BigInteger.valueOf(3));
+    }
+
+    private static CBORMetadataMap envelope(String type) {
+        val org = new CBORMetadataMap();
+        org.put("id", "org123");
+
+        val payload = new CBORMetadataMap();
+        payload.put("org", org);
+        payload.put("type", type);
+
+        return payload;
+    }
+
+    private static void putReport(CBORMetadataMap report, BigInteger period) {
+        report.put("subType", "BALANCE_SHEET");
+        report.put("interval", "MONTH");
+        report.put("year", "2024");
+        report.put("mode", "SYSTEM");
+        report.put("ver", BigInteger.ONE);
+        report.put("period", period);
+    }
+
+}
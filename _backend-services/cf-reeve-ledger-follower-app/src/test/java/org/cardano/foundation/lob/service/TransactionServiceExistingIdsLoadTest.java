@@ -0,0 +1,82 @@
+package org.cardano.foundation.lob.service;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.cardano.foundation.lob.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency of the set based on-chain status lookup for 1k, 10k and 100k requested ids, half of which are stored.
+ * Needs a PostgreSQL database, run with DB_URL (and DB_USERNAME / DB_PASSWORD) pointing to a throwaway schema.
+ */
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = "DB_URL", matches = ".+")
+class TransactionServiceExistingIdsLoadTest {
+
+    private static final int STORED_COUNT = 50_000;
+    private static final String ORGANISATION_ID = "75f95560c1d883ee7628993da5adf725a5d97a13929fd4f477be0faf5020ca94";
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionService transactionService;
+
+    @BeforeEach
+    void setUp() {
+        transactionService = new TransactionService(transactionRepository, jdbcTemplate);
+
+        val now = LocalDateTime.now();
+        val rows = new ArrayList<Object[]>(STORED_COUNT);
+        for (int i = 0; i < STORED_COUNT; i++) {
+            rows.add(new Object[] { transactionId(i), ORGANISATION_ID, (long) i, "%064x".formatted(i), now, now });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO blockchain_reader_transaction
+                (transaction_id, organisation_id, l1_absolute_slot, l1_transaction_hash, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1_000, 10_000, 100_000 })
+    void findExistingIds(int requestedCount) {
+        // every other requested id is stored
+        List<String> requestedIds = IntStream.range(0, requestedCount)
+                .mapToObj(i -> transactionId(i % 2 == 0 ? i / 2 : STORED_COUNT + i))
+                .toList();
+
+        long start = System.nanoTime();
+        val existingIds = transactionService.findExistingIds(requestedIds);
+        long tookMs = (System.nanoTime() - start) / 1_000_000;
+
+        log.info("findExistingIds, requested: {}, existing: {}, took: {} ms", requestedCount, existingIds.size(), tookMs);
+
+        assertThat(existingIds).hasSize(Math.min(STORED_COUNT, (requestedCount + 1) / 2));
+        assertThat(existingIds).contains(transactionId(0));
+        assertThat(existingIds).doesNotContain(transactionId(STORED_COUNT + 1));
+    }
+
+    private static String transactionId(int i) {
+        return "%064d".formatted(i);
+    }
+
+}
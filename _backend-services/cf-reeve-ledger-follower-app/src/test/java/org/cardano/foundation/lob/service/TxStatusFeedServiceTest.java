@@ -0,0 +1,170 @@
+package org.cardano.foundation.lob.service;
+
+import com.bloxbean.cardano.yaci.store.events.BlockEvent;
+import lombok.val;
+import org.cardano.foundation.lob.domain.entity.L1TransactionEntity;
+import org.cardano.foundation.lob.domain.entity.TxStatusEventEntity;
+import org.cardano.foundation.lob.repository.L1TransactionRepository;
+import org.cardano.foundation.lob.repository.TxStatusEventRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cardano.foundation.lob.domain.FinalityScore.FINAL;
+import static org.cardano.foundation.lob.domain.FinalityScore.LOW;
+import static org.cardano.foundation.lob.domain.FinalityScore.VERY_LOW;
+import static org.cardano.foundation.lob.domain.TxStatusEventType.FINALITY_CHANGED;
+import static org.cardano.foundation.lob.domain.TxStatusEventType.INCLUDED;
+import static org.cardano.foundation.lob.domain.TxStatusEventType.ROLLED_BACK;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TxStatusFeedServiceTest {
+
+    private static final String TX_HASH = "7e9e8bcbb38a283b41eab57add98278561ab51d23a16f3e3baf3daa461b84ab4";
+
+    @Mock
+    private L1TransactionRepository l1TransactionRepository;
+
+    @Mock
+    private TxStatusEventRepository txStatusEventRepository;
+
+    @Mock
+    private FinalityScoreCalculator finalityScoreCalculator;
+
+    @InjectMocks
+    private TxStatusFeedService txStatusFeedService;
+
+    @Test
+    void inclusionIsRecordedOnce() {
+        when(l1TransactionRepository.existsById(TX_HASH)).thenReturn(false, true);
+        when(finalityScoreCalculator.calculateFinalityScore(100L, 100L)).thenReturn(VERY_LOW);
+
+        txStatusFeedService.recordInclusion(TX_HASH, 100L);
+        txStatusFeedService.recordInclusion(TX_HASH, 100L);
+
+        val event = ArgumentCaptor.forClass(TxStatusEventEntity.class);
+        verify(txStatusEventRepository).save(event.capture());
+        assertThat(event.getValue().getType()).isEqualTo(INCLUDED);
+        assertThat(event.getValue().getFinalityScore()).isEqualTo(VERY_LOW);
+    }
+
+    @Test
+    void onlyChangedFinalityScoresArePublished() {
+        val unchanged = new L1TransactionEntity("a".repeat(64), 900L, VERY_LOW);
+        val changed = new L1TransactionEntity(TX_HASH, 100L, VERY_LOW);
+        when(l1TransactionRepository.findNotFinal()).thenReturn(List.of(unchanged, changed));
+        when(finalityScoreCalculator.calculateFinalityScore(1000L, 900L)).thenReturn(VERY_LOW);
+        when(finalityScoreCalculator.calculateFinalityScore(1000L, 100L)).thenReturn(LOW);
+
+        val blockEvent = mock(BlockEvent.class, RETURNS_DEEP_STUBS);
+        when(blockEvent.getMetadata().getSlot()).thenReturn(1000L);
+
+        txStatusFeedService.onBlock(blockEvent);
+
+        val event = ArgumentCaptor.forClass(TxStatusEventEntity.class);
+        verify(txStatusEventRepository).save(event.capture());
+        assertThat(event.getValue().getType()).isEqualTo(FINALITY_CHANGED);
+        assertThat(event.getValue().getL1TransactionHash()).isEqualTo(TX_HASH);
+        assertThat(event.getValue().getFinalityScore()).isEqualTo(LOW);
+        verify(l1TransactionRepository).save(changed);
+    }
+
+    @Test
+    void blocksWithoutPendingTransactionsPublishNothing() {
+        when(l1TransactionRepository.findNotFinal()).thenReturn(List.of());
+
+        txStatusFeedService.onBlock(mock(BlockEvent.class, RETURNS_DEEP_STUBS));
+
+        verify(finalityScoreCalculator, never()).calculateFinalityScore(anyLong(), anyLong());
+        verify(txStatusEventRepository, never()).save(any());
+    }
+
+    @Test
+    void rolledBackTransactionsAreRemovedAndPublished() {
+        val rolledBack = new L1TransactionEntity(TX_HASH, 200L, FINAL);
+        when(l1TransactionRepository.findBySlotGreaterThan(150L)).thenReturn(List.of(rolledBack));
+
+        txStatusFeedService.rollbackAfterSlot(150L);
+
+        val event = ArgumentCaptor.forClass(TxStatusEventEntity.class);
+        verify(l1TransactionRepository).deleteAll(List.of(rolledBack));
+        verify(txStatusEventRepository).save(event.capture());
+        assertThat(event.getValue().getType()).isEqualTo(ROLLED_BACK);
+        assertThat(event.getValue().getFinalityScore()).isNull();
+    }
+
+    @Test
+    void writersLockTheFeedBeforeReading() {
+        when(l1TransactionRepository.existsById(TX_HASH)).thenReturn(true);
+        when(l1TransactionRepository.findNotFinal()).thenReturn(List.of());
+        when(l1TransactionRepository.findBySlotGreaterThan(150L)).thenReturn(List.of());
+
+        txStatusFeedService.recordInclusion(TX_HASH, 100L);
+        txStatusFeedService.onBlock(mock(BlockEvent.class, RETURNS_DEEP_STUBS));
+        txStatusFeedService.rollbackAfterSlot(150L);
+
+        val inOrder = inOrder(txStatusEventRepository, l1TransactionRepository);
+        inOrder.verify(txStatusEventRepository).lockForTransaction(TxStatusFeedService.APPEND_LOCK_KEY);
+        inOrder.verify(l1TransactionRepository).existsById(TX_HASH);
+        inOrder.verify(txStatusEventRepository).lockForTransaction(TxStatusFeedService.APPEND_LOCK_KEY);
+        inOrder.verify(l1TransactionRepository).findNotFinal();
+        inOrder.verify(txStatusEventRepository).lockForTransaction(TxStatusFeedService.APPEND_LOCK_KEY);
+        inOrder.verify(l1TransactionRepository).findBySlotGreaterThan(150L);
+    }
+
+    @Test
+    void waitingReaderIsWokenUpByNewEvents() throws Exception {
+        val stored = new TxStatusEventEntity(INCLUDED, TX_HASH, 100L, VERY_LOW);
+        stored.setSequence(6L);
+        when(txStatusEventRepository.findAfter(5L, Limit.of(10)))
+                .thenReturn(List.of())
+                .thenReturn(List.of(stored));
+        when(l1TransactionRepository.existsById(TX_HASH)).thenReturn(false);
+        when(finalityScoreCalculator.calculateFinalityScore(100L, 100L)).thenReturn(VERY_LOW);
+
+        val reader = CompletableFuture.supplyAsync(() -> {
+            try {
+                return txStatusFeedService.findEvents(5L, 10, Duration.ofSeconds(30));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // no transaction is active in this test, so the new event signals waiters straight away
+        while (!reader.isDone()) {
+            txStatusFeedService.recordInclusion(TX_HASH, 100L);
+            Thread.sleep(10);
+        }
+
+        val events = reader.get();
+        assertThat(events).hasSize(1);
+        assertThat(events.getFirst().getSequence()).isEqualTo(6L);
+        assertThat(events.getFirst().getFinalityScore()).isEqualTo(Optional.of(VERY_LOW));
+    }
+
+    @Test
+    void readerGivesUpWhenNoEventsArriveInTime() throws InterruptedException {
+        when(txStatusEventRepository.findAfter(5L, Limit.of(10))).thenReturn(List.of());
+
+        assertThat(txStatusFeedService.findEvents(5L, 10, Duration.ofMillis(50))).isEmpty();
+    }
+
+}
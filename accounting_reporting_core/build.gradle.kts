@@ -1,3 +1,7 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.2"
+}
+
 val openCsvVersion: String by project
 
 dependencies {
@@ -15,3 +19,33 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-starter-data-jpa")
     testImplementation("org.springframework.boot:spring-boot-starter-validation")
 }
+
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("memory")
+    }
+}
+
+// ./gradlew :accounting_reporting_core:memoryTest
+// exports run against a fixed small heap, keeping a whole export in memory fails with an OutOfMemoryError
+val memoryTest by tasks.registering(Test::class) {
+    description = "Runs the export tests tagged 'memory' with a fixed maximum heap."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    maxHeapSize = "128m"
+    useJUnitPlatform {
+        includeTags("memory")
+    }
+}
+
+tasks.check {
+    dependsOn(memoryTest)
+}
+
+jmh {
+    // ./gradlew :accounting_reporting_core:jmh
+    warmupIterations.set(2)
+    iterations.set(5)
+    fork.set(1)
+}
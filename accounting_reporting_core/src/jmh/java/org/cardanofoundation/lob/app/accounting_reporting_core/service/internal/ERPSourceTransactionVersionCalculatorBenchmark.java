@@ -0,0 +1,157 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.service.internal;
+
+import static org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.Counterparty.Type.VENDOR;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.TransactionType.Journal;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.OperationType;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.*;
+import org.cardanofoundation.lob.app.support.calc.BigDecimals;
+import org.cardanofoundation.lob.app.support.crypto.SHA3;
+
+/**
+ * Compares the streaming version calculator with the previous implementation, which concatenated nested hex strings
+ * and created a new SHA3 digest for every nested value.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ERPSourceTransactionVersionCalculatorBenchmark {
+
+    private static final String ORGANISATION_ID = "75f95560c1d883ee7628993da5adf725a5d97a13929fd4f477be0faf5020ca94";
+
+    @Param({ "1", "10", "200" })
+    private int itemsCount;
+
+    private TransactionEntity transaction;
+
+    @Setup
+    public void setUp() {
+        transaction = transaction(itemsCount);
+
+        if (!ERPSourceTransactionVersionCalculator.compute(transaction).equals(LegacyCalculator.compute(transaction))) {
+            throw new IllegalStateException("Streaming and legacy version calculators disagree");
+        }
+    }
+
+    @Benchmark
+    public void streaming(Blackhole blackhole) {
+        blackhole.consume(ERPSourceTransactionVersionCalculator.compute(transaction));
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        blackhole.consume(LegacyCalculator.compute(transaction));
+    }
+
+    private static TransactionEntity transaction(int itemsCount) {
+        String txId = "%064d".formatted(itemsCount);
+
+        TransactionEntity tx = new TransactionEntity();
+        tx.setId(txId);
+        tx.setInternalTransactionNumber("JOURNAL%d".formatted(itemsCount));
+        tx.setTransactionType(Journal);
+        tx.setEntryDate(LocalDate.of(2024, 5, 1));
+        tx.setAccountingPeriod(YearMonth.of(2024, 5));
+        tx.setOrganisation(Organisation.builder()
+                .id(ORGANISATION_ID)
+                .name("Cardano Foundation")
+                .currencyId("ISO_4217:CHF")
+                .countryCode("CH")
+                .build());
+
+        Set<TransactionItemEntity> items = new LinkedHashSet<>();
+        for (int i = 0; i < itemsCount; i++) {
+            TransactionItemEntity item = new TransactionItemEntity();
+            item.setId("%060d%04d".formatted(itemsCount, i));
+            item.setTransaction(tx);
+            item.setOperationType(i % 2 == 0 ? OperationType.DEBIT : OperationType.CREDIT);
+            item.setAccountDebit(Optional.of(Account.builder().code("2100%d".formatted(i)).build()));
+            item.setAccountCredit(Optional.of(Account.builder().code("1203%d".formatted(i)).build()));
+            item.setFxRate(new BigDecimal("1.0542"));
+            item.setAmountFcy(new BigDecimal("1000.25"));
+            item.setAmountLcy(new BigDecimal("1054.46"));
+            item.setCostCenter(Optional.of(CostCenter.builder().customerCode("CC%d".formatted(i % 5)).build()));
+            item.setProject(Optional.of(Project.builder().customerCode("PRJ%d".formatted(i % 3)).build()));
+            item.setDocument(Optional.of(Document.builder()
+                    .num("DOC%d".formatted(i))
+                    .currency(Currency.builder().id("ISO_4217:CHF").customerCode("CHF").build())
+                    .counterparty(Counterparty.builder().customerCode("CP%d".formatted(i)).type(VENDOR).build())
+                    .vat(Vat.builder().customerCode("VAT8").build())
+                    .build()));
+            items.add(item);
+        }
+        tx.setItems(items);
+
+        return tx;
+    }
+
+    // previous implementation, kept here as the baseline
+    private static class LegacyCalculator {
+
+        static String compute(TransactionEntity transactionEntity) {
+            StringBuilder b = new StringBuilder();
+
+            b.append(transactionEntity.getId());
+            b.append(transactionEntity.getInternalTransactionNumber());
+            b.append(SHA3.digestAsHex(transactionEntity.getOrganisation().getId()));
+            b.append(transactionEntity.getTransactionType());
+            b.append(transactionEntity.getEntryDate());
+
+            transactionEntity.getItems()
+                    .stream()
+                    .sorted(Comparator.comparing(TransactionItemEntity::getId))
+                    .forEach(item -> b.append(compute(item)));
+
+            return SHA3.digestAsHex(b.toString());
+        }
+
+        private static String compute(TransactionItemEntity item) {
+            StringBuilder b = new StringBuilder();
+
+            if (item.getTransaction().getRollbackSuffix() != null) {
+                return SHA3.digestAsHex(b.toString());
+            }
+            b.append(item.getId());
+
+            item.getAccountCredit().ifPresent(acc -> b.append(SHA3.digestAsHex(String.valueOf(acc.getCode()))));
+            item.getAccountDebit().ifPresent(acc -> b.append(SHA3.digestAsHex(String.valueOf(acc.getCode()))));
+
+            b.append(BigDecimals.normalise(item.getFxRate()));
+
+            b.append(BigDecimals.normalise(item.getAmountFcy()));
+            b.append(BigDecimals.normalise(item.getAmountLcy()));
+
+            item.getCostCenter().ifPresent(cc -> b.append(SHA3.digestAsHex(String.valueOf(cc.getCustomerCode()))));
+            item.getProject().ifPresent(p -> b.append(SHA3.digestAsHex(String.valueOf(p.getCustomerCode()))));
+            item.getDocument().ifPresent(d -> b.append(compute(d)));
+
+            return SHA3.digestAsHex(b.toString());
+        }
+
+        private static String compute(Document document) {
+            StringBuilder b = new StringBuilder();
+
+            b.append(document.getNum());
+
+            document.getCounterparty().ifPresent(cp -> b.append(SHA3.digestAsHex(String.valueOf(cp.getCustomerCode()))));
+            document.getVat().ifPresent(v -> b.append(SHA3.digestAsHex(String.valueOf(v.getCustomerCode()))));
+            b.append(document.getCurrency().getCustomerCode());
+
+            return SHA3.digestAsHex(b.toString());
+        }
+
+    }
+
+}
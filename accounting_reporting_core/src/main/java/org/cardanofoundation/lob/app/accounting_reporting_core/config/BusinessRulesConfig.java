@@ -2,6 +2,7 @@ package org.cardanofoundation.lob.app.accounting_reporting_core.config;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import jakarta.validation.Validator;
 
@@ -9,9 +10,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.val;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 import org.cardanofoundation.lob.app.accounting_reporting_core.repository.CoreCurrencyRepository;
 import org.cardanofoundation.lob.app.accounting_reporting_core.service.business_rules.*;
 import org.cardanofoundation.lob.app.accounting_reporting_core.service.business_rules.items.*;
@@ -24,6 +28,18 @@ public class BusinessRulesConfig {
     private final Validator validator;
     protected final OrganisationPublicApi organisationPublicApi;
     private final CoreCurrencyRepository currencyRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${lob.business-rules.parallelism:1}")
+    private int parallelism;
+
+    // not exposed as a bean on purpose, it would compete with OrganisationPublicApi for OrganisationPublicApiIF injection points
+    private ReferenceDataSnapshotOrganisationPublicApi referenceDataSnapshotOrganisationPublicApi;
+
+    @Bean(destroyMethod = "close")
+    public PartitionedPipelineExecutor partitionedPipelineExecutor() {
+        return new PartitionedPipelineExecutor(parallelism);
+    }
 
     @Bean
     @Qualifier("selectorBusinessRulesProcessors")
@@ -47,7 +63,7 @@ public class BusinessRulesConfig {
         pipelineTasks.add(postValidationPipelineTask());
         pipelineTasks.add(sanityCheckPipelineTask());
 
-        return new DefaultBusinessRulesPipelineProcessor(pipelineTasks);
+        return new DefaultBusinessRulesPipelineProcessor(pipelineTasks, Optional.of(referenceDataSnapshotOrganisationPublicApi()));
     }
 
     @Bean
@@ -58,20 +74,20 @@ public class BusinessRulesConfig {
         pipelineTasks.add(conversionPipelineTask());
         pipelineTasks.add(postCleansingPipelineTask());
 
-        return new DefaultBusinessRulesPipelineProcessor(pipelineTasks);
+        return new DefaultBusinessRulesPipelineProcessor(pipelineTasks, Optional.of(referenceDataSnapshotOrganisationPublicApi()));
     }
 
     private PipelineTask sanityCheckPipelineTask() {
         return new DefaultPipelineTask(List.of(
                 new SanityCheckFieldsTaskItem(validator),
                 new TransactionTypeUnknownTaskItem()
-        ));
+        ), partitionedPipelineExecutor());
     }
 
     private PipelineTask preCleansingPipelineTask() {
         return new DefaultPipelineTask(List.of(
                 new DiscardZeroBalanceTxItemsTaskItem()
-        ));
+        ), partitionedPipelineExecutor());
     }
 
     protected PipelineTask preValidationPipelineTask() {
@@ -80,18 +96,18 @@ public class BusinessRulesConfig {
                 new AmountsLcyCheckTaskItem(),
                 new AmountLcyBalanceZerosOutCheckTaskItem(),
                 new AmountFcyBalanceZerosOutCheckTaskItem(),
-                new JournalAccountCreditEnrichmentTaskItem(organisationPublicApi)
-        ));
+                new JournalAccountCreditEnrichmentTaskItem(referenceDataSnapshotOrganisationPublicApi())
+        ), partitionedPipelineExecutor());
     }
 
     private PipelineTask conversionPipelineTask() {
         return new DefaultPipelineTask(List.of(
-                new OrganisationConversionTaskItem(organisationPublicApi, currencyRepository),
-                new DocumentConversionTaskItem(organisationPublicApi, currencyRepository),
-                new CostCenterConversionTaskItem(organisationPublicApi),
-                new ProjectConversionTaskItem(organisationPublicApi),
-                new AccountEventCodesConversionTaskItem(organisationPublicApi)
-        ));
+                new OrganisationConversionTaskItem(referenceDataSnapshotOrganisationPublicApi(), currencyRepository),
+                new DocumentConversionTaskItem(referenceDataSnapshotOrganisationPublicApi(), currencyRepository),
+                new CostCenterConversionTaskItem(referenceDataSnapshotOrganisationPublicApi()),
+                new ProjectConversionTaskItem(referenceDataSnapshotOrganisationPublicApi()),
+                new AccountEventCodesConversionTaskItem(referenceDataSnapshotOrganisationPublicApi())
+        ), partitionedPipelineExecutor());
     }
 
     private PipelineTask postCleansingPipelineTask() {
@@ -99,7 +115,7 @@ public class BusinessRulesConfig {
                 new DiscardSameAccountCodeTaskItem(),
                 new TxItemsAmountsSummingTaskItem(),
                 new AmountsLcyAfterSummingCheckTaskItem()
-        ));
+        ), partitionedPipelineExecutor());
     }
 
     private PipelineTask postValidationPipelineTask() {
@@ -108,8 +124,16 @@ public class BusinessRulesConfig {
                 new AccountCodeCreditCheckTaskItem(),
                 new DocumentMustBePresentTaskItem(),
                 new CheckIfAllTxItemsAreErasedTaskItem(),
-                new NetOffCreditDebitTaskItem(organisationPublicApi)
-        ));
+                new NetOffCreditDebitTaskItem(referenceDataSnapshotOrganisationPublicApi())
+        ), partitionedPipelineExecutor());
+    }
+
+    private ReferenceDataSnapshotOrganisationPublicApi referenceDataSnapshotOrganisationPublicApi() {
+        if (referenceDataSnapshotOrganisationPublicApi == null) {
+            referenceDataSnapshotOrganisationPublicApi = new ReferenceDataSnapshotOrganisationPublicApi(organisationPublicApi, meterRegistry);
+        }
+
+        return referenceDataSnapshotOrganisationPublicApi;
     }
 
 }
@@ -1,12 +1,12 @@
 package org.cardanofoundation.lob.app.accounting_reporting_core.config;
 
+import java.time.Duration;
+
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -14,6 +14,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.cardanofoundation.lob.app.accounting_reporting_core.service.internal.IndexerTransactionTransformer;
 import org.cardanofoundation.lob.app.accounting_reporting_core.service.internal.OnChainIndexerReconcilationService;
 import org.cardanofoundation.lob.app.accounting_reporting_core.service.internal.OnChainIndexerService;
+import org.cardanofoundation.lob.app.support.http.OutboundHttpTransport;
 
 @Configuration
 @ConditionalOnProperty(value = "lob.indexer.enabled", havingValue = "true", matchIfMissing = false)
@@ -25,25 +26,18 @@ public class OnChainIndexerConfig {
     @Value("${lob.indexer.page-size:100}")
     private int pageSize;
 
-    @Value("${lob.indexer.connect-timeout:5000}")
-    private int connectTimeoutMillis;
-
     @Value("${lob.indexer.read-timeout:30000}")
     private int readTimeoutMillis;
 
-    @Bean
-    @Qualifier("indexerRestClient")
-    public RestClient indexerRestClient(RestClient.Builder builder) {
-        ClientHttpRequestFactory factory = indexerRequestFactory();
-        return builder.requestFactory(factory).build();
-    }
+    // lob.indexer.connect-timeout (milliseconds) is still honoured when the shared connect timeout is not set
+    @Value("${lob.http.client.connect_timeout:${lob.indexer.connect-timeout:PT5S}}")
+    private Duration connectTimeout;
 
     @Bean
-    public ClientHttpRequestFactory indexerRequestFactory() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(connectTimeoutMillis);
-        factory.setReadTimeout(readTimeoutMillis);
-        return factory;
+    @Qualifier("indexerRestClient")
+    public RestClient indexerRestClient(RestClient.Builder builder, OutboundHttpTransport outboundHttpTransport) {
+        return outboundHttpTransport.configure(builder, "indexer", connectTimeout, Duration.ofMillis(readTimeoutMillis), OnChainIndexerService::operation)
+                .build();
     }
 
     @Bean
@@ -7,6 +7,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.cardanofoundation.lob.app.support.reactive.DebounceScheduler;
 import org.cardanofoundation.lob.app.support.reactive.DebouncerManager;
 import org.cardanofoundation.lob.app.support.reactive.TransactionalTaskRunner;
 
@@ -16,14 +21,31 @@ public class ReactiveConfig {
     @Value("${batch.stats.debounce.duration:PT1M}")
     private Duration debouncerExpireTime;
 
+    @Value("${lob.accounting_reporting_core.debounce.threads:2}")
+    private int debounceThreads;
+
     @Bean
     public TransactionalTaskRunner transactionalTaskRunner() {
         return new TransactionalTaskRunner();
     }
 
+    @Bean(destroyMethod = "shutdown")
+    public DebounceScheduler debounceScheduler(TransactionalTaskRunner transactionalTaskRunner,
+                                               MeterRegistry meterRegistry) {
+        DebounceScheduler debounceScheduler = new DebounceScheduler(transactionalTaskRunner, debounceThreads);
+
+        FunctionCounter.builder("lob.debounce.calls.scheduled", debounceScheduler, s -> s.stats().scheduled()).register(meterRegistry);
+        FunctionCounter.builder("lob.debounce.calls.coalesced", debounceScheduler, s -> s.stats().coalesced()).register(meterRegistry);
+        FunctionCounter.builder("lob.debounce.calls.executed", debounceScheduler, s -> s.stats().executed()).register(meterRegistry);
+        FunctionCounter.builder("lob.debounce.calls.failed", debounceScheduler, s -> s.stats().failed()).register(meterRegistry);
+        Gauge.builder("lob.debounce.calls.pending", debounceScheduler, s -> s.stats().pending()).register(meterRegistry);
+
+        return debounceScheduler;
+    }
+
     @Bean(destroyMethod = "cleanup")
-    public DebouncerManager debouncerManager(TransactionalTaskRunner transactionalTaskRunner) {
-        return new DebouncerManager(debouncerExpireTime, transactionalTaskRunner);
+    public DebouncerManager debouncerManager(DebounceScheduler debounceScheduler) {
+        return new DebouncerManager(debouncerExpireTime, debounceScheduler);
     }
 
 }
@@ -0,0 +1,35 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.domain.core;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Set;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Sum of the LCY amounts of all transaction items booked on the same debit and credit account, positive for DEBIT
+ * items and negative for CREDIT items.
+ */
+public record AccountPairAmount(@Nullable String accountCodeDebit,
+                                @Nullable String accountCodeCredit,
+                                BigDecimal amountLcy) {
+
+    /**
+     * Balance of the given accounts, an amount counts for the accounts on its debit side and against the accounts on its
+     * credit side. An item booked between two of the given accounts does not change their balance.
+     */
+    public static BigDecimal balance(Collection<AccountPairAmount> amounts, Set<String> accountCodes) {
+        BigDecimal balance = BigDecimal.ZERO;
+        for (AccountPairAmount amount : amounts) {
+            if (amount.accountCodeDebit() != null && accountCodes.contains(amount.accountCodeDebit())) {
+                balance = balance.add(amount.amountLcy());
+            }
+            if (amount.accountCodeCredit() != null && accountCodes.contains(amount.accountCodeCredit())) {
+                balance = balance.subtract(amount.amountLcy());
+            }
+        }
+
+        return balance;
+    }
+
+}
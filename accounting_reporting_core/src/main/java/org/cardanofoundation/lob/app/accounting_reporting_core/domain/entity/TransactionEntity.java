@@ -224,6 +224,14 @@ public class TransactionEntity extends CommonEntity implements Persistable<Strin
     @Nullable
     private String rollbackSuffix;
 
+    // ERPSourceTransactionVersionCalculator hash of this transaction as last stored by the ERP sync
+    @Column(name = "erp_source_version")
+    @Getter
+    @Setter
+    @Nullable
+    @DiffIgnore
+    private String erpSourceVersion;
+
     @Column(name = "overall_status", nullable = false)
     @Enumerated(STRING)
     @DiffIgnore
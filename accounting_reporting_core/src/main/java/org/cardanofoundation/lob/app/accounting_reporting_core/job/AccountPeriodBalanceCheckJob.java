@@ -0,0 +1,59 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.job;
+
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.cardanofoundation.lob.app.accounting_reporting_core.repository.AccountPeriodBalanceRepository;
+import org.cardanofoundation.lob.app.accounting_reporting_core.service.internal.AccountPeriodBalanceService;
+
+/**
+ * Checks the account period balances against a full recomputation from the FINALIZED transactions, optionally
+ * rebuilding them when they differ.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(value = "lob.accounting_reporting_core.jobs.account_period_balance_check.enabled", havingValue = "true", matchIfMissing = true)
+public class AccountPeriodBalanceCheckJob {
+
+    private final AccountPeriodBalanceService accountPeriodBalanceService;
+    private final Counter mismatches;
+
+    @Value("${lob.accounting_reporting_core.jobs.account_period_balance_check.rebuild_on_mismatch:false}")
+    private boolean rebuildOnMismatch;
+
+    public AccountPeriodBalanceCheckJob(AccountPeriodBalanceService accountPeriodBalanceService,
+                                        MeterRegistry meterRegistry) {
+        this.accountPeriodBalanceService = accountPeriodBalanceService;
+        this.mismatches = Counter.builder("lob.account_period_balance.mismatches")
+                .description("Account period balances which differed from the FINALIZED transactions")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${lob.accounting_reporting_core.jobs.account_period_balance_check.delay:PT12H}",
+            initialDelayString = "${lob.accounting_reporting_core.jobs.account_period_balance_check.initial_delay:PT15M}")
+    public void execute() {
+        List<AccountPeriodBalanceRepository.Difference> differences = accountPeriodBalanceService.check();
+        if (differences.isEmpty()) {
+            log.info("Account period balances are consistent with the ledger");
+
+            return;
+        }
+        mismatches.increment(differences.size());
+        log.error("Account period balances differ from the ledger, differences: {}", differences.size());
+
+        if (rebuildOnMismatch) {
+            accountPeriodBalanceService.rebuild();
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.job;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import org.cardanofoundation.lob.app.accounting_reporting_core.service.internal.AccountPeriodBalanceService;
+
+/**
+ * Rebuilds the account period balances from the FINALIZED transactions once on startup, e.g. after they have been
+ * reported as inconsistent or after transactions were corrected directly in the database.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "lob.accounting_reporting_core.account_period_balance.rebuild_on_startup", havingValue = "true")
+public class AccountPeriodBalanceRebuildRunner implements ApplicationRunner {
+
+    private final AccountPeriodBalanceService accountPeriodBalanceService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        accountPeriodBalanceService.rebuild();
+    }
+
+}
@@ -0,0 +1,68 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.job;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionBatchEntity;
+import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionBatchRepository;
+import org.cardanofoundation.lob.app.accounting_reporting_core.service.internal.TransactionBatchService;
+
+/**
+ * Checks the incrementally maintained batch statistic counters of recently updated batches against a full recount.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(value = "lob.accounting_reporting_core.jobs.batch_stats_reconciliation.enabled", havingValue = "true", matchIfMissing = true)
+public class BatchStatisticsReconciliationJob {
+
+    private final TransactionBatchRepository transactionBatchRepository;
+    private final TransactionBatchService transactionBatchService;
+    private final Clock clock;
+    private final Counter mismatches;
+
+    @Value("${lob.accounting_reporting_core.jobs.batch_stats_reconciliation.lookback:P1D}")
+    private Duration lookback;
+
+    public BatchStatisticsReconciliationJob(TransactionBatchRepository transactionBatchRepository,
+                                            TransactionBatchService transactionBatchService,
+                                            Clock clock,
+                                            MeterRegistry meterRegistry) {
+        this.transactionBatchRepository = transactionBatchRepository;
+        this.transactionBatchService = transactionBatchService;
+        this.clock = clock;
+        this.mismatches = Counter.builder("lob.batch_stats.counter_mismatches")
+                .description("Batches whose incremental statistic counters had to be rebuilt")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${lob.accounting_reporting_core.jobs.batch_stats_reconciliation.delay:PT6H}",
+            initialDelayString = "${lob.accounting_reporting_core.jobs.batch_stats_reconciliation.initial_delay:PT10M}")
+    public void execute() {
+        List<TransactionBatchEntity> batches = transactionBatchRepository.findAllByUpdatedAtAfter(LocalDateTime.now(clock).minus(lookback));
+        log.info("Reconciling batch statistic counters, batches: {}", batches.size());
+
+        int rebuilt = 0;
+        for (TransactionBatchEntity batch : batches) {
+            if (transactionBatchService.reconcileBatchStatisticCounters(batch.getId())) {
+                mismatches.increment();
+                rebuilt++;
+            }
+        }
+
+        log.info("Batch statistic counters reconciled, batches: {}, rebuilt: {}", batches.size(), rebuilt);
+    }
+
+}
@@ -0,0 +1,28 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.job;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import org.cardanofoundation.lob.app.accounting_reporting_core.service.internal.ERPSourceVersionBackfillService;
+
+/**
+ * Stores the ERP source version of the transactions stored without one once on startup, e.g. once after upgrading
+ * from a release that did not keep versions.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "lob.accounting_reporting_core.erp_source_version.backfill_on_startup", havingValue = "true")
+public class ERPSourceVersionBackfillRunner implements ApplicationRunner {
+
+    private final ERPSourceVersionBackfillService erpSourceVersionBackfillService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        erpSourceVersionBackfillService.backfill();
+    }
+
+}
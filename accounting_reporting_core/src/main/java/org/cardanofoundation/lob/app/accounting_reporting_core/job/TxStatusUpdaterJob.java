@@ -15,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.TxStatusUpdate;
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionEntity;
+import org.cardanofoundation.lob.app.accounting_reporting_core.service.internal.AccountPeriodBalanceService;
 import org.cardanofoundation.lob.app.accounting_reporting_core.service.internal.LedgerService;
 import org.cardanofoundation.lob.app.accounting_reporting_core.service.internal.TransactionBatchService;
 
@@ -26,6 +27,7 @@ public class TxStatusUpdaterJob {
     private final Map<String, TxStatusUpdate> txStatusUpdatesMap = new ConcurrentHashMap<>();
     private final LedgerService ledgerService;
     private final TransactionBatchService transactionBatchService;
+    private final AccountPeriodBalanceService accountPeriodBalanceService;
 
     @Value("${lob.blockchain.tx-status-updater.max-map-size:1000}")
     private int maxMapSize;
@@ -48,6 +50,7 @@ public class TxStatusUpdaterJob {
             log.info("Updating Status of {} transactions", updates.size());
             List<TransactionEntity> transactionEntities = ledgerService.updateTransactionsWithNewStatuses(updates);
             ledgerService.saveAllTransactionEntities(transactionEntities);
+            accountPeriodBalanceService.statusesUpdated(transactionEntities);
 
             transactionBatchService.updateBatchesPerTransactions(updates);
             updates.forEach(txStatusUpdatesMap::remove);
@@ -0,0 +1,187 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.repository;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.AccountPairAmount;
+
+/**
+ * Per account and month balances of the FINALIZED transactions, see {@code accounting_core_account_period_balance}.
+ * A transaction's contribution is recorded per transaction as well, applying it twice is a no-op and reversing it
+ * takes away what was applied, not what its items are now.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountPeriodBalanceRepository {
+
+    // signed amount of every OK item on its debit account and, with the opposite sign, on its credit account
+    private static final String CONTRIBUTIONS = """
+            SELECT t.transaction_id, t.organisation_id, side.account_code, to_char(t.entry_date, 'YYYY-MM') AS period, side.amount_lcy
+            FROM accounting_core_transaction t
+            JOIN accounting_core_transaction_item i ON i.transaction_id = t.transaction_id
+            CROSS JOIN LATERAL (VALUES
+                (i.account_code_debit, CASE WHEN i.operation_type = 'DEBIT' THEN i.amount_lcy ELSE -i.amount_lcy END),
+                (i.account_code_credit, CASE WHEN i.operation_type = 'DEBIT' THEN -i.amount_lcy ELSE i.amount_lcy END)
+            ) AS side(account_code, amount_lcy)
+            WHERE t.entry_date IS NOT NULL
+            AND i.status = 'OK'
+            AND i.amount_lcy <> 0
+            AND side.account_code IS NOT NULL
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds the contribution of the transactions which are not applied yet.
+     *
+     * @return number of balance rows changed
+     */
+    public int apply(Collection<String> transactionIds) {
+        if (transactionIds.isEmpty()) {
+            return 0;
+        }
+
+        return jdbcTemplate.update("""
+                WITH applied AS (
+                    INSERT INTO accounting_core_account_period_balance_entry (transaction_id, organisation_id, account_code, period, amount_lcy)
+                    SELECT c.transaction_id, c.organisation_id, c.account_code, c.period, SUM(c.amount_lcy)
+                    FROM (%s AND t.transaction_id IN (:transactionIds)) c
+                    WHERE NOT EXISTS (SELECT 1 FROM accounting_core_account_period_balance_entry e WHERE e.transaction_id = c.transaction_id)
+                    GROUP BY c.transaction_id, c.organisation_id, c.account_code, c.period
+                    ON CONFLICT DO NOTHING
+                    RETURNING organisation_id, account_code, period, amount_lcy
+                )
+                INSERT INTO accounting_core_account_period_balance (organisation_id, account_code, period, balance_lcy)
+                SELECT organisation_id, account_code, period, SUM(amount_lcy)
+                FROM applied
+                GROUP BY organisation_id, account_code, period
+                ON CONFLICT (organisation_id, account_code, period)
+                DO UPDATE SET balance_lcy = accounting_core_account_period_balance.balance_lcy + EXCLUDED.balance_lcy
+                """.formatted(CONTRIBUTIONS), Map.of("transactionIds", transactionIds));
+    }
+
+    /**
+     * Takes away the applied contribution of the transactions.
+     *
+     * @return number of balance rows changed
+     */
+    public int reverse(Collection<String> transactionIds) {
+        if (transactionIds.isEmpty()) {
+            return 0;
+        }
+
+        return jdbcTemplate.update("""
+                WITH reversed AS (
+                    DELETE FROM accounting_core_account_period_balance_entry
+                    WHERE transaction_id IN (:transactionIds)
+                    RETURNING organisation_id, account_code, period, amount_lcy
+                )
+                UPDATE accounting_core_account_period_balance b
+                SET balance_lcy = b.balance_lcy - r.amount_lcy
+                FROM (
+                    SELECT organisation_id, account_code, period, SUM(amount_lcy) AS amount_lcy
+                    FROM reversed
+                    GROUP BY organisation_id, account_code, period
+                ) r
+                WHERE b.organisation_id = r.organisation_id
+                AND b.account_code = r.account_code
+                AND b.period = r.period
+                """, Map.of("transactionIds", transactionIds));
+    }
+
+    /**
+     * Recomputes the whole table from the items of all FINALIZED transactions.
+     *
+     * @return number of balance rows
+     */
+    public int rebuild() {
+        Map<String, Object> noParameters = Map.of();
+        // keeps concurrent apply / reverse calls out until the rebuild commits
+        jdbcTemplate.update("LOCK TABLE accounting_core_account_period_balance_entry, accounting_core_account_period_balance IN EXCLUSIVE MODE", noParameters);
+        jdbcTemplate.update("DELETE FROM accounting_core_account_period_balance_entry", noParameters);
+        jdbcTemplate.update("DELETE FROM accounting_core_account_period_balance", noParameters);
+        jdbcTemplate.update("""
+                INSERT INTO accounting_core_account_period_balance_entry (transaction_id, organisation_id, account_code, period, amount_lcy)
+                SELECT c.transaction_id, c.organisation_id, c.account_code, c.period, SUM(c.amount_lcy)
+                FROM (%s AND t.ledger_dispatch_status = 'FINALIZED') c
+                GROUP BY c.transaction_id, c.organisation_id, c.account_code, c.period
+                """.formatted(CONTRIBUTIONS), noParameters);
+
+        return jdbcTemplate.update("""
+                INSERT INTO accounting_core_account_period_balance (organisation_id, account_code, period, balance_lcy)
+                SELECT organisation_id, account_code, period, SUM(amount_lcy)
+                FROM accounting_core_account_period_balance_entry
+                GROUP BY organisation_id, account_code, period
+                """, noParameters);
+    }
+
+    /**
+     * Diffs the table against a full recomputation from the items of all FINALIZED transactions.
+     */
+    public List<Difference> findDifferences() {
+        return jdbcTemplate.query("""
+                WITH expected AS (
+                    SELECT c.organisation_id, c.account_code, c.period, SUM(c.amount_lcy) AS balance_lcy
+                    FROM (%s AND t.ledger_dispatch_status = 'FINALIZED') c
+                    GROUP BY c.organisation_id, c.account_code, c.period
+                )
+                SELECT COALESCE(e.organisation_id, b.organisation_id) AS organisation_id,
+                       COALESCE(e.account_code, b.account_code) AS account_code,
+                       COALESCE(e.period, b.period) AS period,
+                       COALESCE(e.balance_lcy, 0) AS expected_balance_lcy,
+                       COALESCE(b.balance_lcy, 0) AS balance_lcy
+                FROM expected e
+                FULL OUTER JOIN accounting_core_account_period_balance b
+                ON b.organisation_id = e.organisation_id AND b.account_code = e.account_code AND b.period = e.period
+                WHERE COALESCE(e.balance_lcy, 0) <> COALESCE(b.balance_lcy, 0)
+                ORDER BY 1, 2, 3
+                """.formatted(CONTRIBUTIONS), Map.of(), (rs, rowNum) -> new Difference(
+                rs.getString("organisation_id"),
+                rs.getString("account_code"),
+                YearMonth.parse(rs.getString("period")),
+                rs.getBigDecimal("expected_balance_lcy"),
+                rs.getBigDecimal("balance_lcy")));
+    }
+
+    /**
+     * Balance of every given account over the months, both inclusive. The amounts are on the debit side of the result.
+     */
+    public List<AccountPairAmount> sumBalances(String organisationId,
+                                               Collection<String> accountCodes,
+                                               YearMonth from,
+                                               YearMonth to) {
+        if (accountCodes.isEmpty()) {
+            return List.of();
+        }
+
+        return jdbcTemplate.query("""
+                SELECT account_code, SUM(balance_lcy) AS balance_lcy
+                FROM accounting_core_account_period_balance
+                WHERE organisation_id = :organisationId
+                AND account_code IN (:accountCodes)
+                AND period >= :from
+                AND period <= :to
+                GROUP BY account_code
+                """, Map.of(
+                "organisationId", organisationId,
+                "accountCodes", accountCodes,
+                "from", from.toString(),
+                "to", to.toString()), (rs, rowNum) -> new AccountPairAmount(rs.getString("account_code"), null, rs.getBigDecimal("balance_lcy")));
+    }
+
+    public record Difference(String organisationId,
+                             String accountCode,
+                             YearMonth period,
+                             BigDecimal expectedBalanceLcy,
+                             BigDecimal balanceLcy) {
+    }
+
+}
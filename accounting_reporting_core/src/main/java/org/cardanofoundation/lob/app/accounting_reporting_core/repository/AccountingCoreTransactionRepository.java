@@ -75,11 +75,14 @@ public interface AccountingCoreTransactionRepository extends JpaRepository<Trans
 
     Set<TransactionEntity> findAllByBatchId(String batchId);
 
-    @Query("""
+    String BATCH_TRANSACTIONS_QUERY = """
         SELECT t FROM accounting_reporting_core.TransactionEntity t
         JOIN t.batches b
         WHERE (:batchId IS NULL OR b.id = :batchId)
         AND (:txStatus IS NULL OR t.processingStatus IN :txStatus)
+        """;
+
+    String FILTERED_BATCH_TRANSACTIONS_QUERY = BATCH_TRANSACTIONS_QUERY + """
         AND (:types IS NULL OR t.transactionType IN :types)
         AND (:internalTransactionNumber IS NULL OR LOWER(t.internalTransactionNumber) LIKE LOWER(CONCAT('%', CAST(:internalTransactionNumber AS string), '%')))
         AND (:minTotalLcy IS NULL OR t.totalAmountLcy >= :minTotalLcy)
@@ -124,7 +127,17 @@ public interface AccountingCoreTransactionRepository extends JpaRepository<Trans
                         )
                 )
         )
-        """)
+        """;
+
+    /**
+     * Keyset page suffix, the next page starts after the last transaction id of the previous one.
+     */
+    String AFTER_ID_PAGE = """
+        AND t.id > :afterId
+        ORDER BY t.id ASC
+        """;
+
+    @Query(FILTERED_BATCH_TRANSACTIONS_QUERY)
     Page<TransactionEntity> findAllByBatchId(
             @Param("batchId") String batchId,
             @Param("txStatus") List<TransactionProcessingStatus> txStatus,
@@ -154,18 +167,52 @@ public interface AccountingCoreTransactionRepository extends JpaRepository<Trans
             Pageable page
     );
 
-    @Query("""
-        SELECT t FROM accounting_reporting_core.TransactionEntity t
-        JOIN t.batches b
-        WHERE (:batchId IS NULL OR b.id = :batchId)
-        AND (:txStatus IS NULL OR t.processingStatus IN :txStatus)
-        """)
+    @Query(FILTERED_BATCH_TRANSACTIONS_QUERY + AFTER_ID_PAGE)
+    List<TransactionEntity> findAllByBatchIdAfterId(
+            @Param("batchId") String batchId,
+            @Param("txStatus") List<TransactionProcessingStatus> txStatus,
+            @Param("internalTransactionNumber") String internalTransactionNumber,
+            @Param("types") List<TransactionType> types,
+            @Param("documentNumbers") List<String> documentNumbers,
+            @Param("documentNumber") String documentNumber,
+            @Param("currencyCustomerCodes") List<String> currencyCustomerCodes,
+            @Param("minFCY") BigDecimal minFCY,
+            @Param("maxFCY") BigDecimal maxFCY,
+            @Param("minLCY") BigDecimal minLCY,
+            @Param("maxLCY") BigDecimal maxLCY,
+            @Param("minTotalLcy") BigDecimal minTotalLcy,
+            @Param("maxTotalLcy") BigDecimal maxTotalLcy,
+            @Param("dateFrom") LocalDateTime dateFrom,
+            @Param("dateTo") LocalDateTime dateTo,
+            @Param("vatCustomerCodes") List<String> vatCustomerCodes,
+            @Param("parentCostCenterCustomerCodes") List<String> parentCostCenterCustomerCodes,
+            @Param("costCenterCustomerCodes") List<String> costCenterCustomerCodes,
+            @Param("counterPartyCustomerCodes") List<String> counterPartyCustomerCodes,
+            @Param("counterPartyTypes") List<String> counterPartyTypes,
+            @Param("debitAccountCodes") List<String> debitAccountCodes,
+            @Param("creditAccountCodes") List<String> creditAccountCodes,
+            @Param("eventCodes") List<String> eventCodes,
+            @Param("projectCustomerCodes") List<String> projectCustomerCodes,
+            @Param("parentProjectCustomerCodes") List<String> parentProjectCustomerCodes,
+            @Param("afterId") String afterId,
+            Limit limit
+    );
+
+    @Query(BATCH_TRANSACTIONS_QUERY)
     Page<TransactionEntity> findAllByBatchId(
             @Param("batchId") String batchId,
             @Param("txStatus") List<TransactionProcessingStatus> txStatus,
             Pageable page
     );
 
+    @Query(BATCH_TRANSACTIONS_QUERY + AFTER_ID_PAGE)
+    List<TransactionEntity> findAllByBatchIdAfterId(
+            @Param("batchId") String batchId,
+            @Param("txStatus") List<TransactionProcessingStatus> txStatus,
+            @Param("afterId") String afterId,
+            Limit limit
+    );
+
     @Query("""
             SELECT t FROM accounting_reporting_core.TransactionEntity t
             WHERE t.organisation.id = :organisationId
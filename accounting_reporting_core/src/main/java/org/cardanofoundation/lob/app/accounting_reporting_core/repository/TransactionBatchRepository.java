@@ -9,6 +9,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -56,6 +57,105 @@ public interface TransactionBatchRepository extends JpaRepository<TransactionBat
         Optional<BatchStatisticsView> getBatchStatisticViewForBatchId(
                         @Param("batchId") String batchId);
 
+        // maintained incrementally by database triggers, see V1.6_100_7_1__add_transaction_batch_counters.sql
+        // the counter row plus the deltas appended since its last compaction
+        @Query(value = """
+                        SELECT
+                            c.transaction_batch_id AS batchId,
+                            c.invalid_count + d.invalid AS invalid,
+                            c.pending_count + d.pending AS pending,
+                            c.approve_count + d.approve AS approve,
+                            c.publish_count + d.publish AS publish,
+                            c.published_count + d.published AS published,
+                            c.total_count + d.total AS total
+                        FROM accounting_core_transaction_batch_counter c
+                        CROSS JOIN (
+                            SELECT
+                                CAST(COALESCE(SUM(invalid_delta), 0) AS INT) AS invalid,
+                                CAST(COALESCE(SUM(pending_delta), 0) AS INT) AS pending,
+                                CAST(COALESCE(SUM(approve_delta), 0) AS INT) AS approve,
+                                CAST(COALESCE(SUM(publish_delta), 0) AS INT) AS publish,
+                                CAST(COALESCE(SUM(published_delta), 0) AS INT) AS published,
+                                CAST(COALESCE(SUM(total_delta), 0) AS INT) AS total
+                            FROM accounting_core_transaction_batch_counter_delta
+                            WHERE transaction_batch_id = :batchId
+                        ) d
+                        WHERE c.transaction_batch_id = :batchId
+                        """, nativeQuery = true)
+        Optional<BatchStatisticsViewProjection> getBatchStatisticCountersForBatchId(
+                        @Param("batchId") String batchId);
+
+        // creates the counter row of the batch if missing and locks it until the end of the transaction,
+        // compaction and rebuilds of the same batch queue up behind it instead of overwriting each other
+        @Modifying
+        @Query(value = """
+                        INSERT INTO accounting_core_transaction_batch_counter AS c (transaction_batch_id)
+                        VALUES (:batchId)
+                        ON CONFLICT (transaction_batch_id) DO UPDATE SET total_count = c.total_count
+                        """, nativeQuery = true)
+        void lockBatchStatisticCounters(@Param("batchId") String batchId);
+
+        // folds the committed deltas into the counter row, deltas of transactions still in flight stay pending
+        @Modifying
+        @Query(value = """
+                        WITH moved AS (
+                            DELETE FROM accounting_core_transaction_batch_counter_delta
+                            WHERE transaction_batch_id = :batchId
+                            RETURNING invalid_delta, pending_delta, approve_delta, publish_delta, published_delta, total_delta
+                        )
+                        INSERT INTO accounting_core_transaction_batch_counter AS c
+                            (transaction_batch_id, invalid_count, pending_count, approve_count, publish_count, published_count, total_count)
+                        SELECT
+                            :batchId,
+                            COALESCE(SUM(invalid_delta), 0),
+                            COALESCE(SUM(pending_delta), 0),
+                            COALESCE(SUM(approve_delta), 0),
+                            COALESCE(SUM(publish_delta), 0),
+                            COALESCE(SUM(published_delta), 0),
+                            COALESCE(SUM(total_delta), 0)
+                        FROM moved
+                        ON CONFLICT (transaction_batch_id) DO UPDATE SET
+                            invalid_count = c.invalid_count + EXCLUDED.invalid_count,
+                            pending_count = c.pending_count + EXCLUDED.pending_count,
+                            approve_count = c.approve_count + EXCLUDED.approve_count,
+                            publish_count = c.publish_count + EXCLUDED.publish_count,
+                            published_count = c.published_count + EXCLUDED.published_count,
+                            total_count = c.total_count + EXCLUDED.total_count
+                        """, nativeQuery = true)
+        void compactBatchStatisticCounters(@Param("batchId") String batchId);
+
+        // recount and discarded deltas share one snapshot, so a delta is either part of the recount or left pending
+        @Modifying
+        @Query(value = """
+                        WITH discarded AS (
+                            DELETE FROM accounting_core_transaction_batch_counter_delta
+                            WHERE transaction_batch_id = :batchId
+                        )
+                        INSERT INTO accounting_core_transaction_batch_counter
+                            (transaction_batch_id, invalid_count, pending_count, approve_count, publish_count, published_count, total_count)
+                        SELECT
+                            :batchId,
+                            COUNT(DISTINCT tx.transaction_id) FILTER (WHERE tx.processing_status = 'INVALID'),
+                            COUNT(DISTINCT tx.transaction_id) FILTER (WHERE tx.processing_status = 'PENDING'),
+                            COUNT(DISTINCT tx.transaction_id) FILTER (WHERE tx.processing_status = 'APPROVE'),
+                            COUNT(DISTINCT tx.transaction_id) FILTER (WHERE tx.processing_status = 'PUBLISH'),
+                            COUNT(DISTINCT tx.transaction_id) FILTER (WHERE tx.processing_status = 'PUBLISHED'),
+                            COUNT(DISTINCT tx.transaction_id)
+                        FROM accounting_core_transaction_batch_assoc a
+                        JOIN accounting_core_transaction tx ON tx.transaction_id = a.transaction_id
+                        WHERE a.transaction_batch_id = :batchId
+                        ON CONFLICT (transaction_batch_id) DO UPDATE SET
+                            invalid_count = EXCLUDED.invalid_count,
+                            pending_count = EXCLUDED.pending_count,
+                            approve_count = EXCLUDED.approve_count,
+                            publish_count = EXCLUDED.publish_count,
+                            published_count = EXCLUDED.published_count,
+                            total_count = EXCLUDED.total_count
+                        """, nativeQuery = true)
+        void rebuildBatchStatisticCounters(@Param("batchId") String batchId);
+
+        List<TransactionBatchEntity> findAllByUpdatedAtAfter(LocalDateTime updatedAt);
+
         @Query(" SELECT DISTINCT(tb.createdBy) FROM accounting_reporting_core.TransactionBatchEntity tb where tb.filteringParameters.organisationId = :organisationId")
         List<String> findBatchUsersList(@Param("organisationId") String organisationId);
 
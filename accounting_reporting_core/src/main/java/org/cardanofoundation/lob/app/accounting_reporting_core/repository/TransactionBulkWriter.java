@@ -0,0 +1,372 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.repository;
+
+import static java.util.stream.Collectors.joining;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.persistence.EntityManager;
+
+import javax.annotation.Nullable;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.reconcilation.Reconcilation;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.*;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.reconcilation.ReconcilationEntity;
+import org.cardanofoundation.lob.app.support.orm.YearMonthStringAttributeConverter;
+import org.cardanofoundation.lob.app.support.spring_audit.CommonEntity;
+
+/**
+ * Writes transactions, their items, violations and batch associations with JDBC batches and PostgreSQL upserts
+ * instead of one JPA merge per row. Envers history is kept: all rows written by one call share a single revision
+ * and the audit rows are copied from the freshly written rows with INSERT ... SELECT.
+ * <p>
+ * Entity callbacks (item count, total amount, processing and overall status) and the created / updated audit
+ * fields are applied here, since no JPA lifecycle events fire for rows written this way.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionBulkWriter {
+
+    private static final int JDBC_BATCH_SIZE = 1_000;
+
+    private static final int REVTYPE_ADD = 0;
+    private static final int REVTYPE_MOD = 1;
+    private static final int REVTYPE_DEL = 2;
+
+    private static final List<String> TRANSACTION_COLUMNS = List.of(
+            "transaction_id", "type", "batch_id", "processing_status", "entry_date", "accounting_period",
+            "transaction_internal_number", "organisation_id", "organisation_name", "organisation_country_code",
+            "organisation_tax_id_number", "organisation_currency_id", "reconcilation_id", "reconcilation_source",
+            "reconcilation_sink", "reconcilation_final_status", "user_comment", "automated_validation_status",
+            "transaction_approved", "ledger_dispatch_approved", "ledger_dispatch_status",
+            "ledger_dispatch_status_error_reason", "primary_blockchain_type", "primary_blockchain_hash",
+            "overall_status", "total_amount_lcy", "item_count", "extractor_type", "rollback_suffix",
+            "erp_source_version", "created_by", "updated_by", "created_at", "updated_at");
+
+    private static final List<String> ITEM_COLUMNS = List.of(
+            "transaction_item_id", "transaction_id", "fx_rate", "rejection_reason",
+            "account_code_debit", "account_ref_code_debit", "account_name_debit",
+            "account_code_credit", "account_ref_code_credit", "account_name_credit",
+            "account_event_code", "account_event_name", "amount_fcy", "amount_lcy",
+            "document_num", "document_currency_customer_code", "document_currency_id",
+            "document_vat_customer_code", "document_vat_rate",
+            "document_counterparty_customer_code", "document_counterparty_type", "document_counterparty_name",
+            "project_customer_code", "project_name", "cost_center_customer_code", "cost_center_name",
+            "status", "operation_type", "created_by", "updated_by", "created_at", "updated_at");
+
+    private static final List<String> VIOLATION_COLUMNS = List.of(
+            "transaction_id", "tx_item_id", "code", "severity", "sub_code", "source", "processor_module", "detail_bag");
+
+    private static final List<String> BATCH_ASSOC_COLUMNS = List.of(
+            "transaction_batch_id", "transaction_id", "created_by", "updated_by", "created_at", "updated_at");
+
+    private static final String UPSERT_TRANSACTION_SQL = upsertSql("accounting_core_transaction", TRANSACTION_COLUMNS, "transaction_id");
+    private static final String UPSERT_ITEM_SQL = upsertSql("accounting_core_transaction_item", ITEM_COLUMNS, "transaction_item_id");
+    private static final String INSERT_VIOLATION_SQL = insertSql("accounting_core_transaction_violation", VIOLATION_COLUMNS);
+    private static final String INSERT_BATCH_ASSOC_SQL = insertSql("accounting_core_transaction_batch_assoc", BATCH_ASSOC_COLUMNS)
+            + " ON CONFLICT (transaction_batch_id, transaction_id) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final AuditorAware<String> auditorAware;
+    private final Clock clock;
+
+    private final OverallStatusTransactionEntityListener overallStatusListener = new OverallStatusTransactionEntityListener();
+    private final YearMonthStringAttributeConverter yearMonthConverter = new YearMonthStringAttributeConverter();
+
+    @Transactional
+    public void storeAll(String batchId, Collection<TransactionEntity> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+
+        // rows are written behind the persistence context's back, managed copies must not be flushed again on commit
+        for (TransactionEntity tx : transactions) {
+            if (entityManager.contains(tx)) {
+                entityManager.detach(tx);
+            }
+        }
+        entityManager.flush();
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        String auditor = auditorAware.getCurrentAuditor().orElse(null);
+        List<TransactionItemEntity> items = new ArrayList<>();
+        List<OwnedViolation> violations = new ArrayList<>();
+        for (TransactionEntity tx : transactions) {
+            tx.preUpdate();
+            overallStatusListener.update(tx);
+            stamp(tx, now, auditor);
+
+            for (TransactionItemEntity item : tx.getAllItems()) {
+                item.setTransaction(tx);
+                stamp(item, now, auditor);
+                items.add(item);
+            }
+            for (TransactionViolation violation : tx.getViolations()) {
+                violations.add(new OwnedViolation(tx.getId(), violation));
+            }
+        }
+
+        String[] txIds = transactions.stream().map(TransactionEntity::getId).toArray(String[]::new);
+        String[] itemIds = items.stream().map(TransactionItemEntity::getId).toArray(String[]::new);
+        long rev = nextRevision(now);
+
+        String[] existingTxIds = jdbcTemplate.queryForList(
+                "SELECT rtrim(transaction_id) FROM accounting_core_transaction WHERE transaction_id = ANY(?)",
+                String.class, (Object) txIds).toArray(String[]::new);
+
+        jdbcTemplate.batchUpdate(UPSERT_TRANSACTION_SQL, transactions, JDBC_BATCH_SIZE, this::setTransactionValues);
+        copyToAudit("accounting_core_transaction", TRANSACTION_COLUMNS, rev,
+                "CASE WHEN transaction_id = ANY(?) THEN %d ELSE %d END".formatted(REVTYPE_MOD, REVTYPE_ADD),
+                "transaction_id = ANY(?)", existingTxIds, txIds);
+
+        storeItems(rev, txIds, itemIds, items);
+        storeViolations(rev, txIds, violations);
+        storeBatchAssociations(rev, batchId, txIds, now, auditor);
+
+        log.info("Bulk stored transactions, batchId: {}, transactions: {}, items: {}, violations: {}, rev: {}, took: {} ms",
+                batchId, txIds.length, itemIds.length, violations.size(), rev, System.currentTimeMillis() - start);
+    }
+
+    private void storeItems(long rev, String[] txIds, String[] itemIds, List<TransactionItemEntity> items) {
+        String[] existingItemIds = jdbcTemplate.queryForList(
+                "SELECT rtrim(transaction_item_id) FROM accounting_core_transaction_item WHERE transaction_id = ANY(?)",
+                String.class, (Object) txIds).toArray(String[]::new);
+
+        Set<String> removedItemIds = new HashSet<>(Arrays.asList(existingItemIds));
+        removedItemIds.removeAll(Arrays.asList(itemIds));
+        if (!removedItemIds.isEmpty()) {
+            String[] removed = removedItemIds.toArray(String[]::new);
+            copyToAudit("accounting_core_transaction_item", ITEM_COLUMNS, rev, String.valueOf(REVTYPE_DEL),
+                    "transaction_item_id = ANY(?)", (Object) removed);
+            jdbcTemplate.update("DELETE FROM accounting_core_transaction_item WHERE transaction_item_id = ANY(?)", (Object) removed);
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_ITEM_SQL, items, JDBC_BATCH_SIZE, this::setItemValues);
+        copyToAudit("accounting_core_transaction_item", ITEM_COLUMNS, rev,
+                "CASE WHEN transaction_item_id = ANY(?) THEN %d ELSE %d END".formatted(REVTYPE_MOD, REVTYPE_ADD),
+                "transaction_item_id = ANY(?)", existingItemIds, itemIds);
+    }
+
+    // violations are an element collection without an identity of their own, the set is replaced as a whole
+    private void storeViolations(long rev, String[] txIds, List<OwnedViolation> violations) {
+        copyToAudit("accounting_core_transaction_violation", VIOLATION_COLUMNS, rev, String.valueOf(REVTYPE_DEL),
+                "transaction_id = ANY(?)", (Object) txIds);
+        jdbcTemplate.update("DELETE FROM accounting_core_transaction_violation WHERE transaction_id = ANY(?)", (Object) txIds);
+
+        jdbcTemplate.batchUpdate(INSERT_VIOLATION_SQL, violations, JDBC_BATCH_SIZE, this::setViolationValues);
+        copyToAudit("accounting_core_transaction_violation", VIOLATION_COLUMNS, rev, String.valueOf(REVTYPE_ADD),
+                "transaction_id = ANY(?)", (Object) txIds);
+    }
+
+    private void storeBatchAssociations(long rev, String batchId, String[] txIds, LocalDateTime now, @Nullable String auditor) {
+        Set<String> associated = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT rtrim(transaction_id) FROM accounting_core_transaction_batch_assoc WHERE transaction_batch_id = ? AND transaction_id = ANY(?)",
+                String.class, batchId, txIds));
+
+        String[] newTxIds = Arrays.stream(txIds).filter(txId -> !associated.contains(txId)).toArray(String[]::new);
+        if (newTxIds.length == 0) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_BATCH_ASSOC_SQL, Arrays.asList(newTxIds), JDBC_BATCH_SIZE, (ps, txId) -> {
+            ps.setString(1, batchId);
+            ps.setString(2, txId);
+            ps.setString(3, auditor);
+            ps.setString(4, auditor);
+            ps.setObject(5, now);
+            ps.setObject(6, now);
+        });
+        copyToAudit("accounting_core_transaction_batch_assoc", BATCH_ASSOC_COLUMNS, rev, String.valueOf(REVTYPE_ADD),
+                "transaction_batch_id = ? AND transaction_id = ANY(?)", batchId, newTxIds);
+    }
+
+    private long nextRevision(LocalDateTime now) {
+        Long rev = jdbcTemplate.queryForObject("SELECT nextval('revinfo_seq')", Long.class);
+        jdbcTemplate.update("INSERT INTO revinfo (rev, rev_timestamp) VALUES (?, ?)", rev, now);
+
+        return rev;
+    }
+
+    private void copyToAudit(String table, List<String> columns, long rev, String revtypeExpr, String where, Object... args) {
+        String cols = String.join(", ", columns);
+        String sql = "INSERT INTO %s_aud (%s, rev, revtype) SELECT %s, %d, %s FROM %s WHERE %s"
+                .formatted(table, cols, cols, rev, revtypeExpr, table, where);
+
+        jdbcTemplate.update(sql, args);
+    }
+
+    private void setTransactionValues(PreparedStatement ps, TransactionEntity tx) throws SQLException {
+        Reconcilation reconcilation = tx.getReconcilation().orElse(null);
+        Organisation organisation = tx.getOrganisation();
+        LedgerDispatchReceipt receipt = tx.getLedgerDispatchReceipt().orElse(null);
+
+        int i = 0;
+        ps.setString(++i, tx.getId());
+        setEnum(ps, ++i, tx.getTransactionType());
+        ps.setString(++i, tx.getBatchId());
+        ps.setString(++i, tx.getProcessingStatus().map(Enum::name).orElse(null));
+        ps.setObject(++i, tx.getEntryDate());
+        ps.setString(++i, yearMonth(tx.getAccountingPeriod()));
+        ps.setString(++i, tx.getInternalTransactionNumber());
+        ps.setString(++i, organisation.getId());
+        ps.setString(++i, organisation.getName().orElse(null));
+        ps.setString(++i, organisation.getCountryCode().orElse(null));
+        ps.setString(++i, organisation.getTaxIdNumber().orElse(null));
+        ps.setString(++i, organisation.getCurrencyId());
+        ps.setString(++i, tx.getLastReconcilation().map(ReconcilationEntity::getId).orElse(null));
+        setEnum(ps, ++i, reconcilation == null ? null : reconcilation.getSource().orElse(null));
+        setEnum(ps, ++i, reconcilation == null ? null : reconcilation.getSink().orElse(null));
+        setEnum(ps, ++i, reconcilation == null ? null : reconcilation.getFinalStatus().orElse(null));
+        ps.setString(++i, tx.getUserComment().orElse(null));
+        setEnum(ps, ++i, tx.getAutomatedValidationStatus());
+        ps.setBoolean(++i, Boolean.TRUE.equals(tx.getTransactionApproved()));
+        ps.setBoolean(++i, Boolean.TRUE.equals(tx.getLedgerDispatchApproved()));
+        setEnum(ps, ++i, tx.getLedgerDispatchStatus());
+        ps.setString(++i, tx.getLedgerDispatchStatusErrorReason());
+        ps.setString(++i, receipt == null ? null : receipt.getPrimaryBlockchainType());
+        ps.setString(++i, receipt == null ? null : receipt.getPrimaryBlockchainHash());
+        setEnum(ps, ++i, tx.getOverallStatus());
+        ps.setBigDecimal(++i, tx.getTotalAmountLcy());
+        ps.setInt(++i, tx.getItemCount());
+        ps.setString(++i, tx.getExtractorType());
+        ps.setString(++i, tx.getRollbackSuffix());
+        ps.setString(++i, tx.getErpSourceVersion());
+        ps.setString(++i, tx.getCreatedBy());
+        ps.setString(++i, tx.getUpdatedBy());
+        ps.setObject(++i, tx.getCreatedAt());
+        ps.setObject(++i, tx.getUpdatedAt());
+    }
+
+    private void setItemValues(PreparedStatement ps, TransactionItemEntity item) throws SQLException {
+        Account debit = item.getAccountDebit().orElse(null);
+        Account credit = item.getAccountCredit().orElse(null);
+        AccountEvent accountEvent = item.getAccountEvent().orElse(null);
+        Document document = item.getDocument().orElse(null);
+        Currency currency = document == null ? null : document.getCurrency();
+        Vat vat = document == null ? null : document.getVat().orElse(null);
+        Counterparty counterparty = document == null ? null : document.getCounterparty().orElse(null);
+        Project project = item.getProject().orElse(null);
+        CostCenter costCenter = item.getCostCenter().orElse(null);
+
+        int i = 0;
+        ps.setString(++i, item.getId());
+        ps.setString(++i, item.getTransaction().getId());
+        ps.setBigDecimal(++i, item.getFxRate());
+        setEnum(ps, ++i, item.getRejection().map(Rejection::getRejectionReason).orElse(null));
+        ps.setString(++i, debit == null ? null : debit.getCode());
+        ps.setString(++i, debit == null ? null : debit.getRefCode().orElse(null));
+        ps.setString(++i, debit == null ? null : debit.getName().orElse(null));
+        ps.setString(++i, credit == null ? null : credit.getCode());
+        ps.setString(++i, credit == null ? null : credit.getRefCode().orElse(null));
+        ps.setString(++i, credit == null ? null : credit.getName().orElse(null));
+        ps.setString(++i, accountEvent == null ? null : accountEvent.getCode());
+        ps.setString(++i, accountEvent == null ? null : accountEvent.getName());
+        ps.setBigDecimal(++i, item.getAmountFcy());
+        ps.setBigDecimal(++i, item.getAmountLcy());
+        ps.setString(++i, document == null ? null : document.getNum());
+        ps.setString(++i, currency == null ? null : currency.getCustomerCode());
+        ps.setString(++i, currency == null ? null : currency.getId().orElse(null));
+        ps.setString(++i, vat == null ? null : vat.getCustomerCode());
+        ps.setBigDecimal(++i, vat == null ? null : vat.getRate().orElse(null));
+        ps.setString(++i, counterparty == null ? null : counterparty.getCustomerCode());
+        setEnum(ps, ++i, counterparty == null ? null : counterparty.getType());
+        ps.setString(++i, counterparty == null ? null : counterparty.getName().orElse(null));
+        ps.setString(++i, project == null ? null : project.getCustomerCode());
+        ps.setString(++i, project == null ? null : project.getName().orElse(null));
+        ps.setString(++i, costCenter == null ? null : costCenter.getCustomerCode());
+        ps.setString(++i, costCenter == null ? null : costCenter.getName().orElse(null));
+        setEnum(ps, ++i, item.getStatus());
+        setEnum(ps, ++i, item.getOperationType());
+        ps.setString(++i, item.getCreatedBy());
+        ps.setString(++i, item.getUpdatedBy());
+        ps.setObject(++i, item.getCreatedAt());
+        ps.setObject(++i, item.getUpdatedAt());
+    }
+
+    private void setViolationValues(PreparedStatement ps, OwnedViolation ownedViolation) throws SQLException {
+        TransactionViolation violation = ownedViolation.violation();
+
+        int i = 0;
+        ps.setString(++i, ownedViolation.transactionId());
+        ps.setString(++i, violation.getTxItemId().orElse(null));
+        setEnum(ps, ++i, violation.getCode());
+        setEnum(ps, ++i, violation.getSeverity());
+        ps.setString(++i, violation.getSubCode().orElse(null));
+        setEnum(ps, ++i, violation.getSource());
+        ps.setString(++i, violation.getProcessorModule());
+        ps.setObject(++i, json(violation.getBag()), Types.OTHER);
+    }
+
+    private void stamp(CommonEntity entity, LocalDateTime now, @Nullable String auditor) {
+        if (entity.getCreatedAt() == null) {
+            entity.setCreatedAt(now);
+            entity.setCreatedBy(auditor);
+        }
+        entity.setUpdatedAt(now);
+        entity.setUpdatedBy(auditor);
+    }
+
+    // postgres enum types accept untyped string parameters only
+    private static void setEnum(PreparedStatement ps, int index, @Nullable Enum<?> value) throws SQLException {
+        ps.setObject(index, value == null ? null : value.name(), Types.OTHER);
+    }
+
+    @Nullable
+    private String yearMonth(@Nullable YearMonth yearMonth) {
+        return yearMonthConverter.convertToDatabaseColumn(yearMonth);
+    }
+
+    private String json(Map<String, Object> bag) {
+        try {
+            return objectMapper.writeValueAsString(bag == null ? Map.of() : bag);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialise violation bag", e);
+        }
+    }
+
+    private static String insertSql(String table, List<String> columns) {
+        return "INSERT INTO %s (%s) VALUES (%s)".formatted(
+                table,
+                String.join(", ", columns),
+                columns.stream().map(c -> "?").collect(joining(", ")));
+    }
+
+    private static String upsertSql(String table, List<String> columns, String idColumn) {
+        String updates = columns.stream()
+                .filter(c -> !c.equals(idColumn) && !c.equals("created_by") && !c.equals("created_at"))
+                .map(c -> "%s = EXCLUDED.%s".formatted(c, c))
+                .collect(joining(", "));
+
+        return insertSql(table, columns) + " ON CONFLICT (%s) DO UPDATE SET %s".formatted(idColumn, updates);
+    }
+
+    private record OwnedViolation(String transactionId, TransactionViolation violation) {
+    }
+
+}
@@ -3,6 +3,8 @@ package org.cardanofoundation.lob.app.accounting_reporting_core.repository;
 import java.time.LocalDate;
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 
@@ -27,6 +29,29 @@ public class TransactionItemExtractionRepository {
                                                          List<String> accountCode, List<String> costCenter,
                                                          List<String> project, List<String> accountType,
                                                          List<String> accountSubType) {
+        return itemAccountQuery(dateFrom, dateTo, accountCode, costCenter, project, accountType, accountSubType, null)
+                .getResultList();
+    }
+
+    /**
+     * Keyset page of {@link #findByItemAccount}, ordered by item id and starting after the given item id, so that
+     * large exports can be read page by page without an offset scan.
+     */
+    public List<TransactionItemEntity> findByItemAccountAfterId(LocalDate dateFrom, LocalDate dateTo,
+                                                                List<String> accountCode, List<String> costCenter,
+                                                                List<String> project, List<String> accountType,
+                                                                List<String> accountSubType,
+                                                                String afterId, int limit) {
+        return itemAccountQuery(dateFrom, dateTo, accountCode, costCenter, project, accountType, accountSubType, afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private TypedQuery<TransactionItemEntity> itemAccountQuery(LocalDate dateFrom, LocalDate dateTo,
+                                                               List<String> accountCode, List<String> costCenter,
+                                                               List<String> project, List<String> accountType,
+                                                               List<String> accountSubType,
+                                                               @Nullable String afterId) {
 
         StringBuilder jpql = new StringBuilder("""
                     SELECT ti FROM accounting_reporting_core.TransactionItemEntity ti
@@ -96,6 +121,10 @@ public class TransactionItemExtractionRepository {
         if (project != null && !project.isEmpty()) {
             jpql.append(" AND ti.project.customerCode IN :projects");
         }
+
+        if (afterId != null) {
+            jpql.append(" AND ti.id > :afterId ORDER BY ti.id ASC");
+        }
         TypedQuery<TransactionItemEntity> query = em.createQuery(jpql.toString(), TransactionItemEntity.class);
         query.setParameter("dateFrom", dateFrom);
         query.setParameter("dateTo", dateTo);
@@ -117,8 +146,11 @@ public class TransactionItemExtractionRepository {
         if (project != null && !project.isEmpty()) {
             query.setParameter("projects", project);
         }
+        if (afterId != null) {
+            query.setParameter("afterId", afterId);
+        }
 
-        return query.getResultList();
+        return query;
     }
 
 }
@@ -2,6 +2,7 @@ package org.cardanofoundation.lob.app.accounting_reporting_core.repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -12,6 +13,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.AccountPairAmount;
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.Counterparty;
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.TransactionType;
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionItemEntity;
@@ -26,14 +28,21 @@ public interface TransactionItemRepository extends JpaRepository<TransactionItem
     List<TransactionItemEntity> findByItemAccount(@Param("accountCode") String accountCode);
 
     @Query("""
-        SELECT t FROM accounting_reporting_core.TransactionItemEntity t
+        SELECT new org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.AccountPairAmount(
+            t.accountDebit.code,
+            t.accountCredit.code,
+            SUM(CASE WHEN t.operationType = 'DEBIT' THEN t.amountLcy ELSE -t.amountLcy END)
+        )
+        FROM accounting_reporting_core.TransactionItemEntity t
         WHERE t.transaction.entryDate >= :startDate
         AND t.transaction.entryDate <= :endDate
         AND (t.accountDebit.code IN :customerCodes OR t.accountCredit.code IN :customerCodes)
         AND t.amountLcy <> 0
+        AND t.status = 'OK'
         AND t.transaction.ledgerDispatchStatus = 'FINALIZED'
+        GROUP BY t.accountDebit.code, t.accountCredit.code
         """)
-    List<TransactionItemEntity> findTransactionItemsByAccountCodeAndDateRange(@Param("customerCodes") List<String> customerCodes, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    List<AccountPairAmount> sumAmountsByAccountCodeAndDateRange(@Param("customerCodes") Collection<String> customerCodes, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
     @Query("""
         SELECT DISTINCT t.document.num FROM accounting_reporting_core.TransactionItemEntity t
@@ -47,16 +56,23 @@ public interface TransactionItemRepository extends JpaRepository<TransactionItem
     List<Map<String, String>> getAllCounterParty(@Param("organisationId") String organisationId);
 
     @Query("""
-            SELECT t FROM accounting_reporting_core.TransactionItemEntity t
+            SELECT new org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.AccountPairAmount(
+                t.accountDebit.code,
+                t.accountCredit.code,
+                SUM(CASE WHEN t.operationType = 'DEBIT' THEN t.amountLcy ELSE -t.amountLcy END)
+            )
+            FROM accounting_reporting_core.TransactionItemEntity t
             WHERE t.transaction.entryDate >= :startDate
             AND t.transaction.entryDate <= :endDate
             AND (t.accountDebit.code IN :customerCodes OR t.accountCredit.code IN :customerCodes)
             AND t.amountLcy <> 0
+            AND t.status = 'OK'
             AND t.transaction.automatedValidationStatus = 'VALIDATED'
             AND t.transaction.processingStatus NOT IN ('PENDING','INVALID')
+            GROUP BY t.accountDebit.code, t.accountCredit.code
             """)
-    List<TransactionItemEntity> findPreviewTransactionItemsByAccountCodeAndDateRange(
-            @Param("customerCodes") List<String> customerCodes,
+    List<AccountPairAmount> sumPreviewAmountsByAccountCodeAndDateRange(
+            @Param("customerCodes") Collection<String> customerCodes,
             @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
     @Query("""
@@ -5,6 +5,7 @@ import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.MediaType.MULTIPART_FORM_DATA_VALUE;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,10 +17,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -87,6 +90,29 @@ public class ExtractionController {
                 }
         }
 
+        @Tag(name = "Extraction", description = "Extraction search")
+        @PostMapping(value = "/search/download", produces = "text/csv",
+                        consumes = APPLICATION_JSON_VALUE)
+        @Operation(description = "Download published transaction items as a CSV file", summary = "Download published transaction items as a CSV file")
+        public ResponseEntity<StreamingResponseBody> downloadTransactionItemsCsv(
+                        @Valid @RequestBody ExtractionTransactionsRequest transactionsRequest,
+                        @RequestParam(name = "accountType", required = false) List<String> accountType,
+                        @RequestParam(name = "accountSubType", required = false) List<String> accountSubType) {
+                LocalDate dateFrom = Optional.ofNullable(transactionsRequest.getDateFrom()).orElse(LocalDate.of(1970, 1, 1));
+                LocalDate dateTo = Optional.ofNullable(transactionsRequest.getDateTo()).orElse(LocalDate.now());
+
+                StreamingResponseBody responseBody = outputStream -> extractionItemService.downloadCsvTransactionItems(
+                                dateFrom, dateTo,
+                                transactionsRequest.getAccountCode(),
+                                transactionsRequest.getCostCenter(),
+                                transactionsRequest.getProject(),
+                                accountType, accountSubType, outputStream);
+                return ResponseEntity.ok()
+                                .header("Content-Disposition", "attachment; filename=\"transaction_items_%s_%s.csv\"".formatted(dateFrom, dateTo))
+                                .contentType(MediaType.TEXT_PLAIN)
+                                .body(responseBody);
+        }
+
         @Tag(name = "Transactions", description = "Transactions API")
         @PostMapping(value = "/", consumes = APPLICATION_JSON_VALUE,
                         produces = APPLICATION_JSON_VALUE)
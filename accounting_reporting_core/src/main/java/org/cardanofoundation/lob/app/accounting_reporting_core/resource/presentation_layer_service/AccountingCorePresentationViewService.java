@@ -15,11 +15,13 @@ import java.time.Month;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import jakarta.persistence.EntityManager;
 import jakarta.validation.Valid;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -83,6 +85,10 @@ public class AccountingCorePresentationViewService {
     private final ReconcilationRepository reconcilationRepository;
     private final AccountingCoreTransactionRepository accountingCoreTransactionRepository;
     private final JpaSortFieldValidator jpaSortFieldValidator;
+    private final EntityManager entityManager;
+    private final FilterOptionsCache filterOptionsCache;
+
+    private static final int CSV_EXPORT_PAGE_SIZE = 500;
 
     private static final Map<String, String> RV_FIELD_MAP =
             Map.of("id", "transactionId",
@@ -442,6 +448,46 @@ public class AccountingCorePresentationViewService {
         }
     }
 
+    private List<TransactionEntity> getTransactionsAfterId(
+            TransactionBatchEntity transactionBatchEntity,
+            List<TransactionProcessingStatus> status,
+            BatchFilterRequest batchFilterRequest,
+            String afterId, int pageSize) {
+        if(batchFilterRequest == null) {
+            return accountingCoreTransactionRepository.findAllByBatchIdAfterId(
+                    Optional.ofNullable(transactionBatchEntity).map(TransactionBatchEntity::getId).orElse(null),
+                    status, afterId, Limit.of(pageSize));
+        } else {
+            return accountingCoreTransactionRepository.findAllByBatchIdAfterId(
+                    Optional.ofNullable(transactionBatchEntity).map(TransactionBatchEntity::getId).orElse(null),
+                    status,
+                    batchFilterRequest.getInternalTransactionNumber(),
+                    batchFilterRequest.getTransactionTypes(),
+                    batchFilterRequest.getDocumentNumbers(),
+                    batchFilterRequest.getDocumentNumber(),
+                    batchFilterRequest.getCurrencyCustomerCodes(),
+                    batchFilterRequest.getMinFCY(), batchFilterRequest.getMaxFCY(),
+                    batchFilterRequest.getMinLCY(), batchFilterRequest.getMaxLCY(),
+                    batchFilterRequest.getMinTotalLcy(),
+                    batchFilterRequest.getMaxTotalLcy(),
+                    Optional.ofNullable(batchFilterRequest.getDateFrom())
+                            .orElse(LocalDate.of(1970, 1, 1)).atStartOfDay(),
+                    Optional.ofNullable(batchFilterRequest.getDateTo())
+                            .orElse(LocalDate.now()).atStartOfDay(),
+                    batchFilterRequest.getVatCustomerCodes(),
+                    batchFilterRequest.getParentCostCenterCustomerCodes(),
+                    batchFilterRequest.getCostCenterCustomerCodes(),
+                    batchFilterRequest.getCounterPartyCustomerCodes(),
+                    batchFilterRequest.getCounterPartyTypes(),
+                    batchFilterRequest.getDebitAccountCodes(),
+                    batchFilterRequest.getCreditAccountCodes(),
+                    batchFilterRequest.getEventCodes(),
+                    batchFilterRequest.getProjectCustomerCodes(),
+                    batchFilterRequest.getParentProjectCustomerCodes(),
+                    afterId, Limit.of(pageSize));
+        }
+    }
+
     private TransactionReconciliationTransactionsView getTransactionReconciliationView(
             TransactionEntity transactionEntity) {
         DataSourceView dataSourceView = DataSourceView.UNKNOWN;
@@ -845,35 +891,23 @@ public class AccountingCorePresentationViewService {
             switch (filterOption) {
 
                 case USERS -> filterOptionsListMap.put(filterOption,
-                        transactionBatchRepositoryGateway
+                        filterOptionsCache.get(orgId, filterOption, () -> transactionBatchRepositoryGateway
                                 .findBatchUsersList(orgId).stream()
-                                .map(user -> FilteringOptionsListResponse
-                                        .builder()
-                                        .name(user)
-                                        .description(user)
-                                        .build())
-                                .toList());
+                                .map(FilterOptionsCache::named)
+                                .toList()));
 
                 case DOCUMENT_NUMBERS -> filterOptionsListMap.put(filterOption,
-                        transactionItemRepository.getAllDocumentNumbers()
+                        filterOptionsCache.get(orgId, filterOption, () -> transactionItemRepository.getAllDocumentNumbers()
                                 .stream()
-                                .map(document -> FilteringOptionsListResponse
-                                        .builder()
-                                        .name(document)
-                                        .description(document)
-                                        .build())
-                                .toList());
+                                .map(FilterOptionsCache::named)
+                                .toList()));
 
                 case TRANSACTION_NUMBERS -> filterOptionsListMap.put(filterOption,
-                        accountingCoreTransactionRepository
+                        filterOptionsCache.get(orgId, filterOption, () -> accountingCoreTransactionRepository
                                 .findAllTransactionNumbers(orgId)
                                 .stream()
-                                .map(transactionNumber -> FilteringOptionsListResponse
-                                        .builder()
-                                        .name(transactionNumber)
-                                        .description(transactionNumber)
-                                        .build())
-                                .toList());
+                                .map(FilterOptionsCache::named)
+                                .toList()));
 
                 case TRANSACTION_TYPES -> filterOptionsListMap.put(filterOption,
                         Arrays.stream(TransactionType.values()).map(
@@ -886,28 +920,16 @@ public class AccountingCorePresentationViewService {
                                 .toList());
 
                 case COUNTER_PARTY_NAMES -> filterOptionsListMap.put(filterOption,
-                        transactionItemRepository.getAllCounterParty(orgId)
+                        filterOptionsCache.get(orgId, filterOption, () -> transactionItemRepository.getAllCounterParty(orgId)
                                 .stream()
-                                .map(document -> FilteringOptionsListResponse
-                                        .builder()
-                                        .name(document
-                                                .get("name"))
-                                        .description(document
-                                                .get("name"))
-                                        .build())
-                                .toList());
+                                .map(document -> FilterOptionsCache.named(document.get("name")))
+                                .toList()));
 
                 case COUNTER_PARTY -> filterOptionsListMap.put(filterOption,
-                        transactionItemRepository.getAllCounterParty(orgId)
+                        filterOptionsCache.get(orgId, filterOption, () -> transactionItemRepository.getAllCounterParty(orgId)
                                 .stream()
-                                .map(document -> FilteringOptionsListResponse
-                                        .builder()
-                                        .customerCode(document
-                                                .get("customerCode"))
-                                        .description(document
-                                                .get("name"))
-                                        .build())
-                                .toList());
+                                .map(document -> FilterOptionsCache.counterparty(document.get("customerCode"), document.get("name")))
+                                .toList()));
 
                 case COUNTER_PARTY_TYPE -> filterOptionsListMap.put(filterOption,
                         Arrays.stream(org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.Counterparty.Type
@@ -951,9 +973,7 @@ public class AccountingCorePresentationViewService {
 
     public void downloadCsvTransactions(@Valid String orgId, String batchId, List<TransactionProcessingStatus> txStatus, BatchFilterRequest batchFilterRequest, OutputStream outputStream) {
         TransactionBatchEntity transactionBatchEntity = transactionBatchRepositoryGateway.findById(Optional.ofNullable(batchId).orElse("")).orElse(null);
-        Page<TransactionEntity> transactions = this.getTransaction(
-                transactionBatchEntity, txStatus, Pageable.unpaged(),
-                batchFilterRequest);
+        OrganisationUnitsLookup organisationUnits = new OrganisationUnitsLookup(costCenterRepository, projectRepository);
         try (Writer writer = new OutputStreamWriter(outputStream)) {
             CSVWriter csvWriter = new CSVWriter(writer);
             String[] header = {"Transaction Number",
@@ -984,50 +1004,64 @@ public class AccountingCorePresentationViewService {
                     "Processing Status",
                     "Blockchain Hash"};
             csvWriter.writeNext(header, false);
-            for (TransactionEntity transactionEntity : transactions) {
-                for (TransactionItemEntity item : transactionEntity.getItems()) {
-                    boolean isCredit = item.getOperationType().equals(OperationType.CREDIT);
-                    Optional<CostCenter> parentCostcenter = item.getCostCenter().flatMap(costCenter -> costCenterRepository.findById(new CostCenter.Id(transactionEntity.getOrganisation().getId(), costCenter.getCustomerCode())));
-                    Optional<Project> parentProject = item.getProject().flatMap(project -> projectRepository.findById(new Project.Id(transactionEntity.getOrganisation().getId(), project.getCustomerCode())));
-                    String[] data = {
-                            transactionEntity.getInternalTransactionNumber(),
-                            transactionEntity.getEntryDate().toString(),
-                            Optional.ofNullable(transactionEntity.getTransactionType()).map(Enum::name).orElse(""),
-                            item.getFxRate().stripTrailingZeros().toPlainString(),
-                            isCredit ? "" : item.getAmountLcy().stripTrailingZeros().toPlainString(),
-                            isCredit ? item.getAmountLcy().stripTrailingZeros().toPlainString() : "",
-                            isCredit ? "" : item.getAmountFcy().stripTrailingZeros().toPlainString(),
-                            isCredit ? item.getAmountFcy().stripTrailingZeros().toPlainString() : "",
-                            item.getAccountDebit().map(Account::getCode).orElse(""),
-                            item.getAccountDebit().flatMap(Account::getName).orElse(""),
-                            item.getAccountCredit().map(Account::getCode).orElse(""),
-                            item.getAccountCredit().flatMap(Account::getName).orElse(""),
-                            item.getAccountEvent().map(AccountEvent::getCode).orElse(""),
-                            item.getProject().map(org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.Project::getCustomerCode).orElse(""),
-                            parentProject.map(Project::getParentCustomerCode).orElse(""),
-                            item.getDocument().map(Document::getNum).orElse(""),
-                            item.getDocument().map(document -> document.getCurrency().getCustomerCode()).orElse(""),
-                            item.getDocument().flatMap(document -> document.getVat().map(Vat::getRate)).orElse(Optional.ofNullable(ZERO)).map(bigDecimal -> bigDecimal.stripTrailingZeros().toPlainString()).orElse(""),
-                            item.getDocument().flatMap(document -> document.getVat().map(Vat::getCustomerCode)).orElse(""),
-                            item.getCostCenter().map(org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.CostCenter::getCustomerCode).orElse(""),
-                            parentCostcenter.map(CostCenter::getParentCustomerCode).orElse(""),
-                            item.getDocument().flatMap(document -> document.getCounterparty().map(Counterparty::getCustomerCode)).orElse(""),
-                            item.getDocument().flatMap(document -> document.getCounterparty().map(Counterparty::getName)).orElse(Optional.of("")).orElse(""),
-                            item.getDocument().flatMap(document -> document.getCounterparty().map(counterparty -> counterparty.getType().name())).orElse(""),
-                            transactionEntity.getExtractorType(),
-                            mapTransactionProcessingStatusToString(transactionEntity.getProcessingStatus()),
-                            transactionEntity.getLedgerDispatchReceipt().map(LedgerDispatchReceipt::getPrimaryBlockchainHash).orElse("")
-                    };
-
-                    csvWriter.writeNext(data, false);
+
+            // transactions are read in keyset pages and written straight away, each page is dropped from the persistence context once written
+            String afterId = "";
+            List<TransactionEntity> transactions;
+            do {
+                transactions = this.getTransactionsAfterId(transactionBatchEntity, txStatus, batchFilterRequest, afterId, CSV_EXPORT_PAGE_SIZE);
+                for (TransactionEntity transactionEntity : transactions) {
+                    for (TransactionItemEntity item : transactionEntity.getItems()) {
+                        csvWriter.writeNext(transactionItemCsvRow(transactionEntity, item, organisationUnits), false);
+                    }
                 }
-            }
-            csvWriter.flush();
+                if (!transactions.isEmpty()) {
+                    afterId = transactions.getLast().getId();
+                }
+                csvWriter.flush();
+                entityManager.clear();
+            } while (transactions.size() == CSV_EXPORT_PAGE_SIZE);
         } catch (Exception e) {
             log.error("Error while writing transactions to CSV for orgId {}: {}", orgId, e.getMessage(), e);
         }
     }
 
+    private String[] transactionItemCsvRow(TransactionEntity transactionEntity, TransactionItemEntity item, OrganisationUnitsLookup organisationUnits) {
+        boolean isCredit = item.getOperationType().equals(OperationType.CREDIT);
+        Optional<OrganisationUnitsLookup.Unit> project = item.getProject().flatMap(p -> organisationUnits.project(transactionEntity.getOrganisation().getId(), p.getCustomerCode()));
+        Optional<OrganisationUnitsLookup.Unit> costCenter = item.getCostCenter().flatMap(c -> organisationUnits.costCenter(transactionEntity.getOrganisation().getId(), c.getCustomerCode()));
+
+        return new String[] {
+                transactionEntity.getInternalTransactionNumber(),
+                transactionEntity.getEntryDate().toString(),
+                Optional.ofNullable(transactionEntity.getTransactionType()).map(Enum::name).orElse(""),
+                item.getFxRate().stripTrailingZeros().toPlainString(),
+                isCredit ? "" : item.getAmountLcy().stripTrailingZeros().toPlainString(),
+                isCredit ? item.getAmountLcy().stripTrailingZeros().toPlainString() : "",
+                isCredit ? "" : item.getAmountFcy().stripTrailingZeros().toPlainString(),
+                isCredit ? item.getAmountFcy().stripTrailingZeros().toPlainString() : "",
+                item.getAccountDebit().map(Account::getCode).orElse(""),
+                item.getAccountDebit().flatMap(Account::getName).orElse(""),
+                item.getAccountCredit().map(Account::getCode).orElse(""),
+                item.getAccountCredit().flatMap(Account::getName).orElse(""),
+                item.getAccountEvent().map(AccountEvent::getCode).orElse(""),
+                item.getProject().map(org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.Project::getCustomerCode).orElse(""),
+                project.map(OrganisationUnitsLookup.Unit::parentCustomerCode).orElse(""),
+                item.getDocument().map(Document::getNum).orElse(""),
+                item.getDocument().map(document -> document.getCurrency().getCustomerCode()).orElse(""),
+                item.getDocument().flatMap(document -> document.getVat().map(Vat::getRate)).orElse(Optional.ofNullable(ZERO)).map(bigDecimal -> bigDecimal.stripTrailingZeros().toPlainString()).orElse(""),
+                item.getDocument().flatMap(document -> document.getVat().map(Vat::getCustomerCode)).orElse(""),
+                item.getCostCenter().map(org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.CostCenter::getCustomerCode).orElse(""),
+                costCenter.map(OrganisationUnitsLookup.Unit::parentCustomerCode).orElse(""),
+                item.getDocument().flatMap(document -> document.getCounterparty().map(Counterparty::getCustomerCode)).orElse(""),
+                item.getDocument().flatMap(document -> document.getCounterparty().map(Counterparty::getName)).orElse(Optional.of("")).orElse(""),
+                item.getDocument().flatMap(document -> document.getCounterparty().map(counterparty -> counterparty.getType().name())).orElse(""),
+                transactionEntity.getExtractorType(),
+                mapTransactionProcessingStatusToString(transactionEntity.getProcessingStatus()),
+                transactionEntity.getLedgerDispatchReceipt().map(LedgerDispatchReceipt::getPrimaryBlockchainHash).orElse("")
+        };
+    }
+
     private String mapTransactionProcessingStatusToString(Optional<TransactionProcessingStatus> status) {
         if (status.isEmpty()) {
             return "Unknown";
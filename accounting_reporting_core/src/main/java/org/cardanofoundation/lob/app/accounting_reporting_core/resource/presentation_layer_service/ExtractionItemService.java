@@ -2,11 +2,18 @@ package org.cardanofoundation.lob.app.accounting_reporting_core.resource.present
 
 import static java.math.BigDecimal.ZERO;
 
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+import javax.annotation.Nullable;
+
+import jakarta.persistence.EntityManager;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -15,6 +22,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.opencsv.CSVWriter;
+
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.OperationType;
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.TransactionType;
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.reconcilation.Reconcilation;
@@ -32,9 +41,8 @@ import org.cardanofoundation.lob.app.accounting_reporting_core.repository.Transa
 import org.cardanofoundation.lob.app.accounting_reporting_core.resource.requests.ExtractionTransactionsRequest;
 import org.cardanofoundation.lob.app.accounting_reporting_core.resource.views.ExtractionTransactionItemView;
 import org.cardanofoundation.lob.app.accounting_reporting_core.resource.views.ExtractionTransactionView;
-import org.cardanofoundation.lob.app.organisation.OrganisationPublicApi;
-import org.cardanofoundation.lob.app.organisation.domain.entity.CostCenter;
-import org.cardanofoundation.lob.app.organisation.domain.entity.Project;
+import org.cardanofoundation.lob.app.organisation.repository.CostCenterRepository;
+import org.cardanofoundation.lob.app.organisation.repository.ProjectRepository;
 
 @Service
 @Slf4j
@@ -43,20 +51,137 @@ import org.cardanofoundation.lob.app.organisation.domain.entity.Project;
 public class ExtractionItemService {
     private final TransactionItemExtractionRepository transactionItemRepositoryImpl;
     private final TransactionItemRepository transactionItemRepository;
-    private final OrganisationPublicApi organisationPublicApi;
+    private final CostCenterRepository costCenterRepository;
+    private final ProjectRepository projectRepository;
+    private final EntityManager entityManager;
+
+    private static final int CSV_EXPORT_PAGE_SIZE = 1000;
 
     @Transactional(readOnly = true)
     public ExtractionTransactionView findTransactionItems(LocalDate dateFrom, LocalDate dateTo, List<String> accountCode, List<String> costCenter, List<String> project, List<String> accountType, List<String> accountSubType) {
+        OrganisationUnitsLookup organisationUnits = new OrganisationUnitsLookup(costCenterRepository, projectRepository);
 
         List<ExtractionTransactionItemView> transactionItem = transactionItemRepositoryImpl.findByItemAccount(dateFrom, dateTo, accountCode, costCenter, project, accountType, accountSubType)
-                .stream().map(this::extractionTransactionItemViewBuilder).toList();
+                .stream().map(item -> extractionTransactionItemViewBuilder(item, organisationUnits)).toList();
 
         return ExtractionTransactionView.createSuccess(transactionItem, transactionItem.size(), 0, transactionItem.size());
     }
 
-    private ExtractionTransactionItemView extractionTransactionItemViewBuilder(TransactionItemEntity item) {
-        Optional<CostCenter> costCenter = organisationPublicApi.findCostCenter(item.getTransaction().getOrganisation().getId(), item.getCostCenter().map(org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.CostCenter::getCustomerCode).orElse(null));
-        Optional<Project> project = organisationPublicApi.findProject(item.getTransaction().getOrganisation().getId(), item.getProject().map(org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.Project::getCustomerCode).orElse(null));
+    /**
+     * Streaming counterpart of {@link #findTransactionItems(LocalDate, LocalDate, List, List, List, List, List)}, the
+     * items are read in keyset pages and written as CSV rows straight to the output stream.
+     */
+    @Transactional(readOnly = true)
+    public void downloadCsvTransactionItems(LocalDate dateFrom, LocalDate dateTo, List<String> accountCode, List<String> costCenter, List<String> project, List<String> accountType, List<String> accountSubType, OutputStream outputStream) {
+        OrganisationUnitsLookup organisationUnits = new OrganisationUnitsLookup(costCenterRepository, projectRepository);
+        try (Writer writer = new OutputStreamWriter(outputStream)) {
+            CSVWriter csvWriter = new CSVWriter(writer);
+            String[] header = {"Transaction Number",
+                    "Transaction ID",
+                    "Transaction Date",
+                    "Transaction Type",
+                    "Blockchain Hash",
+                    "Reconciliation",
+                    "Debit Code",
+                    "Debit Name",
+                    "Debit Ref Code",
+                    "Credit Code",
+                    "Credit Name",
+                    "Credit Ref Code",
+                    "AmountFCY",
+                    "AmountLCY",
+                    "Fx Rate",
+                    "Cost Center Code",
+                    "Cost Center Name",
+                    "Parent Cost Center Code",
+                    "Parent Cost Center Name",
+                    "Project Code",
+                    "Project Name",
+                    "Parent Project Code",
+                    "Parent Project Name",
+                    "Event Code",
+                    "Event Name",
+                    "Document Name",
+                    "Currency",
+                    "VAT Code",
+                    "VAT Rate",
+                    "Counterparty Code",
+                    "Counterparty Type",
+                    "Counterparty Name"};
+            csvWriter.writeNext(header, false);
+
+            String afterId = "";
+            List<TransactionItemEntity> items;
+            do {
+                items = transactionItemRepositoryImpl.findByItemAccountAfterId(dateFrom, dateTo, accountCode, costCenter, project, accountType, accountSubType, afterId, CSV_EXPORT_PAGE_SIZE);
+                for (TransactionItemEntity item : items) {
+                    csvWriter.writeNext(transactionItemCsvRow(extractionTransactionItemViewBuilder(item, organisationUnits)), false);
+                }
+                if (!items.isEmpty()) {
+                    afterId = items.getLast().getId();
+                }
+                csvWriter.flush();
+                // written items are not needed anymore, keeps the persistence context from growing with the export
+                entityManager.clear();
+            } while (items.size() == CSV_EXPORT_PAGE_SIZE);
+        } catch (Exception e) {
+            log.error("Error while writing transaction items to CSV: {}", e.getMessage(), e);
+        }
+    }
+
+    private static String[] transactionItemCsvRow(ExtractionTransactionItemView item) {
+        return new String[] {
+                csvValue(item.getTransactionInternalNumber()),
+                csvValue(item.getTransactionID()),
+                csvValue(item.getEntryDate()),
+                csvValue(item.getTransactionType()),
+                csvValue(item.getBlockChainHash()),
+                csvValue(item.getReconciliation()),
+                csvValue(item.getAccountDebitCode()),
+                csvValue(item.getAccountDebitName()),
+                csvValue(item.getAccountDebitRefCode()),
+                csvValue(item.getAccountCreditCode()),
+                csvValue(item.getAccountCreditName()),
+                csvValue(item.getAccountCreditRefCode()),
+                csvValue(item.getAmountFcy()),
+                csvValue(item.getAmountLcy()),
+                csvValue(item.getFxRate()),
+                csvValue(item.getCostCenterCustomerCode()),
+                csvValue(item.getCostCenterName()),
+                csvValue(item.getParentCostCenterCustomerCode()),
+                csvValue(item.getParentCostCenterName()),
+                csvValue(item.getProjectCustomerCode()),
+                csvValue(item.getProjectName()),
+                csvValue(item.getParentProjectCustomerCode()),
+                csvValue(item.getParentProjectName()),
+                csvValue(item.getAccountEventCode()),
+                csvValue(item.getAccountEventName()),
+                csvValue(item.getDocumentNum()),
+                csvValue(item.getDocumentCurrencyCustomerCode()),
+                csvValue(item.getVatCustomerCode()),
+                csvValue(item.getVatRate()),
+                csvValue(item.getCounterpartyCustomerCode()),
+                csvValue(item.getCounterpartyType()),
+                csvValue(item.getCounterpartyName())
+        };
+    }
+
+    private static String csvValue(@Nullable Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal.stripTrailingZeros().toPlainString();
+        }
+
+        return value == null ? "" : value.toString();
+    }
+
+    private ExtractionTransactionItemView extractionTransactionItemViewBuilder(TransactionItemEntity item, OrganisationUnitsLookup organisationUnits) {
+        String organisationId = item.getTransaction().getOrganisation().getId();
+        Optional<OrganisationUnitsLookup.Unit> costCenter = organisationUnits.costCenter(organisationId, item.getCostCenter().map(org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.CostCenter::getCustomerCode).orElse(null))
+                .filter(OrganisationUnitsLookup.Unit::active);
+        Optional<OrganisationUnitsLookup.Unit> project = organisationUnits.project(organisationId, item.getProject().map(org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.Project::getCustomerCode).orElse(null))
+                .filter(OrganisationUnitsLookup.Unit::active);
+        Optional<OrganisationUnitsLookup.Unit> parentCostCenter = costCenter.flatMap(unit -> organisationUnits.costCenter(organisationId, unit.parentCustomerCode()));
+        Optional<OrganisationUnitsLookup.Unit> parentProject = project.flatMap(unit -> organisationUnits.project(organisationId, unit.parentCustomerCode()));
         BigDecimal amountLcy = Optional.ofNullable(item.getOperationType()).orElse(OperationType.DEBIT).equals(OperationType.DEBIT) ? Optional.ofNullable(item.getAmountLcy()).orElse(ZERO) : Optional.ofNullable(item.getAmountLcy()).orElse(ZERO) .negate();
         BigDecimal amountFcy = Optional.ofNullable(item.getOperationType()).orElse(OperationType.DEBIT).equals(OperationType.DEBIT) ? Optional.ofNullable(item.getAmountFcy()).orElse(ZERO)  : Optional.ofNullable(item.getAmountFcy()).orElse(ZERO) .negate();
 
@@ -91,10 +216,10 @@ public class ExtractionItemService {
                 item.getDocument().flatMap(d -> d.getCounterparty().map(Counterparty::getType)).isPresent() ? item.getDocument().flatMap(d -> d.getCounterparty().map(Counterparty::getType)).map(Object::toString).orElse(null) : null,
                 item.getDocument().flatMap(document -> document.getCounterparty().flatMap(Counterparty::getName)).orElse(null),
                 item.getRejection().map(Rejection::getRejectionReason).orElse(null),
-                costCenter.map(CostCenter::getParentCustomerCode).orElse(null),
-                costCenter.flatMap(organisationCostCenter -> organisationCostCenter.getParent()).flatMap(parentCostCenter -> Optional.ofNullable(parentCostCenter.getName())).orElse(null),
-                project.flatMap(organisationProject -> organisationProject.getParent()).flatMap(parentProject -> Optional.ofNullable(parentProject.getId().getCustomerCode())).orElse(null),
-                project.flatMap(organisationProject -> organisationProject.getParent()).flatMap(parentProject -> Optional.ofNullable(parentProject.getName())).orElse(null)
+                costCenter.map(OrganisationUnitsLookup.Unit::parentCustomerCode).orElse(null),
+                parentCostCenter.map(OrganisationUnitsLookup.Unit::name).orElse(null),
+                parentProject.map(OrganisationUnitsLookup.Unit::customerCode).orElse(null),
+                parentProject.map(OrganisationUnitsLookup.Unit::name).orElse(null)
         );
     }
 
@@ -143,7 +268,8 @@ public class ExtractionItemService {
                 transactionsRequest.getAccountCodesCredit(),
                 pageable
                 );
-        List<ExtractionTransactionItemView> extractionItemViews = transactionItem.getContent().stream().map(this::extractionTransactionItemViewBuilder).toList();
+        OrganisationUnitsLookup organisationUnits = new OrganisationUnitsLookup(costCenterRepository, projectRepository);
+        List<ExtractionTransactionItemView> extractionItemViews = transactionItem.getContent().stream().map(item -> extractionTransactionItemViewBuilder(item, organisationUnits)).toList();
         return ExtractionTransactionView.createSuccess(
                 extractionItemViews, transactionItem.getTotalElements(), pageable.getPageNumber(), extractionItemViews.size() < pageable.getPageSize() ? extractionItemViews.size() : pageable.getPageSize());
     }
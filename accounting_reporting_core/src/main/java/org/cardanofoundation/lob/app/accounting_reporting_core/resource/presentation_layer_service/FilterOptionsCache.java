@@ -0,0 +1,215 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.resource.presentation_layer_service;
+
+import static org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.FilterOptions.COUNTER_PARTY;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.FilterOptions.COUNTER_PARTY_NAMES;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.FilterOptions.DOCUMENT_NUMBERS;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.FilterOptions.TRANSACTION_NUMBERS;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.FilterOptions.USERS;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import lombok.Setter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.Document;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.FilterOptions;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.Transaction;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.TransactionItem;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.event.extraction.TransactionBatchChunkEvent;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.event.extraction.TransactionBatchCreatedEvent;
+import org.cardanofoundation.lob.app.accounting_reporting_core.resource.response.FilteringOptionsListResponse;
+
+/**
+ * Per organisation cache of the filter options backed by {@code SELECT DISTINCT} queries. An option is loaded on first
+ * use and afterwards patched from the ingestion events: a created batch adds its user, an ingested chunk adds its
+ * transaction numbers, document numbers and counterparties. Chunk events arrive before the chunk is stored, so patched
+ * values are carried over into the next reload. Options are reloaded once they are older than the configured max age,
+ * which also drops values that no longer exist.
+ */
+@Service
+public class FilterOptionsCache {
+
+    // document numbers are not filtered by organisation
+    private static final String ALL_ORGANISATIONS = "*";
+
+    private final Clock clock;
+    private final Counter hits;
+    private final Counter misses;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    @Setter
+    @Value("${lob.accounting_reporting_core.filter_options.cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Setter
+    @Value("${lob.accounting_reporting_core.filter_options.cache.max_age:PT1H}")
+    private Duration maxAge = Duration.ofHours(1);
+
+    public FilterOptionsCache(Clock clock, MeterRegistry meterRegistry) {
+        this.clock = clock;
+        this.hits = Counter.builder("lob.filter_options.cache.requests")
+                .tag("result", "hit")
+                .description("Filter option lookups answered from the cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("lob.filter_options.cache.requests")
+                .tag("result", "miss")
+                .description("Filter option lookups which had to query the database")
+                .register(meterRegistry);
+    }
+
+    public List<FilteringOptionsListResponse> get(String organisationId, FilterOptions filterOption, Supplier<List<FilteringOptionsListResponse>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        return entries.computeIfAbsent(key(organisationId, filterOption), k -> new Entry()).get(loader, clock.instant());
+    }
+
+    @EventListener
+    public void handleTransactionBatchCreatedEvent(TransactionBatchCreatedEvent event) {
+        String user = event.getMetadata() == null ? null : event.getMetadata().getUser();
+        if (user != null) {
+            patch(event.getOrganisationId(), USERS, List.of(named(user)));
+        }
+    }
+
+    @EventListener
+    public void handleTransactionBatchChunkEvent(TransactionBatchChunkEvent event) {
+        List<FilteringOptionsListResponse> transactionNumbers = new ArrayList<>();
+        List<FilteringOptionsListResponse> documentNumbers = new ArrayList<>();
+        List<FilteringOptionsListResponse> counterparties = new ArrayList<>();
+        List<FilteringOptionsListResponse> counterpartyNames = new ArrayList<>();
+
+        for (Transaction transaction : event.getTransactions()) {
+            transactionNumbers.add(named(transaction.getInternalTransactionNumber()));
+            for (TransactionItem item : transaction.getItems()) {
+                item.getDocument().map(Document::getNumber).ifPresent(number -> documentNumbers.add(named(number)));
+                item.getDocument().flatMap(Document::getCounterparty).ifPresent(counterparty -> {
+                    String name = counterparty.getName().orElse(null);
+                    counterparties.add(counterparty(counterparty.getCustomerCode(), name));
+                    counterpartyNames.add(named(name));
+                });
+            }
+        }
+
+        patch(event.getOrganisationId(), TRANSACTION_NUMBERS, transactionNumbers);
+        patch(event.getOrganisationId(), DOCUMENT_NUMBERS, documentNumbers);
+        patch(event.getOrganisationId(), COUNTER_PARTY, counterparties);
+        patch(event.getOrganisationId(), COUNTER_PARTY_NAMES, counterpartyNames);
+    }
+
+    static FilteringOptionsListResponse named(@Nullable String value) {
+        return FilteringOptionsListResponse.builder()
+                .name(value)
+                .description(value)
+                .build();
+    }
+
+    static FilteringOptionsListResponse counterparty(@Nullable String customerCode, @Nullable String name) {
+        return FilteringOptionsListResponse.builder()
+                .customerCode(customerCode)
+                .description(name)
+                .build();
+    }
+
+    private void patch(String organisationId, FilterOptions filterOption, List<FilteringOptionsListResponse> values) {
+        if (!enabled || values.isEmpty()) {
+            return;
+        }
+
+        // an option nobody asked for yet is simply loaded from the database on first use
+        Entry entry = entries.get(key(organisationId, filterOption));
+        if (entry != null) {
+            entry.patch(values);
+        }
+    }
+
+    private static Key key(String organisationId, FilterOptions filterOption) {
+        return new Key(filterOption == DOCUMENT_NUMBERS ? ALL_ORGANISATIONS : organisationId, filterOption);
+    }
+
+    private static String valueKey(FilteringOptionsListResponse value) {
+        return Objects.toString(value.getCustomerCode()) + '|' + Objects.toString(value.getName()) + '|' + Objects.toString(value.getDescription());
+    }
+
+    private record Key(String organisationId, FilterOptions filterOption) {
+    }
+
+    private final class Entry {
+
+        private List<FilteringOptionsListResponse> values = List.of();
+        private Set<String> valueKeys = Set.of();
+        // values patched in since the last load, their rows may not have been stored when it ran
+        private final Map<String, FilteringOptionsListResponse> patches = new LinkedHashMap<>();
+        @Nullable
+        private Instant loadedAt;
+
+        synchronized List<FilteringOptionsListResponse> get(Supplier<List<FilteringOptionsListResponse>> loader, Instant now) {
+            if (loadedAt != null && loadedAt.plus(maxAge).isAfter(now)) {
+                hits.increment();
+
+                return values;
+            }
+
+            misses.increment();
+            List<FilteringOptionsListResponse> loaded = new ArrayList<>(loader.get());
+            Set<String> loadedKeys = new HashSet<>();
+            loaded.forEach(value -> loadedKeys.add(valueKey(value)));
+            patches.forEach((key, value) -> {
+                if (loadedKeys.add(key)) {
+                    loaded.add(value);
+                }
+            });
+            patches.clear();
+
+            values = List.copyOf(loaded);
+            valueKeys = loadedKeys;
+            loadedAt = now;
+
+            return values;
+        }
+
+        synchronized void patch(List<FilteringOptionsListResponse> patched) {
+            List<FilteringOptionsListResponse> added = new ArrayList<>();
+            for (FilteringOptionsListResponse value : patched) {
+                String key = valueKey(value);
+                if (patches.putIfAbsent(key, value) == null && loadedAt != null && !valueKeys.contains(key)) {
+                    added.add(value);
+                }
+            }
+            if (added.isEmpty()) {
+                return;
+            }
+
+            List<FilteringOptionsListResponse> merged = new ArrayList<>(values);
+            merged.addAll(added);
+            Set<String> mergedKeys = new HashSet<>(valueKeys);
+            added.forEach(value -> mergedKeys.add(valueKey(value)));
+
+            values = List.copyOf(merged);
+            valueKeys = mergedKeys;
+        }
+
+    }
+
+}
@@ -0,0 +1,75 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.resource.presentation_layer_service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.domain.Pageable;
+
+import org.cardanofoundation.lob.app.organisation.domain.entity.CostCenter;
+import org.cardanofoundation.lob.app.organisation.domain.entity.Project;
+import org.cardanofoundation.lob.app.organisation.repository.CostCenterRepository;
+import org.cardanofoundation.lob.app.organisation.repository.ProjectRepository;
+
+/**
+ * Cost centers and projects of the organisations touched by a single export, loaded once per organisation instead of
+ * looking them up for every exported item. Only plain values are kept so the persistence context can be cleared
+ * between export pages.
+ */
+@RequiredArgsConstructor
+class OrganisationUnitsLookup {
+
+    private final CostCenterRepository costCenterRepository;
+    private final ProjectRepository projectRepository;
+
+    private final Map<String, Map<String, Unit>> costCenters = new HashMap<>();
+    private final Map<String, Map<String, Unit>> projects = new HashMap<>();
+
+    Optional<Unit> costCenter(String organisationId, @Nullable String customerCode) {
+        if (customerCode == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(costCenters.computeIfAbsent(organisationId, this::loadCostCenters).get(customerCode));
+    }
+
+    Optional<Unit> project(String organisationId, @Nullable String customerCode) {
+        if (customerCode == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(projects.computeIfAbsent(organisationId, this::loadProjects).get(customerCode));
+    }
+
+    private Map<String, Unit> loadCostCenters(String organisationId) {
+        return costCenterRepository.findAllByOrganisationId(organisationId, null, null, null, null, Pageable.unpaged())
+                .stream()
+                .collect(Collectors.toMap(costCenter -> costCenter.getId().getCustomerCode(), OrganisationUnitsLookup::unit));
+    }
+
+    private Map<String, Unit> loadProjects(String organisationId) {
+        return projectRepository.findAllByOrganisationId(organisationId, null, null, null, null, Pageable.unpaged())
+                .stream()
+                .collect(Collectors.toMap(project -> project.getId().getCustomerCode(), OrganisationUnitsLookup::unit));
+    }
+
+    private static Unit unit(CostCenter costCenter) {
+        return new Unit(costCenter.getId().getCustomerCode(), costCenter.getName(), costCenter.getParentCustomerCode(), costCenter.isActive());
+    }
+
+    private static Unit unit(Project project) {
+        return new Unit(project.getId().getCustomerCode(), project.getName(), project.getParentCustomerCode(), project.isActive());
+    }
+
+    record Unit(String customerCode,
+                @Nullable String name,
+                @Nullable String parentCustomerCode,
+                boolean active) {
+    }
+
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import lombok.ToString;
 
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.BatchStatistics;
 
@@ -12,6 +13,7 @@ import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.Bat
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
+@ToString
 public class BatchStatisticsView {
 
     private String batchId;
@@ -52,6 +54,15 @@ public class BatchStatisticsView {
         );
     }
 
+    public boolean hasSameCounts(BatchStatisticsView other) {
+        return invalid == other.invalid
+                && pending == other.pending
+                && approve == other.approve
+                && publish == other.publish
+                && published == other.published
+                && total == other.total;
+    }
+
     public void merge(BatchStatisticsView other) {
         this.invalid += other.invalid;
         this.pending += other.pending;
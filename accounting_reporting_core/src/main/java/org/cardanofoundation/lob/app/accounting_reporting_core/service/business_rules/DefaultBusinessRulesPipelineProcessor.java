@@ -3,6 +3,7 @@ package org.cardanofoundation.lob.app.accounting_reporting_core.service.business
 import static org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.TxValidationStatus.VALIDATED;
 
 import java.util.List;
+import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +17,11 @@ import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.Sourc
 public class DefaultBusinessRulesPipelineProcessor implements BusinessRulesPipelineProcessor {
 
     private final List<PipelineTask> pipelineTasks;
+    private final Optional<ReferenceDataSnapshotOrganisationPublicApi> referenceDataApi;
+
+    public DefaultBusinessRulesPipelineProcessor(List<PipelineTask> pipelineTasks) {
+        this(pipelineTasks, Optional.empty());
+    }
 
     @Override
     public void run(final OrganisationTransactions allOrgTransactions, ProcessorFlags processorFlags) {
@@ -31,6 +37,21 @@ public class DefaultBusinessRulesPipelineProcessor implements BusinessRulesPipel
 
         }
 
+        if (referenceDataApi.isEmpty() || allOrgTransactions.transactions().isEmpty()) {
+            runPipelineTasks(allOrgTransactions);
+            return;
+        }
+
+        // bulk load the organisation's reference data once, task items resolve codes from memory for the duration of the run
+        val snapshot = referenceDataApi.orElseThrow().openSnapshot(allOrgTransactions.organisationId());
+        try {
+            runPipelineTasks(allOrgTransactions);
+        } finally {
+            referenceDataApi.orElseThrow().closeSnapshot(snapshot);
+        }
+    }
+
+    private void runPipelineTasks(OrganisationTransactions allOrgTransactions) {
         for (val pipelineTask : pipelineTasks) {
             pipelineTask.run(allOrgTransactions);
         }
@@ -17,12 +17,16 @@ import org.cardanofoundation.lob.app.accounting_reporting_core.service.business_
 public class DefaultPipelineTask implements PipelineTask {
 
     private final List<PipelineTaskItem> items;
+    private final PartitionedPipelineExecutor executor;
+
+    public DefaultPipelineTask(List<PipelineTaskItem> items) {
+        this(items, PartitionedPipelineExecutor.sequential());
+    }
 
     @Override
     public void run(OrganisationTransactions orgTransactions) {
-        for (val transactionEntity : orgTransactions.transactions()) {
-            runTaskItems(transactionEntity);
-        }
+        // every task still acts as a barrier, the next task starts only when all transactions went through this one
+        executor.forEach(orgTransactions.transactions(), this::runTaskItems);
     }
 
     private void runTaskItems(TransactionEntity transaction) {
@@ -0,0 +1,149 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.service.business_rules;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import org.cardanofoundation.lob.app.organisation.OrganisationPublicApiIF;
+import org.cardanofoundation.lob.app.organisation.domain.entity.*;
+
+/**
+ * Immutable, per organisation view of the reference data used by the business rules pipeline,
+ * loaded with a handful of bulk queries before the pipeline starts.
+ */
+@Slf4j
+public final class OrganisationReferenceDataSnapshot {
+
+    // organisation, currencies, vats, cost centers, projects, chart of accounts, event codes
+    public static final int BULK_QUERIES = 7;
+
+    @Getter
+    private final String organisationId;
+
+    private final Optional<Organisation> organisation;
+    private final Map<String, Currency> currencies;
+    private final Map<String, Vat> vats;
+    private final Map<String, CostCenter> costCenters;
+    private final Map<String, Project> projects;
+    private final Map<String, ChartOfAccount> chartOfAccounts;
+    private final Map<String, Map<String, AccountEvent>> eventCodes; // debit ref code -> credit ref code -> event
+
+    private final AtomicLong servedLookups = new AtomicLong();
+
+    private OrganisationReferenceDataSnapshot(String organisationId,
+                                              Optional<Organisation> organisation,
+                                              Map<String, Currency> currencies,
+                                              Map<String, Vat> vats,
+                                              Map<String, CostCenter> costCenters,
+                                              Map<String, Project> projects,
+                                              Map<String, ChartOfAccount> chartOfAccounts,
+                                              Map<String, Map<String, AccountEvent>> eventCodes) {
+        this.organisationId = organisationId;
+        this.organisation = organisation;
+        this.currencies = currencies;
+        this.vats = vats;
+        this.costCenters = costCenters;
+        this.projects = projects;
+        this.chartOfAccounts = chartOfAccounts;
+        this.eventCodes = eventCodes;
+    }
+
+    public static OrganisationReferenceDataSnapshot load(OrganisationPublicApiIF organisationPublicApi,
+                                                         String organisationId) {
+        HashMap<String, Map<String, AccountEvent>> eventCodes = new HashMap<>();
+        for (AccountEvent accountEvent : organisationPublicApi.findAllActiveEventCodes(organisationId)) {
+            eventCodes.computeIfAbsent(accountEvent.getId().getDebitReferenceCode(), k -> new HashMap<>())
+                    .put(accountEvent.getId().getCreditReferenceCode(), accountEvent);
+        }
+        eventCodes.replaceAll((debitRefCode, byCreditRefCode) -> Map.copyOf(byCreditRefCode));
+
+        OrganisationReferenceDataSnapshot snapshot = new OrganisationReferenceDataSnapshot(
+                organisationId,
+                organisationPublicApi.findByOrganisationId(organisationId),
+                index(organisationPublicApi.findAllCurrencies(organisationId), currency -> currency.getId().getCode()),
+                index(organisationPublicApi.findAllActiveVats(organisationId), vat -> vat.getId().getCustomerCode()),
+                index(organisationPublicApi.findAllActiveCostCenters(organisationId), costCenter -> costCenter.getId().getCustomerCode()),
+                index(organisationPublicApi.findAllActiveProjects(organisationId), project -> project.getId().getCustomerCode()),
+                index(organisationPublicApi.findAllActiveChartOfAccounts(organisationId), chartOfAccount -> chartOfAccount.getId().getCustomerCode()),
+                Map.copyOf(eventCodes)
+        );
+
+        log.info("Reference data snapshot loaded for organisationId:{}, currencies:{}, vats:{}, costCenters:{}, projects:{}, chartOfAccounts:{}, debitRefCodes:{}",
+                organisationId,
+                snapshot.currencies.size(),
+                snapshot.vats.size(),
+                snapshot.costCenters.size(),
+                snapshot.projects.size(),
+                snapshot.chartOfAccounts.size(),
+                snapshot.eventCodes.size());
+
+        return snapshot;
+    }
+
+    private static <T> Map<String, T> index(Collection<T> values, Function<T, String> keyFn) {
+        HashMap<String, T> map = HashMap.newHashMap(values.size());
+        for (T value : values) {
+            map.put(keyFn.apply(value), value);
+        }
+
+        return Map.copyOf(map);
+    }
+
+    public Optional<Organisation> findOrganisation() {
+        servedLookups.incrementAndGet();
+
+        return organisation;
+    }
+
+    public Optional<Currency> findCurrency(String customerCurrencyCode) {
+        return lookup(currencies, customerCurrencyCode);
+    }
+
+    public Optional<Vat> findVat(String customerCode) {
+        return lookup(vats, customerCode);
+    }
+
+    public Optional<CostCenter> findCostCenter(String customerCode) {
+        return lookup(costCenters, customerCode);
+    }
+
+    public Optional<Project> findProject(String customerCode) {
+        return lookup(projects, customerCode);
+    }
+
+    public Optional<ChartOfAccount> findChartOfAccount(String customerCode) {
+        return lookup(chartOfAccounts, customerCode);
+    }
+
+    public Optional<AccountEvent> findEventCode(String debitReferenceCode, String creditReferenceCode) {
+        servedLookups.incrementAndGet();
+        if (debitReferenceCode == null || creditReferenceCode == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(eventCodes.getOrDefault(debitReferenceCode, Map.of()).get(creditReferenceCode));
+    }
+
+    /**
+     * Number of lookups answered from memory, each of them would have been a single row query.
+     */
+    public long getServedLookups() {
+        return servedLookups.get();
+    }
+
+    private <T> Optional<T> lookup(Map<String, T> map, String key) {
+        servedLookups.incrementAndGet();
+        if (key == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(map.get(key));
+    }
+
+}
@@ -0,0 +1,86 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.service.business_rules;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import com.google.common.collect.Lists;
+
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionEntity;
+
+/**
+ * Runs an action for every transaction, either on the calling thread (parallelism of 1)
+ * or split into partitions on a bounded fork-join pool. A single transaction is always handled by one thread,
+ * so the order in which violations are added to it stays the same as in sequential mode.
+ */
+@Slf4j
+public class PartitionedPipelineExecutor implements AutoCloseable {
+
+    // below this size partitions are not worth the hand-off to another thread
+    private static final int MIN_PARTITION_SIZE = 64;
+
+    @Getter
+    private final int parallelism;
+
+    private final ForkJoinPool pool;
+
+    public PartitionedPipelineExecutor(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+        this.pool = this.parallelism > 1 ? new ForkJoinPool(this.parallelism) : null;
+
+        log.info("Business rules pipeline parallelism: {}", this.parallelism);
+    }
+
+    public static PartitionedPipelineExecutor sequential() {
+        return new PartitionedPipelineExecutor(1);
+    }
+
+    public void forEach(Collection<TransactionEntity> transactions, Consumer<TransactionEntity> action) {
+        if (pool == null || transactions.size() < 2 * MIN_PARTITION_SIZE) {
+            transactions.forEach(action);
+            return;
+        }
+
+        int partitionSize = Math.max(MIN_PARTITION_SIZE, (int) Math.ceil((double) transactions.size() / (parallelism * 4)));
+        List<List<TransactionEntity>> partitions = Lists.partition(new ArrayList<>(transactions), partitionSize);
+
+        List<Future<?>> futures = new ArrayList<>(partitions.size());
+        for (List<TransactionEntity> partition : partitions) {
+            futures.add(pool.submit(() -> partition.forEach(action)));
+        }
+
+        // wait for every partition before failing, so no task item is still running when the caller continues
+        RuntimeException failure = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while running business rules pipeline", e);
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException re ? re : new IllegalStateException(e.getCause());
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,160 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.service.business_rules;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.cardanofoundation.lob.app.organisation.OrganisationPublicApiIF;
+import org.cardanofoundation.lob.app.organisation.domain.entity.*;
+
+/**
+ * OrganisationPublicApiIF used by the pipeline task items. While a pipeline run holds a snapshot for an organisation,
+ * lookups for that organisation are served from memory, otherwise they go to the database as before.
+ */
+@Slf4j
+public class ReferenceDataSnapshotOrganisationPublicApi implements OrganisationPublicApiIF {
+
+    private final OrganisationPublicApiIF organisationPublicApi;
+    private final DistributionSummary queriesAvoided;
+
+    private final Map<String, OrganisationReferenceDataSnapshot> activeSnapshots = new ConcurrentHashMap<>();
+
+    public ReferenceDataSnapshotOrganisationPublicApi(OrganisationPublicApiIF organisationPublicApi,
+                                                      MeterRegistry meterRegistry) {
+        this.organisationPublicApi = organisationPublicApi;
+        this.queriesAvoided = DistributionSummary.builder("lob.business_rules.reference_data.queries_avoided")
+                .description("Single row reference data queries avoided per business rules run")
+                .register(meterRegistry);
+    }
+
+    public OrganisationReferenceDataSnapshot openSnapshot(String organisationId) {
+        OrganisationReferenceDataSnapshot snapshot = OrganisationReferenceDataSnapshot.load(organisationPublicApi, organisationId);
+        activeSnapshots.put(organisationId, snapshot);
+
+        return snapshot;
+    }
+
+    public void closeSnapshot(OrganisationReferenceDataSnapshot snapshot) {
+        // only remove our own snapshot, a concurrent run for the same organisation may have replaced it
+        activeSnapshots.remove(snapshot.getOrganisationId(), snapshot);
+
+        long avoided = Math.max(0, snapshot.getServedLookups() - OrganisationReferenceDataSnapshot.BULK_QUERIES);
+        queriesAvoided.record(avoided);
+
+        log.info("Business rules run finished for organisationId:{}, reference data queries avoided:{}", snapshot.getOrganisationId(), avoided);
+    }
+
+    @Override
+    public List<Organisation> listAll() {
+        return organisationPublicApi.listAll();
+    }
+
+    @Override
+    public Optional<Organisation> findByOrganisationId(String id) {
+        OrganisationReferenceDataSnapshot snapshot = activeSnapshots.get(id);
+        if (snapshot == null) {
+            return organisationPublicApi.findByOrganisationId(id);
+        }
+
+        return snapshot.findOrganisation();
+    }
+
+    @Override
+    public Optional<Currency> findCurrencyByCustomerCurrencyCode(String organisationId,
+                                                                 String customerCurrencyCode) {
+        OrganisationReferenceDataSnapshot snapshot = activeSnapshots.get(organisationId);
+        if (snapshot == null) {
+            return organisationPublicApi.findCurrencyByCustomerCurrencyCode(organisationId, customerCurrencyCode);
+        }
+
+        return snapshot.findCurrency(customerCurrencyCode);
+    }
+
+    @Override
+    public Optional<Vat> findOrganisationByVatAndCode(String organisationId, String customerCode) {
+        OrganisationReferenceDataSnapshot snapshot = activeSnapshots.get(organisationId);
+        if (snapshot == null) {
+            return organisationPublicApi.findOrganisationByVatAndCode(organisationId, customerCode);
+        }
+
+        return snapshot.findVat(customerCode);
+    }
+
+    @Override
+    public Optional<CostCenter> findCostCenter(String organisationId, String customerCode) {
+        OrganisationReferenceDataSnapshot snapshot = activeSnapshots.get(organisationId);
+        if (snapshot == null) {
+            return organisationPublicApi.findCostCenter(organisationId, customerCode);
+        }
+
+        return snapshot.findCostCenter(customerCode);
+    }
+
+    @Override
+    public Optional<Project> findProject(String organisationId, String customerCode) {
+        OrganisationReferenceDataSnapshot snapshot = activeSnapshots.get(organisationId);
+        if (snapshot == null) {
+            return organisationPublicApi.findProject(organisationId, customerCode);
+        }
+
+        return snapshot.findProject(customerCode);
+    }
+
+    @Override
+    public Optional<ChartOfAccount> getChartOfAccounts(String organisationId, String customerCode) {
+        OrganisationReferenceDataSnapshot snapshot = activeSnapshots.get(organisationId);
+        if (snapshot == null) {
+            return organisationPublicApi.getChartOfAccounts(organisationId, customerCode);
+        }
+
+        return snapshot.findChartOfAccount(customerCode);
+    }
+
+    @Override
+    public Optional<AccountEvent> findEventCode(String organisationId, String debitcustomerCode, String creditCustomerCode) {
+        OrganisationReferenceDataSnapshot snapshot = activeSnapshots.get(organisationId);
+        if (snapshot == null) {
+            return organisationPublicApi.findEventCode(organisationId, debitcustomerCode, creditCustomerCode);
+        }
+
+        return snapshot.findEventCode(debitcustomerCode, creditCustomerCode);
+    }
+
+    @Override
+    public Set<Currency> findAllCurrencies(String organisationId) {
+        return organisationPublicApi.findAllCurrencies(organisationId);
+    }
+
+    @Override
+    public List<Vat> findAllActiveVats(String organisationId) {
+        return organisationPublicApi.findAllActiveVats(organisationId);
+    }
+
+    @Override
+    public List<CostCenter> findAllActiveCostCenters(String organisationId) {
+        return organisationPublicApi.findAllActiveCostCenters(organisationId);
+    }
+
+    @Override
+    public List<Project> findAllActiveProjects(String organisationId) {
+        return organisationPublicApi.findAllActiveProjects(organisationId);
+    }
+
+    @Override
+    public Set<ChartOfAccount> findAllActiveChartOfAccounts(String organisationId) {
+        return organisationPublicApi.findAllActiveChartOfAccounts(organisationId);
+    }
+
+    @Override
+    public Set<AccountEvent> findAllActiveEventCodes(String organisationId) {
+        return organisationPublicApi.findAllActiveEventCodes(organisationId);
+    }
+
+}
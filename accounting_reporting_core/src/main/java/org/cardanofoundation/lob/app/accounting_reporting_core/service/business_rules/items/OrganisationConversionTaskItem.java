@@ -13,12 +13,12 @@ import lombok.val;
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionEntity;
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionViolation;
 import org.cardanofoundation.lob.app.accounting_reporting_core.repository.CoreCurrencyRepository;
-import org.cardanofoundation.lob.app.organisation.OrganisationPublicApi;
+import org.cardanofoundation.lob.app.organisation.OrganisationPublicApiIF;
 
 @RequiredArgsConstructor
 public class OrganisationConversionTaskItem implements PipelineTaskItem {
 
-    private final OrganisationPublicApi organisationPublicApi;
+    private final OrganisationPublicApiIF organisationPublicApi;
     private final CoreCurrencyRepository coreCurrencyRepository;
 
     @Override
@@ -0,0 +1,95 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.service.internal;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.persistence.EntityManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionEntity;
+import org.cardanofoundation.lob.app.accounting_reporting_core.repository.AccountPeriodBalanceRepository;
+import org.cardanofoundation.lob.app.blockchain_common.domain.LedgerDispatchStatus;
+
+/**
+ * Keeps the per account and month balances of FINALIZED transactions in step with the ledger: a transaction's items
+ * are added when it reaches FINALIZED and taken away again when it is rolled back or reprocessed.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class AccountPeriodBalanceService {
+
+    private final AccountPeriodBalanceRepository accountPeriodBalanceRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * After a ledger status change: FINALIZED transactions are added, all others are taken away if they were added.
+     */
+    @Transactional
+    public void statusesUpdated(Collection<TransactionEntity> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        // the balances are computed from the stored rows
+        entityManager.flush();
+
+        Set<String> finalised = idsOf(transactions, true);
+        Set<String> notFinalised = idsOf(transactions, false);
+
+        int reversed = accountPeriodBalanceRepository.reverse(notFinalised);
+        int applied = accountPeriodBalanceRepository.apply(finalised);
+        log.debug("Account period balances updated, finalised: {}, applied rows: {}, reversed rows: {}", finalised.size(), applied, reversed);
+    }
+
+    /**
+     * After the items of the transactions have been replaced: their old contribution is taken away and the new one is
+     * added for the FINALIZED ones.
+     */
+    @Transactional
+    public void itemsReplaced(Collection<TransactionEntity> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+
+        accountPeriodBalanceRepository.reverse(transactions.stream().map(TransactionEntity::getId).collect(Collectors.toSet()));
+        accountPeriodBalanceRepository.apply(idsOf(transactions, true));
+    }
+
+    @Transactional
+    public void rolledBack(Collection<String> transactionIds) {
+        accountPeriodBalanceRepository.reverse(transactionIds);
+    }
+
+    @Transactional
+    public int rebuild() {
+        log.info("Rebuilding account period balances...");
+        int rows = accountPeriodBalanceRepository.rebuild();
+        log.info("Account period balances rebuilt, rows: {}", rows);
+
+        return rows;
+    }
+
+    @Transactional(readOnly = true)
+    public List<AccountPeriodBalanceRepository.Difference> check() {
+        List<AccountPeriodBalanceRepository.Difference> differences = accountPeriodBalanceRepository.findDifferences();
+        differences.forEach(difference -> log.warn("Account period balance differs from the ledger: {}", difference));
+
+        return differences;
+    }
+
+    private static Set<String> idsOf(Collection<TransactionEntity> transactions, boolean finalised) {
+        return transactions.stream()
+                .filter(tx -> (tx.getLedgerDispatchStatus() == LedgerDispatchStatus.FINALIZED) == finalised)
+                .map(TransactionEntity::getId)
+                .collect(Collectors.toSet());
+    }
+
+}
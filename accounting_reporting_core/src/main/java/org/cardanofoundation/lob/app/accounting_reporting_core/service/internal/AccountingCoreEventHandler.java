@@ -14,7 +14,6 @@ import org.springframework.stereotype.Service;
 
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.FatalError;
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.Transaction;
-import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionBatchEntity;
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionEntity;
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.event.extraction.TransactionBatchChunkEvent;
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.event.extraction.TransactionBatchFailedEvent;
@@ -24,7 +23,6 @@ import org.cardanofoundation.lob.app.accounting_reporting_core.domain.event.ledg
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.event.reconcilation.*;
 import org.cardanofoundation.lob.app.accounting_reporting_core.job.TxStatusUpdaterJob;
 import org.cardanofoundation.lob.app.accounting_reporting_core.service.ValidateIngestionResponseWaiter;
-import org.cardanofoundation.lob.app.accounting_reporting_core.service.business_rules.ProcessorFlags;
 import org.cardanofoundation.lob.app.support.modulith.EventMetadata;
 
 @Service
@@ -40,6 +38,7 @@ public class AccountingCoreEventHandler {
     private final ApplicationEventPublisher applicationEventPublisher;
     private final TxStatusUpdaterJob txStatusUpdaterJob;
     private final ValidateIngestionResponseWaiter validateIngestionResponseWaiter;
+    private final TransactionBatchChunkDispatcher transactionBatchChunkDispatcher;
 
 
     @EventListener
@@ -96,26 +95,11 @@ public class AccountingCoreEventHandler {
         log.info("Finished processing handleTransactionBatchStartedEvent event, event: {}", event);
     }
 
-    @EventListener // we need a sync process to avoid out of order events
-    @Async
+    @EventListener // sync on purpose, blocks the publishing adapter while the chunk queue is full
     public void handleTransactionBatchChunkEvent(TransactionBatchChunkEvent transactionBatchChunkEvent) {
-        String batchId = transactionBatchChunkEvent.getBatchId();
-
-        log.info("Received handleTransactionBatchChunkEvent event...., event, batch_id: {}, chunk_size:{}", batchId, transactionBatchChunkEvent.getTransactions().size());
-
-        Set<Transaction> txs = transactionBatchChunkEvent.getTransactions();
-        Optional<TransactionBatchEntity> batch = transactionBatchService.findById(batchId);
-        Set<TransactionEntity> detachedDbTxs = transactionConverter.convertToDbDetached(txs, batch);
-
-        erpIncomingDataProcessor.continueIngestion(
-                transactionBatchChunkEvent.getOrganisationId(),
-                batchId,
-                transactionBatchChunkEvent.getTotalTransactionsCount(),
-                detachedDbTxs,
-                new ProcessorFlags(ProcessorFlags.Trigger.IMPORT)
-        );
+        log.info("Received handleTransactionBatchChunkEvent event...., event, batch_id: {}, chunk_size:{}", transactionBatchChunkEvent.getBatchId(), transactionBatchChunkEvent.getTransactions().size());
 
-        log.info("Finished processing handleTransactionBatchChunkEvent event...., event, batch_id: {}", batchId);
+        transactionBatchChunkDispatcher.dispatch(transactionBatchChunkEvent);
     }
 
     @EventListener
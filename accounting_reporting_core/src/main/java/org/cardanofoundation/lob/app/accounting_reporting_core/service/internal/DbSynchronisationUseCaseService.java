@@ -30,6 +30,7 @@ import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.*;
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.event.ledger.TxRollbackEvent;
 import org.cardanofoundation.lob.app.accounting_reporting_core.repository.AccountingCoreTransactionRepository;
 import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionBatchAssocRepository;
+import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionBulkWriter;
 import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionItemRepository;
 import org.cardanofoundation.lob.app.accounting_reporting_core.service.business_rules.ProcessorFlags;
 import org.cardanofoundation.lob.app.blockchain_common.domain.LedgerDispatchStatus;
@@ -45,6 +46,8 @@ public class DbSynchronisationUseCaseService {
     private final TransactionItemRepository transactionItemRepository;
     private final TransactionBatchAssocRepository transactionBatchAssocRepository;
     private final TransactionBatchService transactionBatchService;
+    private final TransactionBulkWriter transactionBulkWriter;
+    private final AccountPeriodBalanceService accountPeriodBalanceService;
     private final ApplicationEventPublisher eventPublisher;
     private final Cache<String, Integer> batchTransactionCountCache = CacheBuilder.newBuilder()
             .expireAfterWrite(1, TimeUnit.MINUTES)
@@ -54,17 +57,25 @@ public class DbSynchronisationUseCaseService {
     @Value("${lob.blockchain-publisher.rollback.enabled:false}")
     private Optional<Boolean> rollbackEnabled;
 
+    @Value("${lob.accounting_reporting_core.persistence.bulk.enabled:false}")
+    private boolean bulkPersistenceEnabled;
+
+    /**
+     * @param extractionCompleted false for the chunks of an extraction that is still being published, the batch then
+     *                            stays PROCESSING whatever its counts
+     */
     @Transactional
     public void execute(String batchId,
                         OrganisationTransactions incomingTransactions,
                         int totalTransactionsCount,
+                        boolean extractionCompleted,
                         ProcessorFlags flags) {
         ProcessorFlags.Trigger trigger = flags.getTrigger();
         Set<TransactionEntity> transactions = incomingTransactions.transactions();
 
         if (transactions.isEmpty()) {
             log.info("No transactions to process, batchId: {}", batchId);
-            transactionBatchService.updateTransactionBatchStatusAndStats(batchId, totalTransactionsCount, Optional.empty());
+            updateBatch(batchId, totalTransactionsCount, totalTransactionsCount, extractionCompleted);
 
             return;
         }
@@ -72,6 +83,7 @@ public class DbSynchronisationUseCaseService {
         if (trigger == ProcessorFlags.Trigger.REPROCESSING) {
             // TODO should we check if we are NOT changing incomingTransactions which are already marked as dispatched?
             storeTransactions(batchId, incomingTransactions, flags);
+            accountPeriodBalanceService.itemsReplaced(transactions);
             Set<String> batchIdsToReprocess = transactions.stream()
                     .flatMap(transactionEntity ->
                             transactionBatchAssocRepository.findAllByTxId(transactionEntity.getId())
@@ -88,13 +100,14 @@ public class DbSynchronisationUseCaseService {
 
         String organisationId = incomingTransactions.organisationId();
 
-        processTransactionsForTheFirstTime(batchId, organisationId, transactions, totalTransactionsCount, flags);
+        processTransactionsForTheFirstTime(batchId, organisationId, transactions, totalTransactionsCount, extractionCompleted, flags);
     }
 
     public void processTransactionsForTheFirstTime(String batchId,
                                                    String organisationId,
                                                    Set<TransactionEntity> incomingDetachedTransactions,
                                                    int totalTransactionsCount,
+                                                   boolean extractionCompleted,
                                                    ProcessorFlags flags) {
         LinkedHashSet<TransactionEntity> txsAlreadyStored = new LinkedHashSet<>();
 
@@ -115,8 +128,10 @@ public class DbSynchronisationUseCaseService {
 
             boolean isDispatchMarked = txM.map(TransactionEntity::allApprovalsPassedForTransactionDispatch).orElse(false);
             boolean notStoredYet = txM.isEmpty();
+            // new transactions only keep their version when imported, see storeTransactions
+            String incomingTxVersion = notStoredYet && flags.getTrigger() != ProcessorFlags.Trigger.IMPORT ? null : ERPSourceTransactionVersionCalculator.compute(incomingTx);
             /** If is a new transaction || the new one is different from our Db copy  -> then should be processed*/
-            boolean isChanged = notStoredYet || (txM.map(tx -> !isIncomingTransactionERPSame(tx, incomingTx)).orElse(false));
+            boolean isChanged = notStoredYet || (txM.map(tx -> !isIncomingTransactionERPSame(tx, incomingTxVersion)).orElse(false));
             if (isChanged) {
                 if (TransactionProcessingStatus.ROLLBACK.equals(incomingTx.getProcessingStatus().orElse(null))) {
                     log.warn("Transaction {} is in ROLLBACK status, it will be processed and can be republished", incomingTx.getId());
@@ -137,6 +152,7 @@ public class DbSynchronisationUseCaseService {
                         transactionConverter.copyFields(attached, incomingTx);
                         attached.getAllItems().clear();
                         attached.getAllItems().addAll(incomingTx.getAllItems());
+                        attached.setErpSourceVersion(incomingTxVersion);
                         if (TransactionProcessingStatus.ROLLBACK.equals(incomingTx.getProcessingStatus().orElse(null)) && rollbackEnabled.orElse(false)) {
                             log.info("Rolling back transaction and it should ready to approve: {}", attached);
                             attached.setLedgerDispatchApproved(false);
@@ -147,6 +163,8 @@ public class DbSynchronisationUseCaseService {
                         }
                         toProcessTransactions.add(attached);
                     } else {
+                        // stored with its version, so that an unchanged re-import is skipped without computing and writing it then
+                        incomingTx.setErpSourceVersion(incomingTxVersion);
                         toProcessTransactions.add(incomingTx);
                     }
                 }
@@ -158,6 +176,8 @@ public class DbSynchronisationUseCaseService {
         raiseViolationForAlreadyProcessedTransactions(txsAlreadyStored);
 
         storeTransactions(batchId, new OrganisationTransactions(organisationId, toProcessTransactions), flags);
+        // rolled back and changed transactions no longer count as finalised with their previous items
+        accountPeriodBalanceService.itemsReplaced(toProcessTransactions);
         // Atomically read, compute and write the transaction count for the batch
         Integer totalProcessTx = batchTransactionCountCache.asMap().compute(batchId, (key, oldVal) -> {
             int current = (oldVal == null) ? 0 : oldVal;
@@ -165,29 +185,43 @@ public class DbSynchronisationUseCaseService {
         });
         log.info("Batch transaction count for batchId: {}, totalProcessTx: {}", batchId, totalProcessTx);
         // we don't need to pass in Transactions, since we just saved them and the status was updated
-        transactionBatchService.updateTransactionBatchStatusAndStats(batchId, totalProcessTx, Optional.empty());
+        updateBatch(batchId, totalProcessTx, totalTransactionsCount, extractionCompleted);
         batchesToBeUpdated.forEach(bId -> transactionBatchService.updateTransactionBatchStatusAndStats(bId, null, Optional.empty()));
         publishedTransactionToReset.forEach(txId -> eventPublisher.publishEvent(new TxRollbackEvent(txId)));
     }
 
+    private void updateBatch(String batchId, int totalProcessTx, int totalTransactionsCount, boolean extractionCompleted) {
+        if (extractionCompleted) {
+            transactionBatchService.updateTransactionBatchStatusAndStats(batchId, totalProcessTx, Optional.empty());
+            return;
+        }
+        // more chunks are coming, the count of this chunk must not be mistaken for the total of the batch
+        transactionBatchService.updateTransactionBatchStatsWhileExtracting(batchId, totalTransactionsCount);
+    }
+
     private Set<TransactionEntity> storeTransactions(String batchId,
                                                      OrganisationTransactions transactions,
                                                      ProcessorFlags flags) {
         log.info("Updating transaction batch, batchId: {}", batchId);
         ProcessorFlags.Trigger trigger = flags.getTrigger();
         Set<TransactionEntity> txs = transactions.transactions();
+        if (trigger != ProcessorFlags.Trigger.IMPORT) {
+            // business rules may have changed the items, the version is recomputed on the next import
+            txs.forEach(tx -> tx.setErpSourceVersion(null));
+        }
+        if (bulkPersistenceEnabled) {
+            txs.forEach(tx -> clearItemsRejections(tx, trigger));
+            transactionBulkWriter.storeAll(batchId, txs);
+
+            return txs;
+        }
+
         Set<TransactionEntity> savedEntities = new HashSet<>();
         for (TransactionEntity tx : txs) {
             TransactionEntity saved = accountingCoreTransactionRepository.save(tx);
             saved.getAllItems().forEach(i -> i.setTransaction(saved));
 
-            /** Remove items rejection according to the processor selected */
-            if (trigger == ProcessorFlags.Trigger.IMPORT) {
-                tx.clearAllItemsRejectionsSource(Source.ERP);
-            }
-            if (trigger == ProcessorFlags.Trigger.REPROCESSING) {
-                tx.clearAllItemsRejectionsSource(Source.LOB);
-            }
+            clearItemsRejections(tx, trigger);
 
             transactionItemRepository.saveAll(tx.getAllItems());
             savedEntities.add(saved);
@@ -206,13 +240,28 @@ public class DbSynchronisationUseCaseService {
         return savedEntities;
     }
 
+    /** Remove items rejection according to the processor selected */
+    private void clearItemsRejections(TransactionEntity tx, ProcessorFlags.Trigger trigger) {
+        if (trigger == ProcessorFlags.Trigger.IMPORT) {
+            tx.clearAllItemsRejectionsSource(Source.ERP);
+        }
+        if (trigger == ProcessorFlags.Trigger.REPROCESSING) {
+            tx.clearAllItemsRejectionsSource(Source.LOB);
+        }
+    }
+
+    /**
+     * Compares against the version stored with the transaction. Imported transactions are stored with their version,
+     * transactions stored before versions were kept (see {@link ERPSourceVersionBackfillService}) and reprocessed ones
+     * have none, it is then computed from the stored copy without writing it to the (managed, audited) transaction.
+     */
     private boolean isIncomingTransactionERPSame(TransactionEntity existingTx,
-                                                 TransactionEntity incomingTx) {
+                                                 String incomingTxVersion) {
         if (existingTx.hasAnyViolation(Source.ERP)) {
             return false;
         }
-        String existingTxVersion = ERPSourceTransactionVersionCalculator.compute(existingTx);
-        String incomingTxVersion = ERPSourceTransactionVersionCalculator.compute(incomingTx);
+        String existingTxVersion = Optional.ofNullable(existingTx.getErpSourceVersion())
+                .orElseGet(() -> ERPSourceTransactionVersionCalculator.compute(existingTx));
 
         log.info("Existing transaction version:{}, incomingTx:{}", existingTxVersion, incomingTxVersion);
 
@@ -15,6 +15,7 @@ import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.Extra
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.OrganisationTransactions;
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.UserExtractionParameters;
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionEntity;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.event.extraction.TransactionBatchChunkEvent;
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.event.reconcilation.ReconcilationFinalisationEvent;
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.event.reconcilation.ReconcilationStartedEvent;
 import org.cardanofoundation.lob.app.accounting_reporting_core.repository.AccountingCoreTransactionRepository;
@@ -57,9 +58,10 @@ public class ERPIncomingDataProcessor {
     public void continueIngestion(String organisationId,
                                   String batchId,
                                   int totalTransactionsCount,
+                                  TransactionBatchChunkEvent.Status chunkStatus,
                                   Set<TransactionEntity> transactions,
                                   ProcessorFlags processorFlags) {
-        log.info("Processing ERPTransactionChunk event, batchId: {}, transactions: {}", batchId, transactions.size());
+        log.info("Processing ERPTransactionChunk event, batchId: {}, transactions: {}, status: {}", batchId, transactions.size(), chunkStatus);
 
         OrganisationTransactions allOrgTransactions = new OrganisationTransactions(organisationId, transactions);
 
@@ -69,6 +71,7 @@ public class ERPIncomingDataProcessor {
         dbSynchronisationUseCaseService.execute(batchId,
                 allOrgTransactions,
                 totalTransactionsCount,
+                chunkStatus == TransactionBatchChunkEvent.Status.FINISHED,
                 processorFlags
         );
 
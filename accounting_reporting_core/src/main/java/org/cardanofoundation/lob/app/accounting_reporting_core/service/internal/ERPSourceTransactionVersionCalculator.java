@@ -1,5 +1,10 @@
 package org.cardanofoundation.lob.app.accounting_reporting_core.service.internal;
 
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Comparator;
 
 import lombok.extern.slf4j.Slf4j;
@@ -7,19 +12,33 @@ import lombok.val;
 
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.*;
 import org.cardanofoundation.lob.app.support.calc.BigDecimals;
-import org.cardanofoundation.lob.app.support.crypto.SHA3;
 
+/**
+ * Computes the ERP source version of a transaction: a SHA3-256 hash over the fields that come from the ERP.
+ * <p>
+ * Nested values (organisation, items, accounts, document, ...) are hashed on their own and their lowercase hex digest
+ * is fed into the enclosing hash. Fields are streamed into one reusable digest per nesting level instead of building
+ * intermediate strings, the result is byte for byte the same as hashing the concatenated strings.
+ */
 @Slf4j
 public class ERPSourceTransactionVersionCalculator {
 
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(US_ASCII);
+
+    // transaction -> item -> document -> counterparty / vat
+    private static final int NESTING_LEVELS = 4;
+
+    private static final ThreadLocal<Hasher> HASHERS = ThreadLocal.withInitial(Hasher::new);
+
     public static String compute(TransactionEntity transactionEntity) {
-        val b = new StringBuilder();
+        val h = HASHERS.get();
+        h.reset();
 
-        b.append(transactionEntity.getId());
-        b.append(transactionEntity.getInternalTransactionNumber());
-        b.append(compute(transactionEntity.getOrganisation()));
-        b.append(transactionEntity.getTransactionType());
-        b.append(transactionEntity.getEntryDate());
+        h.update(0, transactionEntity.getId());
+        h.update(0, transactionEntity.getInternalTransactionNumber());
+        h.update(0, 1, transactionEntity.getOrganisation().getId());
+        h.update(0, transactionEntity.getTransactionType());
+        h.update(0, transactionEntity.getEntryDate());
 
         // to be on the safe side lets sort this in hash calculation logic
         val predictablySortedTxItems = transactionEntity.getItems()
@@ -28,97 +47,99 @@ public class ERPSourceTransactionVersionCalculator {
                 .toList();
 
         for (val item : predictablySortedTxItems) {
-            b.append(compute(item));
+            update(h, item);
+            h.nested(0, 1);
         }
 
-        return SHA3.digestAsHex(b.toString());
+        return h.digestAsHex(0);
     }
 
-    private static String compute(TransactionItemEntity item) {
-        val b = new StringBuilder();
-
+    private static void update(Hasher h, TransactionItemEntity item) {
         // For rollback (CSV-republish) transactions, item IDs differ between the CSV-imported
         // DB record and the ERP source, so we cannot use item.getId() in the hash.
         // For all other transactions the ID is stable across paths and is included.
         if (item.getTransaction().getRollbackSuffix() != null) {
-            return SHA3.digestAsHex(b.toString());
-
+            return;
         }
-        b.append(item.getId());
-
-        item.getAccountCredit().ifPresent(acc -> b.append(compute(acc)));
-        item.getAccountDebit().ifPresent(acc -> b.append(compute(acc)));
-
-        b.append(BigDecimals.normalise(item.getFxRate()));
-
-        b.append(BigDecimals.normalise(item.getAmountFcy()));
-        b.append(BigDecimals.normalise(item.getAmountLcy()));
-
-        item.getCostCenter().ifPresent(cc -> b.append(compute(cc)));
-        item.getProject().ifPresent(p -> b.append(compute(p)));
-        item.getDocument().ifPresent(d -> b.append(compute(d)));
-
-        return SHA3.digestAsHex(b.toString());
-    }
-
-    private static String compute(Document document) {
-        val b = new StringBuilder();
-
-        b.append(document.getNum());
-
-        document.getCounterparty().ifPresent(cp -> b.append(compute(cp)));
-        document.getVat().ifPresent(v -> b.append(compute(v)));
-        b.append(document.getCurrency().getCustomerCode());
+        h.update(1, item.getId());
 
-        return SHA3.digestAsHex(b.toString());
-    }
-
-    private static String compute(Vat vat) {
-        val b = new StringBuilder();
-
-        b.append(vat.getCustomerCode());
-
-        return SHA3.digestAsHex(b.toString());
-    }
+        item.getAccountCredit().ifPresent(acc -> h.update(1, 2, acc.getCode()));
+        item.getAccountDebit().ifPresent(acc -> h.update(1, 2, acc.getCode()));
 
-    private static String compute(Counterparty counterparty) {
-        val b = new StringBuilder();
+        h.update(1, BigDecimals.normalise(item.getFxRate()));
 
-        b.append(counterparty.getCustomerCode());
+        h.update(1, BigDecimals.normalise(item.getAmountFcy()));
+        h.update(1, BigDecimals.normalise(item.getAmountLcy()));
 
-        return SHA3.digestAsHex(b.toString());
+        item.getCostCenter().ifPresent(cc -> h.update(1, 2, cc.getCustomerCode()));
+        item.getProject().ifPresent(p -> h.update(1, 2, p.getCustomerCode()));
+        item.getDocument().ifPresent(d -> {
+            update(h, d);
+            h.nested(1, 2);
+        });
     }
 
-    private static String compute(CostCenter costCenter) {
-        val b = new StringBuilder();
-
-        b.append(costCenter.getCustomerCode());
+    private static void update(Hasher h, Document document) {
+        h.update(2, document.getNum());
 
-        return SHA3.digestAsHex(b.toString());
+        document.getCounterparty().ifPresent(cp -> h.update(2, 3, cp.getCustomerCode()));
+        document.getVat().ifPresent(v -> h.update(2, 3, v.getCustomerCode()));
+        h.update(2, document.getCurrency().getCustomerCode());
     }
 
-    private static String compute(Project project) {
-        val b = new StringBuilder();
+    /**
+     * One SHA3-256 digest per nesting level plus scratch space for hex encoding, reused across calls on the same thread.
+     */
+    private static class Hasher {
+
+        private final MessageDigest[] digests = new MessageDigest[NESTING_LEVELS];
+        private final byte[] hex = new byte[64];
+
+        Hasher() {
+            try {
+                for (int i = 0; i < NESTING_LEVELS; i++) {
+                    digests[i] = MessageDigest.getInstance("SHA3-256");
+                }
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA3-256 not available", e);
+            }
+        }
 
-        b.append(project.getCustomerCode());
+        void reset() {
+            for (MessageDigest digest : digests) {
+                digest.reset();
+            }
+        }
 
-        return SHA3.digestAsHex(b.toString());
-    }
+        // same text as StringBuilder.append(Object), including "null" for missing values
+        void update(int level, Object value) {
+            digests[level].update(String.valueOf(value).getBytes(UTF_8));
+        }
 
-    private static String compute(Organisation org) {
-        val b = new StringBuilder();
+        // hashes a single value on its own and feeds the hex digest into the enclosing level
+        void update(int level, int nestedLevel, Object value) {
+            update(nestedLevel, value);
+            nested(level, nestedLevel);
+        }
 
-        b.append(org.getId());
+        void nested(int level, int nestedLevel) {
+            encodeHex(digests[nestedLevel].digest());
+            digests[level].update(hex);
+        }
 
-        return SHA3.digestAsHex(b.toString());
-    }
+        String digestAsHex(int level) {
+            encodeHex(digests[level].digest());
 
-    private static String compute(Account acc) {
-        val b = new StringBuilder();
+            return new String(hex, US_ASCII);
+        }
 
-        b.append(acc.getCode());
+        private void encodeHex(byte[] digest) {
+            for (int i = 0; i < digest.length; i++) {
+                hex[2 * i] = HEX_DIGITS[(digest[i] >> 4) & 0xF];
+                hex[2 * i + 1] = HEX_DIGITS[digest[i] & 0xF];
+            }
+        }
 
-        return SHA3.digestAsHex(b.toString());
     }
 
 }
@@ -0,0 +1,88 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.service.internal;
+
+import static java.util.stream.Collectors.toMap;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionEntity;
+import org.cardanofoundation.lob.app.accounting_reporting_core.repository.AccountingCoreTransactionRepository;
+
+/**
+ * Stores the ERP source version of transactions stored without one, so that the ERP sync can compare against it.
+ * <p>
+ * The versions are computed from the stored transactions and written with plain JDBC updates: the transactions
+ * themselves do not change, so no Envers revision is created and the updated audit fields are left alone.
+ */
+@Service
+@Slf4j
+public class ERPSourceVersionBackfillService {
+
+    private final AccountingCoreTransactionRepository accountingCoreTransactionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    @Value("${lob.accounting_reporting_core.erp_source_version.backfill.page_size:500}")
+    private int pageSize = 500;
+
+    public ERPSourceVersionBackfillService(AccountingCoreTransactionRepository accountingCoreTransactionRepository,
+                                           JdbcTemplate jdbcTemplate,
+                                           PlatformTransactionManager transactionManager) {
+        this.accountingCoreTransactionRepository = accountingCoreTransactionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * @return number of transactions a version was stored for
+     */
+    public int backfill() {
+        log.info("Backfilling ERP source versions...");
+        int updated = 0;
+        String lastId = "";
+        while (true) {
+            List<String> ids = jdbcTemplate.queryForList("""
+                    SELECT transaction_id FROM accounting_core_transaction
+                    WHERE erp_source_version IS NULL AND transaction_id > ?
+                    ORDER BY transaction_id
+                    LIMIT ?
+                    """, String.class, lastId, pageSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            lastId = ids.getLast();
+
+            Map<String, String> versions = readOnlyTransactionTemplate.execute(status -> accountingCoreTransactionRepository.findAllById(ids)
+                    .stream()
+                    .collect(toMap(TransactionEntity::getId, ERPSourceTransactionVersionCalculator::compute)));
+
+            int[][] counts = jdbcTemplate.batchUpdate(
+                    "UPDATE accounting_core_transaction SET erp_source_version = ? WHERE transaction_id = ? AND erp_source_version IS NULL",
+                    List.copyOf(versions.entrySet()),
+                    pageSize,
+                    (ps, version) -> {
+                        ps.setString(1, version.getValue());
+                        ps.setString(2, version.getKey());
+                    });
+            for (int[] batch : counts) {
+                for (int count : batch) {
+                    updated += Math.max(count, 0);
+                }
+            }
+            log.info("ERP source versions backfilled so far: {}", updated);
+        }
+        log.info("ERP source versions backfilled: {}", updated);
+
+        return updated;
+    }
+
+}
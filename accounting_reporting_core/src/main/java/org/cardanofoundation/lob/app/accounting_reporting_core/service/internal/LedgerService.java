@@ -26,6 +26,7 @@ import org.cardanofoundation.lob.app.organisation.OrganisationPublicApi;
 import org.cardanofoundation.lob.app.organisation.domain.entity.Organisation;
 import org.cardanofoundation.lob.app.support.collections.Partitions;
 import org.cardanofoundation.lob.app.support.modulith.EventMetadata;
+import org.cardanofoundation.lob.app.support.scheduling.OrganisationWorkScheduler;
 
 
 @Service
@@ -38,6 +39,7 @@ public class LedgerService {
     private final TransactionConverter transactionConverter;
     private final PIIDataFilteringService piiDataFilteringService;
     private final OrganisationPublicApi organisationPublicApi;
+    private final OrganisationWorkScheduler organisationWorkScheduler;
 
 
     @Value("${ledger.dispatch.batch.size:100}")
@@ -75,16 +77,20 @@ public class LedgerService {
     }
 
 
-    @Transactional(readOnly = true)
+    // every organisation in its own transaction, see OrganisationWorkScheduler
     public void dispatchPending(int limit) {
-        for (Organisation organisation : organisationPublicApi.listAll()) {
-            Set<TransactionEntity> dispatchTransactions = accountingCoreTransactionRepository.findDispatchableTransactions(organisation.getId(), Limit.of(limit));
-            if(dispatchTransactions.isEmpty()) {
-                log.debug("No pending transactions or reports to dispatch for organisationId: {}", organisation.getId());
-                continue;
+        List<String> organisationIds = organisationPublicApi.listAll().stream().map(Organisation::getId).toList();
+
+        organisationWorkScheduler.runRound("accounting_core.ledger_dispatch", organisationIds, true, organisationId -> {
+            Set<TransactionEntity> dispatchTransactions = accountingCoreTransactionRepository.findDispatchableTransactions(organisationId, Limit.of(limit));
+            if (dispatchTransactions.isEmpty()) {
+                log.debug("No pending transactions or reports to dispatch for organisationId: {}", organisationId);
+                return 0;
             }
-            dispatchPendingTransactions(organisation.getId(), dispatchTransactions);
-        }
+            dispatchPendingTransactions(organisationId, dispatchTransactions);
+
+            return dispatchTransactions.size();
+        });
     }
 
     @Transactional(readOnly = true)
@@ -10,6 +10,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.http.HttpRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
@@ -48,6 +49,13 @@ public class OnChainIndexerService {
         return new OnChainIndexerService(objectMapper, restClient, baseUrl, DEFAULT_PAGE_SIZE);
     }
 
+    /**
+     * Names the indexer operation of an outbound request for the http client timers.
+     */
+    public static String operation(HttpRequest request) {
+        return request.getURI().getPath().endsWith(TRANSACTIONS_BY_DATE_RANGE_PATH) ? "transactions-page" : "unknown";
+    }
+
     public Either<ProblemDetail, List<OnChainTransactionDto>> retrieveTransactionsByDateRange(
             String organisationId,
             LocalDate dateFrom,
@@ -0,0 +1,199 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.service.internal;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.Transaction;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionBatchEntity;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionEntity;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.event.extraction.TransactionBatchChunkEvent;
+import org.cardanofoundation.lob.app.accounting_reporting_core.service.business_rules.ProcessorFlags;
+
+/**
+ * Hands transaction batch chunks from the ERP adapters over to a fixed number of ingestion workers.
+ * At most {@code capacity} chunks are queued or in progress; beyond that {@link #dispatch} blocks the publishing
+ * adapter until a worker frees up, so a large extraction cannot pile up on the heap.
+ * The {@link TransactionBatchChunkEvent.Status#FINISHED} chunk of a batch is only processed once the earlier chunks of
+ * that batch are done, so the batch leaves PROCESSING with the statistics of the complete extraction.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TransactionBatchChunkDispatcher {
+
+    private final ERPIncomingDataProcessor erpIncomingDataProcessor;
+    private final TransactionConverter transactionConverter;
+    private final TransactionBatchService transactionBatchService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${lob.accounting_reporting_core.ingestion.chunk_queue.capacity:32}")
+    private int capacity;
+
+    @Value("${lob.accounting_reporting_core.ingestion.chunk_queue.concurrency:8}")
+    private int concurrency;
+
+    // chunks in flight and highest total seen per batch, streaming adapters only know the real total with the last chunk
+    private final Map<String, BatchProgress> batchProgress = new ConcurrentHashMap<>();
+
+    private Semaphore permits;
+    private ExecutorService workers;
+    private Timer blockedTimer;
+
+    @PostConstruct
+    public void init() {
+        permits = new Semaphore(Math.max(1, capacity));
+        workers = Executors.newFixedThreadPool(Math.max(1, concurrency), new ThreadFactoryBuilder()
+                .setNameFormat("ingestion-chunk-%d")
+                .setDaemon(true)
+                .build());
+
+        Gauge.builder("lob.ingestion.chunks.in_flight", permits, p -> Math.max(1, capacity) - p.availablePermits())
+                .description("Transaction batch chunks queued or being processed")
+                .register(meterRegistry);
+        blockedTimer = Timer.builder("lob.ingestion.chunks.blocked")
+                .description("Time ERP adapters waited for a free slot in the chunk queue")
+                .register(meterRegistry);
+
+        log.info("Transaction batch chunk dispatcher started, capacity: {}, concurrency: {}", capacity, concurrency);
+    }
+
+    public void dispatch(TransactionBatchChunkEvent event) {
+        String batchId = event.getBatchId();
+        if (!permits.tryAcquire()) {
+            log.info("Chunk queue full, waiting for a free slot, batchId: {}", batchId);
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a free slot in the chunk queue, batchId: " + batchId, e);
+            } finally {
+                sample.stop(blockedTimer);
+            }
+        }
+
+        batchProgress.compute(batchId, (id, progress) -> (progress == null ? new BatchProgress() : progress).add(event.getTotalTransactionsCount()));
+        try {
+            workers.execute(() -> process(event));
+        } catch (RuntimeException e) {
+            release(batchId);
+            throw e;
+        }
+    }
+
+    private void process(TransactionBatchChunkEvent event) {
+        String batchId = event.getBatchId();
+        try {
+            if (event.getStatus() == TransactionBatchChunkEvent.Status.FINISHED) {
+                // chunks are started in dispatch order, so the earlier chunks of the batch are all running on other workers by now
+                batchProgress.get(batchId).awaitEarlierChunks();
+            }
+            log.info("Processing transaction batch chunk, batch_id: {}, chunk_size: {}, status: {}", batchId, event.getTransactions().size(), event.getStatus());
+
+            Set<Transaction> txs = event.getTransactions();
+            Optional<TransactionBatchEntity> batch = transactionBatchService.findById(batchId);
+            Set<TransactionEntity> detachedDbTxs = transactionConverter.convertToDbDetached(txs, batch);
+
+            erpIncomingDataProcessor.continueIngestion(
+                    event.getOrganisationId(),
+                    batchId,
+                    totalTransactionsCount(event),
+                    event.getStatus(),
+                    detachedDbTxs,
+                    new ProcessorFlags(ProcessorFlags.Trigger.IMPORT)
+            );
+
+            log.info("Finished processing transaction batch chunk, batch_id: {}", batchId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while waiting for the earlier chunks of the batch, batch_id: {}", batchId, e);
+        } catch (RuntimeException e) {
+            log.error("Error while processing transaction batch chunk, batch_id: {}", batchId, e);
+        } finally {
+            release(batchId);
+        }
+    }
+
+    private int totalTransactionsCount(TransactionBatchChunkEvent event) {
+        if (event.getStatus() == TransactionBatchChunkEvent.Status.FINISHED) {
+            return event.getTotalTransactionsCount();
+        }
+        BatchProgress progress = batchProgress.get(event.getBatchId());
+
+        return progress == null ? event.getTotalTransactionsCount() : Math.max(progress.total(), event.getTotalTransactionsCount());
+    }
+
+    private void release(String batchId) {
+        batchProgress.computeIfPresent(batchId, (id, progress) -> progress.release() ? null : progress);
+        permits.release();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(30, SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class BatchProgress {
+
+        private int total;
+        private int inFlight;
+
+        synchronized BatchProgress add(int chunkTotal) {
+            total = Math.max(total, chunkTotal);
+            inFlight++;
+
+            return this;
+        }
+
+        synchronized int total() {
+            return total;
+        }
+
+        /**
+         * @return true once no chunk of the batch is left in flight
+         */
+        synchronized boolean release() {
+            inFlight--;
+            notifyAll();
+
+            return inFlight == 0;
+        }
+
+        synchronized void awaitEarlierChunks() throws InterruptedException {
+            while (inFlight > 1) {
+                wait();
+            }
+        }
+
+    }
+
+}
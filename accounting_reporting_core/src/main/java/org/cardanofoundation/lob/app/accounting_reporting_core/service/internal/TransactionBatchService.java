@@ -30,6 +30,7 @@ import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.Tra
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionEntity;
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.event.extraction.TransactionBatchCreatedEvent;
 import org.cardanofoundation.lob.app.accounting_reporting_core.repository.AccountingCoreTransactionRepository;
+import org.cardanofoundation.lob.app.accounting_reporting_core.repository.BatchStatisticsViewProjection;
 import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionBatchAssocRepository;
 import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionBatchRepository;
 import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionBatchRepositoryGateway;
@@ -57,6 +58,9 @@ public class TransactionBatchService {
     @Value("${lob.accounting_reporting_core.debounce.duration:PT10S}")
     private Duration batchStatsDebounceDuration;
 
+    @Value("${lob.accounting_reporting_core.batch_stats.incremental.enabled:true}")
+    private boolean incrementalBatchStatsEnabled;
+
     public Optional<TransactionBatchEntity> findById(String batchId) {
         return transactionBatchRepository.findById(batchId);
     }
@@ -88,7 +92,7 @@ public class TransactionBatchService {
         log.info("Transaction batch created, batchId: {}", batchId);
 
         applicationEventPublisher.publishEvent(TransactionBatchCreatedEvent.builder()
-                .metadata(EventMetadata.create(TransactionBatchCreatedEvent.VERSION))
+                .metadata(EventMetadata.create(TransactionBatchCreatedEvent.VERSION, user))
                 .batchId(batchId)
                 .organisationId(organisationId)
                 .userExtractionParameters(userExtractionParameters)
@@ -105,6 +109,18 @@ public class TransactionBatchService {
         debouncerManager.callInNewDebouncer(batchId, () -> invokeUpdateTransactionBatchStatusAndStats(batchId, Optional.ofNullable(totalTransactionsCount), entities), batchStatsDebounceDuration);
     }
 
+    /**
+     * Updates the statistics of a batch whose extraction is still publishing chunks. The batch stays PROCESSING,
+     * it can only be finished by the update of its last chunk.
+     *
+     * @param totalTransactionsCount transactions known so far, streaming extractions only know the total with the last chunk
+     */
+    @Transactional
+    public void updateTransactionBatchStatsWhileExtracting(String batchId,
+                                                           int totalTransactionsCount) {
+        debouncerManager.callInNewDebouncer(batchId, () -> updateTransactionBatchStatusAndStats(batchId, Optional.of(totalTransactionsCount), Optional.empty(), false), batchStatsDebounceDuration);
+    }
+
     @Transactional
     public void failTransactionBatch(String batchId,
                                      UserExtractionParameters userExtractionParameters,
@@ -140,7 +156,14 @@ public class TransactionBatchService {
     public void invokeUpdateTransactionBatchStatusAndStats(String batchId,
                                                             Optional<Integer> totalTransactionsCountO,
                                                             Optional<Set<TransactionEntity>> transactionEntities) {
-        log.info("EXPENSIVE::Updating transaction batch status and statistics, batchId: {}", batchId);
+        updateTransactionBatchStatusAndStats(batchId, totalTransactionsCountO, transactionEntities, true);
+    }
+
+    private void updateTransactionBatchStatusAndStats(String batchId,
+                                                      Optional<Integer> totalTransactionsCountO,
+                                                      Optional<Set<TransactionEntity>> transactionEntities,
+                                                      boolean extractionCompleted) {
+        log.info("Updating transaction batch status and statistics, batchId: {}", batchId);
 
         Optional<TransactionBatchEntity> txBatchM = transactionBatchRepositoryGateway.findById(batchId);
 
@@ -158,7 +181,7 @@ public class TransactionBatchService {
             accountingCoreTransactionRepository.saveAll(entities);
         });
 
-        transactionBatchRepository.getBatchStatisticViewForBatchId(batchId).ifPresent(batchStatisticsView::merge);
+        batchStatisticsView(batchId).ifPresent(batchStatisticsView::merge);
 
         if (txBatch.getStatus() == FINALIZED) {
             log.warn("Transaction batch already finalized or failed, batchId: {}", batchId);
@@ -166,7 +189,7 @@ public class TransactionBatchService {
         }
         int totalTransactionsCount = totalTransactionsCountO.orElse(batchStatisticsView.getTotal());
         txBatch.setBatchStatistics(batchStatisticsView.toBatchStatistics(totalTransactionsCount));
-        txBatch.setStatus(txBatchStatusCalculator.reCalcStatus(batchStatisticsView, totalTransactionsCount));
+        txBatch.setStatus(extractionCompleted ? txBatchStatusCalculator.reCalcStatus(batchStatisticsView, totalTransactionsCount) : PROCESSING);
 
         // If the status is Finalized, this means we processed all transactions from ERP
         // In case we dropped duplicate transactions, we will normalize the total transaction count
@@ -186,7 +209,55 @@ public class TransactionBatchService {
         transactionBatchRepository.save(txBatch);
 
 
-        log.info("EXPENSIVE::Transaction batch status and statistics updated, batchId: {}", batchId);
+        log.info("Transaction batch status and statistics updated, batchId: {}", batchId);
+    }
+
+    /**
+     * Compares the incrementally maintained counters of a batch with a full recount and rebuilds them on mismatch.
+     * The counter row stays locked until the end of the transaction, deltas of ingestions still in flight are kept.
+     *
+     * @return true if the counters were out of sync
+     */
+    @Transactional
+    public boolean reconcileBatchStatisticCounters(String batchId) {
+        transactionBatchRepository.lockBatchStatisticCounters(batchId);
+        BatchStatisticsView recounted = transactionBatchRepository.getBatchStatisticViewForBatchId(batchId)
+                .orElseGet(() -> new BatchStatisticsView(batchId, 0, 0, 0, 0, 0, 0));
+        Optional<BatchStatisticsView> counters = transactionBatchRepository.getBatchStatisticCountersForBatchId(batchId)
+                .map(TransactionBatchService::toBatchStatisticsView);
+
+        if (counters.isPresent() && counters.orElseThrow().hasSameCounts(recounted)) {
+            return false;
+        }
+        log.warn("Batch statistic counters out of sync, rebuilding, batchId: {}, counters: {}, recounted: {}", batchId, counters.orElse(null), recounted);
+        transactionBatchRepository.rebuildBatchStatisticCounters(batchId);
+
+        return true;
+    }
+
+    private Optional<BatchStatisticsView> batchStatisticsView(String batchId) {
+        if (!incrementalBatchStatsEnabled) {
+            log.info("EXPENSIVE::Recounting transaction batch statistics, batchId: {}", batchId);
+            return transactionBatchRepository.getBatchStatisticViewForBatchId(batchId);
+        }
+
+        transactionBatchRepository.lockBatchStatisticCounters(batchId);
+        transactionBatchRepository.compactBatchStatisticCounters(batchId);
+
+        return transactionBatchRepository.getBatchStatisticCountersForBatchId(batchId)
+                .map(TransactionBatchService::toBatchStatisticsView);
+    }
+
+    private static BatchStatisticsView toBatchStatisticsView(BatchStatisticsViewProjection projection) {
+        return new BatchStatisticsView(
+                projection.getBatchId(),
+                projection.getInvalid(),
+                projection.getPending(),
+                projection.getApprove(),
+                projection.getPublish(),
+                projection.getPublished(),
+                projection.getTotal()
+        );
     }
 
     public void updateBatchesPerTransactions(Map<String, TxStatusUpdate> txStatusUpdates) {
@@ -0,0 +1,126 @@
+-- Per batch transaction counters, kept up to date incrementally so batch statistics
+-- do not have to be recomputed with COUNT(DISTINCT ...) over the whole batch on every update.
+-- Only compaction and rebuilds write this table, both lock the row of the batch first.
+CREATE TABLE IF NOT EXISTS accounting_core_transaction_batch_counter (
+   transaction_batch_id CHAR(64) NOT NULL,
+
+   invalid_count INT NOT NULL DEFAULT 0,
+   pending_count INT NOT NULL DEFAULT 0,
+   approve_count INT NOT NULL DEFAULT 0,
+   publish_count INT NOT NULL DEFAULT 0,
+   published_count INT NOT NULL DEFAULT 0,
+   total_count INT NOT NULL DEFAULT 0,
+
+   FOREIGN KEY (transaction_batch_id) REFERENCES accounting_core_transaction_batch (transaction_batch_id),
+
+   PRIMARY KEY (transaction_batch_id)
+);
+
+-- Changes to the counters, appended by the triggers below. Appending never waits for a row lock, so concurrent
+-- ingestion workers neither queue on the counter row of their batch nor deadlock on transactions shared by batches.
+-- Readers add the pending deltas to the counter row, compaction folds them into it.
+CREATE TABLE IF NOT EXISTS accounting_core_transaction_batch_counter_delta (
+   id BIGSERIAL PRIMARY KEY,
+   transaction_batch_id CHAR(64) NOT NULL,
+
+   invalid_delta INT NOT NULL DEFAULT 0,
+   pending_delta INT NOT NULL DEFAULT 0,
+   approve_delta INT NOT NULL DEFAULT 0,
+   publish_delta INT NOT NULL DEFAULT 0,
+   published_delta INT NOT NULL DEFAULT 0,
+   total_delta INT NOT NULL DEFAULT 0
+);
+
+CREATE INDEX IF NOT EXISTS idx_accounting_core_transaction_batch_counter_delta_batch
+    ON accounting_core_transaction_batch_counter_delta (transaction_batch_id);
+
+-- +1 if a transaction moves into the given processing status, -1 if it leaves it, 0 otherwise
+CREATE OR REPLACE FUNCTION accounting_core_transaction_batch_counter_change(
+    p_old_status VARCHAR,
+    p_new_status VARCHAR,
+    p_status VARCHAR
+) RETURNS INT AS $$
+    SELECT (CASE WHEN p_new_status = p_status THEN 1 ELSE 0 END) - (CASE WHEN p_old_status = p_status THEN 1 ELSE 0 END);
+$$ LANGUAGE sql IMMUTABLE;
+
+-- records the delta of one transaction moving from one processing status to another (NULL when joining or leaving a batch)
+-- in every batch of p_batch_ids
+CREATE OR REPLACE FUNCTION accounting_core_transaction_batch_counter_apply(
+    p_batch_ids CHAR(64)[],
+    p_old_status VARCHAR,
+    p_new_status VARCHAR,
+    p_total_delta INT
+) RETURNS VOID AS $$
+BEGIN
+    INSERT INTO accounting_core_transaction_batch_counter_delta
+        (transaction_batch_id, invalid_delta, pending_delta, approve_delta, publish_delta, published_delta, total_delta)
+    SELECT
+        batch_id,
+        accounting_core_transaction_batch_counter_change(p_old_status, p_new_status, 'INVALID'),
+        accounting_core_transaction_batch_counter_change(p_old_status, p_new_status, 'PENDING'),
+        accounting_core_transaction_batch_counter_change(p_old_status, p_new_status, 'APPROVE'),
+        accounting_core_transaction_batch_counter_change(p_old_status, p_new_status, 'PUBLISH'),
+        accounting_core_transaction_batch_counter_change(p_old_status, p_new_status, 'PUBLISHED'),
+        p_total_delta
+    FROM unnest(p_batch_ids) AS batch_id;
+END;
+$$ LANGUAGE plpgsql;
+
+-- a transaction joins or leaves a batch
+CREATE OR REPLACE FUNCTION accounting_core_transaction_batch_assoc_counter_trigger() RETURNS TRIGGER AS $$
+DECLARE
+    v_processing_status VARCHAR;
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        SELECT processing_status INTO v_processing_status FROM accounting_core_transaction WHERE transaction_id = NEW.transaction_id;
+        PERFORM accounting_core_transaction_batch_counter_apply(ARRAY[NEW.transaction_batch_id], NULL, v_processing_status, 1);
+
+        RETURN NEW;
+    END IF;
+
+    SELECT processing_status INTO v_processing_status FROM accounting_core_transaction WHERE transaction_id = OLD.transaction_id;
+    PERFORM accounting_core_transaction_batch_counter_apply(ARRAY[OLD.transaction_batch_id], v_processing_status, NULL, -1);
+
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER accounting_core_transaction_batch_assoc_counter
+AFTER INSERT OR DELETE ON accounting_core_transaction_batch_assoc
+FOR EACH ROW EXECUTE FUNCTION accounting_core_transaction_batch_assoc_counter_trigger();
+
+-- a transaction moves from one processing status to another, in every batch it belongs to
+CREATE OR REPLACE FUNCTION accounting_core_transaction_counter_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM accounting_core_transaction_batch_counter_apply(
+        ARRAY(SELECT transaction_batch_id FROM accounting_core_transaction_batch_assoc WHERE transaction_id = NEW.transaction_id),
+        OLD.processing_status,
+        NEW.processing_status,
+        0
+    );
+
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER accounting_core_transaction_counter
+AFTER UPDATE OF processing_status ON accounting_core_transaction
+FOR EACH ROW
+WHEN (OLD.processing_status IS DISTINCT FROM NEW.processing_status)
+EXECUTE FUNCTION accounting_core_transaction_counter_trigger();
+
+-- seed the counters for existing batches
+INSERT INTO accounting_core_transaction_batch_counter
+    (transaction_batch_id, invalid_count, pending_count, approve_count, publish_count, published_count, total_count)
+SELECT
+    a.transaction_batch_id,
+    COUNT(DISTINCT tx.transaction_id) FILTER (WHERE tx.processing_status = 'INVALID'),
+    COUNT(DISTINCT tx.transaction_id) FILTER (WHERE tx.processing_status = 'PENDING'),
+    COUNT(DISTINCT tx.transaction_id) FILTER (WHERE tx.processing_status = 'APPROVE'),
+    COUNT(DISTINCT tx.transaction_id) FILTER (WHERE tx.processing_status = 'PUBLISH'),
+    COUNT(DISTINCT tx.transaction_id) FILTER (WHERE tx.processing_status = 'PUBLISHED'),
+    COUNT(DISTINCT tx.transaction_id)
+FROM accounting_core_transaction_batch_assoc a
+JOIN accounting_core_transaction tx ON tx.transaction_id = a.transaction_id
+GROUP BY a.transaction_batch_id
+ON CONFLICT (transaction_batch_id) DO NOTHING;
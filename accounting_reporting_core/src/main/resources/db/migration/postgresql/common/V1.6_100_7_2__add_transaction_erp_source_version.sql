@@ -0,0 +1,4 @@
+-- ERP source version hash of the transaction as last stored, lets the ERP sync compare incoming transactions
+-- without recomputing the hash of the stored copy. NULL for rows written before this column existed.
+ALTER TABLE accounting_core_transaction ADD COLUMN erp_source_version CHAR(64);
+ALTER TABLE accounting_core_transaction_aud ADD COLUMN erp_source_version CHAR(64);
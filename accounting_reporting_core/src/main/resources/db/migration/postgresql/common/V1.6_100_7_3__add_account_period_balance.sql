@@ -0,0 +1,42 @@
+-- Balance of every account per organisation and month of the entry date over the items of FINALIZED transactions,
+-- kept up to date incrementally when transactions are finalised or rolled back.
+CREATE TABLE IF NOT EXISTS accounting_core_account_period_balance (
+   organisation_id CHAR(64) NOT NULL,
+   account_code VARCHAR(255) NOT NULL,
+   period accounting_core_accounting_period_type NOT NULL,
+   balance_lcy DECIMAL(30, 15) NOT NULL,
+
+   PRIMARY KEY (organisation_id, account_code, period)
+);
+
+-- What every finalised transaction added to the balances, so a rollback takes away exactly that even when the
+-- transaction's items are replaced afterwards.
+CREATE TABLE IF NOT EXISTS accounting_core_account_period_balance_entry (
+   transaction_id CHAR(64) NOT NULL,
+   organisation_id CHAR(64) NOT NULL,
+   account_code VARCHAR(255) NOT NULL,
+   period accounting_core_accounting_period_type NOT NULL,
+   amount_lcy DECIMAL(30, 15) NOT NULL,
+
+   PRIMARY KEY (transaction_id, account_code, period)
+);
+
+INSERT INTO accounting_core_account_period_balance_entry (transaction_id, organisation_id, account_code, period, amount_lcy)
+SELECT t.transaction_id, t.organisation_id, side.account_code, to_char(t.entry_date, 'YYYY-MM'), SUM(side.amount_lcy)
+FROM accounting_core_transaction t
+JOIN accounting_core_transaction_item i ON i.transaction_id = t.transaction_id
+CROSS JOIN LATERAL (VALUES
+    (i.account_code_debit, CASE WHEN i.operation_type = 'DEBIT' THEN i.amount_lcy ELSE -i.amount_lcy END),
+    (i.account_code_credit, CASE WHEN i.operation_type = 'DEBIT' THEN -i.amount_lcy ELSE i.amount_lcy END)
+) AS side(account_code, amount_lcy)
+WHERE t.ledger_dispatch_status = 'FINALIZED'
+AND t.entry_date IS NOT NULL
+AND i.status = 'OK'
+AND i.amount_lcy <> 0
+AND side.account_code IS NOT NULL
+GROUP BY t.transaction_id, t.organisation_id, side.account_code, to_char(t.entry_date, 'YYYY-MM');
+
+INSERT INTO accounting_core_account_period_balance (organisation_id, account_code, period, balance_lcy)
+SELECT organisation_id, account_code, period, SUM(amount_lcy)
+FROM accounting_core_account_period_balance_entry
+GROUP BY organisation_id, account_code, period;
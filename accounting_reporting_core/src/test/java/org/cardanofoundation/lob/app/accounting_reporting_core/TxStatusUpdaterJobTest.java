@@ -25,6 +25,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.TxStatusUpdate;
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionEntity;
 import org.cardanofoundation.lob.app.accounting_reporting_core.job.TxStatusUpdaterJob;
+import org.cardanofoundation.lob.app.accounting_reporting_core.service.internal.AccountPeriodBalanceService;
 import org.cardanofoundation.lob.app.accounting_reporting_core.service.internal.LedgerService;
 import org.cardanofoundation.lob.app.accounting_reporting_core.service.internal.TransactionBatchService;
 
@@ -35,6 +36,8 @@ class TxStatusUpdaterJobTest {
     private LedgerService ledgerService;
     @Mock
     private TransactionBatchService batchService;
+    @Mock
+    private AccountPeriodBalanceService accountPeriodBalanceService;
     @InjectMocks
     private TxStatusUpdaterJob statusUpdaterJob;
 
@@ -91,6 +94,7 @@ class TxStatusUpdaterJobTest {
 
         verify(ledgerService).updateTransactionsWithNewStatuses(Map.of("123", update));
         verify(ledgerService).saveAllTransactionEntities(List.of(entity));
+        verify(accountPeriodBalanceService).statusesUpdated(List.of(entity));
         verify(batchService).updateBatchesPerTransactions(Map.of("123", update));
         // TxStatusUpdate must be removed from the internal map
         Field field = TxStatusUpdaterJob.class.getDeclaredField("txStatusUpdatesMap");
@@ -0,0 +1,116 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.functionalTests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.functionalTests.LedgerFixture.ORGANISATION_ID;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.functionalTests.LedgerFixture.insertBatch;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.functionalTests.LedgerFixture.randomLedger;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.functionalTests.LedgerFixture.storeAll;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.functionalTests.LedgerFixture.transactionId;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.flywaydb.core.Flyway;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.AccountPairAmount;
+import org.cardanofoundation.lob.app.accounting_reporting_core.repository.AccountPeriodBalanceRepository;
+import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionBulkWriter;
+import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionItemRepository;
+import org.cardanofoundation.lob.app.accounting_reporting_core.service.internal.AccountPeriodBalanceService;
+import org.cardanofoundation.lob.app.blockchain_common.domain.LedgerDispatchStatus;
+
+/**
+ * The account period balances have to stay equal to summing the items of the FINALIZED transactions while
+ * transactions are finalised and rolled back, including when that is reported more than once.
+ */
+class AccountPeriodBalanceTest extends WebBaseIntegrationTest {
+
+    private static final String BATCH_ID = "d".repeat(64);
+    private static final List<String> ACCOUNT_CODES = List.of("1000", "1100", "2000", "3000");
+
+    @Autowired
+    private TransactionBulkWriter transactionBulkWriter;
+
+    @Autowired
+    private TransactionItemRepository transactionItemRepository;
+
+    @Autowired
+    private AccountPeriodBalanceRepository accountPeriodBalanceRepository;
+
+    @Autowired
+    private AccountPeriodBalanceService accountPeriodBalanceService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    void seedLedger(@Autowired Flyway flyway) {
+        flyway.clean();
+        flyway.migrate();
+
+        insertBatch(jdbcTemplate, BATCH_ID, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        storeAll(transactionTemplate, transactionBulkWriter, BATCH_ID, randomLedger(BATCH_ID, ACCOUNT_CODES, 7).build());
+    }
+
+    @Test
+    void balancesFollowFinalisationAndRollback() {
+        // stored directly, nothing has been applied yet
+        assertThat(accountPeriodBalanceRepository.findDifferences()).isNotEmpty();
+
+        accountPeriodBalanceService.rebuild();
+        assertThat(accountPeriodBalanceService.check()).isEmpty();
+        assertClosedMonthsMatchLedger();
+
+        String finalised = transactionId(firstFinalisedIndex());
+        setLedgerDispatchStatus(finalised, LedgerDispatchStatus.NOT_DISPATCHED);
+        assertThat(accountPeriodBalanceRepository.findDifferences()).isNotEmpty();
+
+        transactionTemplate.executeWithoutResult(status -> accountPeriodBalanceRepository.reverse(List.of(finalised)));
+        transactionTemplate.executeWithoutResult(status -> accountPeriodBalanceRepository.reverse(List.of(finalised)));
+        assertThat(accountPeriodBalanceRepository.findDifferences()).isEmpty();
+
+        setLedgerDispatchStatus(finalised, LedgerDispatchStatus.FINALIZED);
+        transactionTemplate.executeWithoutResult(status -> accountPeriodBalanceRepository.apply(List.of(finalised)));
+        transactionTemplate.executeWithoutResult(status -> accountPeriodBalanceRepository.apply(List.of(finalised)));
+        assertThat(accountPeriodBalanceRepository.findDifferences()).isEmpty();
+        assertClosedMonthsMatchLedger();
+    }
+
+    private void assertClosedMonthsMatchLedger() {
+        for (YearMonth month = YearMonth.of(2024, 1); month.getYear() == 2024; month = month.plusMonths(1)) {
+            List<AccountPairAmount> ledgerAmounts = transactionItemRepository.sumAmountsByAccountCodeAndDateRange(ACCOUNT_CODES, LocalDate.EPOCH, month.atEndOfMonth());
+            List<AccountPairAmount> balances = accountPeriodBalanceRepository.sumBalances(ORGANISATION_ID, ACCOUNT_CODES, YearMonth.from(LocalDate.EPOCH), month);
+
+            for (String accountCode : ACCOUNT_CODES) {
+                assertThat(AccountPairAmount.balance(balances, Set.of(accountCode)))
+                        .isEqualByComparingTo(AccountPairAmount.balance(ledgerAmounts, Set.of(accountCode)));
+            }
+        }
+    }
+
+    private void setLedgerDispatchStatus(String transactionId, LedgerDispatchStatus status) {
+        jdbcTemplate.update("UPDATE accounting_core_transaction SET ledger_dispatch_status = ? WHERE transaction_id = ?", status.name(), transactionId);
+    }
+
+    private int firstFinalisedIndex() {
+        return jdbcTemplate.queryForObject("""
+                SELECT MIN(CAST(t.transaction_id AS BIGINT))
+                FROM accounting_core_transaction t
+                JOIN accounting_core_transaction_item i ON i.transaction_id = t.transaction_id
+                WHERE t.ledger_dispatch_status = 'FINALIZED' AND i.status = 'OK' AND i.amount_lcy <> 0
+                """, Integer.class);
+    }
+
+}
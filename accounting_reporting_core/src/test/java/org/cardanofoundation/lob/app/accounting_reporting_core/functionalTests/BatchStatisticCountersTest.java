@@ -0,0 +1,154 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.functionalTests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.functionalTests.LedgerFixture.insertBatch;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.functionalTests.LedgerFixture.storeAll;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.functionalTests.LedgerFixture.transaction;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.functionalTests.LedgerFixture.transactionId;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.flywaydb.core.Flyway;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionEntity;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionProcessingStatus;
+import org.cardanofoundation.lob.app.accounting_reporting_core.repository.BatchStatisticsViewProjection;
+import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionBatchRepository;
+import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionBulkWriter;
+import org.cardanofoundation.lob.app.accounting_reporting_core.resource.views.BatchStatisticsView;
+import org.cardanofoundation.lob.app.accounting_reporting_core.service.internal.TransactionBatchService;
+
+/**
+ * The trigger maintained batch counters have to stay equal to a full recount while transactions join and leave
+ * batches and move between processing statuses, before and after the deltas are compacted.
+ */
+class BatchStatisticCountersTest extends WebBaseIntegrationTest {
+
+    private static final String BATCH_ID = "e".repeat(64);
+    private static final String OTHER_BATCH_ID = "f".repeat(64);
+    private static final TransactionProcessingStatus[] STATUSES = TransactionProcessingStatus.values();
+
+    @Autowired
+    private TransactionBulkWriter transactionBulkWriter;
+
+    @Autowired
+    private TransactionBatchRepository transactionBatchRepository;
+
+    @Autowired
+    private TransactionBatchService transactionBatchService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    void seedBatches(@Autowired Flyway flyway) {
+        flyway.clean();
+        flyway.migrate();
+
+        insertBatch(jdbcTemplate, BATCH_ID, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        insertBatch(jdbcTemplate, OTHER_BATCH_ID, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+    }
+
+    @Test
+    void countersFollowInsertsStatusChangesAndDeletes() {
+        storeAll(transactionTemplate, transactionBulkWriter, BATCH_ID, transactions(0, 20));
+        assertCountersMatchRecount(BATCH_ID);
+
+        // the first five transactions belong to both batches
+        storeAll(transactionTemplate, transactionBulkWriter, OTHER_BATCH_ID, transactions(0, 5));
+        assertCountersMatchRecount(BATCH_ID);
+        assertCountersMatchRecount(OTHER_BATCH_ID);
+
+        for (int i = 0; i < 20; i += 3) {
+            setProcessingStatus(i, STATUSES[(i + 1) % STATUSES.length]);
+        }
+        // unchanged status, no delta
+        setProcessingStatus(1, STATUSES[1 % STATUSES.length]);
+        assertCountersMatchRecount(BATCH_ID);
+        assertCountersMatchRecount(OTHER_BATCH_ID);
+
+        jdbcTemplate.update("DELETE FROM accounting_core_transaction_batch_assoc WHERE transaction_batch_id = ? AND transaction_id = ?", BATCH_ID, transactionId(3));
+        jdbcTemplate.update("DELETE FROM accounting_core_transaction_batch_assoc WHERE transaction_batch_id = ? AND transaction_id = ?", OTHER_BATCH_ID, transactionId(4));
+        assertCountersMatchRecount(BATCH_ID);
+        assertCountersMatchRecount(OTHER_BATCH_ID);
+
+        compact(BATCH_ID);
+        assertThat(pendingDeltas(BATCH_ID)).isZero();
+        assertThat(pendingDeltas(OTHER_BATCH_ID)).isPositive();
+        assertCountersMatchRecount(BATCH_ID);
+        assertCountersMatchRecount(OTHER_BATCH_ID);
+
+        // deltas appended after a compaction are added on top of the compacted counters
+        setProcessingStatus(6, STATUSES[(6 + 2) % STATUSES.length]);
+        assertCountersMatchRecount(BATCH_ID);
+        compact(BATCH_ID);
+        assertCountersMatchRecount(BATCH_ID);
+    }
+
+    @Test
+    void reconciliationRebuildsDriftedCounters() {
+        storeAll(transactionTemplate, transactionBulkWriter, BATCH_ID, transactions(100, 110));
+        compact(BATCH_ID);
+
+        jdbcTemplate.update("UPDATE accounting_core_transaction_batch_counter SET pending_count = pending_count + 7 WHERE transaction_batch_id = ?", BATCH_ID);
+        setProcessingStatus(100, STATUSES[(100 + 1) % STATUSES.length]);
+
+        assertThat(transactionBatchService.reconcileBatchStatisticCounters(BATCH_ID)).isTrue();
+        assertThat(pendingDeltas(BATCH_ID)).isZero();
+        assertCountersMatchRecount(BATCH_ID);
+
+        setProcessingStatus(101, STATUSES[(101 + 2) % STATUSES.length]);
+        assertThat(transactionBatchService.reconcileBatchStatisticCounters(BATCH_ID)).isFalse();
+        assertCountersMatchRecount(BATCH_ID);
+    }
+
+    private void assertCountersMatchRecount(String batchId) {
+        BatchStatisticsView recounted = transactionBatchRepository.getBatchStatisticViewForBatchId(batchId)
+                .orElseGet(() -> new BatchStatisticsView(batchId, 0, 0, 0, 0, 0, 0));
+        BatchStatisticsViewProjection counters = transactionBatchRepository.getBatchStatisticCountersForBatchId(batchId).orElseThrow();
+
+        assertThat(List.of(counters.getInvalid(), counters.getPending(), counters.getApprove(), counters.getPublish(), counters.getPublished(), counters.getTotal()))
+                .as("counters of batch %s", batchId)
+                .containsExactly(recounted.getInvalid(), recounted.getPending(), recounted.getApprove(), recounted.getPublish(), recounted.getPublished(), recounted.getTotal());
+    }
+
+    private void compact(String batchId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            transactionBatchRepository.lockBatchStatisticCounters(batchId);
+            transactionBatchRepository.compactBatchStatisticCounters(batchId);
+        });
+    }
+
+    private int pendingDeltas(String batchId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM accounting_core_transaction_batch_counter_delta WHERE transaction_batch_id = ?", Integer.class, batchId);
+    }
+
+    private void setProcessingStatus(int index, TransactionProcessingStatus status) {
+        jdbcTemplate.update("UPDATE accounting_core_transaction SET processing_status = ? WHERE transaction_id = ?", status.name(), transactionId(index));
+    }
+
+    private static Set<TransactionEntity> transactions(int from, int to) {
+        Set<TransactionEntity> transactions = new LinkedHashSet<>();
+        for (int i = from; i < to; i++) {
+            TransactionEntity tx = transaction(BATCH_ID, i, LocalDate.of(2024, 1, 1).plusDays(i));
+            tx.setProcessingStatus(STATUSES[i % STATUSES.length]);
+            transactions.add(tx);
+        }
+
+        return transactions;
+    }
+
+}
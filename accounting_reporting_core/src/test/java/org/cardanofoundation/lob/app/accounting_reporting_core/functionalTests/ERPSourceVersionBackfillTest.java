@@ -0,0 +1,94 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.functionalTests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.functionalTests.LedgerFixture.insertBatch;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.functionalTests.LedgerFixture.storeAll;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.functionalTests.LedgerFixture.transaction;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.flywaydb.core.Flyway;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionEntity;
+import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionBulkWriter;
+import org.cardanofoundation.lob.app.accounting_reporting_core.service.internal.ERPSourceTransactionVersionCalculator;
+import org.cardanofoundation.lob.app.accounting_reporting_core.service.internal.ERPSourceVersionBackfillService;
+
+/**
+ * Transactions stored without an ERP source version get one computed from the stored copy, without a new Envers
+ * revision and without touching their updated audit fields.
+ */
+class ERPSourceVersionBackfillTest extends WebBaseIntegrationTest {
+
+    private static final String BATCH_ID = "d".repeat(64);
+    private static final int TRANSACTION_COUNT = 5;
+
+    @Autowired
+    private ERPSourceVersionBackfillService erpSourceVersionBackfillService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seedTransactions(@Autowired Flyway flyway,
+                          @Autowired TransactionBulkWriter transactionBulkWriter,
+                          @Autowired TransactionTemplate transactionTemplate) {
+        flyway.clean();
+        flyway.migrate();
+
+        insertBatch(jdbcTemplate, BATCH_ID, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        storeAll(transactionTemplate, transactionBulkWriter, BATCH_ID, transactions());
+    }
+
+    @Test
+    void backfillStoresVersionsWithoutAuditing() {
+        int auditRows = auditRows();
+        List<Map<String, Object>> updatedBefore = updatedColumns();
+        // pages smaller than the number of transactions
+        ReflectionTestUtils.setField(erpSourceVersionBackfillService, "pageSize", 2);
+
+        assertThat(erpSourceVersionBackfillService.backfill()).isEqualTo(TRANSACTION_COUNT);
+
+        Map<String, String> expected = transactions().stream()
+                .collect(Collectors.toMap(TransactionEntity::getId, ERPSourceTransactionVersionCalculator::compute));
+        Map<String, String> stored = jdbcTemplate.queryForList("SELECT transaction_id, erp_source_version FROM accounting_core_transaction").stream()
+                .collect(Collectors.toMap(row -> (String) row.get("transaction_id"), row -> (String) row.get("erp_source_version")));
+        assertThat(stored).isEqualTo(expected);
+        assertThat(auditRows()).isEqualTo(auditRows);
+        assertThat(updatedColumns()).isEqualTo(updatedBefore);
+
+        // nothing left to backfill
+        assertThat(erpSourceVersionBackfillService.backfill()).isZero();
+    }
+
+    private int auditRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM accounting_core_transaction_aud", Integer.class);
+    }
+
+    private List<Map<String, Object>> updatedColumns() {
+        return jdbcTemplate.queryForList("SELECT transaction_id, updated_by, updated_at FROM accounting_core_transaction ORDER BY transaction_id");
+    }
+
+    private static Set<TransactionEntity> transactions() {
+        Set<TransactionEntity> transactions = new LinkedHashSet<>();
+        for (int i = 0; i < TRANSACTION_COUNT; i++) {
+            transactions.add(transaction(BATCH_ID, i, LocalDate.of(2024, 1, 1).plusDays(i)));
+        }
+
+        return transactions;
+    }
+
+}
@@ -0,0 +1,154 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.functionalTests;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.OperationType;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.TransactionType;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.TxItemValidationStatus;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.Account;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.Organisation;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionEntity;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionItemEntity;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionProcessingStatus;
+import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionBulkWriter;
+import org.cardanofoundation.lob.app.blockchain_common.domain.LedgerDispatchStatus;
+
+/**
+ * Batches and journal transactions for the functional tests working directly on the ledger tables, stored with the
+ * {@link TransactionBulkWriter}.
+ */
+public class LedgerFixture {
+
+    public static final String ORGANISATION_ID = "75f95560c1d883ee7628993da5adf725a5d97a13929fd4f477be0faf5020ca94";
+
+    private LedgerFixture() {
+    }
+
+    public static void insertBatch(JdbcTemplate jdbcTemplate, String batchId, LocalDate from, LocalDate to) {
+        jdbcTemplate.update("""
+                INSERT INTO accounting_core_transaction_batch
+                (transaction_batch_id, status, filtering_parameters_organisation_id, filtering_parameters_from_date, filtering_parameters_to_date)
+                VALUES (?, 'CREATED', ?, ?, ?)
+                """, batchId, ORGANISATION_ID, from, to);
+    }
+
+    public static void storeAll(TransactionTemplate transactionTemplate,
+                                TransactionBulkWriter transactionBulkWriter,
+                                String batchId,
+                                Set<TransactionEntity> transactions) {
+        transactionTemplate.executeWithoutResult(status -> transactionBulkWriter.storeAll(batchId, transactions));
+    }
+
+    public static String transactionId(int index) {
+        return "%064d".formatted(index);
+    }
+
+    /**
+     * Journal of the organisation without items, identified by its index.
+     */
+    public static TransactionEntity transaction(String batchId, int index, LocalDate entryDate) {
+        TransactionEntity tx = new TransactionEntity();
+        tx.setId(transactionId(index));
+        tx.setInternalTransactionNumber("JOURNAL" + index);
+        tx.setBatchId(batchId);
+        tx.setTransactionType(TransactionType.Journal);
+        tx.setExtractorType("NETSUITE");
+        tx.setEntryDate(entryDate);
+        tx.setAccountingPeriod(YearMonth.from(entryDate));
+        tx.setOrganisation(Organisation.builder().id(ORGANISATION_ID).currencyId("ISO_4217:CHF").build());
+
+        return tx;
+    }
+
+    public static RandomLedger randomLedger(String batchId, List<String> accountCodes, long seed) {
+        return new RandomLedger(batchId, accountCodes, new Random(seed));
+    }
+
+    /**
+     * Journals on random days between random accounts of the given codes, a third of them not dispatched and a quarter
+     * pending. Their items include zero amounts, erased items and items without credit account.
+     */
+    public static class RandomLedger {
+
+        private final String batchId;
+        private final List<String> accountCodes;
+        private final Random random;
+
+        private int transactionCount = 100;
+        private LocalDate from = LocalDate.of(2024, 1, 1);
+        private int days = 366;
+        private int maxItemsPerTransaction = 3;
+
+        private RandomLedger(String batchId, List<String> accountCodes, Random random) {
+            this.batchId = batchId;
+            this.accountCodes = accountCodes;
+            this.random = random;
+        }
+
+        public RandomLedger transactions(int transactionCount) {
+            this.transactionCount = transactionCount;
+            return this;
+        }
+
+        public RandomLedger entryDates(LocalDate from, int days) {
+            this.from = from;
+            this.days = days;
+            return this;
+        }
+
+        public RandomLedger maxItemsPerTransaction(int maxItemsPerTransaction) {
+            this.maxItemsPerTransaction = maxItemsPerTransaction;
+            return this;
+        }
+
+        public Set<TransactionEntity> build() {
+            Set<TransactionEntity> transactions = new LinkedHashSet<>();
+            for (int i = 0; i < transactionCount; i++) {
+                TransactionEntity tx = transaction(batchId, i, from.plusDays(random.nextInt(days)));
+                tx.setLedgerDispatchStatus(random.nextInt(3) == 0 ? LedgerDispatchStatus.NOT_DISPATCHED : LedgerDispatchStatus.FINALIZED);
+                tx.setProcessingStatus(random.nextInt(4) == 0 ? TransactionProcessingStatus.PENDING : TransactionProcessingStatus.APPROVE);
+
+                int itemCount = 1 + random.nextInt(maxItemsPerTransaction);
+                for (int j = 0; j < itemCount; j++) {
+                    tx.getAllItems().add(item(tx, i, j));
+                }
+                transactions.add(tx);
+            }
+
+            return transactions;
+        }
+
+        private TransactionItemEntity item(TransactionEntity tx, int txIndex, int itemIndex) {
+            BigDecimal amount = random.nextInt(10) == 0 ? BigDecimal.ZERO : BigDecimal.valueOf(1 + random.nextInt(1_000_000), 2);
+
+            TransactionItemEntity item = new TransactionItemEntity();
+            item.setId("%062d%02d".formatted(txIndex, itemIndex));
+            item.setTransaction(tx);
+            item.setOperationType(random.nextBoolean() ? OperationType.DEBIT : OperationType.CREDIT);
+            item.setStatus(random.nextInt(8) == 0 ? TxItemValidationStatus.ERASED_SELF_PAYMENT : TxItemValidationStatus.OK);
+            item.setFxRate(BigDecimal.ONE);
+            item.setAmountFcy(amount);
+            item.setAmountLcy(amount);
+            item.setAccountDebit(Optional.of(account()));
+            item.setAccountCredit(random.nextInt(6) == 0 ? Optional.empty() : Optional.of(account()));
+
+            return item;
+        }
+
+        private Account account() {
+            return Account.builder().code(accountCodes.get(random.nextInt(accountCodes.size()))).build();
+        }
+
+    }
+
+}
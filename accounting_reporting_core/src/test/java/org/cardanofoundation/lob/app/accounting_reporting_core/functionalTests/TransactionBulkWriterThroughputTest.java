@@ -0,0 +1,126 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.functionalTests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.functionalTests.LedgerFixture.insertBatch;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.functionalTests.LedgerFixture.storeAll;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.functionalTests.LedgerFixture.transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.flywaydb.core.Flyway;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.OperationType;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.Source;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.TransactionType;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.TransactionViolationCode;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.Violation;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionEntity;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionItemEntity;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionViolation;
+import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionBulkWriter;
+
+@Slf4j
+class TransactionBulkWriterThroughputTest extends WebBaseIntegrationTest {
+
+    private static final int TX_COUNT = 5_000;
+    private static final String BATCH_ID = "b".repeat(64);
+
+    @Autowired
+    private TransactionBulkWriter transactionBulkWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    void clearDatabase(@Autowired Flyway flyway) {
+        flyway.clean();
+        flyway.migrate();
+
+        insertBatch(jdbcTemplate, BATCH_ID, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+    }
+
+    @Test
+    void shouldBulkStoreTransactionsItemsViolationsAndAuditRows() {
+        Set<TransactionEntity> transactions = transactions();
+
+        long start = System.currentTimeMillis();
+        storeAll(transactionTemplate, transactionBulkWriter, BATCH_ID, transactions);
+        long took = Math.max(1, System.currentTimeMillis() - start);
+        log.info("Bulk stored {} transactions in {} ms ({} tx/s)", TX_COUNT, took, TX_COUNT * 1000L / took);
+
+        assertThat(count("accounting_core_transaction")).isEqualTo(TX_COUNT);
+        assertThat(count("accounting_core_transaction_item")).isEqualTo(2L * TX_COUNT);
+        assertThat(count("accounting_core_transaction_violation")).isEqualTo(TX_COUNT / 10);
+        assertThat(count("accounting_core_transaction_batch_assoc")).isEqualTo(TX_COUNT);
+        assertThat(count("accounting_core_transaction_aud WHERE revtype = 0")).isEqualTo(TX_COUNT);
+        assertThat(count("accounting_core_transaction_item_aud WHERE revtype = 0")).isEqualTo(2L * TX_COUNT);
+        assertThat(count("accounting_core_transaction_batch_assoc_aud")).isEqualTo(TX_COUNT);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(DISTINCT rev) FROM accounting_core_transaction_aud", Long.class)).isEqualTo(1L);
+
+        // second run over the same batch updates in place, drops an item and does not duplicate batch associations
+        transactions.forEach(tx -> tx.getAllItems().removeIf(item -> item.getId().endsWith("2")));
+        storeAll(transactionTemplate, transactionBulkWriter, BATCH_ID, transactions);
+
+        assertThat(count("accounting_core_transaction")).isEqualTo(TX_COUNT);
+        assertThat(count("accounting_core_transaction_item")).isEqualTo(TX_COUNT);
+        assertThat(count("accounting_core_transaction_batch_assoc")).isEqualTo(TX_COUNT);
+        assertThat(count("accounting_core_transaction_aud WHERE revtype = 1")).isEqualTo(TX_COUNT);
+        assertThat(count("accounting_core_transaction_item_aud WHERE revtype = 2")).isEqualTo(TX_COUNT);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM accounting_core_transaction WHERE item_count = 1", Long.class)).isEqualTo(TX_COUNT);
+    }
+
+    private long count(String tableAndFilter) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + tableAndFilter, Long.class);
+    }
+
+    private static Set<TransactionEntity> transactions() {
+        Set<TransactionEntity> transactions = new LinkedHashSet<>();
+        for (int i = 0; i < TX_COUNT; i++) {
+            TransactionEntity tx = transaction(BATCH_ID, i, LocalDate.of(2024, 5, 1));
+            tx.setTransactionType(TransactionType.VendorBill);
+            tx.getAllItems().add(item(tx, i, 1, OperationType.DEBIT));
+            tx.getAllItems().add(item(tx, i, 2, OperationType.CREDIT));
+            if (i % 10 == 0) {
+                tx.addViolation(TransactionViolation.builder()
+                        .code(TransactionViolationCode.ACCOUNT_CODE_DEBIT_IS_EMPTY)
+                        .severity(Violation.Severity.ERROR)
+                        .source(Source.LOB)
+                        .processorModule("TransactionBulkWriterThroughputTest")
+                        .bag(Map.of("transactionNumber", tx.getInternalTransactionNumber()))
+                        .build());
+            }
+            transactions.add(tx);
+        }
+
+        return transactions;
+    }
+
+    private static TransactionItemEntity item(TransactionEntity tx, int txIndex, int itemIndex, OperationType operationType) {
+        TransactionItemEntity item = new TransactionItemEntity();
+        item.setId("%063d%d".formatted(txIndex, itemIndex));
+        item.setTransaction(tx);
+        item.setOperationType(operationType);
+        item.setFxRate(BigDecimal.ONE);
+        item.setAmountFcy(BigDecimal.TEN);
+        item.setAmountLcy(BigDecimal.TEN);
+
+        return item;
+    }
+
+}
@@ -0,0 +1,144 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.functionalTests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.functionalTests.LedgerFixture.insertBatch;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.functionalTests.LedgerFixture.randomLedger;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.functionalTests.LedgerFixture.storeAll;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.persistence.EntityManager;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.flywaydb.core.Flyway;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.AccountPairAmount;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.OperationType;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.TxItemValidationStatus;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.Account;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionItemEntity;
+import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionBulkWriter;
+import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionItemRepository;
+
+/**
+ * The grouped account pair sums have to give the same balances as summing the loaded transaction items one by one,
+ * which is how report fields were calculated before.
+ */
+class TransactionItemAggregationTest extends WebBaseIntegrationTest {
+
+    private static final String BATCH_ID = "c".repeat(64);
+    private static final List<String> ACCOUNT_CODES = List.of("1000", "1100", "2000", "2100", "3000", "4000");
+
+    // the item queries report fields were calculated from before the grouped queries, only kept as the oracle here
+    private static final String ITEMS_QUERY = """
+            SELECT t FROM accounting_reporting_core.TransactionItemEntity t
+            WHERE t.transaction.entryDate >= :startDate
+            AND t.transaction.entryDate <= :endDate
+            AND (t.accountDebit.code IN :customerCodes OR t.accountCredit.code IN :customerCodes)
+            AND t.amountLcy <> 0
+            AND t.transaction.ledgerDispatchStatus = 'FINALIZED'
+            """;
+    private static final String PREVIEW_ITEMS_QUERY = """
+            SELECT t FROM accounting_reporting_core.TransactionItemEntity t
+            WHERE t.transaction.entryDate >= :startDate
+            AND t.transaction.entryDate <= :endDate
+            AND (t.accountDebit.code IN :customerCodes OR t.accountCredit.code IN :customerCodes)
+            AND t.amountLcy <> 0
+            AND t.transaction.automatedValidationStatus = 'VALIDATED'
+            AND t.transaction.processingStatus NOT IN ('PENDING','INVALID')
+            """;
+
+    @Autowired
+    private TransactionBulkWriter transactionBulkWriter;
+
+    @Autowired
+    private TransactionItemRepository transactionItemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    void seedLedger(@Autowired Flyway flyway) {
+        flyway.clean();
+        flyway.migrate();
+
+        insertBatch(jdbcTemplate, BATCH_ID, LocalDate.of(2023, 1, 1), LocalDate.of(2024, 12, 31));
+        storeAll(transactionTemplate, transactionBulkWriter, BATCH_ID, randomLedger(BATCH_ID, ACCOUNT_CODES, 42)
+                .transactions(300)
+                .entryDates(LocalDate.of(2023, 1, 1), 730)
+                .maxItemsPerTransaction(4)
+                .build());
+    }
+
+    @Test
+    void groupedSumsMatchItemByItemSums() {
+        List<Set<String>> accountSets = List.of(
+                Set.of("1000"),
+                Set.of("1000", "1100"),
+                Set.of("2000", "2100", "3000"),
+                Set.copyOf(ACCOUNT_CODES));
+        List<LocalDate[]> dateRanges = List.of(
+                new LocalDate[] { LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31) },
+                new LocalDate[] { LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31) },
+                new LocalDate[] { LocalDate.EPOCH, LocalDate.of(2023, 12, 31) });
+
+        for (LocalDate[] dateRange : dateRanges) {
+            List<AccountPairAmount> amounts = transactionItemRepository.sumAmountsByAccountCodeAndDateRange(ACCOUNT_CODES, dateRange[0], dateRange[1]);
+            List<AccountPairAmount> previewAmounts = transactionItemRepository.sumPreviewAmountsByAccountCodeAndDateRange(ACCOUNT_CODES, dateRange[0], dateRange[1]);
+
+            for (Set<String> accountCodes : accountSets) {
+                List<TransactionItemEntity> items = findItems(ITEMS_QUERY, accountCodes, dateRange[0], dateRange[1]);
+                List<TransactionItemEntity> previewItems = findItems(PREVIEW_ITEMS_QUERY, accountCodes, dateRange[0], dateRange[1]);
+
+                assertThat(AccountPairAmount.balance(amounts, accountCodes)).isEqualByComparingTo(itemByItemBalance(items, accountCodes));
+                assertThat(AccountPairAmount.balance(previewAmounts, accountCodes)).isEqualByComparingTo(itemByItemBalance(previewItems, accountCodes));
+            }
+        }
+
+        assertThat(AccountPairAmount.balance(transactionItemRepository.sumAmountsByAccountCodeAndDateRange(ACCOUNT_CODES, LocalDate.EPOCH, LocalDate.of(2024, 12, 31)), Set.of("1000")))
+                .isNotZero();
+    }
+
+    private List<TransactionItemEntity> findItems(String query, Set<String> accountCodes, LocalDate startDate, LocalDate endDate) {
+        return entityManager.createQuery(query, TransactionItemEntity.class)
+                .setParameter("customerCodes", accountCodes)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .getResultList();
+    }
+
+    // the summation report fields used before the grouped query
+    private static BigDecimal itemByItemBalance(List<TransactionItemEntity> items, Set<String> accountCodes) {
+        BigDecimal balance = BigDecimal.ZERO;
+        for (TransactionItemEntity item : items) {
+            if (item.getStatus() != TxItemValidationStatus.OK) {
+                continue;
+            }
+            BigDecimal signedAmount = item.getOperationType() == OperationType.DEBIT ? item.getAmountLcy() : item.getAmountLcy().negate();
+            if (accountCodes.contains(item.getAccountDebit().map(Account::getCode).orElse(""))) {
+                balance = balance.add(signedAmount);
+            }
+            if (accountCodes.contains(item.getAccountCredit().map(Account::getCode).orElse(""))) {
+                balance = balance.subtract(signedAmount);
+            }
+        }
+
+        return balance;
+    }
+
+}
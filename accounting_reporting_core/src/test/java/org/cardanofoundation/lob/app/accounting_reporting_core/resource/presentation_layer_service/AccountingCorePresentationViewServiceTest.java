@@ -16,6 +16,7 @@ import static org.mockito.Mockito.when;
 import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -26,6 +27,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import jakarta.persistence.EntityManager;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -33,9 +37,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.JpaSort;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.junit.jupiter.api.Assertions;
@@ -105,6 +111,10 @@ class AccountingCorePresentationViewServiceTest {
     private CostCenterRepository costCenterRepository;
     @Mock
     private ProjectRepository projectRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Spy
+    private FilterOptionsCache filterOptionsCache = new FilterOptionsCache(Clock.systemUTC(), new SimpleMeterRegistry());
 
     @InjectMocks
     private AccountingCorePresentationViewService accountingCorePresentationViewService;
@@ -244,7 +254,7 @@ class AccountingCorePresentationViewServiceTest {
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 
 
-        when(accountingCoreTransactionRepository.findAllByBatchId(null, null, Pageable.unpaged())).thenReturn(Page.empty());
+        when(accountingCoreTransactionRepository.findAllByBatchIdAfterId(null, null, "", Limit.of(500))).thenReturn(List.of());
         accountingCorePresentationViewService.downloadCsvTransactions("org123", null, null, null,outputStream);
 
         String csv = outputStream.toString(StandardCharsets.UTF_8);
@@ -274,7 +284,7 @@ class AccountingCorePresentationViewServiceTest {
         when(itemEntity.getProject()).thenReturn(Optional.empty());
         when(itemEntity.getDocument()).thenReturn(Optional.empty());
 
-        when(accountingCoreTransactionRepository.findAllByBatchId(null, null, Pageable.unpaged())).thenReturn(new PageImpl<>(List.of(transactionEntity)));
+        when(accountingCoreTransactionRepository.findAllByBatchIdAfterId(null, null, "", Limit.of(500))).thenReturn(List.of(transactionEntity));
 
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         accountingCorePresentationViewService.downloadCsvTransactions("org123", null, null, null,outputStream);
@@ -320,10 +330,10 @@ class AccountingCorePresentationViewServiceTest {
         when(itemEntity.getCostCenter()).thenReturn(Optional.empty());
         when(itemEntity.getDocument()).thenReturn(Optional.empty());
 
-        when(projectRepository.findById(new org.cardanofoundation.lob.app.organisation.domain.entity.Project.Id("ORG01", "PROJ01")))
-                .thenReturn(Optional.of(orgProject));
-        when(accountingCoreTransactionRepository.findAllByBatchId(null, null, Pageable.unpaged()))
-                .thenReturn(new PageImpl<>(List.of(transactionEntity)));
+        when(projectRepository.findAllByOrganisationId("ORG01", null, null, null, null, Pageable.unpaged()))
+                .thenReturn(new PageImpl<>(List.of(orgProject)));
+        when(accountingCoreTransactionRepository.findAllByBatchIdAfterId(null, null, "", Limit.of(500)))
+                .thenReturn(List.of(transactionEntity));
 
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         accountingCorePresentationViewService.downloadCsvTransactions("ORG01", null, null, null, outputStream);
@@ -370,10 +380,10 @@ class AccountingCorePresentationViewServiceTest {
         when(itemEntity.getCostCenter()).thenReturn(Optional.of(accountingCostCenter));
         when(itemEntity.getDocument()).thenReturn(Optional.empty());
 
-        when(costCenterRepository.findById(new org.cardanofoundation.lob.app.organisation.domain.entity.CostCenter.Id("ORG01", "CC01")))
-                .thenReturn(Optional.of(orgCostCenter));
-        when(accountingCoreTransactionRepository.findAllByBatchId(null, null, Pageable.unpaged()))
-                .thenReturn(new PageImpl<>(List.of(transactionEntity)));
+        when(costCenterRepository.findAllByOrganisationId("ORG01", null, null, null, null, Pageable.unpaged()))
+                .thenReturn(new PageImpl<>(List.of(orgCostCenter)));
+        when(accountingCoreTransactionRepository.findAllByBatchIdAfterId(null, null, "", Limit.of(500)))
+                .thenReturn(List.of(transactionEntity));
 
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         accountingCorePresentationViewService.downloadCsvTransactions("ORG01", null, null, null, outputStream);
@@ -420,10 +430,10 @@ class AccountingCorePresentationViewServiceTest {
         when(itemEntity.getCostCenter()).thenReturn(Optional.empty());
         when(itemEntity.getDocument()).thenReturn(Optional.empty());
 
-        when(projectRepository.findById(new org.cardanofoundation.lob.app.organisation.domain.entity.Project.Id("ORG01", "PROJ02")))
-                .thenReturn(Optional.of(orgProject));
-        when(accountingCoreTransactionRepository.findAllByBatchId(null, null, Pageable.unpaged()))
-                .thenReturn(new PageImpl<>(List.of(transactionEntity)));
+        when(projectRepository.findAllByOrganisationId("ORG01", null, null, null, null, Pageable.unpaged()))
+                .thenReturn(new PageImpl<>(List.of(orgProject)));
+        when(accountingCoreTransactionRepository.findAllByBatchIdAfterId(null, null, "", Limit.of(500)))
+                .thenReturn(List.of(transactionEntity));
 
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         accountingCorePresentationViewService.downloadCsvTransactions("ORG01", null, null, null, outputStream);
@@ -471,8 +481,8 @@ class AccountingCorePresentationViewServiceTest {
         when(itemEntity.getProject()).thenReturn(Optional.empty());
         when(itemEntity.getDocument()).thenReturn(Optional.empty());
 
-        when(accountingCoreTransactionRepository.findAllByBatchId(null, null, Pageable.unpaged()))
-                .thenReturn(new PageImpl<>(List.of(transactionEntity)));
+        when(accountingCoreTransactionRepository.findAllByBatchIdAfterId(null, null, "", Limit.of(500)))
+                .thenReturn(List.of(transactionEntity));
 
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         accountingCorePresentationViewService.downloadCsvTransactions("org123", null, null, null, outputStream);
@@ -503,8 +513,8 @@ class AccountingCorePresentationViewServiceTest {
         when(itemEntity.getProject()).thenReturn(Optional.empty());
         when(itemEntity.getDocument()).thenReturn(Optional.empty());
 
-        when(accountingCoreTransactionRepository.findAllByBatchId(null, null, Pageable.unpaged()))
-                .thenReturn(new PageImpl<>(List.of(transactionEntity)));
+        when(accountingCoreTransactionRepository.findAllByBatchIdAfterId(null, null, "", Limit.of(500)))
+                .thenReturn(List.of(transactionEntity));
 
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         accountingCorePresentationViewService.downloadCsvTransactions("org123", null, null, null, outputStream);
@@ -0,0 +1,215 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.resource.presentation_layer_service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import jakarta.persistence.EntityManager;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.OperationType;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.TransactionType;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.CostCenter;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.Organisation;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionEntity;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionItemEntity;
+import org.cardanofoundation.lob.app.accounting_reporting_core.repository.AccountingCoreTransactionRepository;
+import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionBatchRepositoryGateway;
+import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionItemExtractionRepository;
+import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionItemRepository;
+import org.cardanofoundation.lob.app.organisation.repository.CostCenterRepository;
+import org.cardanofoundation.lob.app.organisation.repository.ProjectRepository;
+
+/**
+ * Exports one million synthetic transaction items through both CSV downloads. The tests run in the memoryTest task
+ * with a fixed small heap, an export holding the whole result set in memory fails there with an OutOfMemoryError.
+ */
+@Tag("memory")
+@ExtendWith(MockitoExtension.class)
+class CsvExportMemoryTest {
+
+    private static final String ORGANISATION_ID = "ORG01";
+    private static final int ITEMS = 1_000_000;
+    private static final int ITEMS_PER_TRANSACTION = 2;
+
+    @Mock
+    private AccountingCoreTransactionRepository accountingCoreTransactionRepository;
+    @Mock
+    private TransactionBatchRepositoryGateway transactionBatchRepositoryGateway;
+    @Mock
+    private TransactionItemExtractionRepository transactionItemExtractionRepository;
+    @Mock
+    private TransactionItemRepository transactionItemRepository;
+    @Mock
+    private CostCenterRepository costCenterRepository;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private AccountingCorePresentationViewService accountingCorePresentationViewService;
+
+    @InjectMocks
+    private ExtractionItemService extractionItemService;
+
+    @Test
+    void downloadCsvTransactions_streamsOneMillionItems() {
+        stubOrganisationUnits();
+        when(accountingCoreTransactionRepository.findAllByBatchIdAfterId(isNull(), isNull(), anyString(), any(Limit.class)))
+                .thenAnswer(invocation -> transactionsPage(invocation.getArgument(2), invocation.<Limit>getArgument(3).max()));
+
+        LineCountingOutputStream outputStream = new LineCountingOutputStream();
+        accountingCorePresentationViewService.downloadCsvTransactions(ORGANISATION_ID, null, null, null, outputStream);
+
+        assertThat(outputStream.lines).isEqualTo(ITEMS + 1);
+        assertThat(outputStream.parentCostCenterRows).isEqualTo(ITEMS);
+        verify(costCenterRepository, times(1)).findAllByOrganisationId(eq(ORGANISATION_ID), isNull(), isNull(), isNull(), isNull(), any(Pageable.class));
+    }
+
+    @Test
+    void downloadCsvTransactionItems_streamsOneMillionItems() {
+        stubOrganisationUnits();
+        when(transactionItemExtractionRepository.findByItemAccountAfterId(any(), any(), isNull(), isNull(), isNull(), isNull(), isNull(), anyString(), anyInt()))
+                .thenAnswer(invocation -> itemsPage(invocation.getArgument(7), invocation.getArgument(8)));
+
+        LineCountingOutputStream outputStream = new LineCountingOutputStream();
+        extractionItemService.downloadCsvTransactionItems(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), null, null, null, null, null, outputStream);
+
+        assertThat(outputStream.lines).isEqualTo(ITEMS + 1);
+        assertThat(outputStream.parentCostCenterRows).isEqualTo(ITEMS);
+        verify(costCenterRepository, times(1)).findAllByOrganisationId(eq(ORGANISATION_ID), isNull(), isNull(), isNull(), isNull(), any(Pageable.class));
+    }
+
+    private void stubOrganisationUnits() {
+        org.cardanofoundation.lob.app.organisation.domain.entity.CostCenter costCenter =
+                org.cardanofoundation.lob.app.organisation.domain.entity.CostCenter.builder()
+                        .id(new org.cardanofoundation.lob.app.organisation.domain.entity.CostCenter.Id(ORGANISATION_ID, "CC01"))
+                        .name("Cost Center One")
+                        .parentCustomerCode("PARENTCC")
+                        .build();
+        org.cardanofoundation.lob.app.organisation.domain.entity.CostCenter parentCostCenter =
+                org.cardanofoundation.lob.app.organisation.domain.entity.CostCenter.builder()
+                        .id(new org.cardanofoundation.lob.app.organisation.domain.entity.CostCenter.Id(ORGANISATION_ID, "PARENTCC"))
+                        .name("Parent Cost Center")
+                        .build();
+
+        when(costCenterRepository.findAllByOrganisationId(eq(ORGANISATION_ID), isNull(), isNull(), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(costCenter, parentCostCenter)));
+    }
+
+    private static List<TransactionEntity> transactionsPage(String afterId, int limit) {
+        int from = afterId.isEmpty() ? 0 : Integer.parseInt(afterId.substring(2)) + 1;
+        int to = Math.min(from + limit, ITEMS / ITEMS_PER_TRANSACTION);
+
+        List<TransactionEntity> page = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            TransactionEntity transaction = transaction(i);
+            Set<TransactionItemEntity> items = new LinkedHashSet<>();
+            for (int j = 0; j < ITEMS_PER_TRANSACTION; j++) {
+                items.add(item("%s-%d".formatted(transaction.getId(), j), transaction));
+            }
+            transaction.setItems(items);
+            page.add(transaction);
+        }
+
+        return page;
+    }
+
+    private static List<TransactionItemEntity> itemsPage(String afterId, int limit) {
+        int from = afterId.isEmpty() ? 0 : Integer.parseInt(afterId.substring(2)) + 1;
+        int to = Math.min(from + limit, ITEMS);
+
+        TransactionEntity transaction = transaction(from);
+        List<TransactionItemEntity> page = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            page.add(item("TI%09d".formatted(i), transaction));
+        }
+
+        return page;
+    }
+
+    private static TransactionEntity transaction(int number) {
+        TransactionEntity transaction = new TransactionEntity();
+        transaction.setId("TX%09d".formatted(number));
+        transaction.setInternalTransactionNumber("JE-%d".formatted(number));
+        transaction.setOrganisation(Organisation.builder().id(ORGANISATION_ID).build());
+        transaction.setTransactionType(TransactionType.Journal);
+        transaction.setEntryDate(LocalDate.of(2025, 1, 1).plusDays(number % 365));
+        transaction.setExtractorType("NETSUITE");
+
+        return transaction;
+    }
+
+    private static TransactionItemEntity item(String id, TransactionEntity transaction) {
+        TransactionItemEntity item = new TransactionItemEntity();
+        item.setId(id);
+        item.setTransaction(transaction);
+        item.setOperationType(OperationType.DEBIT);
+        item.setFxRate(BigDecimal.ONE);
+        item.setAmountLcy(BigDecimal.valueOf(100));
+        item.setAmountFcy(BigDecimal.valueOf(100));
+        item.setCostCenter(Optional.of(CostCenter.builder().customerCode("CC01").build()));
+
+        return item;
+    }
+
+    /**
+     * Counts written CSV lines and the ones carrying the parent cost center instead of keeping the exported bytes.
+     */
+    private static class LineCountingOutputStream extends OutputStream {
+
+        private static final byte[] PARENT_COST_CENTER = "PARENTCC".getBytes();
+
+        private int lines;
+        private int parentCostCenterRows;
+        private int matched;
+        private boolean lineMatched;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+                if (lineMatched) {
+                    parentCostCenterRows++;
+                }
+                lineMatched = false;
+                matched = 0;
+                return;
+            }
+            matched = b == PARENT_COST_CENTER[matched] ? matched + 1 : (b == PARENT_COST_CENTER[0] ? 1 : 0);
+            if (matched == PARENT_COST_CENTER.length) {
+                lineMatched = true;
+                matched = 0;
+            }
+        }
+
+    }
+
+}
@@ -11,6 +11,9 @@ import java.util.Set;
 
 import lombok.val;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -30,7 +33,8 @@ import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.Tra
 import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionItemExtractionRepository;
 import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionItemRepository;
 import org.cardanofoundation.lob.app.accounting_reporting_core.resource.views.ExtractionTransactionView;
-import org.cardanofoundation.lob.app.organisation.OrganisationPublicApi;
+import org.cardanofoundation.lob.app.organisation.repository.CostCenterRepository;
+import org.cardanofoundation.lob.app.organisation.repository.ProjectRepository;
 
 @ExtendWith(MockitoExtension.class)
 class ExtractionItemServiceTest {
@@ -41,7 +45,9 @@ class ExtractionItemServiceTest {
     private TransactionItemRepository transactionItemRepository;
 
     @Mock
-    private OrganisationPublicApi organisationPublicApi;
+    private CostCenterRepository costCenterRepository;
+    @Mock
+    private ProjectRepository projectRepository;
 
     @InjectMocks
     private ExtractionItemService extractionItemService;
@@ -72,8 +78,7 @@ class ExtractionItemServiceTest {
         item1.setTransaction(tx);
 
         Mockito.when(transactionItemExtractionRepository.findByItemAccount(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(List.of(item1));
-        Mockito.when(organisationPublicApi.findProject(Mockito.any(), Mockito.any())).thenReturn(Optional.empty());
-        Mockito.when(organisationPublicApi.findCostCenter(Mockito.any(), Mockito.any())).thenReturn(Optional.empty());
+        Mockito.when(costCenterRepository.findAllByOrganisationId("orgId1", null, null, null, null, Pageable.unpaged())).thenReturn(Page.empty());
         ExtractionTransactionView result = extractionItemService.findTransactionItems(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
         assertInstanceOf(ExtractionTransactionView.class, result);
         assertEquals(1L, result.getTotal());
@@ -0,0 +1,195 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.resource.presentation_layer_service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.FilterOptions.COUNTER_PARTY;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.FilterOptions.COUNTER_PARTY_NAMES;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.FilterOptions.USERS;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.Counterparty;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.Document;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.Organisation;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.Transaction;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.TransactionItem;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.event.extraction.TransactionBatchChunkEvent;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.event.extraction.TransactionBatchCreatedEvent;
+import org.cardanofoundation.lob.app.accounting_reporting_core.resource.response.FilteringOptionsListResponse;
+import org.cardanofoundation.lob.app.support.modulith.EventMetadata;
+
+@ExtendWith(MockitoExtension.class)
+class FilterOptionsCacheTest {
+
+    private static final String ORGANISATION_ID = "org123";
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    @Mock
+    private Clock clock;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private FilterOptionsCache filterOptionsCache;
+
+    @BeforeEach
+    void setUp() {
+        filterOptionsCache = new FilterOptionsCache(clock, meterRegistry);
+    }
+
+    @Test
+    void secondLookupIsAnsweredFromTheCache() {
+        when(clock.instant()).thenReturn(NOW);
+        CountingLoader loader = new CountingLoader(List.of(FilterOptionsCache.named("user1")));
+
+        assertThat(filterOptionsCache.get(ORGANISATION_ID, USERS, loader)).extracting(FilteringOptionsListResponse::getName).containsExactly("user1");
+        assertThat(filterOptionsCache.get(ORGANISATION_ID, USERS, loader)).extracting(FilteringOptionsListResponse::getName).containsExactly("user1");
+
+        assertThat(loader.calls.get()).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void ingestedCounterpartyIsVisibleWithoutReload() {
+        when(clock.instant()).thenReturn(NOW);
+        CountingLoader counterparties = new CountingLoader(List.of(FilterOptionsCache.counterparty("C1", "Existing")));
+        CountingLoader counterpartyNames = new CountingLoader(List.of(FilterOptionsCache.named("Existing")));
+        filterOptionsCache.get(ORGANISATION_ID, COUNTER_PARTY, counterparties);
+        filterOptionsCache.get(ORGANISATION_ID, COUNTER_PARTY_NAMES, counterpartyNames);
+
+        filterOptionsCache.handleTransactionBatchChunkEvent(chunk(ORGANISATION_ID, "C2", "New Vendor"));
+
+        assertThat(filterOptionsCache.get(ORGANISATION_ID, COUNTER_PARTY, counterparties))
+                .extracting(FilteringOptionsListResponse::getCustomerCode)
+                .containsExactly("C1", "C2");
+        assertThat(filterOptionsCache.get(ORGANISATION_ID, COUNTER_PARTY_NAMES, counterpartyNames))
+                .extracting(FilteringOptionsListResponse::getName)
+                .containsExactly("Existing", "New Vendor");
+        assertThat(counterparties.calls.get()).isEqualTo(1);
+        assertThat(counterpartyNames.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void chunkOfAnotherOrganisationIsIgnored() {
+        when(clock.instant()).thenReturn(NOW);
+        CountingLoader counterparties = new CountingLoader(List.of(FilterOptionsCache.counterparty("C1", "Existing")));
+        filterOptionsCache.get(ORGANISATION_ID, COUNTER_PARTY, counterparties);
+
+        filterOptionsCache.handleTransactionBatchChunkEvent(chunk("otherOrg", "C2", "New Vendor"));
+
+        assertThat(filterOptionsCache.get(ORGANISATION_ID, COUNTER_PARTY, counterparties))
+                .extracting(FilteringOptionsListResponse::getCustomerCode)
+                .containsExactly("C1");
+    }
+
+    @Test
+    void createdBatchAddsItsUser() {
+        when(clock.instant()).thenReturn(NOW);
+        CountingLoader loader = new CountingLoader(List.of(FilterOptionsCache.named("user1")));
+        filterOptionsCache.get(ORGANISATION_ID, USERS, loader);
+
+        filterOptionsCache.handleTransactionBatchCreatedEvent(TransactionBatchCreatedEvent.builder()
+                .metadata(EventMetadata.create(TransactionBatchCreatedEvent.VERSION, "user2"))
+                .batchId("batchId")
+                .organisationId(ORGANISATION_ID)
+                .build());
+
+        assertThat(filterOptionsCache.get(ORGANISATION_ID, USERS, loader))
+                .extracting(FilteringOptionsListResponse::getName)
+                .containsExactly("user1", "user2");
+        assertThat(loader.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void patchedValuesSurviveReloadRacingTheIngestion() {
+        when(clock.instant()).thenReturn(NOW, NOW.plus(Duration.ofHours(2)));
+        CountingLoader loader = new CountingLoader(List.of(FilterOptionsCache.counterparty("C1", "Existing")));
+        filterOptionsCache.get(ORGANISATION_ID, COUNTER_PARTY, loader);
+
+        // the chunk has been announced but its transactions are not stored yet when the expired option reloads
+        filterOptionsCache.handleTransactionBatchChunkEvent(chunk(ORGANISATION_ID, "C2", "New Vendor"));
+
+        assertThat(filterOptionsCache.get(ORGANISATION_ID, COUNTER_PARTY, loader))
+                .extracting(FilteringOptionsListResponse::getCustomerCode)
+                .containsExactly("C1", "C2");
+        assertThat(loader.calls.get()).isEqualTo(2);
+        assertThat(count("miss")).isEqualTo(2);
+    }
+
+    @Test
+    void disabledCacheAlwaysLoads() {
+        filterOptionsCache.setEnabled(false);
+        CountingLoader loader = new CountingLoader(List.of(FilterOptionsCache.named("user1")));
+
+        filterOptionsCache.get(ORGANISATION_ID, USERS, loader);
+        filterOptionsCache.get(ORGANISATION_ID, USERS, loader);
+
+        assertThat(loader.calls.get()).isEqualTo(2);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("lob.filter_options.cache.requests").tag("result", result).counter().count();
+    }
+
+    private static TransactionBatchChunkEvent chunk(String organisationId, String customerCode, String name) {
+        Transaction transaction = Transaction.builder()
+                .id("tx1")
+                .internalTransactionNumber("JE-1")
+                .organisation(Organisation.builder().id(organisationId).build())
+                .items(Set.of(TransactionItem.builder()
+                        .id("item1")
+                        .amountFcy(BigDecimal.TEN)
+                        .amountLcy(BigDecimal.TEN)
+                        .document(Optional.of(Document.builder()
+                                .number("DOC-1")
+                                .counterparty(Optional.of(Counterparty.builder()
+                                        .customerCode(customerCode)
+                                        .name(Optional.of(name))
+                                        .build()))
+                                .build()))
+                        .build()))
+                .build();
+
+        return TransactionBatchChunkEvent.builder()
+                .metadata(EventMetadata.create(TransactionBatchChunkEvent.VERSION))
+                .batchId("batchId")
+                .organisationId(organisationId)
+                .transactions(Set.of(transaction))
+                .build();
+    }
+
+    private static class CountingLoader implements Supplier<List<FilteringOptionsListResponse>> {
+
+        private final List<FilteringOptionsListResponse> values;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        CountingLoader(List<FilteringOptionsListResponse> values) {
+            this.values = values;
+        }
+
+        @Override
+        public List<FilteringOptionsListResponse> get() {
+            calls.incrementAndGet();
+
+            return values;
+        }
+
+    }
+
+}
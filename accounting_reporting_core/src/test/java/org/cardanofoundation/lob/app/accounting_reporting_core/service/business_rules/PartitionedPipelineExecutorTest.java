@@ -0,0 +1,106 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.service.business_rules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.Source.LOB;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.TransactionViolationCode.COST_CENTER_DATA_NOT_FOUND;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.TransactionViolationCode.PROJECT_DATA_NOT_FOUND;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.Violation.Severity.ERROR;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.OrganisationTransactions;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.TransactionViolationCode;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionEntity;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionViolation;
+import org.cardanofoundation.lob.app.accounting_reporting_core.service.business_rules.items.PipelineTaskItem;
+
+class PartitionedPipelineExecutorTest {
+
+    private final PartitionedPipelineExecutor executor = new PartitionedPipelineExecutor(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void shouldVisitEveryTransactionExactlyOnce() {
+        Set<TransactionEntity> transactions = transactions(1_000);
+        Map<String, Integer> visits = new ConcurrentHashMap<>();
+
+        executor.forEach(transactions, tx -> visits.merge(tx.getId(), 1, Integer::sum));
+
+        assertThat(visits).hasSize(1_000);
+        assertThat(visits.values()).containsOnly(1);
+    }
+
+    @Test
+    void shouldRunSmallSetsOnCallingThread() {
+        Thread caller = Thread.currentThread();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        executor.forEach(transactions(10), tx -> threads.add(Thread.currentThread()));
+
+        assertThat(threads).containsExactly(caller);
+    }
+
+    @Test
+    void shouldPropagateTaskItemFailure() {
+        Set<TransactionEntity> transactions = transactions(1_000);
+
+        assertThatThrownBy(() -> executor.forEach(transactions, tx -> {
+            if (tx.getId().equals("tx500")) {
+                throw new IllegalArgumentException("boom");
+            }
+        })).isInstanceOf(IllegalArgumentException.class).hasMessage("boom");
+    }
+
+    @Test
+    void shouldKeepViolationOrderingOfSequentialMode() {
+        List<PipelineTaskItem> items = List.of(
+                tx -> tx.addViolation(violation(tx, COST_CENTER_DATA_NOT_FOUND)),
+                tx -> tx.addViolation(violation(tx, PROJECT_DATA_NOT_FOUND))
+        );
+
+        Set<TransactionEntity> sequentialTxs = transactions(1_000);
+        Set<TransactionEntity> parallelTxs = transactions(1_000);
+
+        new DefaultPipelineTask(items).run(new OrganisationTransactions("org1", sequentialTxs));
+        new DefaultPipelineTask(items, executor).run(new OrganisationTransactions("org1", parallelTxs));
+
+        assertThat(parallelTxs).extracting(tx -> tx.getViolations().stream().map(TransactionViolation::getCode).toList())
+                .containsExactlyElementsOf(sequentialTxs.stream().map(tx -> tx.getViolations().stream().map(TransactionViolation::getCode).toList()).toList());
+    }
+
+    private static TransactionViolation violation(TransactionEntity tx,
+                                                  TransactionViolationCode code) {
+        return TransactionViolation.builder()
+                .code(code)
+                .txItemId(tx.getId())
+                .severity(ERROR)
+                .source(LOB)
+                .processorModule("test")
+                .bag(Map.of())
+                .build();
+    }
+
+    private static Set<TransactionEntity> transactions(int count) {
+        Set<TransactionEntity> transactions = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            TransactionEntity tx = new TransactionEntity();
+            tx.setId("tx" + i);
+            transactions.add(tx);
+        }
+
+        return transactions;
+    }
+
+}
@@ -0,0 +1,86 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.service.business_rules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.cardanofoundation.lob.app.organisation.OrganisationPublicApiIF;
+import org.cardanofoundation.lob.app.organisation.domain.entity.AccountEvent;
+import org.cardanofoundation.lob.app.organisation.domain.entity.CostCenter;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataSnapshotOrganisationPublicApiTest {
+
+    private static final String ORG_ID = "org1";
+
+    @Mock
+    private OrganisationPublicApiIF organisationPublicApi;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ReferenceDataSnapshotOrganisationPublicApi referenceDataApi;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        referenceDataApi = new ReferenceDataSnapshotOrganisationPublicApi(organisationPublicApi, meterRegistry);
+    }
+
+    @Test
+    void shouldDelegateWhenNoSnapshotIsOpen() {
+        CostCenter costCenter = CostCenter.builder().id(new CostCenter.Id(ORG_ID, "CC1")).name("Cost Center 1").build();
+        when(organisationPublicApi.findCostCenter(ORG_ID, "CC1")).thenReturn(Optional.of(costCenter));
+
+        assertThat(referenceDataApi.findCostCenter(ORG_ID, "CC1")).contains(costCenter);
+        verify(organisationPublicApi).findCostCenter(ORG_ID, "CC1");
+    }
+
+    @Test
+    void shouldServeLookupsFromSnapshotAndRecordAvoidedQueries() {
+        CostCenter costCenter = CostCenter.builder().id(new CostCenter.Id(ORG_ID, "CC1")).name("Cost Center 1").build();
+        AccountEvent accountEvent = new AccountEvent();
+        accountEvent.setId(new AccountEvent.Id(ORG_ID, "11", "22"));
+        accountEvent.setName("Event");
+
+        when(organisationPublicApi.findByOrganisationId(ORG_ID)).thenReturn(Optional.empty());
+        when(organisationPublicApi.findAllCurrencies(ORG_ID)).thenReturn(Set.of());
+        when(organisationPublicApi.findAllActiveVats(ORG_ID)).thenReturn(List.of());
+        when(organisationPublicApi.findAllActiveCostCenters(ORG_ID)).thenReturn(List.of(costCenter));
+        when(organisationPublicApi.findAllActiveProjects(ORG_ID)).thenReturn(List.of());
+        when(organisationPublicApi.findAllActiveChartOfAccounts(ORG_ID)).thenReturn(Set.of());
+        when(organisationPublicApi.findAllActiveEventCodes(ORG_ID)).thenReturn(Set.of(accountEvent));
+
+        OrganisationReferenceDataSnapshot snapshot = referenceDataApi.openSnapshot(ORG_ID);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(referenceDataApi.findCostCenter(ORG_ID, "CC1")).contains(costCenter);
+            assertThat(referenceDataApi.findCostCenter(ORG_ID, "CC2")).isEmpty();
+        }
+        assertThat(referenceDataApi.findEventCode(ORG_ID, "11", "22")).contains(accountEvent);
+        assertThat(referenceDataApi.findEventCode(ORG_ID, "22", "11")).isEmpty();
+
+        referenceDataApi.closeSnapshot(snapshot);
+
+        verify(organisationPublicApi, never()).findCostCenter(anyString(), anyString());
+        verify(organisationPublicApi, never()).findEventCode(anyString(), anyString(), anyString());
+
+        double avoided = meterRegistry.get("lob.business_rules.reference_data.queries_avoided").summary().totalAmount();
+        assertThat(avoided).isEqualTo(22 - OrganisationReferenceDataSnapshot.BULK_QUERIES);
+
+        // snapshot closed, we are back to single lookups
+        referenceDataApi.findCostCenter(ORG_ID, "CC1");
+        verify(organisationPublicApi).findCostCenter(ORG_ID, "CC1");
+    }
+
+}
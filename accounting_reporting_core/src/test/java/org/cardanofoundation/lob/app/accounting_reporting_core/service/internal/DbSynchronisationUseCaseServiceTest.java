@@ -60,6 +60,9 @@ class DbSynchronisationUseCaseServiceTest {
     @Mock
     private TransactionBatchService transactionBatchService;
 
+    @Mock
+    private AccountPeriodBalanceService accountPeriodBalanceService;
+
     @InjectMocks
     private DbSynchronisationUseCaseService service;
 
@@ -79,7 +82,7 @@ class DbSynchronisationUseCaseServiceTest {
         val batchId = "batch1";
         val organisationTransactions = new OrganisationTransactions("org1", Set.of());
 
-        service.execute(batchId, organisationTransactions, 0, new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
+        service.execute(batchId, organisationTransactions, 0, true, new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
         verify(transactionBatchService).updateTransactionBatchStatusAndStats(eq(batchId), eq(0), eq(Optional.empty()));
         verifyNoInteractions(accountingCoreTransactionRepository);
         verifyNoInteractions(transactionItemRepository);
@@ -102,7 +105,7 @@ class DbSynchronisationUseCaseServiceTest {
         val transactions = new OrganisationTransactions("org1", txs);
 
         when(accountingCoreTransactionRepository.save(any(TransactionEntity.class))).thenAnswer((Answer<TransactionEntity>) invocation -> (TransactionEntity) invocation.getArgument(0));
-        service.execute(batchId, transactions, 1, new ProcessorFlags(ProcessorFlags.Trigger.RECONCILATION));
+        service.execute(batchId, transactions, 1, true, new ProcessorFlags(ProcessorFlags.Trigger.RECONCILATION));
 
         verify(accountingCoreTransactionRepository).save(eq(tx1));
         verify(transactionBatchAssocRepository).saveAll(any(Set.class));
@@ -135,7 +138,7 @@ class DbSynchronisationUseCaseServiceTest {
 
         when(accountingCoreTransactionRepository.findAllById(eq(Set.of(txId)))).thenReturn(List.of(tx1));
 
-        service.execute(batchId, transactions, 1, new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
+        service.execute(batchId, transactions, 1, true, new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
 
         verify(accountingCoreTransactionRepository, never()).save(any());
         verify(transactionItemRepository, never()).save(any());
@@ -159,6 +162,8 @@ class DbSynchronisationUseCaseServiceTest {
         tx1.setId(tx1Id);
         tx1.setItems(items);
         tx1.setAccountingPeriod(YearMonth.of(2021, 1));
+        tx1.setOrganisation(Organisation.builder().id(orgId).build());
+        txItem1.setTransaction(tx1);
 
         val txs = Set.of(tx1);
         val transactions = new OrganisationTransactions(orgId, txs);
@@ -166,12 +171,75 @@ class DbSynchronisationUseCaseServiceTest {
         when(accountingCoreTransactionRepository.findAllById(any())).thenReturn(List.of());
         when(accountingCoreTransactionRepository.save(any(TransactionEntity.class))).thenAnswer((Answer<TransactionEntity>) invocation -> (TransactionEntity) invocation.getArgument(0));
 
-        service.execute(batchId, transactions, txs.size(), new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
+        service.execute(batchId, transactions, txs.size(), true, new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
 
         verify(accountingCoreTransactionRepository).save(eq(tx1));
         verify(transactionItemRepository).saveAll(eq(items));
     }
 
+    @Test
+    void shouldKeepBatchProcessingWhileExtractionIsRunning() {
+        val batchId = "batch1";
+        val tx1 = new TransactionEntity();
+        tx1.setId("tx1");
+        tx1.setAccountingPeriod(YearMonth.of(2021, 1));
+        tx1.setOrganisation(Organisation.builder().id("org1").build());
+
+        when(accountingCoreTransactionRepository.findAllById(any())).thenReturn(List.of());
+        when(accountingCoreTransactionRepository.save(any(TransactionEntity.class))).thenAnswer((Answer<TransactionEntity>) invocation -> (TransactionEntity) invocation.getArgument(0));
+
+        service.execute(batchId, new OrganisationTransactions("org1", Set.of(tx1)), 100, false, new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
+
+        verify(transactionBatchService).updateTransactionBatchStatsWhileExtracting(batchId, 100);
+        verify(transactionBatchService, never()).updateTransactionBatchStatusAndStats(eq(batchId), any(), any());
+    }
+
+    @Test
+    void shouldStoreVersionOfNewTransactionsAndSkipUnchangedReimport() {
+        val batchId = "batch1";
+        val txId = "tx-versioned";
+        val org = Organisation.builder().id("org1").build();
+
+        val imported = versionedTransaction(txId, org);
+        when(accountingCoreTransactionRepository.findAllById(any())).thenReturn(List.of());
+        when(accountingCoreTransactionRepository.save(any(TransactionEntity.class))).thenAnswer((Answer<TransactionEntity>) invocation -> (TransactionEntity) invocation.getArgument(0));
+
+        service.execute(batchId, new OrganisationTransactions("org1", Set.of(imported)), 1, true, new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
+
+        val savedTxCaptor = ArgumentCaptor.forClass(TransactionEntity.class);
+        verify(accountingCoreTransactionRepository).save(savedTxCaptor.capture());
+        val storedVersion = savedTxCaptor.getValue().getErpSourceVersion();
+        assertThat(storedVersion).isEqualTo(ERPSourceTransactionVersionCalculator.compute(versionedTransaction(txId, org)));
+
+        // the same transaction imported again is recognised by its stored version, nothing is written
+        val stored = Mockito.spy(savedTxCaptor.getValue());
+        Mockito.clearInvocations(accountingCoreTransactionRepository);
+        when(accountingCoreTransactionRepository.findAllById(any())).thenReturn(List.of(stored));
+
+        service.execute(batchId, new OrganisationTransactions("org1", Set.of(versionedTransaction(txId, org))), 1, true, new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
+
+        verify(accountingCoreTransactionRepository, never()).save(any());
+        verify(stored, never()).setErpSourceVersion(any());
+        assertThat(stored.getErpSourceVersion()).isEqualTo(storedVersion);
+    }
+
+    private static TransactionEntity versionedTransaction(String txId, Organisation org) {
+        val txItem = new TransactionItemEntity();
+        txItem.setId(TransactionItem.id(txId, "0"));
+
+        val tx = TransactionEntity.builder()
+                .id(txId)
+                .internalTransactionNumber("txn-versioned")
+                .items(new LinkedHashSet<>(Set.of(txItem)))
+                .accountingPeriod(YearMonth.of(2023, 1))
+                .ledgerDispatchStatus(NOT_DISPATCHED)
+                .organisation(org)
+                .build();
+        txItem.setTransaction(tx);
+
+        return tx;
+    }
+
     @Test
     void shouldHandleMixedTransactions() {
         val tx1Id = "3112ec27094335dd858948b3086817d7e290586d235c529be21f03ba5d583503";
@@ -213,7 +281,7 @@ class DbSynchronisationUseCaseServiceTest {
 
         when(accountingCoreTransactionRepository.save(any(TransactionEntity.class))).thenAnswer((Answer<TransactionEntity>) invocation -> (TransactionEntity) invocation.getArgument(0));
 
-        service.execute(batchId, mixedTransactions, 2, new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
+        service.execute(batchId, mixedTransactions, 2, true, new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
 
         verify(accountingCoreTransactionRepository, never()).save(dispatchedTx);
         verify(accountingCoreTransactionRepository).save(notDispatchedTx);
@@ -237,7 +305,7 @@ class DbSynchronisationUseCaseServiceTest {
         val transactions = new OrganisationTransactions("org1", txs);
 
         when(accountingCoreTransactionRepository.save(any(TransactionEntity.class))).thenAnswer((Answer<TransactionEntity>) invocation -> (TransactionEntity) invocation.getArgument(0));
-        service.execute(batchId, transactions, 1, new ProcessorFlags(ProcessorFlags.Trigger.REPROCESSING));
+        service.execute(batchId, transactions, 1, true, new ProcessorFlags(ProcessorFlags.Trigger.REPROCESSING));
 
         verify(accountingCoreTransactionRepository).save(eq(tx1));
         verify(tx1, times(1)).clearAllItemsRejectionsSource(Source.LOB);
@@ -314,7 +382,7 @@ class DbSynchronisationUseCaseServiceTest {
         ReflectionTestUtils.setField(service, "rollbackEnabled", Optional.of(true));
 
         service.execute(batchId, new OrganisationTransactions(orgId, Set.of(txModified)), 1,
-                new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
+                true, new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
 
         ArgumentCaptor<TransactionEntity> savedTxCaptor = ArgumentCaptor.forClass(TransactionEntity.class);
         verify(accountingCoreTransactionRepository).save(savedTxCaptor.capture());
@@ -340,11 +408,13 @@ class DbSynchronisationUseCaseServiceTest {
         tx1.setLedgerDispatchApproved(true);
         tx1.setLedgerDispatchStatus(DISPATCHED);
 
+        when(tx1.getOrganisation()).thenReturn(Organisation.builder().id("org1").build());
+
         val txs = Set.of(tx1);
         val transactions = new OrganisationTransactions("org1", txs);
 
         when(accountingCoreTransactionRepository.save(any(TransactionEntity.class))).thenAnswer((Answer<TransactionEntity>) invocation -> (TransactionEntity) invocation.getArgument(0));
-        service.execute(batchId, transactions, 1, new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
+        service.execute(batchId, transactions, 1, true, new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
 
         verify(accountingCoreTransactionRepository).save(eq(tx1));
         verify(tx1, times(1)).clearAllItemsRejectionsSource(Source.ERP);
@@ -400,7 +470,7 @@ class DbSynchronisationUseCaseServiceTest {
 
         // When
         service.execute(batchId, new OrganisationTransactions(orgId, Set.of(incomingTx)), 1,
-                new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
+                true, new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
 
         // Then: the transaction should NOT be saved (it's dispatched) but a violation should be raised
         verify(accountingCoreTransactionRepository, never()).save(any());
@@ -464,7 +534,7 @@ class DbSynchronisationUseCaseServiceTest {
 
         // When
         service.execute(batchId, new OrganisationTransactions(orgId, Set.of(incomingTx)), 1,
-                new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
+                true, new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
 
         // Then: TxRollbackEvent should be published
         ArgumentCaptor<TxRollbackEvent> eventCaptor = ArgumentCaptor.forClass(TxRollbackEvent.class);
@@ -534,7 +604,7 @@ class DbSynchronisationUseCaseServiceTest {
 
         // When
         service.execute(batchId, new OrganisationTransactions(orgId, Set.of(incomingTx)), 1,
-                new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
+                true, new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
 
         // Then: Transaction should be saved but dispatch status should remain unchanged
         ArgumentCaptor<TransactionEntity> savedTxCaptor = ArgumentCaptor.forClass(TransactionEntity.class);
@@ -603,7 +673,7 @@ class DbSynchronisationUseCaseServiceTest {
 
         // When
         service.execute(batchId, new OrganisationTransactions(orgId, Set.of(incomingTx)), 1,
-                new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
+                true, new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
 
         // Then: Both new batch and existing batch should be updated
         verify(transactionBatchService).updateTransactionBatchStatusAndStats(eq(batchId), anyInt(), eq(Optional.empty()));
@@ -641,7 +711,7 @@ class DbSynchronisationUseCaseServiceTest {
         when(accountingCoreTransactionRepository.save(any(TransactionEntity.class)))
                 .thenAnswer((Answer<TransactionEntity>) invocation -> (TransactionEntity) invocation.getArgument(0));
 
-        service.execute(batchId, transactions, 1, new ProcessorFlags(ProcessorFlags.Trigger.RECONCILATION));
+        service.execute(batchId, transactions, 1, true, new ProcessorFlags(ProcessorFlags.Trigger.RECONCILATION));
 
         // Verify transaction is saved (RECONCILATION goes through processTransactionsForTheFirstTime)
         verify(accountingCoreTransactionRepository).save(eq(tx1));
@@ -700,12 +770,14 @@ class DbSynchronisationUseCaseServiceTest {
 
         // When
         service.execute(batchId, new OrganisationTransactions(orgId, Set.of(incomingTx)), 1,
-                new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
+                true, new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
 
         // Then: No rollback event should be published since isChanged is false
         verify(eventPublisher, never()).publishEvent(any(TxRollbackEvent.class));
         // Transaction should NOT be saved (isChanged=false, so it goes to alreadyStoredCount)
         verify(accountingCoreTransactionRepository, never()).save(any());
+        // the stored copy has no version, it is compared by a computed one without writing it to the entity
+        assertThat(existingTx.getErpSourceVersion()).isNull();
     }
 
     @Test
@@ -761,7 +833,7 @@ class DbSynchronisationUseCaseServiceTest {
 
         // When
         service.execute(batchId, new OrganisationTransactions(orgId, Set.of(incomingTx)), 1,
-                new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
+                true, new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
 
         // Then: Rollback event SHOULD be published since isChanged is true
         ArgumentCaptor<TxRollbackEvent> eventCaptor = ArgumentCaptor.forClass(TxRollbackEvent.class);
@@ -803,6 +875,8 @@ class DbSynchronisationUseCaseServiceTest {
                         .build())
                 .build();
 
+        txItem.setTransaction(tx);
+
         val existingAssoc = new TransactionBatchAssocEntity(
                 new TransactionBatchAssocEntity.Id(batchId, txId));
 
@@ -813,7 +887,7 @@ class DbSynchronisationUseCaseServiceTest {
 
         // When
         service.execute(batchId, new OrganisationTransactions(orgId, Set.of(tx)), 1,
-                new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
+                true, new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
 
         // Then: existing association should be reused
         verify(transactionBatchAssocRepository).findById(any());
@@ -881,7 +955,7 @@ class DbSynchronisationUseCaseServiceTest {
 
         // When
         service.execute(batchId, new OrganisationTransactions(orgId, Set.of(incomingTx)), 1,
-                new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
+                true, new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
 
         // Then: transaction IS saved (because existing has ERP violation → always "changed")
         verify(accountingCoreTransactionRepository).save(any(TransactionEntity.class));
@@ -944,7 +1018,7 @@ class DbSynchronisationUseCaseServiceTest {
 
         // When
         service.execute(batchId, new OrganisationTransactions(orgId, Set.of(incomingTx)), 1,
-                new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
+                true, new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
 
         // Then: ERP violations are cleared from the attached entity before re-import
         verify(existingTx).clearAllViolations(Source.ERP);
@@ -1006,7 +1080,7 @@ class DbSynchronisationUseCaseServiceTest {
 
         // When
         service.execute(batchId, new OrganisationTransactions(orgId, Set.of(incomingTx)), 1,
-                new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
+                true, new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
 
         // Then: isChanged=true (ERP violation forces re-check) but isDispatchMarked=true → NOT saved
         verify(accountingCoreTransactionRepository, never()).save(any(TransactionEntity.class));
@@ -1061,7 +1135,7 @@ class DbSynchronisationUseCaseServiceTest {
 
         // When
         service.execute(batchId, new OrganisationTransactions(orgId, Set.of(incomingTx)), 1,
-                new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
+                true, new ProcessorFlags(ProcessorFlags.Trigger.IMPORT));
 
         // Then: clearAllViolations(ERP) is always called when updating an existing TX, even without prior ERP violations
         verify(existingTx).clearAllViolations(Source.ERP);
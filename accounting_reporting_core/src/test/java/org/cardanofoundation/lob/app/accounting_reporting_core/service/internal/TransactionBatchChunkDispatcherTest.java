@@ -0,0 +1,133 @@
+package org.cardanofoundation.lob.app.accounting_reporting_core.service.internal;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.event.extraction.TransactionBatchChunkEvent;
+import org.cardanofoundation.lob.app.support.modulith.EventMetadata;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionBatchChunkDispatcherTest {
+
+    @Mock
+    private ERPIncomingDataProcessor erpIncomingDataProcessor;
+    @Mock
+    private TransactionConverter transactionConverter;
+    @Mock
+    private TransactionBatchService transactionBatchService;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<TransactionBatchChunkEvent.Status> processed = new CopyOnWriteArrayList<>();
+
+    private TransactionBatchChunkDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = dispatcher(2, 1);
+
+        when(transactionBatchService.findById("batchId")).thenReturn(Optional.empty());
+        when(transactionConverter.convertToDbDetached(any(), any())).thenReturn(Set.of());
+        doAnswer(invocation -> {
+            release.await(5, SECONDS);
+            processed.add(invocation.getArgument(3));
+            return null;
+        }).when(erpIncomingDataProcessor).continueIngestion(any(), any(), anyInt(), any(), any(), any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void shouldBlockPublisherWhileQueueIsFull() throws Exception {
+        dispatcher.dispatch(chunk(10, TransactionBatchChunkEvent.Status.STARTED));
+        dispatcher.dispatch(chunk(20, TransactionBatchChunkEvent.Status.PROCESSING));
+
+        CompletableFuture<Void> third = CompletableFuture.runAsync(() -> dispatcher.dispatch(chunk(30, TransactionBatchChunkEvent.Status.PROCESSING)));
+        SECONDS.sleep(1);
+        assertThat(third).isNotDone();
+
+        release.countDown();
+        third.get(5, SECONDS);
+        verify(erpIncomingDataProcessor, timeout(5_000).times(3)).continueIngestion(eq("orgId"), eq("batchId"), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    void shouldNotLowerTotalOfBatchWithChunksInFlight() {
+        // the last chunk of a streaming extraction overtakes an earlier one that only knew a partial total
+        dispatcher.dispatch(chunk(100, TransactionBatchChunkEvent.Status.STARTED));
+        dispatcher.dispatch(chunk(40, TransactionBatchChunkEvent.Status.PROCESSING));
+
+        release.countDown();
+        verify(erpIncomingDataProcessor, timeout(5_000).times(2)).continueIngestion(eq("orgId"), eq("batchId"), eq(100), any(), any(), any());
+    }
+
+    @Test
+    void shouldProcessFinishedChunkAfterEarlierChunksOfTheBatch() {
+        dispatcher.shutdown();
+        dispatcher = dispatcher(4, 3);
+
+        // streaming extraction, earlier chunks only carry the number of transactions published so far
+        dispatcher.dispatch(chunk(10, TransactionBatchChunkEvent.Status.STARTED));
+        dispatcher.dispatch(chunk(20, TransactionBatchChunkEvent.Status.PROCESSING));
+        dispatcher.dispatch(chunk(25, TransactionBatchChunkEvent.Status.FINISHED));
+
+        verify(erpIncomingDataProcessor, timeout(5_000)).continueIngestion(eq("orgId"), eq("batchId"), eq(10), eq(TransactionBatchChunkEvent.Status.STARTED), any(), any());
+        verify(erpIncomingDataProcessor, timeout(5_000)).continueIngestion(eq("orgId"), eq("batchId"), eq(20), eq(TransactionBatchChunkEvent.Status.PROCESSING), any(), any());
+        // a free worker is available, but the last chunk waits for the earlier ones
+        verify(erpIncomingDataProcessor, after(1_000).never()).continueIngestion(any(), any(), anyInt(), eq(TransactionBatchChunkEvent.Status.FINISHED), any(), any());
+
+        release.countDown();
+        verify(erpIncomingDataProcessor, timeout(5_000)).continueIngestion(eq("orgId"), eq("batchId"), eq(25), eq(TransactionBatchChunkEvent.Status.FINISHED), any(), any());
+        assertThat(processed).hasSize(3);
+        assertThat(processed.get(2)).isEqualTo(TransactionBatchChunkEvent.Status.FINISHED);
+    }
+
+    private TransactionBatchChunkDispatcher dispatcher(int capacity, int concurrency) {
+        TransactionBatchChunkDispatcher chunkDispatcher = new TransactionBatchChunkDispatcher(erpIncomingDataProcessor, transactionConverter, transactionBatchService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(chunkDispatcher, "capacity", capacity);
+        ReflectionTestUtils.setField(chunkDispatcher, "concurrency", concurrency);
+        chunkDispatcher.init();
+
+        return chunkDispatcher;
+    }
+
+    private static TransactionBatchChunkEvent chunk(int totalTransactionsCount, TransactionBatchChunkEvent.Status status) {
+        return TransactionBatchChunkEvent.builder()
+                .metadata(EventMetadata.create(TransactionBatchChunkEvent.VERSION))
+                .batchId("batchId")
+                .organisationId("orgId")
+                .totalTransactionsCount(totalTransactionsCount)
+                .status(status)
+                .build();
+    }
+
+}
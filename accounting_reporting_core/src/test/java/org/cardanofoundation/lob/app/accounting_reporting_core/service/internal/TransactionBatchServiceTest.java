@@ -1,6 +1,11 @@
 package org.cardanofoundation.lob.app.accounting_reporting_core.service.internal;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -11,6 +16,8 @@ import java.util.Set;
 
 import org.springframework.context.ApplicationEventPublisher;
 
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -24,10 +31,13 @@ import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.UserE
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.FilteringParameters;
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionBatchEntity;
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.event.extraction.TransactionBatchCreatedEvent;
+import org.cardanofoundation.lob.app.accounting_reporting_core.repository.BatchStatisticsViewProjection;
 import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionBatchAssocRepository;
 import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionBatchRepository;
 import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionBatchRepositoryGateway;
+import org.cardanofoundation.lob.app.accounting_reporting_core.resource.views.BatchStatisticsView;
 import org.cardanofoundation.lob.app.organisation.domain.SystemExtractionParameters;
+import org.cardanofoundation.lob.app.support.reactive.DebouncerManager;
 
 @ExtendWith(MockitoExtension.class)
 class TransactionBatchServiceTest {
@@ -42,6 +52,8 @@ class TransactionBatchServiceTest {
     private TransactionBatchAssocRepository transactionBatchAssocRepository;
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
+    @Mock
+    private DebouncerManager debouncerManager;
 
     @InjectMocks
     private TransactionBatchService transactionBatchService;
@@ -89,4 +101,68 @@ class TransactionBatchServiceTest {
         verifyNoMoreInteractions(transactionConverter);
     }
 
+    @Test
+    void reconcileBatchStatisticCountersInSync() {
+        when(transactionBatchRepository.getBatchStatisticViewForBatchId("batchId")).thenReturn(Optional.of(new BatchStatisticsView("batchId", 1, 2, 3, 4, 5, 15)));
+        when(transactionBatchRepository.getBatchStatisticCountersForBatchId("batchId")).thenReturn(Optional.of(counters(1, 2, 3, 4, 5, 15)));
+
+        assertThat(transactionBatchService.reconcileBatchStatisticCounters("batchId")).isFalse();
+
+        verify(transactionBatchRepository, never()).rebuildBatchStatisticCounters("batchId");
+    }
+
+    @Test
+    void reconcileBatchStatisticCountersRebuildsOnMismatch() {
+        when(transactionBatchRepository.getBatchStatisticViewForBatchId("batchId")).thenReturn(Optional.of(new BatchStatisticsView("batchId", 1, 2, 3, 4, 5, 15)));
+        when(transactionBatchRepository.getBatchStatisticCountersForBatchId("batchId")).thenReturn(Optional.of(counters(1, 3, 2, 4, 5, 15)));
+
+        assertThat(transactionBatchService.reconcileBatchStatisticCounters("batchId")).isTrue();
+
+        InOrder inOrder = inOrder(transactionBatchRepository);
+        inOrder.verify(transactionBatchRepository).lockBatchStatisticCounters("batchId");
+        inOrder.verify(transactionBatchRepository).rebuildBatchStatisticCounters("batchId");
+    }
+
+    @Test
+    void reconcileBatchStatisticCountersRebuildsMissingCounters() {
+        when(transactionBatchRepository.getBatchStatisticViewForBatchId("batchId")).thenReturn(Optional.empty());
+        when(transactionBatchRepository.getBatchStatisticCountersForBatchId("batchId")).thenReturn(Optional.empty());
+
+        assertThat(transactionBatchService.reconcileBatchStatisticCounters("batchId")).isTrue();
+
+        verify(transactionBatchRepository).rebuildBatchStatisticCounters("batchId");
+    }
+
+    @Test
+    void updateTransactionBatchStatsWhileExtractingKeepsBatchProcessing() {
+        TransactionBatchEntity batch = new TransactionBatchEntity();
+        batch.setId("batchId");
+        batch.setStatus(TransactionBatchStatus.PROCESSING);
+        when(transactionBatchRepositoryGateway.findById("batchId")).thenReturn(Optional.of(batch));
+        // every transaction published so far is stored, which would finish the batch if it were the last chunk
+        when(transactionBatchRepository.getBatchStatisticViewForBatchId("batchId")).thenReturn(Optional.of(new BatchStatisticsView("batchId", 0, 0, 20, 0, 0, 20)));
+
+        transactionBatchService.updateTransactionBatchStatsWhileExtracting("batchId", 20);
+        ArgumentCaptor<Runnable> update = ArgumentCaptor.forClass(Runnable.class);
+        verify(debouncerManager).callInNewDebouncer(eq("batchId"), update.capture(), any());
+        update.getValue().run();
+
+        assertThat(batch.getStatus()).isEqualTo(TransactionBatchStatus.PROCESSING);
+        assertThat(batch.getBatchStatistics()).hasValueSatisfying(statistics -> assertThat(statistics.getProcessedTransactions()).isEqualTo(20));
+        verify(transactionBatchRepository).save(batch);
+    }
+
+    private static BatchStatisticsViewProjection counters(int invalid, int pending, int approve, int publish, int published, int total) {
+        BatchStatisticsViewProjection projection = mock(BatchStatisticsViewProjection.class);
+        when(projection.getBatchId()).thenReturn("batchId");
+        when(projection.getInvalid()).thenReturn(invalid);
+        when(projection.getPending()).thenReturn(pending);
+        when(projection.getApprove()).thenReturn(approve);
+        when(projection.getPublish()).thenReturn(publish);
+        when(projection.getPublished()).thenReturn(published);
+        when(projection.getTotal()).thenReturn(total);
+
+        return projection;
+    }
+
 }
@@ -9,7 +9,7 @@ import org.springframework.core.io.Resource;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import org.cardanofoundation.lob.app.blockchain_common.service_assistance.JsonSchemaMetadataChecker;
+import org.cardanofoundation.lob.app.blockchain_common.service_assistance.CompiledSchemaMetadataChecker;
 import org.cardanofoundation.lob.app.blockchain_common.service_assistance.MetadataChecker;
 
 @Configuration
@@ -23,7 +23,7 @@ public class BlockchainCommonConfig {
     public MetadataChecker api1JsonSchemaMetadataChecker(ObjectMapper objectMapper,
                                                          @Value("classpath:api1_lob_blockchain_transaction_metadata_schema.json") Resource metadataSchemaResource
                                                          ) {
-        val checker = new JsonSchemaMetadataChecker(objectMapper);
+        val checker = new CompiledSchemaMetadataChecker(objectMapper);
         checker.setMetadataSchemaResource(metadataSchemaResource);
         checker.setEnableChecker(enableChecker);
 
@@ -35,7 +35,7 @@ public class BlockchainCommonConfig {
     public MetadataChecker api3JsonSchemaMetadataChecker(ObjectMapper objectMapper,
                                                          @Value("classpath:api3_lob_blockchain_transaction_metadata_schema.json") Resource metadataSchemaResource
                                                          ) {
-        val checker = new JsonSchemaMetadataChecker(objectMapper);
+        val checker = new CompiledSchemaMetadataChecker(objectMapper);
         checker.setMetadataSchemaResource(metadataSchemaResource);
         checker.setEnableChecker(enableChecker);
 
@@ -0,0 +1,29 @@
+package org.cardanofoundation.lob.app.blockchain_common.domain;
+
+import java.util.Optional;
+
+import lombok.*;
+
+/**
+ * Status change of an L1 transaction carrying LOB metadata, as published by the ledger follower.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Setter
+@ToString
+public class TxStatusEvent {
+
+    private long sequence;
+
+    private TxStatusEventType type;
+
+    private String transactionHash;
+
+    private long absoluteSlot;
+
+    @Builder.Default
+    private Optional<FinalityScore> finalityScore = Optional.empty(); // empty for rolled back transactions
+
+}
@@ -0,0 +1,11 @@
+package org.cardanofoundation.lob.app.blockchain_common.domain;
+
+public enum TxStatusEventType {
+
+    INCLUDED,
+
+    FINALITY_CHANGED,
+
+    ROLLED_BACK
+
+}
@@ -0,0 +1,88 @@
+package org.cardanofoundation.lob.app.blockchain_common.service_assistance;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import jakarta.annotation.PostConstruct;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.core.io.Resource;
+
+import co.nstant.in.cbor.model.DataItem;
+import com.bloxbean.cardano.client.metadata.MetadataMap;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Validates metadata against the JSON schema compiled once into a {@link MetadataSchema}, the CBOR metadata is walked
+ * directly without rendering it as JSON first.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CompiledSchemaMetadataChecker implements MetadataChecker {
+
+    private final ObjectMapper objectMapper;
+
+    @Setter
+    protected Resource metadataSchemaResource;
+
+    @Setter
+    protected boolean enableChecker;
+
+    private MetadataSchema metadataSchema;
+
+    @PostConstruct
+    public void init() {
+        log.info("CompiledSchemaMetadataChecker, metadata validation enabled: {}, schema found:{}", enableChecker, metadataSchemaResource.exists());
+
+        try (InputStream inputStream = metadataSchemaResource.getInputStream()) {
+            metadataSchema = MetadataSchema.compile(objectMapper.readTree(inputStream));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read metadata schema: " + metadataSchemaResource, e);
+        }
+    }
+
+    @Override
+    public boolean checkTransactionMetadata(String json) {
+        if (!enableChecker) {
+            log.warn("Metadata validation is disabled, not recommended in production / mainnet!");
+
+            return true;
+        }
+
+        try {
+            return check(MetadataSchema.toDataItem(objectMapper.readTree(json)));
+        } catch (IOException e) {
+            log.error("Error parsing metadata json", e);
+            return false;
+        }
+    }
+
+    @Override
+    public boolean checkTransactionMetadata(MetadataMap metadataMap) {
+        if (!enableChecker) {
+            log.warn("Metadata validation is disabled, not recommended in production / mainnet!");
+
+            return true;
+        }
+
+        return check(metadataMap.getMap());
+    }
+
+    private boolean check(DataItem metadata) {
+        if (metadataSchema.isValid(metadata)) {
+            return true;
+        }
+
+        // second pass only for invalid metadata, it collects every violation with its location
+        List<String> violations = metadataSchema.validate(metadata);
+        log.error("Metadata validation failed: {}", violations);
+
+        return false;
+    }
+
+}
@@ -13,9 +13,17 @@ import lombok.val;
 
 import org.springframework.core.io.Resource;
 
+import co.nstant.in.cbor.CborException;
+import com.bloxbean.cardano.client.common.cbor.CborSerializationUtil;
+import com.bloxbean.cardano.client.metadata.MetadataMap;
+import com.bloxbean.cardano.client.metadata.helper.MetadataToJsonNoSchemaConverter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.networknt.schema.JsonSchemaFactory;
 
+/**
+ * Validates metadata rendered as JSON against the JSON schema, see {@link CompiledSchemaMetadataChecker} for the
+ * variant which works on the CBOR metadata directly.
+ */
 @Slf4j
 @RequiredArgsConstructor
 public class JsonSchemaMetadataChecker implements MetadataChecker {
@@ -60,4 +68,14 @@ public class JsonSchemaMetadataChecker implements MetadataChecker {
         }
     }
 
+    @Override
+    public boolean checkTransactionMetadata(MetadataMap metadataMap) {
+        try {
+            return checkTransactionMetadata(MetadataToJsonNoSchemaConverter.cborBytesToJson(CborSerializationUtil.serialize(metadataMap.getMap())));
+        } catch (CborException | IOException e) {
+            log.error("Error converting metadata to json", e);
+            return false;
+        }
+    }
+
 }
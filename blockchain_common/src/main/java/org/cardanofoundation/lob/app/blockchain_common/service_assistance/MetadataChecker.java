@@ -1,14 +1,23 @@
 package org.cardanofoundation.lob.app.blockchain_common.service_assistance;
 
+import com.bloxbean.cardano.client.metadata.MetadataMap;
+
 public interface MetadataChecker {
 
     boolean checkTransactionMetadata(String json);
 
+    boolean checkTransactionMetadata(MetadataMap metadataMap);
+
     class Noop implements MetadataChecker {
         @Override
         public boolean checkTransactionMetadata(String json) {
             return true;
         }
+
+        @Override
+        public boolean checkTransactionMetadata(MetadataMap metadataMap) {
+            return true;
+        }
     }
 
 }
@@ -0,0 +1,524 @@
+package org.cardanofoundation.lob.app.blockchain_common.service_assistance;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.springframework.lang.Nullable;
+
+import co.nstant.in.cbor.model.AbstractFloat;
+import co.nstant.in.cbor.model.Array;
+import co.nstant.in.cbor.model.ByteString;
+import co.nstant.in.cbor.model.DataItem;
+import co.nstant.in.cbor.model.DoublePrecisionFloat;
+import co.nstant.in.cbor.model.NegativeInteger;
+import co.nstant.in.cbor.model.SimpleValue;
+import co.nstant.in.cbor.model.SimpleValueType;
+import co.nstant.in.cbor.model.UnicodeString;
+import co.nstant.in.cbor.model.UnsignedInteger;
+import com.bloxbean.cardano.client.util.HexUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * JSON schema (draft 7 subset) compiled once into a tree of rules which validate CBOR metadata directly.
+ * <p>
+ * CBOR items are seen the way {@code MetadataToJsonNoSchemaConverter} renders them: maps are objects, byte strings
+ * are "0x" prefixed hex strings and integers are integers. Keywords the compiler does not know are rejected, so a
+ * schema change can not silently weaken validation.
+ */
+public final class MetadataSchema {
+
+    private static final String DEFINITIONS_REF_PREFIX = "#/definitions/";
+
+    // annotations, they do not take part in validation
+    private static final Set<String> IGNORED_KEYWORDS = Set.of("$schema", "$id", "$comment", "title", "description", "definitions", "examples", "default");
+
+    private final Rule root;
+
+    private MetadataSchema(Rule root) {
+        this.root = root;
+    }
+
+    public static MetadataSchema compile(JsonNode schema) {
+        Compiler compiler = new Compiler();
+
+        JsonNode definitions = schema.path("definitions");
+        definitions.fieldNames().forEachRemaining(name -> compiler.definitions.put(name, compiler.compile(definitions.get(name))));
+        Rule root = compiler.compile(schema);
+
+        for (String ref : compiler.refs) {
+            if (!compiler.definitions.containsKey(ref)) {
+                throw new IllegalArgumentException("Unresolved schema reference: " + DEFINITIONS_REF_PREFIX + ref);
+            }
+        }
+
+        return new MetadataSchema(root);
+    }
+
+    public boolean isValid(DataItem item) {
+        return root.validate(item, null, null);
+    }
+
+    /**
+     * @return violations with their location, empty if the item is valid
+     */
+    public List<String> validate(DataItem item) {
+        List<String> violations = new ArrayList<>();
+        root.validate(item, Location.ROOT, violations);
+
+        return violations;
+    }
+
+    /**
+     * Converts parsed JSON into the CBOR item {@code MetadataToJsonNoSchemaConverter} would have rendered it from.
+     */
+    public static DataItem toDataItem(JsonNode json) {
+        if (json.isObject()) {
+            co.nstant.in.cbor.model.Map map = new co.nstant.in.cbor.model.Map();
+            json.properties().forEach(field -> map.put(new UnicodeString(field.getKey()), toDataItem(field.getValue())));
+
+            return map;
+        }
+        if (json.isArray()) {
+            Array array = new Array();
+            json.elements().forEachRemaining(element -> array.add(toDataItem(element)));
+
+            return array;
+        }
+        if (json.isIntegralNumber()) {
+            BigInteger value = json.bigIntegerValue();
+
+            return value.signum() < 0 ? new NegativeInteger(value) : new UnsignedInteger(value);
+        }
+        if (json.isNumber()) {
+            return new DoublePrecisionFloat(json.doubleValue());
+        }
+        if (json.isBoolean()) {
+            return json.booleanValue() ? SimpleValue.TRUE : SimpleValue.FALSE;
+        }
+        if (json.isNull()) {
+            return SimpleValue.NULL;
+        }
+
+        return new UnicodeString(json.asText());
+    }
+
+    private enum JsonType {
+        OBJECT, ARRAY, STRING, INTEGER, NUMBER, BOOLEAN, NULL;
+
+        static JsonType of(String name) {
+            return JsonType.valueOf(name.toUpperCase());
+        }
+
+        boolean accepts(@Nullable JsonType type) {
+            return this == type || (this == NUMBER && type == INTEGER);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Rule {
+
+        // location and violations are only tracked to explain a failure, the fast path passes nulls and allocates nothing
+        boolean validate(DataItem item, @Nullable Location location, @Nullable List<String> violations);
+
+    }
+
+    private record Location(@Nullable Location parent, String segment) {
+
+        static final Location ROOT = new Location(null, "$");
+
+        Location property(String name) {
+            return new Location(this, "." + name);
+        }
+
+        Location index(int index) {
+            return new Location(this, "[" + index + "]");
+        }
+
+        @Override
+        public String toString() {
+            return parent == null ? segment : parent + segment;
+        }
+
+    }
+
+    private static class Compiler {
+
+        private final Map<String, Rule> definitions = new HashMap<>();
+        private final Set<String> refs = new HashSet<>();
+
+        Rule compile(JsonNode schema) {
+            if (schema.isBoolean()) {
+                boolean valid = schema.booleanValue();
+
+                return (item, location, violations) -> valid || fail(location, violations, "no value is allowed");
+            }
+            if (!schema.isObject()) {
+                throw new IllegalArgumentException("Schema must be an object or a boolean: " + schema);
+            }
+
+            List<Rule> rules = new ArrayList<>();
+            Iterator<String> keywords = schema.fieldNames();
+            while (keywords.hasNext()) {
+                String keyword = keywords.next();
+                JsonNode value = schema.get(keyword);
+
+                switch (keyword) {
+                    case "$ref" -> rules.add(ref(value.asText()));
+                    case "type" -> rules.add(type(value));
+                    case "properties" -> rules.add(properties(value));
+                    case "required" -> rules.add(required(value));
+                    case "items" -> rules.add(items(value));
+                    case "enum" -> rules.add(oneOfValues(value));
+                    case "const" -> rules.add(oneOfValues(List.of(value)));
+                    case "pattern" -> rules.add(pattern(value.asText()));
+                    case "format" -> rules.add(format(value.asText()));
+                    case "minimum" -> rules.add(bound(value.decimalValue(), true));
+                    case "maximum" -> rules.add(bound(value.decimalValue(), false));
+                    case "anyOf" -> rules.add(anyOf(value));
+                    case "allOf" -> rules.add(allOf(value));
+                    case "if" -> rules.add(conditional(value, schema.get("then"), schema.get("else")));
+                    case "then", "else" -> {
+                        // compiled together with "if"
+                    }
+                    default -> {
+                        if (!IGNORED_KEYWORDS.contains(keyword)) {
+                            throw new IllegalArgumentException("Unsupported schema keyword: " + keyword);
+                        }
+                    }
+                }
+            }
+
+            return all(rules);
+        }
+
+        private Rule ref(String ref) {
+            if (!ref.startsWith(DEFINITIONS_REF_PREFIX)) {
+                throw new IllegalArgumentException("Only local definition references are supported: " + ref);
+            }
+            String name = ref.substring(DEFINITIONS_REF_PREFIX.length());
+            refs.add(name);
+
+            // resolved on use, definitions may reference each other in any order
+            return (item, location, violations) -> definitions.get(name).validate(item, location, violations);
+        }
+
+        private Rule type(JsonNode value) {
+            Set<JsonType> types = new LinkedHashSet<>();
+            if (value.isArray()) {
+                value.elements().forEachRemaining(type -> types.add(JsonType.of(type.asText())));
+            } else {
+                types.add(JsonType.of(value.asText()));
+            }
+            JsonType[] accepted = types.toArray(JsonType[]::new);
+
+            return (item, location, violations) -> {
+                JsonType type = jsonType(item);
+                for (JsonType acceptedType : accepted) {
+                    if (acceptedType.accepts(type)) {
+                        return true;
+                    }
+                }
+
+                return fail(location, violations, "expected type " + types + " but found " + type);
+            };
+        }
+
+        private Rule properties(JsonNode value) {
+            List<String> names = new ArrayList<>();
+            value.fieldNames().forEachRemaining(names::add);
+
+            UnicodeString[] keys = names.stream().map(UnicodeString::new).toArray(UnicodeString[]::new);
+            Rule[] rules = names.stream().map(name -> compile(value.get(name))).toArray(Rule[]::new);
+
+            return (item, location, violations) -> {
+                if (!(item instanceof co.nstant.in.cbor.model.Map map)) {
+                    return true;
+                }
+                boolean valid = true;
+                for (int i = 0; i < keys.length; i++) {
+                    DataItem property = map.get(keys[i]);
+                    if (property != null && !rules[i].validate(property, child(location, violations, keys[i].getString()), violations)) {
+                        valid = false;
+                        if (violations == null) {
+                            return false;
+                        }
+                    }
+                }
+
+                return valid;
+            };
+        }
+
+        private Rule required(JsonNode value) {
+            List<UnicodeString> keys = new ArrayList<>();
+            value.elements().forEachRemaining(name -> keys.add(new UnicodeString(name.asText())));
+
+            return (item, location, violations) -> {
+                if (!(item instanceof co.nstant.in.cbor.model.Map map)) {
+                    return true;
+                }
+                boolean valid = true;
+                for (UnicodeString key : keys) {
+                    if (map.get(key) == null) {
+                        valid = fail(location, violations, "required property '" + key.getString() + "' is missing");
+                        if (violations == null) {
+                            return false;
+                        }
+                    }
+                }
+
+                return valid;
+            };
+        }
+
+        private Rule items(JsonNode value) {
+            if (!value.isObject() && !value.isBoolean()) {
+                throw new IllegalArgumentException("Only a single items schema is supported: " + value);
+            }
+            Rule rule = compile(value);
+
+            return (item, location, violations) -> {
+                if (!(item instanceof Array array)) {
+                    return true;
+                }
+                boolean valid = true;
+                List<DataItem> elements = array.getDataItems();
+                for (int i = 0; i < elements.size(); i++) {
+                    if (!rule.validate(elements.get(i), location == null ? null : location.index(i), violations)) {
+                        valid = false;
+                        if (violations == null) {
+                            return false;
+                        }
+                    }
+                }
+
+                return valid;
+            };
+        }
+
+        private Rule oneOfValues(Iterable<JsonNode> values) {
+            List<Object> allowed = new ArrayList<>();
+            values.forEach(value -> allowed.add(scalar(value)));
+
+            return (item, location, violations) -> allowed.contains(scalar(item))
+                    || fail(location, violations, "value is not one of " + allowed);
+        }
+
+        private Rule pattern(String regex) {
+            Pattern pattern = Pattern.compile(regex);
+
+            return (item, location, violations) -> {
+                String string = stringValue(item);
+
+                return string == null
+                        || pattern.matcher(string).find()
+                        || fail(location, violations, "'" + string + "' does not match pattern " + regex);
+            };
+        }
+
+        private Rule format(String format) {
+            if (!format.equals("date")) {
+                throw new IllegalArgumentException("Unsupported schema format: " + format);
+            }
+
+            return (item, location, violations) -> {
+                String string = stringValue(item);
+                if (string == null) {
+                    return true;
+                }
+                try {
+                    LocalDate.parse(string);
+
+                    return true;
+                } catch (DateTimeParseException e) {
+                    return fail(location, violations, "'" + string + "' is not a valid date");
+                }
+            };
+        }
+
+        private Rule bound(BigDecimal limit, boolean minimum) {
+            return (item, location, violations) -> {
+                BigDecimal number = numberValue(item);
+                if (number == null) {
+                    return true;
+                }
+                int comparison = number.compareTo(limit);
+
+                return (minimum ? comparison >= 0 : comparison <= 0)
+                        || fail(location, violations, number + (minimum ? " is less than the minimum " : " is greater than the maximum ") + limit);
+            };
+        }
+
+        private Rule anyOf(JsonNode value) {
+            Rule[] rules = compileAll(value);
+
+            return (item, location, violations) -> {
+                for (Rule rule : rules) {
+                    if (rule.validate(item, null, null)) {
+                        return true;
+                    }
+                }
+
+                return fail(location, violations, "value does not match any of the allowed schemas");
+            };
+        }
+
+        private Rule allOf(JsonNode value) {
+            return all(List.of(compileAll(value)));
+        }
+
+        private Rule conditional(JsonNode ifSchema, @Nullable JsonNode thenSchema, @Nullable JsonNode elseSchema) {
+            Rule condition = compile(ifSchema);
+            Rule then = thenSchema == null ? null : compile(thenSchema);
+            Rule otherwise = elseSchema == null ? null : compile(elseSchema);
+
+            return (item, location, violations) -> {
+                Rule rule = condition.validate(item, null, null) ? then : otherwise;
+
+                return rule == null || rule.validate(item, location, violations);
+            };
+        }
+
+        private Rule[] compileAll(JsonNode schemas) {
+            List<Rule> rules = new ArrayList<>();
+            schemas.elements().forEachRemaining(schema -> rules.add(compile(schema)));
+
+            return rules.toArray(Rule[]::new);
+        }
+
+        private static Rule all(List<Rule> rules) {
+            if (rules.size() == 1) {
+                return rules.getFirst();
+            }
+            Rule[] all = rules.toArray(Rule[]::new);
+
+            return (item, location, violations) -> {
+                boolean valid = true;
+                for (Rule rule : all) {
+                    if (!rule.validate(item, location, violations)) {
+                        valid = false;
+                        if (violations == null) {
+                            return false;
+                        }
+                    }
+                }
+
+                return valid;
+            };
+        }
+
+        @Nullable
+        private static Location child(@Nullable Location location, @Nullable List<String> violations, String name) {
+            return violations == null || location == null ? null : location.property(name);
+        }
+
+        private static boolean fail(@Nullable Location location, @Nullable List<String> violations, String message) {
+            if (violations != null) {
+                violations.add(location + ": " + message);
+            }
+
+            return false;
+        }
+
+    }
+
+    @Nullable
+    private static JsonType jsonType(DataItem item) {
+        return switch (item.getMajorType()) {
+            case MAP -> JsonType.OBJECT;
+            case ARRAY -> JsonType.ARRAY;
+            case UNICODE_STRING, BYTE_STRING -> JsonType.STRING;
+            case UNSIGNED_INTEGER, NEGATIVE_INTEGER -> JsonType.INTEGER;
+            case SPECIAL -> {
+                if (item instanceof SimpleValue simpleValue) {
+                    SimpleValueType simpleValueType = simpleValue.getSimpleValueType();
+                    if (simpleValueType == SimpleValueType.TRUE || simpleValueType == SimpleValueType.FALSE) {
+                        yield JsonType.BOOLEAN;
+                    }
+                    yield simpleValueType == SimpleValueType.NULL ? JsonType.NULL : null;
+                }
+                yield item instanceof AbstractFloat || item instanceof DoublePrecisionFloat ? JsonType.NUMBER : null;
+            }
+            default -> null;
+        };
+    }
+
+    @Nullable
+    private static String stringValue(DataItem item) {
+        if (item instanceof UnicodeString string) {
+            return string.getString();
+        }
+        if (item instanceof ByteString bytes) {
+            return "0x" + HexUtil.encodeHexString(bytes.getBytes());
+        }
+
+        return null;
+    }
+
+    @Nullable
+    private static BigDecimal numberValue(DataItem item) {
+        if (item instanceof co.nstant.in.cbor.model.Number number) {
+            return new BigDecimal(number.getValue());
+        }
+        if (item instanceof DoublePrecisionFloat number) {
+            return BigDecimal.valueOf(number.getValue());
+        }
+        if (item instanceof AbstractFloat number) {
+            return BigDecimal.valueOf(number.getValue());
+        }
+
+        return null;
+    }
+
+    // enum / const values compared as strings, integers, booleans or null, structured values are not supported
+    @Nullable
+    private static Object scalar(JsonNode value) {
+        if (value.isTextual()) {
+            return value.textValue();
+        }
+        if (value.isIntegralNumber()) {
+            return value.bigIntegerValue();
+        }
+        if (value.isBoolean()) {
+            return value.booleanValue();
+        }
+        if (value.isNull()) {
+            return null;
+        }
+
+        throw new IllegalArgumentException("Unsupported enum / const value: " + value);
+    }
+
+    @Nullable
+    private static Object scalar(DataItem item) {
+        String string = stringValue(item);
+        if (string != null) {
+            return string;
+        }
+        if (item instanceof co.nstant.in.cbor.model.Number number) {
+            return number.getValue();
+        }
+        if (item instanceof SimpleValue simpleValue) {
+            return switch (simpleValue.getSimpleValueType()) {
+                case TRUE -> Boolean.TRUE;
+                case FALSE -> Boolean.FALSE;
+                default -> null;
+            };
+        }
+
+        // objects, arrays and floats never equal a supported enum value
+        return item;
+    }
+
+}
@@ -0,0 +1,126 @@
+package org.cardanofoundation.lob.app.blockchain_common.service_assistance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import lombok.val;
+
+import org.springframework.core.io.ClassPathResource;
+
+import co.nstant.in.cbor.model.ByteString;
+import co.nstant.in.cbor.model.Map;
+import co.nstant.in.cbor.model.UnicodeString;
+import com.bloxbean.cardano.client.metadata.cbor.CBORMetadataMap;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CompiledSchemaMetadataCheckerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CompiledSchemaMetadataChecker api1MetadataChecker;
+    private CompiledSchemaMetadataChecker api3MetadataChecker;
+
+    @BeforeEach
+    public void setUp() {
+        api1MetadataChecker = new CompiledSchemaMetadataChecker(objectMapper);
+        api1MetadataChecker.setMetadataSchemaResource(new ClassPathResource("api1_lob_blockchain_transaction_metadata_schema.json"));
+        api1MetadataChecker.setEnableChecker(true);
+        api1MetadataChecker.init();
+
+        api3MetadataChecker = new CompiledSchemaMetadataChecker(objectMapper);
+        api3MetadataChecker.setMetadataSchemaResource(new ClassPathResource("api3_lob_blockchain_transaction_metadata_schema.json"));
+        api3MetadataChecker.setEnableChecker(true);
+        api3MetadataChecker.init();
+    }
+
+    @Test
+    public void testAPI1CheckTransactionMetadata_Valid() throws IOException {
+        val validJson = Files.readString(Path.of("src/test/resources/api1_test_transactions_valid.json"));
+
+        assertThat(api1MetadataChecker.checkTransactionMetadata(validJson)).isTrue();
+    }
+
+    @Test
+    public void testAPI1CheckTransactionMetadata_Invalid() throws IOException {
+        val invalidJson = Files.readString(Path.of("src/test/resources/api1_test_transactions_invalid.json"));
+
+        assertThat(api1MetadataChecker.checkTransactionMetadata(invalidJson)).isFalse();
+    }
+
+    @Test
+    public void testAPI3CheckTransactionMetadata_Valid() throws IOException {
+        val balanceSheetJson = Files.readString(Path.of("src/test/resources/api3_test_transactions_valid_bs.json"));
+        val incomeStatementJson = Files.readString(Path.of("src/test/resources/api3_test_transactions_valid_is.json"));
+
+        assertThat(api3MetadataChecker.checkTransactionMetadata(balanceSheetJson)).isTrue();
+        assertThat(api3MetadataChecker.checkTransactionMetadata(incomeStatementJson)).isTrue();
+    }
+
+    @Test
+    public void testAPI3CheckPackedReportsMetadata() throws IOException {
+        val reportsJson = Files.readString(Path.of("src/test/resources/api3_test_transactions_valid_reports.json"));
+
+        assertThat(api3MetadataChecker.checkTransactionMetadata(reportsJson)).isTrue();
+
+        val reports = (ObjectNode) objectMapper.readTree(reportsJson);
+        ((ObjectNode) reports.get("data").get(1)).remove("subType");
+        assertThat(api3MetadataChecker.checkTransactionMetadata(reports.toString())).isFalse();
+
+        // the packed format is only valid with type REPORTS, a single report only with type REPORT
+        assertThat(api3MetadataChecker.checkTransactionMetadata(reportsJson.replace("\"REPORTS\"", "\"REPORT\""))).isFalse();
+        val incomeStatementJson = Files.readString(Path.of("src/test/resources/api3_test_transactions_valid_is.json"));
+        assertThat(api3MetadataChecker.checkTransactionMetadata(incomeStatementJson.replace("\"REPORT\"", "\"REPORTS\""))).isFalse();
+    }
+
+    @Test
+    public void testCheckTransactionMetadata_MetadataMap() throws IOException {
+        val validJson = Files.readString(Path.of("src/test/resources/api1_test_transactions_valid.json"));
+        val invalidJson = Files.readString(Path.of("src/test/resources/api1_test_transactions_invalid.json"));
+
+        assertThat(api1MetadataChecker.checkTransactionMetadata(metadataMap(validJson))).isTrue();
+        assertThat(api1MetadataChecker.checkTransactionMetadata(metadataMap(invalidJson))).isFalse();
+    }
+
+    @Test
+    public void testViolationsAreReportedWithTheirLocation() throws IOException {
+        val schema = MetadataSchema.compile(objectMapper.readTree(new ClassPathResource("api1_lob_blockchain_transaction_metadata_schema.json").getInputStream()));
+        val invalidJson = Files.readString(Path.of("src/test/resources/api1_test_transactions_invalid.json"));
+
+        assertThat(schema.validate(MetadataSchema.toDataItem(objectMapper.readTree(invalidJson))))
+                .anyMatch(violation -> violation.startsWith("$.metadata.creation_slot: expected type"));
+    }
+
+    @Test
+    public void testByteStringsAreValidatedAsHex() throws IOException {
+        val schema = MetadataSchema.compile(objectMapper.readTree("""
+                { "type": "object", "properties": { "hash": { "type": "string", "pattern": "^0x[0-9a-f]+$" } } }
+                """));
+
+        Map map = new Map();
+        map.put(new UnicodeString("hash"), new ByteString(new byte[] { 0x0a, 0x1b }));
+
+        assertThat(schema.isValid(map)).isTrue();
+    }
+
+    @Test
+    public void testUnsupportedKeywordIsRejected() {
+        assertThatThrownBy(() -> MetadataSchema.compile(objectMapper.readTree("""
+                { "type": "object", "additionalProperties": false }
+                """)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("additionalProperties");
+    }
+
+    private CBORMetadataMap metadataMap(String json) throws IOException {
+        return new CBORMetadataMap((Map) MetadataSchema.toDataItem(objectMapper.readTree(json)));
+    }
+
+}
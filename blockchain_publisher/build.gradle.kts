@@ -1,3 +1,7 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.2"
+}
+
 dependencies {
     implementation(project(":accounting_reporting_core"))
     implementation(project(":reporting"))
@@ -15,3 +19,10 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-starter-validation")
     testImplementation(project(":organisation"))  // Explicitly include organisation for tests
 }
+
+jmh {
+    // ./gradlew :blockchain_publisher:jmh
+    warmupIterations.set(2)
+    iterations.set(5)
+    fork.set(1)
+}
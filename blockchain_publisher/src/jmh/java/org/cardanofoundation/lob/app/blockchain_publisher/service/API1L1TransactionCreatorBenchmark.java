@@ -0,0 +1,146 @@
+package org.cardanofoundation.lob.app.blockchain_publisher.service;
+
+import static org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.Counterparty.Type.VENDOR;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.TransactionType.Journal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.bloxbean.cardano.client.account.Account;
+import com.bloxbean.cardano.client.common.model.Networks;
+import com.bloxbean.cardano.client.exception.CborSerializationException;
+import com.bloxbean.cardano.client.metadata.Metadata;
+import com.bloxbean.cardano.client.transaction.spec.AuxiliaryData;
+import com.bloxbean.cardano.client.transaction.spec.Transaction;
+import com.bloxbean.cardano.client.transaction.spec.TransactionBody;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.cardanofoundation.lob.app.blockchain_common.domain.CardanoNetwork;
+import org.cardanofoundation.lob.app.blockchain_common.service_assistance.MetadataChecker;
+import org.cardanofoundation.lob.app.blockchain_publisher.domain.entity.txs.*;
+import org.cardanofoundation.lob.app.blockchain_reader.BlockchainReaderPublicApiIF;
+
+/**
+ * Compares the size-estimating packer with the previous loop which re-serialised the whole chunk twice per candidate transaction.
+ * L1 transaction building is stubbed (no backend / UTXO lookups), so the numbers for the legacy loop are a lower bound.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class API1L1TransactionCreatorBenchmark {
+
+    private static final int CARDANO_MAX_TRANSACTION_SIZE_BYTES = 16000;
+    private static final String ORGANISATION_ID = "75f95560c1d883ee7628993da5adf725a5d97a13929fd4f477be0faf5020ca94";
+
+    @Param({ "100", "500", "2000" })
+    private int transactionsCount;
+
+    private API1L1TransactionCreator creator;
+
+    private Set<TransactionEntity> transactions;
+
+    @Setup
+    public void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2024-06-01T10:15:30.00Z"), ZoneOffset.UTC);
+
+        creator = new API1L1TransactionCreator(null,
+                null,
+                new API1MetadataSerialiser(clock),
+                new BlockchainReaderPublicApiIF.Noop(CardanoNetwork.DEV),
+                new MetadataChecker.Noop(),
+                new Account(Networks.testnet()),
+                1447,
+                false) {
+
+            @Override
+            protected byte[] serialiseTransaction(Metadata metadata) throws CborSerializationException {
+                return Transaction.builder()
+                        .body(TransactionBody.builder().fee(BigInteger.valueOf(200_000)).build())
+                        .auxiliaryData(AuxiliaryData.builder().metadata(metadata).build())
+                        .build()
+                        .serialize();
+            }
+        };
+        creator.init();
+
+        transactions = new LinkedHashSet<>();
+        for (int i = 0; i < transactionsCount; i++) {
+            transactions.add(transaction(i));
+        }
+    }
+
+    @Benchmark
+    public void packer(Blackhole blackhole) {
+        blackhole.consume(creator.pullBlockchainTransaction(ORGANISATION_ID, transactions));
+    }
+
+    @Benchmark
+    public void legacyLoop(Blackhole blackhole) {
+        LinkedHashSet<TransactionEntity> transactionsBatch = new LinkedHashSet<>();
+
+        for (TransactionEntity txEntity : transactions) {
+            LinkedHashSet<TransactionEntity> candidate = new LinkedHashSet<>(transactionsBatch);
+            candidate.add(txEntity);
+
+            // the previous implementation serialised the current chunk and the chunk with the next element peeked
+            blackhole.consume(creator.serialiseTransactionChunk(ORGANISATION_ID, transactionsBatch.isEmpty() ? candidate : transactionsBatch, 1L));
+            byte[] txBytes = creator.serialiseTransactionChunk(ORGANISATION_ID, candidate, 1L).get().txBytes();
+
+            if (txBytes.length >= CARDANO_MAX_TRANSACTION_SIZE_BYTES) {
+                break;
+            }
+            transactionsBatch.add(txEntity);
+        }
+
+        blackhole.consume(transactionsBatch);
+    }
+
+    static TransactionEntity transaction(int index) {
+        Organisation organisation = Organisation.builder()
+                .id(ORGANISATION_ID)
+                .name("Cardano Foundation")
+                .taxIdNumber("CHE-184477354")
+                .currencyId("ISO_4217:CHF")
+                .countryCode("CH")
+                .build();
+
+        TransactionEntity tx = new TransactionEntity();
+        tx.setId("%064d".formatted(index));
+        tx.setInternalNumber("JOURNAL%d".formatted(index));
+        tx.setBatchId("batch1");
+        tx.setTransactionType(Journal);
+        tx.setEntryDate(LocalDate.of(2024, 5, 1));
+        tx.setAccountingPeriod(YearMonth.of(2024, 5));
+        tx.setOrganisation(organisation);
+
+        Set<TransactionItemEntity> items = new LinkedHashSet<>();
+        for (int j = 0; j < 2; j++) {
+            TransactionItemEntity item = new TransactionItemEntity();
+            item.setId("%062d%02d".formatted(index, j));
+            item.setAmountFcy(new BigDecimal("1000.25"));
+            item.setAmountLcy(new BigDecimal("1000.25"));
+            item.setFxRate(BigDecimal.ONE);
+            item.setTransaction(tx);
+            item.setDocument(Document.builder()
+                    .num("DOC%d".formatted(index))
+                    .currency(Currency.builder().id("ISO_4217:CHF").customerCode("CHF").build())
+                    .counterparty(Counterparty.builder().customerCode("CP%d".formatted(index)).type(VENDOR).build())
+                    .build());
+            item.setCostCenter(CostCenter.builder().customerCode("CC1").name("Cost Center").build());
+            items.add(item);
+        }
+        tx.setItems(items);
+
+        return tx;
+    }
+
+}
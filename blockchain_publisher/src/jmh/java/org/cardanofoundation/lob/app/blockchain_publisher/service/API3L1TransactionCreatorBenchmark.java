@@ -0,0 +1,159 @@
+package org.cardanofoundation.lob.app.blockchain_publisher.service;
+
+import java.math.BigInteger;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import com.bloxbean.cardano.client.account.Account;
+import com.bloxbean.cardano.client.common.model.Networks;
+import com.bloxbean.cardano.client.exception.CborSerializationException;
+import com.bloxbean.cardano.client.metadata.Metadata;
+import com.bloxbean.cardano.client.transaction.spec.AuxiliaryData;
+import com.bloxbean.cardano.client.transaction.spec.Transaction;
+import com.bloxbean.cardano.client.transaction.spec.TransactionBody;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.cardanofoundation.lob.app.blockchain_common.domain.CardanoNetwork;
+import org.cardanofoundation.lob.app.blockchain_common.service_assistance.MetadataChecker;
+import org.cardanofoundation.lob.app.blockchain_publisher.domain.core.API3BlockchainTransactions;
+import org.cardanofoundation.lob.app.blockchain_publisher.domain.entity.reports.ReportEntity;
+import org.cardanofoundation.lob.app.blockchain_reader.BlockchainReaderPublicApiIF;
+import org.cardanofoundation.lob.app.organisation.OrganisationPublicApi;
+import org.cardanofoundation.lob.app.organisation.domain.entity.Organisation;
+import org.cardanofoundation.lob.app.reporting.model.enums.DataMode;
+import org.cardanofoundation.lob.app.reporting.model.enums.IntervalType;
+import org.cardanofoundation.lob.app.reporting.model.enums.ReportTemplateType;
+
+/**
+ * Reports published per minute when several reports are packed into one L1 transaction compared to one report per L1
+ * transaction. Also counts L1 transactions, each of them costs a fee and a slot on the organiser's UTXO chain.
+ * L1 transaction building is stubbed (no backend / UTXO lookups).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+public class API3L1TransactionCreatorBenchmark {
+
+    private static final int REPORTS_COUNT = 120;
+    private static final String ORGANISATION_ID = "75f95560c1d883ee7628993da5adf725a5d97a13929fd4f477be0faf5020ca94";
+
+    private API3L1TransactionCreator creator;
+
+    private List<ReportEntity> reports;
+
+    @Setup
+    public void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2024-06-01T10:15:30.00Z"), ZoneOffset.UTC);
+
+        Organisation organisation = Organisation.builder()
+                .id(ORGANISATION_ID)
+                .name("Cardano Foundation")
+                .taxIdNumber("CHE-184477354")
+                .currencyId("ISO_4217:CHF")
+                .countryCode("CH")
+                .build();
+
+        OrganisationPublicApi organisationPublicApi = new OrganisationPublicApi(null, null, null, null, null, null, null) {
+
+            @Override
+            public Optional<Organisation> findByOrganisationId(String id) {
+                return Optional.of(organisation);
+            }
+        };
+
+        creator = new API3L1TransactionCreator(null,
+                null,
+                new API3MetadataSerialiser(organisationPublicApi, clock),
+                new BlockchainReaderPublicApiIF.Noop(CardanoNetwork.DEV),
+                new MetadataChecker.Noop(),
+                new Account(Networks.testnet()),
+                1447,
+                false,
+                false,
+                Optional.empty(),
+                1) {
+
+            @Override
+            protected byte[] serialiseTransaction(Metadata metadata) throws CborSerializationException {
+                return Transaction.builder()
+                        .body(TransactionBody.builder().fee(BigInteger.valueOf(200_000)).build())
+                        .auxiliaryData(AuxiliaryData.builder().metadata(metadata).build())
+                        .build()
+                        .serialize();
+            }
+        };
+        creator.init();
+
+        reports = new ArrayList<>();
+        for (int i = 0; i < REPORTS_COUNT; i++) {
+            reports.add(report(i));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REPORTS_COUNT)
+    public void packed(Blackhole blackhole) {
+        List<ReportEntity> remaining = reports;
+        int l1Transactions = 0;
+
+        while (!remaining.isEmpty()) {
+            API3BlockchainTransactions l1Transaction = creator.pullBlockchainTransaction(ORGANISATION_ID, remaining).get();
+            blackhole.consume(l1Transaction.serialisedTxData());
+            remaining = l1Transaction.remainingReports();
+            l1Transactions++;
+        }
+
+        blackhole.consume(l1Transactions);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REPORTS_COUNT)
+    public void reportPerTransaction(Blackhole blackhole) {
+        for (ReportEntity report : reports) {
+            blackhole.consume(creator.pullBlockchainTransaction(ORGANISATION_ID, List.of(report)).get().serialisedTxData());
+        }
+    }
+
+    private static ReportEntity report(int index) {
+        Map<String, Object> assets = new LinkedHashMap<>();
+        assets.put("PropertyPlantEquipment", 265306);
+        assets.put("IntangibleAssets", 63);
+        assets.put("Investments", 30240);
+        assets.put("FinancialAssets", 1000000);
+        assets.put("PrepaymentsAndOtherShortTermAssets", 12351);
+        assets.put("OtherReceivables", 1123);
+        assets.put("CryptoAssets", 5240);
+        assets.put("CashAndCashEquivalents", 1204);
+
+        Map<String, Object> liabilities = new LinkedHashMap<>();
+        liabilities.put("Provisions", 1000);
+        liabilities.put("TradePayables", 43466);
+        liabilities.put("OtherCurrentLiabilities", 1000);
+        liabilities.put("AccrualsAndShortTermProvisions", 10000);
+        liabilities.put("Capital", 300);
+        liabilities.put("ResultsCarriedForward", 1245);
+        liabilities.put("ProfitForTheYear", 10000);
+
+        ReportEntity reportEntity = new ReportEntity();
+        reportEntity.setId("%064d".formatted(index));
+        reportEntity.setOrganisationId(ORGANISATION_ID);
+        reportEntity.setReportTemplateType(ReportTemplateType.BALANCE_SHEET);
+        reportEntity.setIntervalType(IntervalType.MONTH);
+        reportEntity.setYear((short) (2000 + index / 12));
+        reportEntity.setPeriod((short) (index % 12 + 1));
+        reportEntity.setDataMode(DataMode.SYSTEM);
+        reportEntity.setReportVer(1L);
+        reportEntity.setReportData(Map.of("Assets", assets, "Liabilities", liabilities));
+
+        return reportEntity;
+    }
+
+}
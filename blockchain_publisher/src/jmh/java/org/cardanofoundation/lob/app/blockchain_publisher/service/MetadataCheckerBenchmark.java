@@ -0,0 +1,81 @@
+package org.cardanofoundation.lob.app.blockchain_publisher.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.io.ClassPathResource;
+
+import co.nstant.in.cbor.CborException;
+import com.bloxbean.cardano.client.common.cbor.CborSerializationUtil;
+import com.bloxbean.cardano.client.metadata.MetadataMap;
+import com.bloxbean.cardano.client.metadata.helper.MetadataToJsonNoSchemaConverter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import org.cardanofoundation.lob.app.blockchain_common.service_assistance.CompiledSchemaMetadataChecker;
+import org.cardanofoundation.lob.app.blockchain_common.service_assistance.JsonSchemaMetadataChecker;
+import org.cardanofoundation.lob.app.blockchain_publisher.domain.entity.txs.TransactionEntity;
+
+/**
+ * Compares validating API1 metadata with the compiled schema walking the CBOR metadata against the previous path which
+ * serialised the metadata to CBOR, rendered it as JSON and validated the JSON with the JSON schema library.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MetadataCheckerBenchmark {
+
+    private static final String ORGANISATION_ID = "75f95560c1d883ee7628993da5adf725a5d97a13929fd4f477be0faf5020ca94";
+    private static final String SCHEMA = "api1_lob_blockchain_transaction_metadata_schema.json";
+
+    @Param({ "1", "20", "50" })
+    private int transactionsCount;
+
+    private JsonSchemaMetadataChecker jsonSchemaMetadataChecker;
+    private CompiledSchemaMetadataChecker compiledSchemaMetadataChecker;
+
+    private MetadataMap metadataMap;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        jsonSchemaMetadataChecker = new JsonSchemaMetadataChecker(objectMapper);
+        jsonSchemaMetadataChecker.setMetadataSchemaResource(new ClassPathResource(SCHEMA));
+        jsonSchemaMetadataChecker.setEnableChecker(true);
+
+        compiledSchemaMetadataChecker = new CompiledSchemaMetadataChecker(objectMapper);
+        compiledSchemaMetadataChecker.setMetadataSchemaResource(new ClassPathResource(SCHEMA));
+        compiledSchemaMetadataChecker.setEnableChecker(true);
+        compiledSchemaMetadataChecker.init();
+
+        Set<TransactionEntity> transactions = new LinkedHashSet<>();
+        for (int i = 0; i < transactionsCount; i++) {
+            transactions.add(API1L1TransactionCreatorBenchmark.transaction(i));
+        }
+        Clock clock = Clock.fixed(Instant.parse("2024-06-01T10:15:30.00Z"), ZoneOffset.UTC);
+        metadataMap = new API1MetadataSerialiser(clock).serialiseToMetadataMap(ORGANISATION_ID, transactions, 1L);
+
+        if (!jsonSchemaMetadataChecker.checkTransactionMetadata(metadataMap) || !compiledSchemaMetadataChecker.checkTransactionMetadata(metadataMap)) {
+            throw new IllegalStateException("Benchmark metadata is expected to be valid");
+        }
+    }
+
+    @Benchmark
+    public boolean jsonSchemaChecker() throws CborException, JsonProcessingException {
+        String json = MetadataToJsonNoSchemaConverter.cborBytesToJson(CborSerializationUtil.serialize(metadataMap.getMap()));
+
+        return jsonSchemaMetadataChecker.checkTransactionMetadata(json);
+    }
+
+    @Benchmark
+    public boolean compiledSchemaChecker() {
+        return compiledSchemaMetadataChecker.checkTransactionMetadata(metadataMap);
+    }
+
+}
@@ -58,8 +58,14 @@ public class TransactionSubmissionConfig {
         );
     }
 
+    @Bean
+    public PendingUtxoLedger pendingUtxoLedger(UtxoSupplier utxoSupplier, Clock clock) {
+        return new PendingUtxoLedger(utxoSupplier, clock);
+    }
+
     @Bean
     public API1L1TransactionCreator api1L1TransactionCreator(@Qualifier("yaci_blockfrost") BackendService backendService,
+                                                             PendingUtxoLedger pendingUtxoLedger,
                                                              API1MetadataSerialiser metadataSerialiser,
                                                              BlockchainReaderPublicApiIF blockchainReaderPublicApi,
                                                              @Qualifier("api1JsonSchemaMetadataChecker") MetadataChecker metadataChecker,
@@ -68,6 +74,7 @@ public class TransactionSubmissionConfig {
                                                              @Value("${l1.transaction.debug_store_output_tx:false}") boolean debugStoreOutputTx
     ) {
         return new API1L1TransactionCreator(backendService,
+                pendingUtxoLedger.utxoSupplier(),
                 metadataSerialiser,
                 blockchainReaderPublicApi,
                 metadataChecker,
@@ -79,6 +86,7 @@ public class TransactionSubmissionConfig {
 
     @Bean
     public API3L1TransactionCreator api3L1TransactionCreator(@Qualifier("yaci_blockfrost") BackendService backendService,
+                                                             PendingUtxoLedger pendingUtxoLedger,
                                                              API3MetadataSerialiser metadataSerialiser,
                                                              BlockchainReaderPublicApiIF blockchainReaderPublicApi,
                                                              @Qualifier("api3JsonSchemaMetadataChecker") MetadataChecker metadataChecker,
@@ -90,6 +98,7 @@ public class TransactionSubmissionConfig {
                                                              @Value("${lob.blockchain_publisher.keri.metadata_label:1}") int keriMetadataLabel
     ) {
         return new API3L1TransactionCreator(backendService,
+                pendingUtxoLedger.utxoSupplier(),
                 metadataSerialiser,
                 blockchainReaderPublicApi,
                 metadataChecker,
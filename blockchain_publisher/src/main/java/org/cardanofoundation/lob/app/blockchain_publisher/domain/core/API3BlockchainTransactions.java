@@ -0,0 +1,39 @@
+package org.cardanofoundation.lob.app.blockchain_publisher.domain.core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.cardanofoundation.lob.app.blockchain_publisher.domain.entity.reports.ReportEntity;
+
+public record API3BlockchainTransactions(String organisationId,
+                                         List<ReportEntity> submittedReports,
+                                         List<ReportEntity> remainingReports,
+                                         long creationSlot,
+                                         byte[] serialisedTxData,
+                                         String receiverAddress) {
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        API3BlockchainTransactions that = (API3BlockchainTransactions) o;
+
+        return creationSlot == that.creationSlot &&
+                Objects.equals(organisationId, that.organisationId) &&
+                Objects.equals(submittedReports, that.submittedReports) &&
+                Objects.equals(remainingReports, that.remainingReports) &&
+                Arrays.equals(serialisedTxData, that.serialisedTxData)
+                && Objects.equals(receiverAddress, that.receiverAddress);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(organisationId, submittedReports, remainingReports, creationSlot);
+        result = 31 * result + Arrays.hashCode(serialisedTxData);
+        result = 31 * result + Objects.hashCode(receiverAddress);
+
+        return result;
+    }
+
+}
@@ -1,11 +1,9 @@
 package org.cardanofoundation.lob.app.blockchain_publisher.domain.core;
 
 import java.util.Arrays;
-import java.util.Objects;
 
 public record SerializedCardanoL1Transaction(byte[] txBytes,
-                                             byte[] metadataCbor,
-                                             String metadataJson) {
+                                             byte[] metadataCbor) {
 
     @Override
     public boolean equals(Object o) {
@@ -14,14 +12,12 @@ public record SerializedCardanoL1Transaction(byte[] txBytes,
         SerializedCardanoL1Transaction that = (SerializedCardanoL1Transaction) o;
 
         return Arrays.equals(txBytes, that.txBytes) &&
-                Arrays.equals(metadataCbor, that.metadataCbor) &&
-                Objects.equals(metadataJson, that.metadataJson);
+                Arrays.equals(metadataCbor, that.metadataCbor);
     }
 
     @Override
     public int hashCode() {
-        int result = Objects.hash(metadataJson);
-        result = 31 * result + Arrays.hashCode(txBytes);
+        int result = Arrays.hashCode(txBytes);
         result = 31 * result + Arrays.hashCode(metadataCbor);
 
         return result;
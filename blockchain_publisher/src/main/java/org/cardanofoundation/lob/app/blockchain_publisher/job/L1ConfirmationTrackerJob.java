@@ -0,0 +1,39 @@
+package org.cardanofoundation.lob.app.blockchain_publisher.job;
+
+import jakarta.annotation.PostConstruct;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import org.cardanofoundation.lob.app.blockchain_publisher.service.transation_submit.L1ConfirmationTracker;
+
+@Service("blockchain_publisher.L1ConfirmationTrackerJob")
+@Slf4j
+@RequiredArgsConstructor
+public class L1ConfirmationTrackerJob {
+
+    private final L1ConfirmationTracker l1ConfirmationTracker;
+
+    @PostConstruct
+    public void init() {
+        log.info("blockchain_publisher.L1ConfirmationTrackerJob is enabled.");
+    }
+
+    @Scheduled(
+            fixedDelayString = "${lob.blockchain_publisher.confirmation_tracker.fixed_delay:PT5S}",
+            initialDelayString = "${lob.blockchain_publisher.confirmation_tracker.initial_delay:PT1M}")
+    public void execute() {
+        if (!l1ConfirmationTracker.hasPendingSubmissions()) {
+            return;
+        }
+        log.debug("Checking pending L1 submissions for confirmation...");
+
+        l1ConfirmationTracker.checkPendingSubmissions();
+
+        log.debug("Checking pending L1 submissions for confirmation...done");
+    }
+
+}
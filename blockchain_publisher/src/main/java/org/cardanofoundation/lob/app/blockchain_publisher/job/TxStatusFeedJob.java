@@ -0,0 +1,121 @@
+package org.cardanofoundation.lob.app.blockchain_publisher.job;
+
+import java.time.Duration;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import org.cardanofoundation.lob.app.blockchain_publisher.service.TxStatusFeedService;
+import org.cardanofoundation.lob.app.blockchain_reader.BlockchainReaderPublicApiIF;
+
+/**
+ * Long-polls the ledger follower's tx status feed and applies the status changes as they come in. It runs on its own
+ * thread instead of the scheduler's, a poll waits for new events and would hold up the scheduled jobs.
+ * <p>
+ * The feed is read from its current end on startup, changes published while the publisher was down are picked up by
+ * the watchdog.
+ */
+@Service("blockchain_publisher.TxStatusFeedJob")
+@Slf4j
+@RequiredArgsConstructor
+public class TxStatusFeedJob {
+
+    private final BlockchainReaderPublicApiIF blockchainReaderPublicApi;
+    private final TxStatusFeedService txStatusFeedService;
+
+    @Value("${lob.blockchain_publisher.tx_status_feed.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${lob.blockchain_publisher.tx_status_feed.batch_size:100}")
+    private int batchSize = 100;
+
+    // has to stay below the blockchain reader's rest.client.readTimeout
+    @Value("${lob.blockchain_publisher.tx_status_feed.wait:PT4S}")
+    private Duration wait = Duration.ofSeconds(4);
+
+    @Value("${lob.blockchain_publisher.tx_status_feed.error_delay:PT10S}")
+    private Duration errorDelay = Duration.ofSeconds(10);
+
+    @Value("${lob.blockchain_publisher.tx_status_feed.idle_delay:PT1S}")
+    private Duration idleDelay = Duration.ofSeconds(1);
+
+    private volatile Thread consumer;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("blockchain_publisher.TxStatusFeedJob is disabled, transaction statuses are updated by the watchdog only.");
+            return;
+        }
+        log.info("blockchain_publisher.TxStatusFeedJob is enabled.");
+
+        consumer = Thread.ofVirtual()
+                .name("blockchain_publisher.tx_status_feed")
+                .start(this::consume);
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread = consumer;
+        consumer = null;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void consume() {
+        long cursor = -1; // the current end of the feed
+        while (consumer != null) {
+            try {
+                cursor = poll(cursor);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Error while applying tx status events after: {}", cursor, e);
+                if (!sleep(errorDelay)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private long poll(long cursor) throws InterruptedException {
+        var txStatusEventsE = blockchainReaderPublicApi.getTxStatusEvents(cursor, batchSize, wait);
+        if (txStatusEventsE.isLeft()) {
+            log.warn("Unable to read tx status events after: {}, issue: {}", cursor, txStatusEventsE.getLeft().getDetail());
+            Thread.sleep(errorDelay);
+
+            return cursor;
+        }
+        var txStatusEvents = txStatusEventsE.get();
+
+        if (txStatusEvents.getEvents().isEmpty()) {
+            // the follower already waited for new events, only avoids a busy loop against followers which do not wait
+            Thread.sleep(idleDelay);
+        } else if (cursor >= 0) {
+            log.debug("Applying {} tx status events after: {}", txStatusEvents.getEvents().size(), cursor);
+            txStatusFeedService.applyEvents(txStatusEvents.getEvents());
+        }
+
+        return txStatusEvents.getCursor();
+    }
+
+    private static boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
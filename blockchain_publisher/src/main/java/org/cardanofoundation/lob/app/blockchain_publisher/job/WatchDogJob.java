@@ -11,6 +11,10 @@ import org.springframework.stereotype.Service;
 
 import org.cardanofoundation.lob.app.blockchain_publisher.service.WatchDogService;
 
+/**
+ * Slow safety net for on chain status changes, statuses are normally updated as they happen by the
+ * {@link TxStatusFeedJob}.
+ */
 @Service
 @Slf4j
 @RequiredArgsConstructor
@@ -27,7 +31,7 @@ public class WatchDogJob {
     }
 
     @Scheduled(
-            fixedDelayString = "${lob.blockchain_publisher.watchdog.transaction.fixed_delay:PT1M}",
+            fixedDelayString = "${lob.blockchain_publisher.watchdog.transaction.fixed_delay:PT10M}",
             initialDelayString = "${lob.blockchain_publisher.watchdog.transaction.initial_delay:PT1M}"
     )
     public void executeTransactionStatusCheck() {
@@ -38,7 +42,7 @@ public class WatchDogJob {
 
 
     @Scheduled(
-            fixedDelayString = "${lob.blockchain_publisher.watchdog.report.fixed_delay:PT1M}",
+            fixedDelayString = "${lob.blockchain_publisher.watchdog.report.fixed_delay:PT10M}",
             initialDelayString = "${lob.blockchain_publisher.watchdog.report.initial_delay:PT1M}"
     )
     public void executeReportStatusCheck() {
@@ -22,4 +22,8 @@ public interface ReportEntityRepository extends JpaRepository<ReportEntity, Stri
             @Param("publishStatuses") Set<BlockchainPublishStatus> notFinalisedButVisibleOnChain,
             Limit limit);
 
+    @Query("SELECT r FROM blockchain_publisher.report.ReportEntityV2 r WHERE r.l1SubmissionData.transactionHash IN :txHashes AND r.l1SubmissionData.publishStatus IN :publishStatuses")
+    Set<ReportEntity> findByL1TransactionHashesAndPublishStatuses(@Param("txHashes") Set<String> txHashes,
+                                                                  @Param("publishStatuses") Set<BlockchainPublishStatus> publishStatuses);
+
 }
@@ -1,5 +1,7 @@
 package org.cardanofoundation.lob.app.blockchain_publisher.repository;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import lombok.RequiredArgsConstructor;
@@ -11,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import org.cardanofoundation.lob.app.blockchain_publisher.domain.core.BlockchainPublishStatus;
 import org.cardanofoundation.lob.app.blockchain_publisher.domain.entity.reports.ReportEntity;
+import org.cardanofoundation.lob.app.blockchain_publisher.domain.entity.txs.L1SubmissionData;
 
 @Service
 @RequiredArgsConstructor
@@ -26,11 +29,36 @@ public class ReportEntityRepositoryGateway {
         return reportEntityRepository.findDispatchedReportsThatAreNotFinalizedYet(organisationId, notFinalisedButVisibleOnChain, limit);
     }
 
+    public Set<ReportEntity> findDispatchedReportsV2ThatAreNotFinalizedYet(Set<String> l1TransactionHashes) {
+        return reportEntityRepository.findByL1TransactionHashesAndPublishStatuses(l1TransactionHashes, BlockchainPublishStatus.notFinalisedButVisibleOnChain());
+    }
+
     @Transactional
     public void storeReport(ReportEntity reportEntity) {
         reportEntityRepository.save(reportEntity);
     }
 
+    /**
+     * Records the absolute slot of a confirmed L1 transaction on the reports it carries.
+     *
+     * @return false if none of the reports is stored with this L1 transaction hash (yet)
+     */
+    @Transactional
+    public boolean confirmSubmission(String txHash, Set<String> reportIds, long absoluteSlot) {
+        List<ReportEntity> submittedReports = reportEntityRepository.findAllById(reportIds).stream()
+                .filter(report -> report.getL1SubmissionData().flatMap(L1SubmissionData::getTransactionHash).filter(txHash::equals).isPresent())
+                .toList();
+
+        for (ReportEntity report : submittedReports) {
+            L1SubmissionData l1SubmissionData = report.getL1SubmissionData().orElseThrow();
+            l1SubmissionData.setAbsoluteSlot(absoluteSlot);
+            report.setL1SubmissionData(Optional.of(l1SubmissionData));
+        }
+        reportEntityRepository.saveAll(submittedReports);
+
+        return !submittedReports.isEmpty();
+    }
+
     @Transactional
     public void storeReportV2IfNew(ReportEntity reportEntity) {
         boolean exists = reportEntityRepository.existsById(reportEntity.getId());
@@ -38,4 +38,8 @@ public interface TransactionEntityRepository extends JpaRepository<TransactionEn
     Set<TransactionEntity> findByIdsAndPublishStatus(@Param("txIds") Set<String> txIds,
                                                      @Param("publishStatus") BlockchainPublishStatus publishStatus);
 
+    @Query("SELECT t FROM blockchain_publisher.txs.TransactionEntity t WHERE t.l1SubmissionData.transactionHash IN :txHashes AND t.l1SubmissionData.publishStatus IN :publishStatuses")
+    Set<TransactionEntity> findByL1TransactionHashesAndPublishStatuses(@Param("txHashes") Set<String> txHashes,
+                                                                       @Param("publishStatuses") Set<BlockchainPublishStatus> publishStatuses);
+
 }
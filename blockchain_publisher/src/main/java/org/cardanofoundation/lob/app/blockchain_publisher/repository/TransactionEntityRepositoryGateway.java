@@ -75,6 +75,10 @@ public class TransactionEntityRepositoryGateway {
         return transactionEntityRepository.findDispatchedTransactionsThatAreNotFinalizedYet(organisationId, notFinalisedButVisibleOnChain, limit);
     }
 
+    public Set<TransactionEntity> findDispatchedTransactionsThatAreNotFinalizedYet(Set<String> l1TransactionHashes) {
+        return transactionEntityRepository.findByL1TransactionHashesAndPublishStatuses(l1TransactionHashes, notFinalisedButVisibleOnChain());
+    }
+
     /**
      * Store only new transactions. We want our interface to be idempotent so if somebody sents the same transaction
      * we will ignore it.
@@ -184,6 +188,27 @@ public class TransactionEntityRepositoryGateway {
         transactionEntityRepository.saveAll(successfullyUpdatedTxEntities);
     }
 
+    /**
+     * Records the absolute slot of a confirmed L1 transaction on the transactions it carries.
+     *
+     * @return false if none of the transactions is stored with this L1 transaction hash (yet)
+     */
+    @Transactional
+    public boolean confirmSubmission(String txHash, Set<String> txIds, long absoluteSlot) {
+        Set<TransactionEntity> submittedTxs = transactionEntityRepository.findAllById(txIds).stream()
+                .filter(tx -> tx.getL1SubmissionData().flatMap(L1SubmissionData::getTransactionHash).filter(txHash::equals).isPresent())
+                .collect(toSet());
+
+        for (TransactionEntity tx : submittedTxs) {
+            L1SubmissionData l1SubmissionData = tx.getL1SubmissionData().orElseThrow();
+            l1SubmissionData.setAbsoluteSlot(absoluteSlot);
+            tx.setL1SubmissionData(Optional.of(l1SubmissionData));
+        }
+        transactionEntityRepository.saveAll(submittedTxs);
+
+        return !submittedTxs.isEmpty();
+    }
+
     public void unlockTransactions(Set<TransactionEntity> transactionsBatch) {
         transactionsBatch.forEach(transactionEntity ->
                 transactionEntity.setLockedAt(null));
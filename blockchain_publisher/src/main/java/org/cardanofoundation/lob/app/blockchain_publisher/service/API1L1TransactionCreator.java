@@ -1,6 +1,5 @@
 package org.cardanofoundation.lob.app.blockchain_publisher.service;
 
-import static org.apache.commons.collections4.iterators.PeekingIterator.peekingIterator;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 
 import java.io.IOException;
@@ -8,12 +7,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import jakarta.annotation.PostConstruct;
 
@@ -22,10 +21,14 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.http.ProblemDetail;
 
+import co.nstant.in.cbor.CborException;
 import co.nstant.in.cbor.model.Map;
 import com.bloxbean.cardano.client.account.Account;
+import com.bloxbean.cardano.client.api.UtxoSupplier;
 import com.bloxbean.cardano.client.api.model.Amount;
 import com.bloxbean.cardano.client.backend.api.BackendService;
+import com.bloxbean.cardano.client.backend.api.DefaultProtocolParamsSupplier;
+import com.bloxbean.cardano.client.backend.api.DefaultTransactionProcessor;
 import com.bloxbean.cardano.client.common.cbor.CborSerializationUtil;
 import com.bloxbean.cardano.client.exception.CborSerializationException;
 import com.bloxbean.cardano.client.function.helper.SignerProviders;
@@ -39,7 +42,6 @@ import com.bloxbean.cardano.client.quicktx.Tx;
 import com.bloxbean.cardano.client.transaction.util.TransactionUtil;
 import com.google.common.collect.Sets;
 import io.vavr.control.Either;
-import org.apache.commons.collections4.iterators.PeekingIterator;
 
 import org.cardanofoundation.lob.app.blockchain_common.service_assistance.MetadataChecker;
 import org.cardanofoundation.lob.app.blockchain_publisher.domain.core.API1BlockchainTransactions;
@@ -52,9 +54,13 @@ import org.cardanofoundation.lob.app.blockchain_reader.BlockchainReaderPublicApi
 public class API1L1TransactionCreator {
 
     private static final int CARDANO_MAX_TRANSACTION_SIZE_BYTES = 16000;
+    // inputs, outputs, fee, auxiliary data hash, witnesses and metadata label wrapping, metadata is estimated separately
+    private static final int L1_TRANSACTION_ENVELOPE_RESERVE_BYTES = 1024;
     public static final String ERROR_SERIALISING_TRANSACTION_ABORT_PROCESSING_ISSUE = "Error serialising transaction, abort processing, issue: {}";
 
     private final BackendService backendService;
+    // organiser UTXOs including our own pending outputs, see PendingUtxoLedger
+    private final UtxoSupplier utxoSupplier;
     private final API1MetadataSerialiser api1MetadataSerialiser;
     private final BlockchainReaderPublicApiIF blockchainReaderPublicApi;
     private final MetadataChecker jsonSchemaMetadataChecker;
@@ -101,84 +107,117 @@ public class API1L1TransactionCreator {
                                                                                     long creationSlot) throws IOException {
         log.info("Splitting {} passedTransactions into blockchain passedTransactions", transactions.size());
 
-        LinkedHashSet<TransactionEntity> transactionsBatch = new LinkedHashSet<>();
+        if (transactions.isEmpty()) {
+            // no transactions to process
+            return Either.right(Optional.empty());
+        }
 
-        for (PeekingIterator<TransactionEntity> it = peekingIterator(transactions.iterator()); it.hasNext();) {
-            TransactionEntity txEntity = it.next();
+        List<TransactionEntity> transactionsBatch = packTransactionChunk(organisationId, transactions, creationSlot);
 
-            transactionsBatch.add(txEntity);
+        // exact size check, in the rare case the estimate was too optimistic we drop transactions from the tail and rebuild
+        while (true) {
+            LinkedHashSet<TransactionEntity> chunk = new LinkedHashSet<>(transactionsBatch);
 
-            Either<ProblemDetail, SerializedCardanoL1Transaction> serializedTransactionsE = serialiseTransactionChunk(organisationId, transactionsBatch, creationSlot);
-            if (serializedTransactionsE.isLeft()) {
-                log.error(ERROR_SERIALISING_TRANSACTION_ABORT_PROCESSING_ISSUE, serializedTransactionsE.getLeft().getDetail());
+            Either<ProblemDetail, SerializedCardanoL1Transaction> serializedTxE = serialiseTransactionChunk(organisationId, chunk, creationSlot);
+            if (serializedTxE.isLeft()) {
+                log.error(ERROR_SERIALISING_TRANSACTION_ABORT_PROCESSING_ISSUE, serializedTxE.getLeft().getDetail());
 
-                return Either.left(serializedTransactionsE.getLeft());
+                return Either.left(serializedTxE.getLeft());
             }
 
-            SerializedCardanoL1Transaction serializedTransaction = serializedTransactionsE.get();
-            byte[] txBytes = serializedTransaction.txBytes();
-
-            TransactionEntity transactionLinePeek = it.peek();
-            if (transactionLinePeek == null) { // next one is last element
-                continue;
-            }
-            Either<ProblemDetail, SerializedCardanoL1Transaction> newChunkTxBytesE = serialiseTransactionChunk(organisationId, Stream.concat(transactionsBatch.stream(), Stream.of(transactionLinePeek))
-                    .collect(Collectors.toSet()), creationSlot);
+            SerializedCardanoL1Transaction serTx = serializedTxE.get();
+            byte[] txBytes = serTx.txBytes();
 
-            if (newChunkTxBytesE.isLeft()) {
-                log.error(ERROR_SERIALISING_TRANSACTION_ABORT_PROCESSING_ISSUE, newChunkTxBytesE.getLeft().getDetail());
+            if (txBytes.length >= CARDANO_MAX_TRANSACTION_SIZE_BYTES && chunk.size() > 1) {
+                int overflowBytes = txBytes.length - CARDANO_MAX_TRANSACTION_SIZE_BYTES + 1;
+                int newSize = shrinkChunk(organisationId, transactionsBatch, overflowBytes);
+                log.warn("Blockchain transaction too big, size: {}, shrinking chunk from {} to {} transactions", txBytes.length, chunk.size(), newSize);
 
-                return Either.left(newChunkTxBytesE.getLeft());
+                transactionsBatch = transactionsBatch.subList(0, newSize);
+                continue;
             }
-            SerializedCardanoL1Transaction newSerializedTransaction = newChunkTxBytesE.get();
-            byte[] newChunkTxBytes = newSerializedTransaction.txBytes();
 
-            if (newChunkTxBytes.length >= CARDANO_MAX_TRANSACTION_SIZE_BYTES) {
-                log.info("Blockchain transaction created, id:{}", TransactionUtil.getTxHash(txBytes));
+            log.info("Blockchain transaction created, id:{}, debugTxOutput:{}", TransactionUtil.getTxHash(txBytes), this.debugStoreOutputTx);
+            potentiallyStoreTxs(creationSlot, serTx);
 
-                log.info("Blockchain transaction created, id:{}, debugTxOutput:{}", TransactionUtil.getTxHash(txBytes), this.debugStoreOutputTx);
-                potentiallyStoreTxs(creationSlot, serializedTransaction);
+            log.info("Transaction size: {}, chunk size: {}", txBytes.length, chunk.size());
 
-                Set<TransactionEntity> remainingTxs = calculateRemainingTransactions(transactions, transactionsBatch);
+            Set<TransactionEntity> remainingTxs = calculateRemainingTransactions(transactions, chunk);
 
-                return Either.right(Optional.of(new API1BlockchainTransactions(organisationId, transactionsBatch, remainingTxs, creationSlot, txBytes, organiserAccount.baseAddress())));
-            }
+            return Either.right(Optional.of(new API1BlockchainTransactions(
+                    organisationId,
+                    chunk,
+                    remainingTxs,
+                    creationSlot,
+                    txBytes,
+                    organiserAccount.baseAddress()
+            )));
         }
+    }
 
-        // if there are any left overs, meaning that the batch is not full, e.g. just a couple of transactions to serialise
-        if (!transactionsBatch.isEmpty()) {
-            log.info("Leftovers batch size: {}", transactionsBatch.size());
+    // greedy packing based on the cbor size of each transaction's metadata fragment, each fragment is serialised only once
+    // and the full L1 transaction is not built here at all
+    List<TransactionEntity> packTransactionChunk(String organisationId,
+                                                 Set<TransactionEntity> transactions,
+                                                 long creationSlot) {
+        boolean organisationCollapsable = API1MetadataSerialiser.isOrganisationCollapsable(organisationId, transactions);
 
-            Either<ProblemDetail, SerializedCardanoL1Transaction> serializedTxE = serialiseTransactionChunk(organisationId, transactionsBatch, creationSlot);
+        List<TransactionEntity> transactionsBatch = new ArrayList<>();
+        long estimatedSize = -1;
 
-            if (serializedTxE.isEmpty()) {
-                log.error(ERROR_SERIALISING_TRANSACTION_ABORT_PROCESSING_ISSUE, serializedTxE.getLeft().getDetail());
+        for (TransactionEntity txEntity : transactions) {
+            int fragmentSize = fragmentSize(txEntity, organisationCollapsable);
 
-                return Either.left(serializedTxE.getLeft());
+            if (estimatedSize < 0) {
+                // metadata envelope (metadata section, org, type) is measured once using the first transaction
+                Set<TransactionEntity> firstTx = Set.of(txEntity);
+                int metadataSize = serialisedSize(api1MetadataSerialiser.serialiseToMetadataMap(organisationId, firstTx, creationSlot));
+
+                estimatedSize = L1_TRANSACTION_ENVELOPE_RESERVE_BYTES + metadataSize;
+                transactionsBatch.add(txEntity);
+                continue;
             }
 
-            SerializedCardanoL1Transaction serTx = serializedTxE.get();
-            byte[] txBytes = serTx.txBytes();
-            log.info("Blockchain transaction created, id:{}, debugTxOutput:{}", TransactionUtil.getTxHash(txBytes), this.debugStoreOutputTx);
+            if (estimatedSize + fragmentSize >= CARDANO_MAX_TRANSACTION_SIZE_BYTES) {
+                break;
+            }
 
-            potentiallyStoreTxs(creationSlot, serTx);
+            estimatedSize += fragmentSize;
+            transactionsBatch.add(txEntity);
+        }
 
-            log.info("Transaction size: {}", txBytes.length);
+        log.info("Packed {} out of {} transactions, estimated L1 transaction size: {}", transactionsBatch.size(), transactions.size(), estimatedSize);
 
-            Set<TransactionEntity> remaining = calculateRemainingTransactions(transactions, transactionsBatch);
+        return transactionsBatch;
+    }
 
-            return Either.right(Optional.of(new API1BlockchainTransactions(
-                    organisationId,
-                    transactionsBatch,
-                    remaining,
-                    creationSlot,
-                    txBytes,
-                    organiserAccount.baseAddress()
-            )));
+    // returns how many transactions from the head of the batch to keep so that at least overflowBytes are released
+    private int shrinkChunk(String organisationId,
+                            List<TransactionEntity> transactionsBatch,
+                            int overflowBytes) {
+        boolean organisationCollapsable = API1MetadataSerialiser.isOrganisationCollapsable(organisationId, new LinkedHashSet<>(transactionsBatch));
+
+        int released = 0;
+        int newSize = transactionsBatch.size();
+        while (newSize > 1 && released < overflowBytes) {
+            newSize--;
+            released += fragmentSize(transactionsBatch.get(newSize), organisationCollapsable);
         }
 
-        // no transactions to process
-        return Either.right(Optional.empty());
+        return newSize;
+    }
+
+    private int fragmentSize(TransactionEntity txEntity,
+                             boolean organisationCollapsable) {
+        return serialisedSize(api1MetadataSerialiser.serialiseTransaction(txEntity, organisationCollapsable));
+    }
+
+    private static int serialisedSize(MetadataMap metadataMap) {
+        try {
+            return CborSerializationUtil.serialize(metadataMap.getMap()).length;
+        } catch (CborException e) {
+            throw new IllegalStateException("Unable to serialise transaction metadata fragment", e);
+        }
     }
 
     // for debug and inspection only
@@ -190,7 +229,8 @@ public class API1L1TransactionCreator {
             Path tmpCborFile = Files.createTempFile(name, ".cbor");
 
             log.info("DebugStoreTx enabled, storing JSON tx metadata to file: {}", tmpJsonTxFile);
-            Files.writeString(tmpJsonTxFile, tx.metadataJson());
+            // json is rendered for inspection only, validation works on the cbor metadata
+            Files.writeString(tmpJsonTxFile, MetadataToJsonNoSchemaConverter.cborBytesToJson(tx.metadataCbor()));
 
             log.info("DebugStoreTx enabled, storing CBOR tx metadata to file: {}", tmpCborFile);
             Files.write(tmpCborFile, tx.metadataCbor());
@@ -204,25 +244,23 @@ public class API1L1TransactionCreator {
         return Sets.difference(transactions, transactionsBatch);
     }
 
-    private Either<ProblemDetail, SerializedCardanoL1Transaction> serialiseTransactionChunk(String organisationId,
+    Either<ProblemDetail, SerializedCardanoL1Transaction> serialiseTransactionChunk(String organisationId,
                                                                                       Set<TransactionEntity> transactionsBatch,
                                                                                       long creationSlot) {
         try {
             MetadataMap metadataMap =
                     api1MetadataSerialiser.serialiseToMetadataMap(organisationId, transactionsBatch, creationSlot);
 
-            Map data = metadataMap.getMap();
-            byte[] bytes = CborSerializationUtil.serialize(data);
-
-            // we use json only for validation with json schema and for debugging (storing to a tmp file)
-            String json = MetadataToJsonNoSchemaConverter.cborBytesToJson(bytes);
-            boolean isValid = jsonSchemaMetadataChecker.checkTransactionMetadata(json);
+            boolean isValid = jsonSchemaMetadataChecker.checkTransactionMetadata(metadataMap);
             if (!isValid) {
                 ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(INTERNAL_SERVER_ERROR, "Metadata is not valid according to the transaction schema, we will not create a transaction!");
                 problemDetail.setTitle("INVALID_TRANSACTION_METADATA");
                 return Either.left(problemDetail);
             }
 
+            Map data = metadataMap.getMap();
+            byte[] bytes = CborSerializationUtil.serialize(data);
+
             Metadata metadata = MetadataBuilder.createMetadata();
             CBORMetadataMap cborMetadataMap = new CBORMetadataMap(data);
 
@@ -232,7 +270,7 @@ public class API1L1TransactionCreator {
 
             byte[] serialisedTx = serialiseTransaction(metadata);
 
-            return Either.right(new SerializedCardanoL1Transaction(serialisedTx, bytes, json));
+            return Either.right(new SerializedCardanoL1Transaction(serialisedTx, bytes));
         } catch (Exception e) {
             log.error("Error serialising metadata to cbor", e);
             ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(INTERNAL_SERVER_ERROR, "%s".formatted(e.getMessage()));
@@ -242,7 +280,9 @@ public class API1L1TransactionCreator {
     }
 
     protected byte[] serialiseTransaction(Metadata metadata) throws CborSerializationException {
-        QuickTxBuilder quickTxBuilder = new QuickTxBuilder(backendService);
+        QuickTxBuilder quickTxBuilder = new QuickTxBuilder(utxoSupplier,
+                new DefaultProtocolParamsSupplier(backendService.getEpochService()),
+                new DefaultTransactionProcessor(backendService.getTransactionService()));
 
         Tx tx = new Tx()
                 .payToAddress(organiserAccount.baseAddress(), Amount.ada(2.0))
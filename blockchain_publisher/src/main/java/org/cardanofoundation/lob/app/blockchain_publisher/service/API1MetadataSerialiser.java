@@ -38,7 +38,7 @@ public class API1MetadataSerialiser {
         }
 
         val txList = MetadataBuilder.createList();
-        transactions.forEach(tx -> txList.add(serialise(tx, organisationCollapsable)));
+        transactions.forEach(tx -> txList.add(serialiseTransaction(tx, organisationCollapsable)));
 
         globalMetadataMap.put("type", "INDIVIDUAL_TRANSACTIONS");
         globalMetadataMap.put("data", txList);
@@ -46,11 +46,17 @@ public class API1MetadataSerialiser {
         return globalMetadataMap;
     }
 
-    private static boolean isOrganisationCollapsable(String organisationId, Set<TransactionEntity> transactions) {
+    public static boolean isOrganisationCollapsable(String organisationId, Set<TransactionEntity> transactions) {
         return transactions.stream()
                 .allMatch(tx -> tx.getOrganisation().getId().equals(organisationId));
     }
 
+    // single entry of the "data" list, used by the packer to estimate the size contribution of each transaction
+    public MetadataMap serialiseTransaction(TransactionEntity transaction,
+                                            boolean isCollapsableOrganisation) {
+        return serialise(transaction, isCollapsableOrganisation);
+    }
+
     private MetadataMap createMetadataSection(long creationSlot) {
         val metadataMap = MetadataBuilder.createMap();
 
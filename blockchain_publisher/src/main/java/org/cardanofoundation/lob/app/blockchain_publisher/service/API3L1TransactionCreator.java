@@ -7,6 +7,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,10 +19,14 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.http.ProblemDetail;
 
+import co.nstant.in.cbor.CborException;
 import co.nstant.in.cbor.model.Map;
 import com.bloxbean.cardano.client.account.Account;
+import com.bloxbean.cardano.client.api.UtxoSupplier;
 import com.bloxbean.cardano.client.api.model.Amount;
 import com.bloxbean.cardano.client.backend.api.BackendService;
+import com.bloxbean.cardano.client.backend.api.DefaultProtocolParamsSupplier;
+import com.bloxbean.cardano.client.backend.api.DefaultTransactionProcessor;
 import com.bloxbean.cardano.client.common.cbor.CborSerializationUtil;
 import com.bloxbean.cardano.client.exception.CborSerializationException;
 import com.bloxbean.cardano.client.function.helper.SignerProviders;
@@ -34,7 +40,7 @@ import com.bloxbean.cardano.client.quicktx.Tx;
 import io.vavr.control.Either;
 
 import org.cardanofoundation.lob.app.blockchain_common.service_assistance.MetadataChecker;
-import org.cardanofoundation.lob.app.blockchain_publisher.domain.core.API3BlockchainTransaction;
+import org.cardanofoundation.lob.app.blockchain_publisher.domain.core.API3BlockchainTransactions;
 import org.cardanofoundation.lob.app.blockchain_publisher.domain.core.SerializedCardanoL1Transaction;
 import org.cardanofoundation.lob.app.blockchain_publisher.domain.entity.reports.ReportEntity;
 import org.cardanofoundation.lob.app.blockchain_reader.BlockchainReaderPublicApiIF;
@@ -43,7 +49,15 @@ import org.cardanofoundation.lob.app.blockchain_reader.BlockchainReaderPublicApi
 @Slf4j
 public class API3L1TransactionCreator {
 
+    private static final int CARDANO_MAX_TRANSACTION_SIZE_BYTES = 16000;
+    // inputs, outputs, fee, auxiliary data hash, witnesses and metadata label wrapping, metadata is estimated separately
+    private static final int L1_TRANSACTION_ENVELOPE_RESERVE_BYTES = 1024;
+    // KERI interaction event: sequence number, identifier prefix, digest and type
+    private static final int KERI_ATTESTATION_RESERVE_BYTES = 256;
+
     private final BackendService backendService;
+    // organiser UTXOs including our own pending outputs, see PendingUtxoLedger
+    private final UtxoSupplier utxoSupplier;
     private final API3MetadataSerialiser api3MetadataSerialiser;
     private final BlockchainReaderPublicApiIF blockchainReaderPublicApi;
     private final MetadataChecker jsonSchemaMetadataChecker;
@@ -68,60 +82,177 @@ public class API3L1TransactionCreator {
         log.info("API3L1TransactionCreator is initialised.");
     }
 
-    public Either<ProblemDetail, API3BlockchainTransaction> pullBlockchainTransaction(
-            ReportEntity reportEntity) {
-        return blockchainReaderPublicApi.getChainTip().flatMap(chainTip -> {
-            MetadataMap metadataMap = api3MetadataSerialiser.serialiseToMetadataMap(reportEntity,
-                    chainTip.getAbsoluteSlot());
-            return handleTransactionCreation(metadataMap, chainTip.getAbsoluteSlot());
-        });
+    /**
+     * Packs as many of the given reports as fit into one L1 transaction, keeping their order.
+     *
+     * @return the L1 transaction with the packed reports and the reports left for the next one, or the problem why
+     * the first report cannot be published
+     */
+    public Either<ProblemDetail, API3BlockchainTransactions> pullBlockchainTransaction(String organisationId,
+                                                                                      List<ReportEntity> reportEntities) {
+        return blockchainReaderPublicApi.getChainTip()
+                .flatMap(chainTip -> handleTransactionCreation(organisationId, reportEntities, chainTip.getAbsoluteSlot()));
     }
 
-    private Either<ProblemDetail, API3BlockchainTransaction> handleTransactionCreation(MetadataMap metadataMap,
-                                                                                 long creationSlot) {
+    private Either<ProblemDetail, API3BlockchainTransactions> handleTransactionCreation(String organisationId,
+                                                                                  List<ReportEntity> reportEntities,
+                                                                                  long creationSlot) {
+        Either<ProblemDetail, List<ReportEntity>> reportsBatchE = packReportChunk(reportEntities, creationSlot);
+        if (reportsBatchE.isLeft()) {
+            return Either.left(reportsBatchE.getLeft());
+        }
+        List<ReportEntity> reportsBatch = reportsBatchE.get();
+
         try {
-            Map data = metadataMap.getMap();
-            byte[] bytes = CborSerializationUtil.serialize(data);
+            // exact size check, the KERI attestation is an interaction on the identifier so it is added only once the
+            // chunk is final, until then its space is reserved
+            SerializedCardanoL1Transaction serializedTx = serialiseReportChunk(organisationId, reportsBatch, creationSlot, false);
+            while (serializedTx.txBytes().length + keriReserveBytes() >= CARDANO_MAX_TRANSACTION_SIZE_BYTES && reportsBatch.size() > 1) {
+                int overflowBytes = serializedTx.txBytes().length + keriReserveBytes() - CARDANO_MAX_TRANSACTION_SIZE_BYTES + 1;
+                int newSize = shrinkChunk(reportsBatch, overflowBytes);
+                log.warn("Blockchain transaction too big, size: {}, shrinking chunk from {} to {} reports", serializedTx.txBytes().length, reportsBatch.size(), newSize);
+
+                reportsBatch = reportsBatch.subList(0, newSize);
+                serializedTx = serialiseReportChunk(organisationId, reportsBatch, creationSlot, false);
+            }
+            if (keriEnabled) {
+                serializedTx = serialiseReportChunk(organisationId, reportsBatch, creationSlot, true);
+            }
 
-            // we use json only for validation with json schema and for debugging (storing to a tmp file)
-            String json = MetadataToJsonNoSchemaConverter.cborBytesToJson(bytes);
+            potentiallyStoreTxs(creationSlot, serializedTx);
 
-            Metadata metadata = MetadataBuilder.createMetadata();
-            CBORMetadataMap cborMetadataMap = new CBORMetadataMap(data);
+            log.info("Transaction size: {}, reports in chunk: {}", serializedTx.txBytes().length, reportsBatch.size());
+
+            return Either.right(new API3BlockchainTransactions(
+                    organisationId,
+                    List.copyOf(reportsBatch),
+                    List.copyOf(reportEntities.subList(reportsBatch.size(), reportEntities.size())),
+                    creationSlot,
+                    serializedTx.txBytes(),
+                    organiserAccount.baseAddress()
+            ));
+        } catch (InvalidPackedMetadataException e) {
+            log.error("Packed metadata of {} reports is not valid according to the transaction schema", e.getReportCount());
+            ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(INTERNAL_SERVER_ERROR, "Packed metadata is not valid according to the transaction schema, we will not create a transaction!");
+            problemDetail.setTitle("INVALID_REPORT_METADATA");
+            return Either.left(problemDetail);
+        } catch (Exception e) {
+            log.error("Error serialising metadata to cbor", e);
+            ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(INTERNAL_SERVER_ERROR, "Error serialising metadata to cbor: %s".formatted(e.getMessage()));
+            problemDetail.setTitle("ERROR_SERIALISING_METADATA");
+            return Either.left(problemDetail);
+        }
+    }
 
-            metadata.put(metadataLabel, cborMetadataMap);
-            if (keriEnabled) {
-                metadata.put(
-                        keriMetadataLabel,
-                        keriService.orElseThrow(
-                                () -> new IllegalStateException("KeriService not available"))
-                                .interactWithIdentifier(cborMetadataMap)); // using the complete data for KERI
+    // greedy packing based on the cbor size of each report entry, every report is checked against the schema on its own
+    Either<ProblemDetail, List<ReportEntity>> packReportChunk(List<ReportEntity> reportEntities,
+                                                              long creationSlot) {
+        List<ReportEntity> reportsBatch = new ArrayList<>();
+        long estimatedSize = -1;
+
+        for (ReportEntity reportEntity : reportEntities) {
+            Either<ProblemDetail, Integer> reportSizeE = checkReport(reportEntity, creationSlot);
+            if (reportSizeE.isLeft()) {
+                if (reportsBatch.isEmpty()) {
+                    return Either.left(reportSizeE.getLeft());
+                }
+                // it fails on its own once it is the first report of the next chunk
+                break;
             }
-            boolean isValid = jsonSchemaMetadataChecker.checkTransactionMetadata(json);
 
-            if (!isValid) {
-                ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(INTERNAL_SERVER_ERROR, "Metadata is not valid according to the transaction schema, we will not create a transaction!");
-                problemDetail.setTitle("INVALID_REPORT_METADATA");
-                return Either.left(problemDetail);
+            if (estimatedSize < 0) {
+                // metadata envelope (metadata section, org, type) is measured with the first report as a single REPORT
+                estimatedSize = L1_TRANSACTION_ENVELOPE_RESERVE_BYTES + keriReserveBytes() + reportSizeE.get();
+                reportsBatch.add(reportEntity);
+                continue;
             }
 
-            log.info("Metadata for tx validated, gonna serialise tx now...");
+            int fragmentSize = fragmentSize(reportEntity);
+            if (estimatedSize + fragmentSize >= CARDANO_MAX_TRANSACTION_SIZE_BYTES) {
+                break;
+            }
 
-            byte[] serialisedTxBytes = serialiseTransaction(metadata);
+            estimatedSize += fragmentSize;
+            reportsBatch.add(reportEntity);
+        }
 
-            SerializedCardanoL1Transaction serializedTx = new SerializedCardanoL1Transaction(serialisedTxBytes, bytes, json);
+        log.info("Packed {} out of {} reports, estimated L1 transaction size: {}", reportsBatch.size(), reportEntities.size(), estimatedSize);
 
-            potentiallyStoreTxs(creationSlot, serializedTx);
+        return Either.right(reportsBatch);
+    }
 
-            return Either.right(new API3BlockchainTransaction(creationSlot, serialisedTxBytes, organiserAccount.baseAddress()));
+    // returns the cbor size of the report serialised as a single REPORT
+    private Either<ProblemDetail, Integer> checkReport(ReportEntity reportEntity,
+                                                      long creationSlot) {
+        try {
+            MetadataMap metadataMap = api3MetadataSerialiser.serialiseToMetadataMap(reportEntity, creationSlot);
+            if (!jsonSchemaMetadataChecker.checkTransactionMetadata(metadataMap)) {
+                ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(INTERNAL_SERVER_ERROR, "Metadata is not valid according to the transaction schema, we will not create a transaction!");
+                problemDetail.setTitle("INVALID_REPORT_METADATA");
+                return Either.left(problemDetail);
+            }
+
+            return Either.right(CborSerializationUtil.serialize(metadataMap.getMap()).length);
         } catch (Exception e) {
-            log.error("Error serialising metadata to cbor", e);
+            log.error("Error serialising metadata to cbor, report:{}", reportEntity.getId(), e);
             ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(INTERNAL_SERVER_ERROR, "Error serialising metadata to cbor: %s".formatted(e.getMessage()));
             problemDetail.setTitle("ERROR_SERIALISING_METADATA");
             return Either.left(problemDetail);
         }
     }
 
+    // returns how many reports from the head of the batch to keep so that at least overflowBytes are released
+    private int shrinkChunk(List<ReportEntity> reportsBatch,
+                            int overflowBytes) {
+        int released = 0;
+        int newSize = reportsBatch.size();
+        while (newSize > 1 && released < overflowBytes) {
+            newSize--;
+            released += fragmentSize(reportsBatch.get(newSize));
+        }
+
+        return newSize;
+    }
+
+    private int fragmentSize(ReportEntity reportEntity) {
+        try {
+            return CborSerializationUtil.serialize(api3MetadataSerialiser.serialiseReport(reportEntity).getMap()).length;
+        } catch (CborException e) {
+            throw new IllegalStateException("Unable to serialise report metadata fragment", e);
+        }
+    }
+
+    private int keriReserveBytes() {
+        return keriEnabled ? KERI_ATTESTATION_RESERVE_BYTES : 0;
+    }
+
+    private SerializedCardanoL1Transaction serialiseReportChunk(String organisationId,
+                                                                List<ReportEntity> reportsBatch,
+                                                                long creationSlot,
+                                                                boolean attest) throws CborException, CborSerializationException {
+        MetadataMap metadataMap = api3MetadataSerialiser.serialiseToMetadataMap(organisationId, reportsBatch, creationSlot);
+        // reports were validated one by one while packing, the packed REPORTS envelope is validated as a whole
+        if (!jsonSchemaMetadataChecker.checkTransactionMetadata(metadataMap)) {
+            throw new InvalidPackedMetadataException(reportsBatch.size());
+        }
+        Map data = metadataMap.getMap();
+        byte[] bytes = CborSerializationUtil.serialize(data);
+
+        Metadata metadata = MetadataBuilder.createMetadata();
+        CBORMetadataMap cborMetadataMap = new CBORMetadataMap(data);
+
+        metadata.put(metadataLabel, cborMetadataMap);
+        if (attest) {
+            metadata.put(
+                    keriMetadataLabel,
+                    keriService.orElseThrow(
+                            () -> new IllegalStateException("KeriService not available"))
+                            .interactWithIdentifier(cborMetadataMap)); // using the complete data for KERI
+        }
+
+        return new SerializedCardanoL1Transaction(serialiseTransaction(metadata), bytes);
+    }
+
     // for debug and inspection only
     private void potentiallyStoreTxs(long creationSlot, SerializedCardanoL1Transaction tx) throws IOException {
         if (debugStoreOutputTx) {
@@ -134,7 +265,8 @@ public class API3L1TransactionCreator {
             Path tmpCborFile = Files.createTempFile(name, ".cbor");
 
             log.info("DebugStoreTx enabled, storing JSON tx metadata to file: {}", tmpJsonTxFile);
-            Files.writeString(tmpJsonTxFile, tx.metadataJson());
+            // json is rendered for inspection only, validation works on the cbor metadata
+            Files.writeString(tmpJsonTxFile, MetadataToJsonNoSchemaConverter.cborBytesToJson(tx.metadataCbor()));
 
             log.info("DebugStoreTx enabled, storing CBOR tx metadata to file: {}", tmpCborFile);
             Files.write(tmpCborFile, tx.metadataCbor());
@@ -142,7 +274,9 @@ public class API3L1TransactionCreator {
     }
 
     protected byte[] serialiseTransaction(Metadata metadata) throws CborSerializationException {
-        QuickTxBuilder quickTxBuilder = new QuickTxBuilder(backendService);
+        QuickTxBuilder quickTxBuilder = new QuickTxBuilder(utxoSupplier,
+                new DefaultProtocolParamsSupplier(backendService.getEpochService()),
+                new DefaultTransactionProcessor(backendService.getTransactionService()));
 
         Tx tx = new Tx()
                 .payToAddress(organiserAccount.baseAddress(), Amount.ada(2.0))
@@ -155,4 +289,19 @@ public class API3L1TransactionCreator {
                 .serialize();
     }
 
+    private static final class InvalidPackedMetadataException extends RuntimeException {
+
+        private final int reportCount;
+
+        InvalidPackedMetadataException(int reportCount) {
+            super("Packed metadata is not valid according to the transaction schema, reports: " + reportCount);
+            this.reportCount = reportCount;
+        }
+
+        int getReportCount() {
+            return reportCount;
+        }
+
+    }
+
 }
@@ -6,6 +6,7 @@ import java.math.BigInteger;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -15,6 +16,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import com.bloxbean.cardano.client.metadata.MetadataBuilder;
+import com.bloxbean.cardano.client.metadata.MetadataList;
 import com.bloxbean.cardano.client.metadata.MetadataMap;
 
 import org.cardanofoundation.lob.app.blockchain_publisher.domain.entity.reports.ReportEntity;
@@ -34,26 +36,68 @@ public class API3MetadataSerialiser {
                                               long creationSlot) {
         MetadataMap globalMetadataMap = MetadataBuilder.createMap();
         globalMetadataMap.put("metadata", createMetadataSection(creationSlot));
-        Optional<org.cardanofoundation.lob.app.organisation.domain.entity.Organisation> byOrganisationId =
-                organisationPublicApi.findByOrganisationId(reportEntity.getOrganisationId());
-        if (byOrganisationId.isPresent()) {
-            Organisation organisation = Organisation.fromOrganisationEntity(byOrganisationId.get());
-            globalMetadataMap.put("org", serialiseOrganisation(organisation));
-        } else {
-            throw new IllegalArgumentException("Organisation not found for id: %s".formatted(reportEntity.getOrganisationId()));
-        }
+        globalMetadataMap.put("org", serialiseOrganisation(reportEntity.getOrganisationId()));
         globalMetadataMap.put("type", "REPORT");
-        globalMetadataMap.put("subType", reportEntity.getReportTemplateType().name());
-        globalMetadataMap.put("interval", reportEntity.getIntervalType().name());
-        globalMetadataMap.put("year", String.valueOf(reportEntity.getYear()));
-        globalMetadataMap.put("mode", reportEntity.getDataMode().name());
-        globalMetadataMap.put("ver", BigInteger.valueOf(reportEntity.getReportVer()));
-        globalMetadataMap.put("period", BigInteger.valueOf(reportEntity.getPeriod()));
-        MetadataMap dataMap = MetadataBuilder.createMap();
-        globalMetadataMap.put("data", createRecursiveMetadataSection(dataMap, reportEntity.getReportData()));
+        putReport(globalMetadataMap, reportEntity);
+
+        return globalMetadataMap;
+    }
+
+    /**
+     * Several reports of one organisation packed into one L1 transaction, type {@code REPORTS} with one entry per
+     * report in {@code data}. Every entry carries the same report fields as a single {@code REPORT}. A single report
+     * is serialised in the {@code REPORT} format.
+     */
+    public MetadataMap serialiseToMetadataMap(String organisationId,
+                                              List<ReportEntity> reportEntities,
+                                              long creationSlot) {
+        if (reportEntities.size() == 1) {
+            return serialiseToMetadataMap(reportEntities.getFirst(), creationSlot);
+        }
+
+        MetadataMap globalMetadataMap = MetadataBuilder.createMap();
+        globalMetadataMap.put("metadata", createMetadataSection(creationSlot));
+        globalMetadataMap.put("org", serialiseOrganisation(organisationId));
+        globalMetadataMap.put("type", "REPORTS");
+
+        MetadataList reportsList = MetadataBuilder.createList();
+        for (ReportEntity reportEntity : reportEntities) {
+            reportsList.add(serialiseReport(reportEntity));
+        }
+        globalMetadataMap.put("data", reportsList);
+
         return globalMetadataMap;
     }
 
+    // one entry of the REPORTS data list
+    public MetadataMap serialiseReport(ReportEntity reportEntity) {
+        MetadataMap reportMap = MetadataBuilder.createMap();
+        putReport(reportMap, reportEntity);
+
+        return reportMap;
+    }
+
+    private void putReport(MetadataMap metadataMap, ReportEntity reportEntity) {
+        metadataMap.put("subType", reportEntity.getReportTemplateType().name());
+        metadataMap.put("interval", reportEntity.getIntervalType().name());
+        metadataMap.put("year", String.valueOf(reportEntity.getYear()));
+        metadataMap.put("mode", reportEntity.getDataMode().name());
+        metadataMap.put("ver", BigInteger.valueOf(reportEntity.getReportVer()));
+        metadataMap.put("period", BigInteger.valueOf(reportEntity.getPeriod()));
+        MetadataMap dataMap = MetadataBuilder.createMap();
+        metadataMap.put("data", createRecursiveMetadataSection(dataMap, reportEntity.getReportData()));
+    }
+
+    private MetadataMap serialiseOrganisation(String organisationId) {
+        Optional<org.cardanofoundation.lob.app.organisation.domain.entity.Organisation> byOrganisationId =
+                organisationPublicApi.findByOrganisationId(organisationId);
+        if (byOrganisationId.isEmpty()) {
+            throw new IllegalArgumentException("Organisation not found for id: %s".formatted(organisationId));
+        }
+
+        return serialiseOrganisation(Organisation.fromOrganisationEntity(byOrganisationId.get()));
+    }
+
     private MetadataMap createRecursiveMetadataSection(
             MetadataMap metadataMap, Map<String, Object> data) {
         data.forEach((key, value) -> {
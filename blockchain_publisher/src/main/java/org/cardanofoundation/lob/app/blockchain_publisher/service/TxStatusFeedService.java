@@ -0,0 +1,123 @@
+package org.cardanofoundation.lob.app.blockchain_publisher.service;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toSet;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Service;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import org.cardanofoundation.lob.app.blockchain_common.domain.FinalityScore;
+import org.cardanofoundation.lob.app.blockchain_common.domain.TxStatusEvent;
+import org.cardanofoundation.lob.app.blockchain_common.domain.TxStatusEventType;
+import org.cardanofoundation.lob.app.blockchain_publisher.domain.core.BlockchainPublishStatus;
+import org.cardanofoundation.lob.app.blockchain_publisher.domain.entity.reports.ReportEntity;
+import org.cardanofoundation.lob.app.blockchain_publisher.domain.entity.txs.L1SubmissionData;
+import org.cardanofoundation.lob.app.blockchain_publisher.domain.entity.txs.TransactionEntity;
+import org.cardanofoundation.lob.app.blockchain_publisher.repository.ReportEntityRepositoryGateway;
+import org.cardanofoundation.lob.app.blockchain_publisher.repository.TransactionEntityRepositoryGateway;
+import org.cardanofoundation.lob.app.blockchain_publisher.service.event_publish.LedgerUpdatedEventPublisher;
+import org.cardanofoundation.lob.app.support.scheduling.OrganisationWorkScheduler;
+
+/**
+ * Applies the status changes pushed by the ledger follower to the transactions and reports carried by the changed L1
+ * transactions, only entities which are not finalised yet are touched. The {@link WatchDogService} remains as a slow
+ * safety net for changes missed by the feed, e.g. while the publisher was down.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TxStatusFeedService {
+
+    private final BlockchainPublishStatusMapper blockchainPublishStatusMapper;
+    private final TransactionEntityRepositoryGateway transactionEntityRepositoryGateway;
+    private final ReportEntityRepositoryGateway reportEntityRepositoryGateway;
+    private final LedgerUpdatedEventPublisher ledgerUpdatedEventPublisher;
+    private final OrganisationWorkScheduler organisationWorkScheduler;
+
+    public void applyEvents(List<TxStatusEvent> events) {
+        // only the latest event of every L1 transaction matters, events come in sequence order
+        Map<String, TxStatusEvent> latestEvents = new LinkedHashMap<>();
+        events.forEach(event -> latestEvents.put(event.getTransactionHash(), event));
+
+        Map<String, Set<TransactionEntity>> txEntitiesByOrgId = transactionEntityRepositoryGateway.findDispatchedTransactionsThatAreNotFinalizedYet(latestEvents.keySet()).stream()
+                .collect(groupingBy(tx -> tx.getOrganisation().getId(), LinkedHashMap::new, toSet()));
+        Map<String, Set<ReportEntity>> reportEntitiesByOrgId = reportEntityRepositoryGateway.findDispatchedReportsV2ThatAreNotFinalizedYet(latestEvents.keySet()).stream()
+                .collect(groupingBy(ReportEntity::getOrganisationId, LinkedHashMap::new, toSet()));
+
+        Set<String> organisationIds = new LinkedHashSet<>(txEntitiesByOrgId.keySet());
+        organisationIds.addAll(reportEntitiesByOrgId.keySet());
+
+        organisationWorkScheduler.runRound("blockchain_publisher.tx_status_feed", List.copyOf(organisationIds), false, organisationId -> {
+            Set<TransactionEntity> txEntities = txEntitiesByOrgId.getOrDefault(organisationId, Set.of());
+            Set<ReportEntity> reportEntities = reportEntitiesByOrgId.getOrDefault(organisationId, Set.of());
+
+            updateTransactions(organisationId, txEntities, latestEvents);
+            updateReports(organisationId, reportEntities, latestEvents);
+
+            return txEntities.size() + reportEntities.size();
+        });
+    }
+
+    private void updateTransactions(String organisationId,
+                                    Set<TransactionEntity> txEntities,
+                                    Map<String, TxStatusEvent> latestEvents) {
+        if (txEntities.isEmpty()) {
+            return;
+        }
+        txEntities.forEach(tx -> tx.setL1SubmissionData(tx.getL1SubmissionData().map(l1SubmissionData -> apply(l1SubmissionData, latestEvents))));
+        transactionEntityRepositoryGateway.storeTransactions(txEntities);
+
+        log.info("Status updated from the tx status feed for {} transactions, organisationId: {}", txEntities.size(), organisationId);
+        ledgerUpdatedEventPublisher.sendTxLedgerUpdatedEvents(organisationId, txEntities);
+    }
+
+    private void updateReports(String organisationId,
+                               Set<ReportEntity> reportEntities,
+                               Map<String, TxStatusEvent> latestEvents) {
+        if (reportEntities.isEmpty()) {
+            return;
+        }
+        reportEntities.forEach(report -> {
+            report.setL1SubmissionData(report.getL1SubmissionData().map(l1SubmissionData -> apply(l1SubmissionData, latestEvents)));
+            reportEntityRepositoryGateway.storeReport(report);
+        });
+
+        log.info("Status updated from the tx status feed for {} reports, organisationId: {}", reportEntities.size(), organisationId);
+        Set<Pair<String, L1SubmissionData>> reports = reportEntities.stream()
+                .map(report -> Pair.of(report.getId(), report.getL1SubmissionData().orElseThrow()))
+                .collect(toSet());
+        ledgerUpdatedEventPublisher.sendReportLedgerUpdatedEvents(organisationId, reports);
+    }
+
+    private L1SubmissionData apply(L1SubmissionData submissionData, Map<String, TxStatusEvent> latestEvents) {
+        TxStatusEvent event = latestEvents.get(submissionData.getTransactionHash().orElseThrow());
+
+        if (event.getType() == TxStatusEventType.ROLLED_BACK) {
+            // the transaction usually comes back with a later block, it is resubmitted only when the watchdog does not
+            // find it on chain any more after its rollback grace period
+            submissionData.setPublishStatus(BlockchainPublishStatus.SUBMITTED);
+            submissionData.setFinalityScore(FinalityScore.VERY_LOW);
+            submissionData.setAbsoluteSlot(null);
+
+            return submissionData;
+        }
+
+        FinalityScore finalityScore = event.getFinalityScore().orElse(FinalityScore.VERY_LOW);
+        submissionData.setAbsoluteSlot(event.getAbsoluteSlot());
+        submissionData.setFinalityScore(finalityScore);
+        submissionData.setPublishStatus(blockchainPublishStatusMapper.convert(finalityScore));
+
+        return submissionData;
+    }
+
+}
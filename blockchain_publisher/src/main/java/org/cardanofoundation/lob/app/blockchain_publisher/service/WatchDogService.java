@@ -1,8 +1,12 @@
 package org.cardanofoundation.lob.app.blockchain_publisher.service;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import jakarta.annotation.PostConstruct;
 
@@ -13,11 +17,8 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Limit;
-import org.springframework.http.ProblemDetail;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import io.vavr.control.Either;
 import org.apache.commons.lang3.tuple.Pair;
 
 import org.cardanofoundation.lob.app.blockchain_common.domain.ChainTip;
@@ -34,6 +35,7 @@ import org.cardanofoundation.lob.app.blockchain_publisher.service.event_publish.
 import org.cardanofoundation.lob.app.blockchain_reader.BlockchainReaderPublicApiIF;
 import org.cardanofoundation.lob.app.organisation.OrganisationPublicApiIF;
 import org.cardanofoundation.lob.app.organisation.domain.entity.Organisation;
+import org.cardanofoundation.lob.app.support.scheduling.OrganisationWorkScheduler;
 
 @RequiredArgsConstructor
 @Service
@@ -46,6 +48,7 @@ public class WatchDogService {
     private final TransactionEntityRepositoryGateway transactionEntityRepositoryGateway;
     private final ReportEntityRepositoryGateway reportEntityRepositoryGateway;
     private final LedgerUpdatedEventPublisher ledgerUpdatedEventPublisher;
+    private final OrganisationWorkScheduler organisationWorkScheduler;
 
     @Value("${lob.blockchain_publisher.watchdog.rollback.grace.period.minutes:15}")
     @Getter
@@ -59,37 +62,60 @@ public class WatchDogService {
         log.info("TransactionsWatchDogService started");
     }
 
-    @Transactional
+    // the chain tip and the on chain details of all organisations' transactions are fetched once per run, the updates
+    // are stored per organisation, each in its own transaction
     public void checkTransactionStatusForOrganisations(int txStatusInspectionLimitPerOrgPullSize) {
-        organisationPublicApiIF.listAll().forEach(org -> {
-            log.debug("Checking transaction statuses for organisation: {}", org.getName());
-            checkTransactionStatusesForOrganisation(org, txStatusInspectionLimitPerOrgPullSize);
-        });
-    }
-
-    private void checkTransactionStatusesForOrganisation(Organisation org, int txStatusInspectionLimitPerOrgPullSize) {
+        List<Organisation> organisations = organisationPublicApiIF.listAll();
+        if (organisations.isEmpty()) {
+            return;
+        }
         ChainTip chainTip = getChainTip();
         if (!chainTip.isSynced()) {
-            log.debug("Chain is not synced, skipping transaction status check for organisation: {}", org.getName());
+            log.debug("Chain is not synced, skipping transaction status check for organisations");
             return;
         }
 
-        Set<TransactionEntity> successfullyUpdatedTxEntities = transactionEntityRepositoryGateway.findDispatchedTransactionsThatAreNotFinalizedYet(org.getId(), Limit.of(txStatusInspectionLimitPerOrgPullSize));
-        if(successfullyUpdatedTxEntities.isEmpty()) {
-            log.debug("No transactions found for status update for organisation: {}", org.getName());
+        Map<String, Set<TransactionEntity>> txEntitiesByOrgId = new LinkedHashMap<>();
+        for (Organisation org : organisations) {
+            log.debug("Checking transaction statuses for organisation: {}", org.getName());
+            Set<TransactionEntity> txEntities = transactionEntityRepositoryGateway.findDispatchedTransactionsThatAreNotFinalizedYet(org.getId(), Limit.of(txStatusInspectionLimitPerOrgPullSize));
+            if (txEntities.isEmpty()) {
+                log.debug("No transactions found for status update for organisation: {}", org.getName());
+                continue;
+            }
+            txEntitiesByOrgId.put(org.getId(), txEntities);
+        }
+        if (txEntitiesByOrgId.isEmpty()) {
             return;
         }
+
+        Map<String, OnChainTxDetails> txDetails = getTxDetails(txEntitiesByOrgId.values().stream()
+                .flatMap(Set::stream)
+                .map(tx -> getL1SubmissionData(tx.getL1SubmissionData())));
+
+        organisationWorkScheduler.runRound("blockchain_publisher.watchdog.transactions", List.copyOf(txEntitiesByOrgId.keySet()), false, organisationId -> {
+            Set<TransactionEntity> txEntities = txEntitiesByOrgId.get(organisationId);
+            updateTransactionStatusesForOrganisation(organisationId, txEntities, chainTip, txDetails);
+
+            return txEntities.size();
+        });
+    }
+
+    private void updateTransactionStatusesForOrganisation(String organisationId,
+                                                          Set<TransactionEntity> successfullyUpdatedTxEntities,
+                                                          ChainTip chainTip,
+                                                          Map<String, OnChainTxDetails> txDetails) {
         successfullyUpdatedTxEntities.forEach(tx -> {
             log.info("Checking transaction status for transaction: {}", tx.getId());
-            L1SubmissionData l1SubmissionData1 = tx.getL1SubmissionData().orElseThrow(() -> new RuntimeException("Failed to get L1 submission data"));
-            tx.setL1SubmissionData(Optional.of(updateL1SubmissionData(l1SubmissionData1, chainTip)));
+            L1SubmissionData l1SubmissionData1 = getL1SubmissionData(tx.getL1SubmissionData());
+            tx.setL1SubmissionData(Optional.of(updateL1SubmissionData(l1SubmissionData1, chainTip, txDetails)));
 
         });
         transactionEntityRepositoryGateway.storeTransactions(successfullyUpdatedTxEntities);
 
         log.info("Status updated for {} transactions", successfullyUpdatedTxEntities.size());
         // notify accounting core about updated transactions
-        ledgerUpdatedEventPublisher.sendTxLedgerUpdatedEvents(org.getId(), successfullyUpdatedTxEntities);
+        ledgerUpdatedEventPublisher.sendTxLedgerUpdatedEvents(organisationId, successfullyUpdatedTxEntities);
 
     }
 
@@ -109,16 +135,11 @@ public class WatchDogService {
         }
     }
 
-    private L1SubmissionData updateL1SubmissionData(L1SubmissionData submissionData, ChainTip chainTip) {
+    private L1SubmissionData updateL1SubmissionData(L1SubmissionData submissionData, ChainTip chainTip, Map<String, OnChainTxDetails> txDetails) {
         Long txCreationSlot = submissionData.getCreationSlot().orElseThrow(() -> new RuntimeException("Failed to get tx creation slot"));
-        String txHash = submissionData.getTransactionHash().orElseThrow(() -> new RuntimeException("Failed to get tx hash"));
+        String txHash = getTransactionHash(submissionData);
         log.info("Checking transaction status changes for txHash:{}", txHash);
-        Either<ProblemDetail, Optional<OnChainTxDetails>> txDetails = blockchainReaderPublicApi.getTxDetails(txHash);
-
-        Optional<OnChainTxDetails> onChainTxDetails = txDetails.getOrElseThrow(() -> {
-            log.error("Failed to get tx details for txHash:{}", txHash);
-            return new RuntimeException("Failed to get tx details for txHash:" + txHash);
-        });
+        Optional<OnChainTxDetails> onChainTxDetails = Optional.ofNullable(txDetails.get(txHash));
 
         OnChainStatus onChainStatus = getOnChainStatus(onChainTxDetails, txCreationSlot, chainTip);
 
@@ -142,30 +163,69 @@ public class WatchDogService {
         });
     }
 
-    @Transactional
-    public void checkReportV2StatusForOrganisations(int txStatusInspectionLimitPerOrgPullSize) {
-        organisationPublicApiIF.listAll().forEach(org -> {
-            log.debug("Checking transaction statuses for organisation: {}", org.getName());
-            checkReportV2StatusForOrganisation(org, txStatusInspectionLimitPerOrgPullSize);
+    // many entities can share one L1 transaction, every hash is looked up once
+    private Map<String, OnChainTxDetails> getTxDetails(Stream<L1SubmissionData> submissionData) {
+        Set<String> txHashes = submissionData.map(WatchDogService::getTransactionHash).collect(Collectors.toSet());
+
+        return blockchainReaderPublicApi.getTxDetails(txHashes).getOrElseThrow(() -> {
+            log.error("Failed to get tx details for txHashes:{}", txHashes);
+            return new RuntimeException("Failed to get tx details for txHashes:" + txHashes);
         });
     }
 
-    private void checkReportV2StatusForOrganisation(Organisation org, int txStatusInspectionLimitPerOrgPullSize) {
+    private static L1SubmissionData getL1SubmissionData(Optional<L1SubmissionData> l1SubmissionData) {
+        return l1SubmissionData.orElseThrow(() -> new RuntimeException("Failed to get L1 submission data"));
+    }
+
+    private static String getTransactionHash(L1SubmissionData submissionData) {
+        return submissionData.getTransactionHash().orElseThrow(() -> new RuntimeException("Failed to get tx hash"));
+    }
+
+    public void checkReportV2StatusForOrganisations(int txStatusInspectionLimitPerOrgPullSize) {
+        List<Organisation> organisations = organisationPublicApiIF.listAll();
+        if (organisations.isEmpty()) {
+            return;
+        }
         ChainTip chainTip = getChainTip();
         if (!chainTip.isSynced()) {
-            log.info("Chain is not synced, skipping transaction status check for organisation: {}", org.getName());
+            log.info("Chain is not synced, skipping report status check for organisations");
             return;
         }
 
-        Set<ReportEntity> reportEntities = reportEntityRepositoryGateway.findDispatchedReportsV2ThatAreNotFinalizedYet(org.getId(), Limit.of(txStatusInspectionLimitPerOrgPullSize));
-        if(reportEntities.isEmpty()) {
-            log.debug("No reports found for status update for organisation: {}", org.getName());
+        Map<String, Set<ReportEntity>> reportEntitiesByOrgId = new LinkedHashMap<>();
+        for (Organisation org : organisations) {
+            log.debug("Checking transaction statuses for organisation: {}", org.getName());
+            Set<ReportEntity> reportEntities = reportEntityRepositoryGateway.findDispatchedReportsV2ThatAreNotFinalizedYet(org.getId(), Limit.of(txStatusInspectionLimitPerOrgPullSize));
+            if (reportEntities.isEmpty()) {
+                log.debug("No reports found for status update for organisation: {}", org.getName());
+                continue;
+            }
+            reportEntitiesByOrgId.put(org.getId(), reportEntities);
+        }
+        if (reportEntitiesByOrgId.isEmpty()) {
             return;
         }
+
+        Map<String, OnChainTxDetails> txDetails = getTxDetails(reportEntitiesByOrgId.values().stream()
+                .flatMap(Set::stream)
+                .map(report -> getL1SubmissionData(report.getL1SubmissionData())));
+
+        organisationWorkScheduler.runRound("blockchain_publisher.watchdog.reports", List.copyOf(reportEntitiesByOrgId.keySet()), false, organisationId -> {
+            Set<ReportEntity> reportEntities = reportEntitiesByOrgId.get(organisationId);
+            updateReportStatusesForOrganisation(organisationId, reportEntities, chainTip, txDetails);
+
+            return reportEntities.size();
+        });
+    }
+
+    private void updateReportStatusesForOrganisation(String organisationId,
+                                                     Set<ReportEntity> reportEntities,
+                                                     ChainTip chainTip,
+                                                     Map<String, OnChainTxDetails> txDetails) {
         reportEntities.forEach(report -> {
             log.info("Checking transaction status for report: {}", report.getId());
-            L1SubmissionData l1SubmissionData = report.getL1SubmissionData().orElseThrow(() -> new RuntimeException("Failed to get L1 submission data"));
-            report.setL1SubmissionData(Optional.of(updateL1SubmissionData(l1SubmissionData, chainTip)));
+            L1SubmissionData l1SubmissionData = getL1SubmissionData(report.getL1SubmissionData());
+            report.setL1SubmissionData(Optional.of(updateL1SubmissionData(l1SubmissionData, chainTip, txDetails)));
 
             reportEntityRepositoryGateway.storeReport(report);
             log.info("Status updated for report: {}", report.getId());
@@ -173,6 +233,6 @@ public class WatchDogService {
         // notify accounting core about updated report
         // collect to set of pairs of reportId and l1SubmissionData
         Set<Pair<String, L1SubmissionData>> reports = reportEntities.stream().filter(r -> r.getL1SubmissionData().isPresent()).map(report -> Pair.of(report.getId(), report.getL1SubmissionData().get())).collect(Collectors.toSet());
-        ledgerUpdatedEventPublisher.sendReportLedgerUpdatedEvents(org.getId(), reports);
+        ledgerUpdatedEventPublisher.sendReportLedgerUpdatedEvents(organisationId, reports);
     }
 }
@@ -1,5 +1,10 @@
 package org.cardanofoundation.lob.app.blockchain_publisher.service.dispatch;
 
+import static java.util.stream.Collectors.toSet;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -13,21 +18,23 @@ import org.springframework.http.ProblemDetail;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.bloxbean.cardano.client.api.exception.ApiException;
 import io.vavr.control.Either;
 import org.apache.commons.lang3.tuple.Pair;
 
-import org.cardanofoundation.lob.app.blockchain_publisher.domain.core.API3BlockchainTransaction;
+import org.cardanofoundation.lob.app.blockchain_publisher.domain.core.API3BlockchainTransactions;
+import org.cardanofoundation.lob.app.blockchain_common.BlockchainException;
 import org.cardanofoundation.lob.app.blockchain_publisher.domain.core.BlockchainPublishStatus;
-import org.cardanofoundation.lob.app.blockchain_publisher.domain.core.L1Submission;
 import org.cardanofoundation.lob.app.blockchain_publisher.domain.entity.reports.ReportEntity;
 import org.cardanofoundation.lob.app.blockchain_publisher.domain.entity.txs.L1SubmissionData;
 import org.cardanofoundation.lob.app.blockchain_publisher.repository.ReportEntityRepositoryGateway;
 import org.cardanofoundation.lob.app.blockchain_publisher.service.API3L1TransactionCreator;
 import org.cardanofoundation.lob.app.blockchain_publisher.service.event_publish.LedgerUpdatedEventPublisher;
+import org.cardanofoundation.lob.app.blockchain_publisher.service.transation_submit.L1ConfirmationTracker;
+import org.cardanofoundation.lob.app.blockchain_publisher.service.transation_submit.L1SubmissionLock;
 import org.cardanofoundation.lob.app.blockchain_publisher.service.transation_submit.TransactionSubmissionService;
 import org.cardanofoundation.lob.app.organisation.OrganisationPublicApi;
 import org.cardanofoundation.lob.app.organisation.domain.entity.Organisation;
+import org.cardanofoundation.lob.app.support.scheduling.OrganisationWorkScheduler;
 
 @Service
 @Slf4j
@@ -40,110 +47,151 @@ public class BlockchainReportsDispatcher {
     private final API3L1TransactionCreator api3L1TransactionCreator;
     private final TransactionSubmissionService transactionSubmissionService;
     private final LedgerUpdatedEventPublisher ledgerUpdatedEventPublisher;
+    private final L1ConfirmationTracker l1ConfirmationTracker;
+    private final L1SubmissionLock l1SubmissionLock;
+    private final OrganisationWorkScheduler organisationWorkScheduler;
 
     @Value("${lob.blockchain_publisher.dispatcher.pullBatchSize:50}")
     private int pullTransactionsBatchSize = 50;
 
-    @Transactional
+    // every organisation in its own transaction, see OrganisationWorkScheduler
     public void dispatchReports() {
-        for (Organisation organisation : organisationPublicApi.listAll()) {
-            String organisationId = organisation.getId();
+        if (l1ConfirmationTracker.isAtCapacity()) {
+            log.debug("Too many pending L1 submissions, skipping reports dispatch.");
+            return;
+        }
 
-            Set<ReportEntity> reports = reportEntityRepositoryGateway.findReportsV2ByStatus(organisationId, pullTransactionsBatchSize);
-            int reportsCount = reports.size();
+        List<String> organisationIds = organisationPublicApi.listAll().stream().map(Organisation::getId).toList();
 
-            if (reportsCount > 0) {
-                log.info("Dispatching reports for organisationId: {}, report count:{}", organisationId, reportsCount);
-                Set<ReportEntity> toDispatch = dispatchingStrategy.apply(organisationId, reports);
+        organisationWorkScheduler.runRound("blockchain_publisher.reports_dispatch", organisationIds, false, this::dispatchOrganisationReports);
+    }
 
-                dispatchReports(organisationId, toDispatch);
-            } else {
-                log.debug("No pending reports to dispatch for organisationId: {}", organisationId);
-            }
+    // returns the number of reports that were waiting to be dispatched
+    private int dispatchOrganisationReports(String organisationId) {
+        Set<ReportEntity> reports = reportEntityRepositoryGateway.findReportsV2ByStatus(organisationId, pullTransactionsBatchSize);
+        int reportsCount = reports.size();
+
+        if (reportsCount > 0) {
+            log.info("Dispatching reports for organisationId: {}, report count:{}", organisationId, reportsCount);
+            Set<ReportEntity> toDispatch = dispatchingStrategy.apply(organisationId, reports);
+
+            dispatchReports(organisationId, toDispatch);
+        } else {
+            log.debug("No pending reports to dispatch for organisationId: {}", organisationId);
         }
+
+        return reportsCount;
     }
 
     @Transactional
     public void dispatchReports(String organisationId,
                                 Set<ReportEntity> reportEntities) {
-        for (ReportEntity reportEntity : reportEntities) {
-            dispatchReport(organisationId, reportEntity);
-        }
-    }
-
-    @Transactional
-    public void dispatchReport(String organisationId, ReportEntity reportEntity) {
-        Either<ProblemDetail, API3BlockchainTransaction> api3BlockchainTransactionE = createAndSendBlockchainTransactions(reportEntity);
-        if (api3BlockchainTransactionE.isEmpty()) {
-            L1SubmissionData l1SubmissionData = L1SubmissionData.builder()
-                    .publishRetry(reportEntity.getL1SubmissionData().map(L1SubmissionData::getPublishRetry).orElse(0L) + 1L)
-                    .publishStatusErrorReason(Objects.requireNonNull(api3BlockchainTransactionE.getLeft().getDetail()))
-                    .publishStatus(reportEntity.getL1SubmissionData().map(L1SubmissionData::getPublishRetry).orElse(0L) >= 5L ? BlockchainPublishStatus.ERROR : BlockchainPublishStatus.STORED)
-                    .build();
-            reportEntity.setL1SubmissionData(Optional.of(l1SubmissionData));
-            reportEntityRepositoryGateway.storeReport(reportEntity);
-            ledgerUpdatedEventPublisher.sendReportLedgerUpdatedEvents(organisationId, Set.of(
-                    Pair.of(reportEntity.getId(), l1SubmissionData)
-            ));
+        List<ReportEntity> remaining = new ArrayList<>(reportEntities);
+
+        while (!remaining.isEmpty()) {
+            List<ReportEntity> chunk = remaining;
+            // checked together with the submission, other organisations and the transactions submit in between our chunks
+            Optional<List<ReportEntity>> remainingM = l1SubmissionLock.callExclusively(() -> {
+                if (l1ConfirmationTracker.isAtCapacity()) {
+                    log.info("Too many pending L1 submissions, {} reports will be dispatched in the next run, organisationId: {}", chunk.size(), organisationId);
+                    return Optional.empty();
+                }
+
+                return Optional.of(dispatchReportsChunk(organisationId, chunk));
+            });
+            if (remainingM.isEmpty()) {
+                return;
+            }
+            remaining = remainingM.orElseThrow();
         }
     }
 
+    /**
+     * Publishes as many of the given reports as fit into one L1 transaction.
+     *
+     * @return reports which are left for the next L1 transaction
+     */
     @Transactional
-    public Either<ProblemDetail, API3BlockchainTransaction> createAndSendBlockchainTransactions(ReportEntity reportEntity) {
-        log.info("Creating and sending blockchain transactions for report:{}", reportEntity.getId());
+    public List<ReportEntity> dispatchReportsChunk(String organisationId,
+                                                   List<ReportEntity> reportEntities) {
+        log.info("Creating and sending blockchain transaction for reports, organisationId:{}, reports count:{}", organisationId, reportEntities.size());
 
-        Either<ProblemDetail, API3BlockchainTransaction> serialisedTxE = api3L1TransactionCreator.pullBlockchainTransaction(reportEntity);
+        Either<ProblemDetail, API3BlockchainTransactions> serialisedTxE = api3L1TransactionCreator.pullBlockchainTransaction(organisationId, reportEntities);
 
         if (serialisedTxE.isLeft()) {
             ProblemDetail problem = serialisedTxE.getLeft();
-
             log.error("Error pulling blockchain transaction, problem: {}", problem);
 
-            return serialisedTxE;
+            // only the first report is known to be the problem, the rest gets its own chance
+            markFailed(organisationId, List.of(reportEntities.getFirst()), problem);
+
+            return reportEntities.subList(1, reportEntities.size());
         }
 
-        API3BlockchainTransaction serialisedTx = serialisedTxE.get();
+        API3BlockchainTransactions serialisedTx = serialisedTxE.get();
         try {
-            sendTransactionOnChainAndUpdateDb(reportEntity, serialisedTx);
-
-            return serialisedTxE;
-        } catch (ApiException e) {
+            sendTransactionOnChainAndUpdateDb(serialisedTx);
+        } catch (BlockchainException e) {
             ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR, "%s".formatted(e.getMessage()));
             problem.setTitle("ERROR_PUSHING_TRANSACTION");
-            return Either.left(problem);
+            log.error("Error pushing blockchain transaction, problem: {}", problem);
+
+            markFailed(organisationId, serialisedTx.submittedReports(), problem);
         }
 
+        return serialisedTx.remainingReports();
+    }
+
+    private void markFailed(String organisationId,
+                            List<ReportEntity> reportEntities,
+                            ProblemDetail problem) {
+        Set<Pair<String, L1SubmissionData>> statuses = new HashSet<>();
+
+        for (ReportEntity reportEntity : reportEntities) {
+            L1SubmissionData l1SubmissionData = L1SubmissionData.builder()
+                    .publishRetry(reportEntity.getL1SubmissionData().map(L1SubmissionData::getPublishRetry).orElse(0L) + 1L)
+                    .publishStatusErrorReason(Objects.requireNonNull(problem.getDetail()))
+                    .publishStatus(reportEntity.getL1SubmissionData().map(L1SubmissionData::getPublishRetry).orElse(0L) >= 5L ? BlockchainPublishStatus.ERROR : BlockchainPublishStatus.STORED)
+                    .build();
+            reportEntity.setL1SubmissionData(Optional.of(l1SubmissionData));
+            reportEntityRepositoryGateway.storeReport(reportEntity);
+            statuses.add(Pair.of(reportEntity.getId(), l1SubmissionData));
+        }
+
+        ledgerUpdatedEventPublisher.sendReportLedgerUpdatedEvents(organisationId, statuses);
     }
 
     @Transactional
-    public void sendTransactionOnChainAndUpdateDb(ReportEntity report, API3BlockchainTransaction api3BlockchainTransaction) throws ApiException {
-        byte[] reportTxData = api3BlockchainTransaction.serialisedTxData();
+    public void sendTransactionOnChainAndUpdateDb(API3BlockchainTransactions api3BlockchainTransactions) {
+        byte[] reportsTxData = api3BlockchainTransactions.serialisedTxData();
 
-        L1Submission l1SubmissionData = transactionSubmissionService.submitTransactionWithPossibleConfirmation(reportTxData, api3BlockchainTransaction.receiverAddress());
+        // confirmation is followed up by the L1ConfirmationTracker, the next transaction can already spend our change
+        String txHash = transactionSubmissionService.submitTransaction(reportsTxData);
 
-        String txHash = l1SubmissionData.txHash();
-        Optional<Long> txAbsoluteSlotM = l1SubmissionData.absoluteSlot();
+        long creationSlot = api3BlockchainTransactions.creationSlot();
+        List<ReportEntity> submittedReports = api3BlockchainTransactions.submittedReports();
 
-        long creationSlot = api3BlockchainTransaction.creationSlot();
+        Set<Pair<String, L1SubmissionData>> statuses = new HashSet<>();
+        for (ReportEntity report : submittedReports) {
+            updateTransactionStatuses(txHash, creationSlot, report);
+            statuses.add(Pair.of(report.getId(), report.getL1SubmissionData().orElseThrow()));
+        }
 
-        updateTransactionStatuses(txHash, txAbsoluteSlotM, creationSlot, report);
+        l1ConfirmationTracker.trackReports(txHash, reportsTxData, api3BlockchainTransactions.receiverAddress(),
+                submittedReports.stream().map(ReportEntity::getId).collect(toSet()));
 
-        ledgerUpdatedEventPublisher.sendReportLedgerUpdatedEvents(report.getOrganisationId(), Set.of(
-                Pair.of(report.getId(), report.getL1SubmissionData().get())
-        ));
+        ledgerUpdatedEventPublisher.sendReportLedgerUpdatedEvents(api3BlockchainTransactions.organisationId(), statuses);
 
-        log.info("Blockchain transaction submitted (report), l1SubmissionData:{}", l1SubmissionData);
+        log.info("Blockchain transaction submitted (reports), txHash:{}, reports count:{}", txHash, submittedReports.size());
     }
 
     @Transactional
     public void updateTransactionStatuses(String txHash,
-                                             Optional<Long> absoluteSlot,
                                              long creationSlot,
                                              ReportEntity reportEntity) {
 
         reportEntity.setL1SubmissionData(Optional.of(L1SubmissionData.builder()
                     .transactionHash(txHash)
-                    .absoluteSlot(absoluteSlot.orElse(null)) // if tx is not confirmed yet, slot will not be available
                     .creationSlot(creationSlot)
                     .publishStatus(BlockchainPublishStatus.SUBMITTED)
                     .build()
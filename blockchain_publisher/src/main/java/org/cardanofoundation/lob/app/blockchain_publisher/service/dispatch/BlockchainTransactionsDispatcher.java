@@ -3,7 +3,11 @@ package org.cardanofoundation.lob.app.blockchain_publisher.service.dispatch;
 import static org.cardanofoundation.lob.app.blockchain_publisher.domain.core.BlockchainPublishStatus.SUBMITTED;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 
+import static java.util.stream.Collectors.toSet;
+
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -16,23 +20,23 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ProblemDetail;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.bloxbean.cardano.client.api.exception.ApiException;
 import io.vavr.control.Either;
 
 import org.cardanofoundation.lob.app.blockchain_common.BlockchainException;
 import org.cardanofoundation.lob.app.blockchain_publisher.domain.core.API1BlockchainTransactions;
 import org.cardanofoundation.lob.app.blockchain_publisher.domain.core.BlockchainPublishStatus;
-import org.cardanofoundation.lob.app.blockchain_publisher.domain.core.L1Submission;
 import org.cardanofoundation.lob.app.blockchain_publisher.domain.entity.txs.L1SubmissionData;
 import org.cardanofoundation.lob.app.blockchain_publisher.domain.entity.txs.TransactionEntity;
 import org.cardanofoundation.lob.app.blockchain_publisher.repository.TransactionEntityRepositoryGateway;
 import org.cardanofoundation.lob.app.blockchain_publisher.service.API1L1TransactionCreator;
 import org.cardanofoundation.lob.app.blockchain_publisher.service.event_publish.LedgerUpdatedEventPublisher;
+import org.cardanofoundation.lob.app.blockchain_publisher.service.transation_submit.L1ConfirmationTracker;
+import org.cardanofoundation.lob.app.blockchain_publisher.service.transation_submit.L1SubmissionLock;
 import org.cardanofoundation.lob.app.blockchain_publisher.service.transation_submit.TransactionSubmissionService;
 import org.cardanofoundation.lob.app.organisation.OrganisationPublicApi;
 import org.cardanofoundation.lob.app.organisation.domain.entity.Organisation;
+import org.cardanofoundation.lob.app.support.scheduling.OrganisationWorkScheduler;
 
 @Service
 @Slf4j
@@ -45,6 +49,9 @@ public class BlockchainTransactionsDispatcher {
     private final TransactionSubmissionService transactionSubmissionService;
     private final LedgerUpdatedEventPublisher ledgerUpdatedEventPublisher;
     private final DispatchingStrategy<TransactionEntity> dispatchingStrategy;
+    private final L1ConfirmationTracker l1ConfirmationTracker;
+    private final L1SubmissionLock l1SubmissionLock;
+    private final OrganisationWorkScheduler organisationWorkScheduler;
 
     @Value("${lob.blockchain_publisher.dispatcher.pullBatchSize:500}")
     private int pullTransactionsBatchSize = 50;
@@ -55,30 +62,65 @@ public class BlockchainTransactionsDispatcher {
         log.info("DispatchStrategy:{}", dispatchingStrategy.getClass().getSimpleName());
     }
 
-    @Transactional
+    // every organisation in its own transaction, see OrganisationWorkScheduler
     public void dispatchTransactions() {
         log.debug("Dispatching txs to the cardano blockchain...");
 
-        for (Organisation organisation : organisationPublicApi.listAll()) {
-            String organisationId = organisation.getId();
-            Set<TransactionEntity> transactionsBatch = transactionEntityRepositoryGateway.findTransactionsReadyToBeDispatched(organisationId, pullTransactionsBatchSize);
-            Set<TransactionEntity> transactionToDispatch = dispatchingStrategy.apply(organisationId, transactionsBatch);
-            // unlock other transactions
-            HashSet<TransactionEntity> toUnlock = new HashSet<>(transactionsBatch);
-            toUnlock.removeAll(transactionToDispatch);
-            transactionEntityRepositoryGateway.unlockTransactions(toUnlock);
-            int dispatchTxCount = transactionToDispatch.size();
-            if (dispatchTxCount > 0) {
-                log.info("Dispatching txs for organisationId:{}, tx count:{}", organisationId, dispatchTxCount);
-                dispatchTransactionsBatch(organisationId, transactionToDispatch);
-            }
+        if (l1ConfirmationTracker.isAtCapacity()) {
+            log.debug("Too many pending L1 submissions, skipping dispatch.");
+            return;
         }
+
+        List<String> organisationIds = organisationPublicApi.listAll().stream().map(Organisation::getId).toList();
+
+        organisationWorkScheduler.runRound("blockchain_publisher.transactions_dispatch", organisationIds, false, this::dispatchOrganisationTransactions);
+    }
+
+    // returns the number of transactions that were ready to be dispatched
+    private int dispatchOrganisationTransactions(String organisationId) {
+        Set<TransactionEntity> transactionsBatch = transactionEntityRepositoryGateway.findTransactionsReadyToBeDispatched(organisationId, pullTransactionsBatchSize);
+        Set<TransactionEntity> transactionToDispatch = dispatchingStrategy.apply(organisationId, transactionsBatch);
+        // unlock other transactions
+        HashSet<TransactionEntity> toUnlock = new HashSet<>(transactionsBatch);
+        toUnlock.removeAll(transactionToDispatch);
+        transactionEntityRepositoryGateway.unlockTransactions(toUnlock);
+        int dispatchTxCount = transactionToDispatch.size();
+        if (dispatchTxCount > 0) {
+            log.info("Dispatching txs for organisationId:{}, tx count:{}", organisationId, dispatchTxCount);
+            dispatchTransactionsBatch(organisationId, transactionToDispatch);
+        }
+
+        return transactionsBatch.size();
     }
 
     private void dispatchTransactionsBatch(String organisationId,
                                            Set<TransactionEntity> transactionEntitiesBatch) {
         log.info("Dispatching passedTransactions for organisation: {}", organisationId);
         transactionEntityRepositoryGateway.lockTransactions(transactionEntitiesBatch);
+
+        // every L1 transaction spends the change of the previous one, so they can be submitted back to back
+        Set<TransactionEntity> remainingTransactions = transactionEntitiesBatch;
+        while (!remainingTransactions.isEmpty()) {
+            Set<TransactionEntity> chunk = remainingTransactions;
+            // checked together with the submission, other organisations and the reports submit in between our chunks
+            Optional<Set<TransactionEntity>> remainingTransactionsM = l1SubmissionLock.callExclusively(() -> {
+                if (l1ConfirmationTracker.isAtCapacity()) {
+                    log.info("Too many pending L1 submissions, {} transactions will be dispatched in the next run, organisationId:{}", chunk.size(), organisationId);
+                    return Optional.empty();
+                }
+
+                return dispatchTransactionsChunk(organisationId, chunk);
+            });
+            if (remainingTransactionsM.isEmpty()) {
+                return;
+            }
+            remainingTransactions = remainingTransactionsM.orElseThrow();
+        }
+    }
+
+    // returns transactions which did not fit into the submitted L1 transaction, empty if nothing was submitted
+    private Optional<Set<TransactionEntity>> dispatchTransactionsChunk(String organisationId,
+                                                                       Set<TransactionEntity> transactionEntitiesBatch) {
         Either<ProblemDetail, Optional<API1BlockchainTransactions>> blockchainTransactionsM = createAndSendBlockchainTransactions(organisationId, transactionEntitiesBatch);
 
         if (blockchainTransactionsM.isEmpty()) {
@@ -90,7 +132,7 @@ public class BlockchainTransactionsDispatcher {
                             .build()
             )));
             ledgerUpdatedEventPublisher.sendTxLedgerUpdatedEvents(organisationId, transactionEntitiesBatch);
-            return;
+            return Optional.empty();
         }
 
         API1BlockchainTransactions blockchainTransactions = blockchainTransactionsM.get().orElse(null);
@@ -104,7 +146,7 @@ public class BlockchainTransactionsDispatcher {
                             .build()
             )));
             ledgerUpdatedEventPublisher.sendTxLedgerUpdatedEvents(organisationId, transactionEntitiesBatch);
-            return;
+            return Optional.empty();
         }
 
 
@@ -113,6 +155,8 @@ public class BlockchainTransactionsDispatcher {
         transactionEntityRepositoryGateway.unlockTransactions(blockchainTransactions.remainingTransactions());
         transactionEntityRepositoryGateway.unlockTransactions(blockchainTransactions.submittedTransactions());
         log.info("Submitted tx count:{}, remainingTxCount:{}", submittedTxCount, remainingTxCount);
+
+        return Optional.of(new LinkedHashSet<>(blockchainTransactions.remainingTransactions()));
     }
 
     private Either<ProblemDetail, Optional<API1BlockchainTransactions>> createAndSendBlockchainTransactions(String organisationId,
@@ -145,7 +189,7 @@ public class BlockchainTransactionsDispatcher {
             sendTransactionOnChainAndUpdateDb(serialisedTx);
 
             return Either.right(Optional.of(serialisedTx));
-        } catch (ApiException | BlockchainException e) {
+        } catch (BlockchainException e) {
             log.error("Error sending transaction on chain and / or updating db", e);
             ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(INTERNAL_SERVER_ERROR, e.getMessage());
             problemDetail.setTitle("ERROR_PUSHING_TRANSACTION");
@@ -160,29 +204,29 @@ public class BlockchainTransactionsDispatcher {
 
     }
 
-    private void sendTransactionOnChainAndUpdateDb(API1BlockchainTransactions blockchainTransactions) throws ApiException, InterruptedException {
+    private void sendTransactionOnChainAndUpdateDb(API1BlockchainTransactions blockchainTransactions) {
         byte[] txData = blockchainTransactions.serialisedTxData();
-        L1Submission l1SubmissionData = transactionSubmissionService.submitTransactionWithPossibleConfirmation(txData, blockchainTransactions.receiverAddress());
+        // confirmation is followed up by the L1ConfirmationTracker, the next transaction can already spend our change
+        String txHash = transactionSubmissionService.submitTransaction(txData);
         String organisationId = blockchainTransactions.organisationId();
         Set<TransactionEntity> allTxs = blockchainTransactions.submittedTransactions();
 
-        String txHash = l1SubmissionData.txHash();
-        Optional<Long> txAbsoluteSlotM = l1SubmissionData.absoluteSlot();
+        updateTransactionStatuses(txHash, blockchainTransactions);
 
-        updateTransactionStatuses(txHash, txAbsoluteSlotM, blockchainTransactions);
+        l1ConfirmationTracker.trackTransactions(txHash, txData, blockchainTransactions.receiverAddress(), allTxs.stream()
+                .map(TransactionEntity::getId)
+                .collect(toSet()));
 
         ledgerUpdatedEventPublisher.sendTxLedgerUpdatedEvents(organisationId, allTxs);
 
-        log.info("Blockchain transaction submitted, l1SubmissionData:{}", l1SubmissionData);
+        log.info("Blockchain transaction submitted, txHash:{}", txHash);
     }
 
     private void updateTransactionStatuses(String txHash,
-                                           Optional<Long> absoluteSlot,
                                            API1BlockchainTransactions blockchainTransactions) {
         for (TransactionEntity txEntity : blockchainTransactions.submittedTransactions()) {
             txEntity.setL1SubmissionData(Optional.of(L1SubmissionData.builder()
                     .transactionHash(txHash)
-                    .absoluteSlot(absoluteSlot.orElse(null)) // if tx is not confirmed yet, slot will not be available
                     .creationSlot(blockchainTransactions.creationSlot())
                     .publishStatus(SUBMITTED)
                     .build())
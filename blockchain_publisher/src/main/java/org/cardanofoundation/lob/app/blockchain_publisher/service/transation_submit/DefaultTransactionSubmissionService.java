@@ -71,6 +71,19 @@ public class DefaultTransactionSubmissionService implements TransactionSubmissio
         return new L1Submission(txHash, Optional.empty(), false);
     }
 
+    @Override
+    public Optional<Long> findConfirmedSlot(String txHash, String receiverAddress) throws ApiException {
+        Result<TransactionContent> transactionDetailsR = backendService.getTransactionService().getTransaction(txHash);
+
+        if (!transactionDetailsR.isSuccessful()) {
+            log.debug("Transaction not found on chain yet, txHash:{}", txHash);
+            return Optional.empty();
+        }
+
+        // no need to wait for the output to be indexed, PendingUtxoLedger keeps offering it until the backend caught up
+        return Optional.of(transactionDetailsR.getValue().getSlot());
+    }
+
     protected void checkIfUtxoAvailable(String txHash, String address) {
         Optional<Utxo> utxo = Optional.empty();
         int count = 0;
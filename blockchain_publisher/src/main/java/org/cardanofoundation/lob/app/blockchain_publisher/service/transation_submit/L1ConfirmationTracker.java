@@ -0,0 +1,141 @@
+package org.cardanofoundation.lob.app.blockchain_publisher.service.transation_submit;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.bloxbean.cardano.client.api.exception.ApiException;
+
+import org.cardanofoundation.lob.app.blockchain_publisher.repository.ReportEntityRepositoryGateway;
+import org.cardanofoundation.lob.app.blockchain_publisher.repository.TransactionEntityRepositoryGateway;
+
+/**
+ * Follows L1 transactions that were submitted by the dispatchers until they show up on chain, then records their
+ * absolute slot. Submissions which are not confirmed within the submission timeout are dropped together with the
+ * transactions chained on top of them, the watchdog takes care of those.
+ * <p>
+ * Submitted transactions are recorded in the {@link PendingUtxoLedger} so the next one can spend their change right
+ * away. Dispatchers stop building new transactions while {@link #isAtCapacity()}.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class L1ConfirmationTracker {
+
+    private final TransactionSubmissionService transactionSubmissionService;
+    private final TransactionEntityRepositoryGateway transactionEntityRepositoryGateway;
+    private final ReportEntityRepositoryGateway reportEntityRepositoryGateway;
+    private final PendingUtxoLedger pendingUtxoLedger;
+    private final Clock clock;
+
+    @Value("${lob.transaction.submission.timeout.in.seconds:300}")
+    private int timeoutInSeconds = 300;
+
+    @Value("${lob.blockchain_publisher.confirmation_tracker.max_pending_submissions:10}")
+    private int maxPendingSubmissions = 10;
+
+    // in submission order, a chained transaction always comes after its parent
+    private final Map<String, PendingSubmission> pendingSubmissions = new LinkedHashMap<>();
+
+    public synchronized void trackTransactions(String txHash, byte[] txData, String receiverAddress, Set<String> transactionIds) {
+        log.info("Tracking L1 transaction confirmation, txHash:{}, transactions count:{}", txHash, transactionIds.size());
+
+        pendingUtxoLedger.record(txData);
+        pendingSubmissions.put(txHash, new PendingSubmission(receiverAddress, LocalDateTime.now(clock), transactionIds, Set.of()));
+    }
+
+    public synchronized void trackReports(String txHash, byte[] txData, String receiverAddress, Set<String> reportIds) {
+        log.info("Tracking L1 transaction confirmation, txHash:{}, reportIds:{}", txHash, reportIds);
+
+        pendingUtxoLedger.record(txData);
+        pendingSubmissions.put(txHash, new PendingSubmission(receiverAddress, LocalDateTime.now(clock), Set.of(), reportIds));
+    }
+
+    public synchronized boolean hasPendingSubmissions() {
+        return !pendingSubmissions.isEmpty();
+    }
+
+    // chain length is limited, a long chain of unconfirmed transactions is expensive to roll back
+    public synchronized boolean isAtCapacity() {
+        return pendingSubmissions.size() >= maxPendingSubmissions;
+    }
+
+    /**
+     * Polls every pending submission once, does not wait for any of them.
+     */
+    public void checkPendingSubmissions() {
+        LocalDateTime deadline = LocalDateTime.now(clock).minusSeconds(timeoutInSeconds);
+
+        // chain backend is polled without holding the lock, dispatchers keep submitting meanwhile
+        for (Map.Entry<String, PendingSubmission> entry : snapshot()) {
+            String txHash = entry.getKey();
+            PendingSubmission submission = entry.getValue();
+            if (!isPending(txHash)) {
+                // already rolled back together with its parent in this run
+                continue;
+            }
+            if (checkPendingSubmission(txHash, submission)) {
+                remove(Set.of(txHash));
+            } else if (submission.submittedAt().isBefore(deadline)) {
+                log.warn("L1 transaction not confirmed within {} seconds, no longer tracking it, txHash:{}", timeoutInSeconds, txHash);
+                // transactions chained on top of this one cannot make it on chain either
+                remove(pendingUtxoLedger.rollback(txHash));
+                remove(Set.of(txHash));
+            }
+        }
+    }
+
+    private synchronized List<Map.Entry<String, PendingSubmission>> snapshot() {
+        return List.copyOf(pendingSubmissions.entrySet());
+    }
+
+    private synchronized boolean isPending(String txHash) {
+        return pendingSubmissions.containsKey(txHash);
+    }
+
+    private synchronized void remove(Set<String> txHashes) {
+        pendingSubmissions.keySet().removeAll(txHashes);
+    }
+
+    private boolean checkPendingSubmission(String txHash, PendingSubmission submission) {
+        Optional<Long> absoluteSlotM;
+        try {
+            absoluteSlotM = transactionSubmissionService.findConfirmedSlot(txHash, submission.receiverAddress());
+        } catch (ApiException | RuntimeException e) {
+            log.warn("Error while checking L1 transaction confirmation, txHash:{}", txHash, e);
+            return false;
+        }
+
+        if (absoluteSlotM.isEmpty()) {
+            return false;
+        }
+        long absoluteSlot = absoluteSlotM.orElseThrow();
+        pendingUtxoLedger.confirm(txHash);
+
+        boolean confirmed = submission.reportIds().isEmpty()
+                ? transactionEntityRepositoryGateway.confirmSubmission(txHash, submission.transactionIds(), absoluteSlot)
+                : reportEntityRepositoryGateway.confirmSubmission(txHash, submission.reportIds(), absoluteSlot);
+
+        if (confirmed) {
+            log.info("L1 transaction confirmed, txHash:{}, absoluteSlot:{}", txHash, absoluteSlot);
+        }
+
+        return confirmed;
+    }
+
+    private record PendingSubmission(String receiverAddress,
+                                     LocalDateTime submittedAt,
+                                     Set<String> transactionIds,
+                                     Set<String> reportIds) { }
+
+}
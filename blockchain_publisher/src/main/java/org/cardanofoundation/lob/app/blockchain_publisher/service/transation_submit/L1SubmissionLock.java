@@ -0,0 +1,27 @@
+package org.cardanofoundation.lob.app.blockchain_publisher.service.transation_submit;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * All L1 transactions spend the organiser account's UTXOs, so they are built and submitted one at a time, otherwise
+ * two of them would pick the same inputs. The lock is fair: organisations dispatching concurrently take turns per L1
+ * transaction.
+ */
+@Service
+public class L1SubmissionLock {
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+
+    public <T> T callExclusively(Supplier<T> action) {
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
@@ -0,0 +1,231 @@
+package org.cardanofoundation.lob.app.blockchain_publisher.service.transation_submit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.bloxbean.cardano.client.api.UtxoSupplier;
+import com.bloxbean.cardano.client.api.common.OrderEnum;
+import com.bloxbean.cardano.client.api.model.Amount;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.exception.CborDeserializationException;
+import com.bloxbean.cardano.client.transaction.spec.Asset;
+import com.bloxbean.cardano.client.transaction.spec.MultiAsset;
+import com.bloxbean.cardano.client.transaction.spec.Transaction;
+import com.bloxbean.cardano.client.transaction.spec.TransactionInput;
+import com.bloxbean.cardano.client.transaction.spec.TransactionOutput;
+import com.bloxbean.cardano.client.transaction.util.TransactionUtil;
+import com.bloxbean.cardano.client.util.HexUtil;
+
+/**
+ * Local view of the organiser account's UTXOs, including the outputs of our own submitted but not yet settled
+ * transactions.
+ * <p>
+ * Outputs of pending transactions can be spent right away and inputs they spend are hidden from the chain view, so
+ * L1 transactions can be chained and submitted back to back without waiting for a block. A confirmed transaction is
+ * kept for a short while until the chain backend's UTXO index has caught up with it. When a pending transaction is
+ * rolled back, every pending transaction spending its outputs is rolled back with it.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PendingUtxoLedger {
+
+    private static final Duration CONFIRMED_RETENTION = Duration.ofMinutes(2);
+
+    private final UtxoSupplier chainUtxoSupplier;
+    private final Clock clock;
+
+    // in submission order, a child always comes after its parent
+    private final Map<String, PendingTx> pendingTxs = new LinkedHashMap<>();
+
+    /**
+     * Records a transaction which was just submitted, its outputs become spendable and its inputs unavailable.
+     */
+    public synchronized void record(byte[] txData) {
+        String txHash = TransactionUtil.getTxHash(txData);
+        Transaction transaction;
+        try {
+            transaction = Transaction.deserialize(txData);
+        } catch (CborDeserializationException e) {
+            throw new IllegalStateException("Unable to deserialise submitted transaction, txHash: " + txHash, e);
+        }
+
+        Set<String> spentInputs = new LinkedHashSet<>();
+        for (TransactionInput input : transaction.getBody().getInputs()) {
+            spentInputs.add(key(input.getTransactionId(), input.getIndex()));
+        }
+
+        List<Utxo> outputs = new ArrayList<>();
+        List<TransactionOutput> txOutputs = transaction.getBody().getOutputs();
+        for (int i = 0; i < txOutputs.size(); i++) {
+            TransactionOutput output = txOutputs.get(i);
+            outputs.add(Utxo.builder()
+                    .txHash(txHash)
+                    .outputIndex(i)
+                    .address(output.getAddress())
+                    .amount(amounts(output))
+                    .build());
+        }
+
+        pendingTxs.put(txHash, new PendingTx(spentInputs, outputs));
+
+        log.info("Recorded pending transaction, txHash:{}, inputs:{}, outputs:{}, pending count:{}", txHash, spentInputs.size(), outputs.size(), pendingTxs.size());
+    }
+
+    public synchronized void confirm(String txHash) {
+        PendingTx pendingTx = pendingTxs.get(txHash);
+        if (pendingTx != null && pendingTx.confirmedAt() == null) {
+            pendingTxs.put(txHash, new PendingTx(pendingTx.spentInputs(), pendingTx.outputs(), LocalDateTime.now(clock)));
+        }
+    }
+
+    /**
+     * Forgets a transaction which is not going to make it on chain, together with all pending transactions that spend
+     * its outputs directly or indirectly.
+     *
+     * @return hashes of all rolled back transactions, including the given one
+     */
+    public synchronized Set<String> rollback(String txHash) {
+        Set<String> rolledBack = new LinkedHashSet<>();
+        Deque<String> toRollback = new ArrayDeque<>(List.of(txHash));
+
+        while (!toRollback.isEmpty()) {
+            String hash = toRollback.poll();
+            PendingTx pendingTx = pendingTxs.remove(hash);
+            if (pendingTx == null) {
+                continue;
+            }
+            rolledBack.add(hash);
+
+            Set<String> outputKeys = new HashSet<>();
+            pendingTx.outputs().forEach(utxo -> outputKeys.add(key(utxo.getTxHash(), utxo.getOutputIndex())));
+
+            pendingTxs.forEach((childHash, child) -> {
+                if (child.spentInputs().stream().anyMatch(outputKeys::contains)) {
+                    toRollback.add(childHash);
+                }
+            });
+        }
+
+        if (!rolledBack.isEmpty()) {
+            log.warn("Rolled back pending transactions: {}", rolledBack);
+        }
+
+        return rolledBack;
+    }
+
+    /**
+     * {@link UtxoSupplier} to build new transactions with, chain UTXOs merged with our pending outputs.
+     */
+    public UtxoSupplier utxoSupplier() {
+        return new LedgerUtxoSupplier();
+    }
+
+    private synchronized List<Utxo> merge(String address, List<Utxo> chainUtxos, boolean includePending) {
+        pruneConfirmed();
+
+        Set<String> spentInputs = new HashSet<>();
+        pendingTxs.values().forEach(pendingTx -> spentInputs.addAll(pendingTx.spentInputs()));
+
+        Set<String> seen = new HashSet<>();
+        List<Utxo> utxos = new ArrayList<>();
+        for (Utxo utxo : chainUtxos) {
+            String key = key(utxo.getTxHash(), utxo.getOutputIndex());
+            if (!spentInputs.contains(key) && seen.add(key)) {
+                utxos.add(utxo);
+            }
+        }
+
+        if (includePending) {
+            for (PendingTx pendingTx : pendingTxs.values()) {
+                for (Utxo utxo : pendingTx.outputs()) {
+                    String key = key(utxo.getTxHash(), utxo.getOutputIndex());
+                    if (address.equals(utxo.getAddress()) && !spentInputs.contains(key) && seen.add(key)) {
+                        utxos.add(utxo);
+                    }
+                }
+            }
+        }
+
+        return utxos;
+    }
+
+    private synchronized Optional<Utxo> pendingOutput(String txHash, int outputIndex) {
+        return Optional.ofNullable(pendingTxs.get(txHash))
+                .flatMap(pendingTx -> pendingTx.outputs().stream()
+                        .filter(utxo -> utxo.getOutputIndex() == outputIndex)
+                        .findFirst());
+    }
+
+    private void pruneConfirmed() {
+        LocalDateTime threshold = LocalDateTime.now(clock).minus(CONFIRMED_RETENTION);
+
+        pendingTxs.values().removeIf(pendingTx -> pendingTx.confirmedAt() != null && pendingTx.confirmedAt().isBefore(threshold));
+    }
+
+    private static List<Amount> amounts(TransactionOutput output) {
+        List<Amount> amounts = new ArrayList<>();
+        amounts.add(Amount.lovelace(output.getValue().getCoin()));
+
+        List<MultiAsset> multiAssets = output.getValue().getMultiAssets();
+        if (multiAssets != null) {
+            for (MultiAsset multiAsset : multiAssets) {
+                for (Asset asset : multiAsset.getAssets()) {
+                    amounts.add(new Amount(multiAsset.getPolicyId() + HexUtil.encodeHexString(asset.getNameAsBytes()), asset.getValue()));
+                }
+            }
+        }
+
+        return amounts;
+    }
+
+    private static String key(String txHash, int outputIndex) {
+        return txHash + "#" + outputIndex;
+    }
+
+    private record PendingTx(Set<String> spentInputs,
+                             List<Utxo> outputs,
+                             LocalDateTime confirmedAt) {
+
+        PendingTx(Set<String> spentInputs, List<Utxo> outputs) {
+            this(spentInputs, outputs, null);
+        }
+
+    }
+
+    private class LedgerUtxoSupplier implements UtxoSupplier {
+
+        @Override
+        public List<Utxo> getPage(String address, Integer nrOfItems, Integer page, OrderEnum order) {
+            // pages are zero based, pending outputs are offered with the first one
+            return merge(address, chainUtxoSupplier.getPage(address, nrOfItems, page, order), page == null || page == 0);
+        }
+
+        @Override
+        public List<Utxo> getAll(String address) {
+            return merge(address, chainUtxoSupplier.getAll(address), true);
+        }
+
+        @Override
+        public Optional<Utxo> getTxOutput(String txHash, int outputIndex) {
+            Optional<Utxo> pendingOutputM = pendingOutput(txHash, outputIndex);
+
+            return pendingOutputM.isPresent() ? pendingOutputM : chainUtxoSupplier.getTxOutput(txHash, outputIndex);
+        }
+
+    }
+
+}
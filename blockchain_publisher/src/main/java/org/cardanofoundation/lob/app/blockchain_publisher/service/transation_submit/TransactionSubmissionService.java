@@ -1,5 +1,7 @@
 package org.cardanofoundation.lob.app.blockchain_publisher.service.transation_submit;
 
+import java.util.Optional;
+
 import com.bloxbean.cardano.client.api.exception.ApiException;
 
 import org.cardanofoundation.lob.app.blockchain_publisher.domain.core.L1Submission;
@@ -21,4 +23,13 @@ public interface TransactionSubmissionService {
      */
     L1Submission submitTransactionWithPossibleConfirmation(byte[] txData, String receiverAddress) throws ApiException;
 
+    /**
+     * Checks once, without waiting, whether a submitted transaction made it on chain.
+     *
+     * @param txHash hash of the submitted transaction
+     * @param receiverAddress address the transaction pays to
+     * @return absolute slot of the transaction once confirmed, empty while it is still pending
+     */
+    Optional<Long> findConfirmedSlot(String txHash, String receiverAddress) throws ApiException;
+
 }
@@ -0,0 +1,4 @@
+-- status updates from the ledger follower feed look entities up by their L1 transaction hash
+CREATE INDEX IF NOT EXISTS idx_transaction_entity_l1_transaction_hash ON blockchain_publisher_transaction (l1_transaction_hash);
+
+CREATE INDEX IF NOT EXISTS idx_report_entity_v2_l1_transaction_hash ON blockchain_publisher_report_v2 (l1_transaction_hash);
@@ -0,0 +1,142 @@
+package org.cardanofoundation.lob.app.blockchain_publisher.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.TransactionType.Journal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import com.bloxbean.cardano.client.account.Account;
+import com.bloxbean.cardano.client.common.model.Networks;
+import com.bloxbean.cardano.client.exception.CborSerializationException;
+import com.bloxbean.cardano.client.metadata.Metadata;
+import com.bloxbean.cardano.client.transaction.spec.AuxiliaryData;
+import com.bloxbean.cardano.client.transaction.spec.Transaction;
+import com.bloxbean.cardano.client.transaction.spec.TransactionBody;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.cardanofoundation.lob.app.blockchain_common.domain.CardanoNetwork;
+import org.cardanofoundation.lob.app.blockchain_common.service_assistance.MetadataChecker;
+import org.cardanofoundation.lob.app.blockchain_publisher.domain.core.API1BlockchainTransactions;
+import org.cardanofoundation.lob.app.blockchain_publisher.domain.entity.txs.*;
+import org.cardanofoundation.lob.app.blockchain_reader.BlockchainReaderPublicApiIF;
+
+class API1L1TransactionCreatorTest {
+
+    private static final String ORGANISATION_ID = "org123";
+
+    private int builtTransactions;
+
+    private API1L1TransactionCreator creator;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2024-06-01T10:15:30.00Z"), ZoneOffset.UTC);
+
+        creator = new API1L1TransactionCreator(null,
+                null,
+                new API1MetadataSerialiser(clock),
+                new BlockchainReaderPublicApiIF.Noop(CardanoNetwork.DEV),
+                new MetadataChecker.Noop(),
+                new Account(Networks.testnet()),
+                1447,
+                false) {
+
+            @Override
+            protected byte[] serialiseTransaction(Metadata metadata) throws CborSerializationException {
+                builtTransactions++;
+
+                return Transaction.builder()
+                        .body(TransactionBody.builder().fee(BigInteger.valueOf(200_000)).build())
+                        .auxiliaryData(AuxiliaryData.builder().metadata(metadata).build())
+                        .build()
+                        .serialize();
+            }
+        };
+    }
+
+    @Test
+    void shouldReturnEmptyWhenNoTransactions() {
+        var result = creator.pullBlockchainTransaction(ORGANISATION_ID, Set.of());
+
+        assertThat(result.isRight()).isTrue();
+        assertThat(result.get()).isEmpty();
+        assertThat(builtTransactions).isZero();
+    }
+
+    @Test
+    void shouldPackAllTransactionsWhenTheyFit() {
+        Set<TransactionEntity> transactions = transactions(3);
+
+        Optional<API1BlockchainTransactions> result = creator.pullBlockchainTransaction(ORGANISATION_ID, transactions).get();
+
+        assertThat(result).isPresent();
+        assertThat(result.get().submittedTransactions()).containsExactlyElementsOf(transactions);
+        assertThat(result.get().remainingTransactions()).isEmpty();
+        assertThat(builtTransactions).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSplitLargeSetBelowMaxTransactionSizeWithSingleBuild() {
+        Set<TransactionEntity> transactions = transactions(500);
+
+        Optional<API1BlockchainTransactions> result = creator.pullBlockchainTransaction(ORGANISATION_ID, transactions).get();
+
+        assertThat(result).isPresent();
+        API1BlockchainTransactions blockchainTransactions = result.get();
+        assertThat(blockchainTransactions.serialisedTxData().length).isLessThan(16000);
+        assertThat(blockchainTransactions.submittedTransactions()).isNotEmpty();
+        assertThat(blockchainTransactions.submittedTransactions().size() + blockchainTransactions.remainingTransactions().size()).isEqualTo(500);
+        assertThat(blockchainTransactions.remainingTransactions()).doesNotContainAnyElementsOf(blockchainTransactions.submittedTransactions());
+        assertThat(builtTransactions).isEqualTo(1);
+    }
+
+    private static Set<TransactionEntity> transactions(int count) {
+        Organisation organisation = Organisation.builder()
+                .id(ORGANISATION_ID)
+                .name("Test Organisation")
+                .taxIdNumber("123456789")
+                .currencyId("ISO_4217:CHF")
+                .countryCode("CH")
+                .build();
+
+        Set<TransactionEntity> transactions = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            TransactionEntity tx = new TransactionEntity();
+            tx.setId("tx%05d".formatted(i));
+            tx.setInternalNumber("JOURNAL%d".formatted(i));
+            tx.setBatchId("batch1");
+            tx.setTransactionType(Journal);
+            tx.setEntryDate(LocalDate.of(2024, 5, 1));
+            tx.setAccountingPeriod(YearMonth.of(2024, 5));
+            tx.setOrganisation(organisation);
+
+            TransactionItemEntity item = new TransactionItemEntity();
+            item.setId("item%05d".formatted(i));
+            item.setAmountFcy(new BigDecimal("100.00"));
+            item.setAmountLcy(new BigDecimal("100.00"));
+            item.setFxRate(BigDecimal.ONE);
+            item.setTransaction(tx);
+            item.setDocument(Document.builder()
+                    .num("doc%d".formatted(i))
+                    .currency(Currency.builder().id("ISO_4217:CHF").customerCode("CHF").build())
+                    .build());
+            tx.setItems(new LinkedHashSet<>(Set.of(item)));
+
+            transactions.add(tx);
+        }
+
+        return transactions;
+    }
+
+}
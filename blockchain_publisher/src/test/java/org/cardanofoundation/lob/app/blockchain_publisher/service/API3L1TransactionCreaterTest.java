@@ -7,6 +7,7 @@ import java.lang.reflect.Field;
 import java.util.Optional;
 
 import com.bloxbean.cardano.client.account.Account;
+import com.bloxbean.cardano.client.api.UtxoSupplier;
 import com.bloxbean.cardano.client.backend.api.BackendService;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -24,6 +25,8 @@ class API3L1TransactionCreaterTest {
     @Mock
     private BackendService backendService;
     @Mock
+    private UtxoSupplier utxoSupplier;
+    @Mock
     private API3MetadataSerialiser api3MetadataSerialiser;
     @Mock
     private BlockchainReaderPublicApiIF blockchainReaderPublicApi;
@@ -39,6 +42,7 @@ class API3L1TransactionCreaterTest {
         Account organiserAccount = new Account();
         api3L1TransactionCreator = new API3L1TransactionCreator(
             backendService,
+            utxoSupplier,
             api3MetadataSerialiser,
             blockchainReaderPublicApi,
             jsonSchemaMetadataChecker,
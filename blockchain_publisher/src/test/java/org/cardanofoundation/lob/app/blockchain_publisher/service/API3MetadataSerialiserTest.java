@@ -8,9 +8,11 @@ import java.math.BigInteger;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import com.bloxbean.cardano.client.metadata.MetadataList;
 import com.bloxbean.cardano.client.metadata.MetadataMap;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -71,4 +73,50 @@ class API3MetadataSerialiserTest {
         assertThat(data.get("test123")).isEqualTo("5");
     }
 
+    @Test
+    void serializeSeveralReports_shouldPackThemIntoReportsList() {
+        org.cardanofoundation.lob.app.organisation.domain.entity.Organisation org = mock(org.cardanofoundation.lob.app.organisation.domain.entity.Organisation.class);
+        when(organisationPublicApi.findByOrganisationId("org123"))
+                .thenReturn(Optional.of(org));
+
+        MetadataMap metadataMap = serialiser.serialiseToMetadataMap("org123", List.of(report("report-1", (short) 1), report("report-2", (short) 2)), CREATION_SLOT);
+
+        assertThat(metadataMap.get("metadata")).isNotNull();
+        assertThat(metadataMap.get("org")).isNotNull();
+        assertThat(metadataMap.get("type")).isEqualTo("REPORTS");
+        MetadataList reports = (MetadataList) metadataMap.get("data");
+        assertThat(reports.size()).isEqualTo(2);
+        MetadataMap second = (MetadataMap) reports.getValueAt(1);
+        assertThat(second.get("subType")).isEqualTo("BALANCE_SHEET");
+        assertThat(second.get("period")).isEqualTo(BigInteger.valueOf(2));
+        assertThat(((MetadataMap) second.get("data")).get("test123")).isEqualTo("5");
+    }
+
+    @Test
+    void serializeSingleReportList_shouldKeepReportFormat() {
+        org.cardanofoundation.lob.app.organisation.domain.entity.Organisation org = mock(org.cardanofoundation.lob.app.organisation.domain.entity.Organisation.class);
+        when(organisationPublicApi.findByOrganisationId("org123"))
+                .thenReturn(Optional.of(org));
+
+        MetadataMap metadataMap = serialiser.serialiseToMetadataMap("org123", List.of(report("report-1", (short) 1)), CREATION_SLOT);
+
+        assertThat(metadataMap.get("type")).isEqualTo("REPORT");
+        assertThat(metadataMap.get("period")).isEqualTo(BigInteger.valueOf(1));
+    }
+
+    private static ReportEntity report(String id, short period) {
+        ReportEntity reportEntity = new ReportEntity();
+        reportEntity.setId(id);
+        reportEntity.setPeriod(period);
+        reportEntity.setOrganisationId("org123");
+        reportEntity.setReportData(Map.of("Test123", 5));
+        reportEntity.setYear((short) 2024);
+        reportEntity.setIntervalType(IntervalType.MONTH);
+        reportEntity.setReportTemplateType(ReportTemplateType.BALANCE_SHEET);
+        reportEntity.setDataMode(DataMode.SYSTEM);
+        reportEntity.setReportVer(1L);
+
+        return reportEntity;
+    }
+
 }
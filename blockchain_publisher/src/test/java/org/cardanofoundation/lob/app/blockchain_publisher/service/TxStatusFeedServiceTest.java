@@ -0,0 +1,132 @@
+package org.cardanofoundation.lob.app.blockchain_publisher.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.cardanofoundation.lob.app.blockchain_common.domain.FinalityScore;
+import org.cardanofoundation.lob.app.blockchain_common.domain.TxStatusEvent;
+import org.cardanofoundation.lob.app.blockchain_common.domain.TxStatusEventType;
+import org.cardanofoundation.lob.app.blockchain_publisher.domain.core.BlockchainPublishStatus;
+import org.cardanofoundation.lob.app.blockchain_publisher.domain.entity.reports.ReportEntity;
+import org.cardanofoundation.lob.app.blockchain_publisher.domain.entity.txs.L1SubmissionData;
+import org.cardanofoundation.lob.app.blockchain_publisher.domain.entity.txs.Organisation;
+import org.cardanofoundation.lob.app.blockchain_publisher.domain.entity.txs.TransactionEntity;
+import org.cardanofoundation.lob.app.blockchain_publisher.repository.ReportEntityRepositoryGateway;
+import org.cardanofoundation.lob.app.blockchain_publisher.repository.TransactionEntityRepositoryGateway;
+import org.cardanofoundation.lob.app.blockchain_publisher.service.event_publish.LedgerUpdatedEventPublisher;
+import org.cardanofoundation.lob.app.support.scheduling.OrganisationWorkScheduler;
+
+@ExtendWith(MockitoExtension.class)
+class TxStatusFeedServiceTest {
+
+    @InjectMocks
+    private TxStatusFeedService txStatusFeedService;
+
+    @Spy
+    BlockchainPublishStatusMapper blockchainPublishStatusMapper = new BlockchainPublishStatusMapper();
+    @Mock
+    TransactionEntityRepositoryGateway transactionEntityRepositoryGateway;
+    @Mock
+    ReportEntityRepositoryGateway reportEntityRepositoryGateway;
+    @Mock
+    LedgerUpdatedEventPublisher ledgerUpdatedEventPublisher;
+    @Spy
+    OrganisationWorkScheduler organisationWorkScheduler = new OrganisationWorkScheduler(mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+
+    @Test
+    void latestEventOfATransactionIsApplied() {
+        TransactionEntity txEntity = transaction("txHash");
+        when(transactionEntityRepositoryGateway.findDispatchedTransactionsThatAreNotFinalizedYet(Set.of("txHash"))).thenReturn(Set.of(txEntity));
+        when(reportEntityRepositoryGateway.findDispatchedReportsV2ThatAreNotFinalizedYet(Set.of("txHash"))).thenReturn(Set.of());
+
+        txStatusFeedService.applyEvents(List.of(
+                event(1, TxStatusEventType.INCLUDED, "txHash", FinalityScore.VERY_LOW),
+                event(2, TxStatusEventType.FINALITY_CHANGED, "txHash", FinalityScore.HIGH)
+        ));
+
+        L1SubmissionData l1SubmissionData = txEntity.getL1SubmissionData().orElseThrow();
+        assertThat(l1SubmissionData.getPublishStatus()).hasValue(BlockchainPublishStatus.COMPLETED);
+        assertThat(l1SubmissionData.getFinalityScore()).hasValue(FinalityScore.HIGH);
+        assertThat(l1SubmissionData.getAbsoluteSlot()).hasValue(100L);
+        verify(transactionEntityRepositoryGateway).storeTransactions(Set.of(txEntity));
+        verify(ledgerUpdatedEventPublisher).sendTxLedgerUpdatedEvents("org123", Set.of(txEntity));
+    }
+
+    @Test
+    void rolledBackTransactionWaitsForTheWatchdogBeforeResubmission() {
+        ReportEntity report = ReportEntity.builder()
+                .id("report1")
+                .organisationId("org123")
+                .l1SubmissionData(l1SubmissionData("txHash"))
+                .build();
+        when(transactionEntityRepositoryGateway.findDispatchedTransactionsThatAreNotFinalizedYet(Set.of("txHash"))).thenReturn(Set.of());
+        when(reportEntityRepositoryGateway.findDispatchedReportsV2ThatAreNotFinalizedYet(Set.of("txHash"))).thenReturn(Set.of(report));
+
+        txStatusFeedService.applyEvents(List.of(event(1, TxStatusEventType.ROLLED_BACK, "txHash", null)));
+
+        L1SubmissionData l1SubmissionData = report.getL1SubmissionData().orElseThrow();
+        assertThat(l1SubmissionData.getPublishStatus()).hasValue(BlockchainPublishStatus.SUBMITTED);
+        assertThat(l1SubmissionData.getTransactionHash()).hasValue("txHash");
+        assertThat(l1SubmissionData.getAbsoluteSlot()).isEmpty();
+        verify(reportEntityRepositoryGateway).storeReport(report);
+        verify(ledgerUpdatedEventPublisher).sendReportLedgerUpdatedEvents(eq("org123"), anySet());
+    }
+
+    @Test
+    void eventsOfOtherL1TransactionsAreIgnored() {
+        when(transactionEntityRepositoryGateway.findDispatchedTransactionsThatAreNotFinalizedYet(Set.of("otherTxHash"))).thenReturn(Set.of());
+        when(reportEntityRepositoryGateway.findDispatchedReportsV2ThatAreNotFinalizedYet(Set.of("otherTxHash"))).thenReturn(Set.of());
+
+        txStatusFeedService.applyEvents(List.of(event(1, TxStatusEventType.INCLUDED, "otherTxHash", FinalityScore.VERY_LOW)));
+
+        verifyNoInteractions(ledgerUpdatedEventPublisher);
+    }
+
+    private static TxStatusEvent event(long sequence, TxStatusEventType type, String txHash, FinalityScore finalityScore) {
+        return TxStatusEvent.builder()
+                .sequence(sequence)
+                .type(type)
+                .transactionHash(txHash)
+                .absoluteSlot(100L)
+                .finalityScore(Optional.ofNullable(finalityScore))
+                .build();
+    }
+
+    private static TransactionEntity transaction(String txHash) {
+        return TransactionEntity.builder()
+                .id("tx1")
+                .organisation(Organisation.builder().id("org123").build())
+                .l1SubmissionData(l1SubmissionData(txHash))
+                .build();
+    }
+
+    private static L1SubmissionData l1SubmissionData(String txHash) {
+        return L1SubmissionData.builder()
+                .transactionHash(txHash)
+                .creationSlot(1L)
+                .publishStatus(BlockchainPublishStatus.SUBMITTED)
+                .finalityScore(FinalityScore.VERY_LOW)
+                .build();
+    }
+
+}
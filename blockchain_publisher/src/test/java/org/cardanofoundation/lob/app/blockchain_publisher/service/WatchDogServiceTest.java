@@ -2,22 +2,27 @@ package org.cardanofoundation.lob.app.blockchain_publisher.service;
 
 import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.vavr.control.Either;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -36,6 +41,7 @@ import org.cardanofoundation.lob.app.blockchain_publisher.service.event_publish.
 import org.cardanofoundation.lob.app.blockchain_reader.BlockchainReaderPublicApiIF;
 import org.cardanofoundation.lob.app.organisation.OrganisationPublicApiIF;
 import org.cardanofoundation.lob.app.organisation.domain.entity.Organisation;
+import org.cardanofoundation.lob.app.support.scheduling.OrganisationWorkScheduler;
 
 @ExtendWith(MockitoExtension.class)
 class WatchDogServiceTest {
@@ -55,6 +61,8 @@ class WatchDogServiceTest {
     ReportEntityRepositoryGateway reportEntityRepositoryGateway;
     @Mock
     LedgerUpdatedEventPublisher ledgerUpdatedEventPublisher;
+    @Spy
+    OrganisationWorkScheduler organisationWorkScheduler = new OrganisationWorkScheduler(mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
 
     @BeforeEach
     public void setup() {
@@ -77,7 +85,7 @@ class WatchDogServiceTest {
 
     @Test
     void chainTipNotSyncedTest() {
-        when(organisationPublicApiIF.listAll()).thenReturn(List.of(new Organisation()));
+        when(organisationPublicApiIF.listAll()).thenReturn(List.of(organisation()));
         when(blockchainReaderPublicApi.getChainTip()).thenReturn(Either.right(ChainTip.builder().isSynced(false).build()));
 
 
@@ -94,7 +102,7 @@ class WatchDogServiceTest {
 
     @Test
     void chainTipProblemTest() {
-        when(organisationPublicApiIF.listAll()).thenReturn(List.of(new Organisation()));
+        when(organisationPublicApiIF.listAll()).thenReturn(List.of(organisation()));
         when(blockchainReaderPublicApi.getChainTip()).thenReturn(Either.left(null));
 
         assertThrows(RuntimeException.class, () -> watchDogService.checkTransactionStatusForOrganisations(1));
@@ -110,8 +118,8 @@ class WatchDogServiceTest {
 
     @Test
     void updateTransactionStatusErrorOnChainTxDetails() {
-        when(organisationPublicApiIF.listAll()).thenReturn(List.of(new Organisation()));
-        when(transactionEntityRepositoryGateway.findDispatchedTransactionsThatAreNotFinalizedYet(isNull(), any())).thenReturn(Set.of(
+        when(organisationPublicApiIF.listAll()).thenReturn(List.of(organisation()));
+        when(transactionEntityRepositoryGateway.findDispatchedTransactionsThatAreNotFinalizedYet(eq("org123"), any())).thenReturn(Set.of(
                 TransactionEntity.builder()
                         .l1SubmissionData(L1SubmissionData.builder()
                                 .creationSlot(1L)
@@ -119,14 +127,14 @@ class WatchDogServiceTest {
                                 .build())
                         .build()));
         when(blockchainReaderPublicApi.getChainTip()).thenReturn(Either.right(ChainTip.builder().isSynced(true).absoluteSlot(2L).build()));
-        when(blockchainReaderPublicApi.getTxDetails(anyString())).thenReturn(Either.left(null));
+        when(blockchainReaderPublicApi.getTxDetails(anySet())).thenReturn(Either.left(null));
 
         assertThrows(RuntimeException.class, () -> watchDogService.checkTransactionStatusForOrganisations(1));
 
         verify(organisationPublicApiIF).listAll();
         verify(blockchainReaderPublicApi).getChainTip();
-        verify(transactionEntityRepositoryGateway).findDispatchedTransactionsThatAreNotFinalizedYet(null, Limit.of(1));
-        verify(blockchainReaderPublicApi).getTxDetails(anyString());
+        verify(transactionEntityRepositoryGateway).findDispatchedTransactionsThatAreNotFinalizedYet("org123", Limit.of(1));
+        verify(blockchainReaderPublicApi).getTxDetails(Set.of("txHash"));
         verifyNoMoreInteractions(organisationPublicApiIF);
         verifyNoInteractions(blockchainPublishStatusMapper);
         verifyNoMoreInteractions(blockchainReaderPublicApi);
@@ -144,19 +152,19 @@ class WatchDogServiceTest {
                 .build();
 
 
-        when(organisationPublicApiIF.listAll()).thenReturn(List.of(new Organisation()));
-        when(transactionEntityRepositoryGateway.findDispatchedTransactionsThatAreNotFinalizedYet(isNull(), any())).thenReturn(Set.of(txEntity));
+        when(organisationPublicApiIF.listAll()).thenReturn(List.of(organisation()));
+        when(transactionEntityRepositoryGateway.findDispatchedTransactionsThatAreNotFinalizedYet(eq("org123"), any())).thenReturn(Set.of(txEntity));
         when(blockchainReaderPublicApi.getChainTip()).thenReturn(Either.right(ChainTip.builder().isSynced(true).absoluteSlot(2L).build()));
-        when(blockchainReaderPublicApi.getTxDetails(anyString())).thenReturn(Either.right(Optional.of(OnChainTxDetails.builder().finalityScore(FinalityScore.FINAL).build())));
+        when(blockchainReaderPublicApi.getTxDetails(anySet())).thenReturn(Either.right(Map.of("txHash", OnChainTxDetails.builder().finalityScore(FinalityScore.FINAL).build())));
         when(blockchainPublishStatusMapper.convert(FinalityScore.FINAL)).thenReturn(BlockchainPublishStatus.FINALIZED);
 
         watchDogService.checkTransactionStatusForOrganisations(1);
-        verify(ledgerUpdatedEventPublisher).sendTxLedgerUpdatedEvents(null,Set.of(txEntity));
+        verify(ledgerUpdatedEventPublisher).sendTxLedgerUpdatedEvents("org123", Set.of(txEntity));
 
         verify(organisationPublicApiIF).listAll();
         verify(blockchainReaderPublicApi).getChainTip();
-        verify(transactionEntityRepositoryGateway).findDispatchedTransactionsThatAreNotFinalizedYet(null, Limit.of(1));
-        verify(blockchainReaderPublicApi).getTxDetails(anyString());
+        verify(transactionEntityRepositoryGateway).findDispatchedTransactionsThatAreNotFinalizedYet("org123", Limit.of(1));
+        verify(blockchainReaderPublicApi).getTxDetails(Set.of("txHash"));
         verify(blockchainPublishStatusMapper).convert(FinalityScore.FINAL);
         txEntity.setL1SubmissionData(Optional.of(L1SubmissionData.builder()
                 .creationSlot(1L)
@@ -182,8 +190,8 @@ class WatchDogServiceTest {
                 .build();
 
 
-        when(organisationPublicApiIF.listAll()).thenReturn(List.of(new Organisation()));
-        when(transactionEntityRepositoryGateway.findDispatchedTransactionsThatAreNotFinalizedYet(isNull(), any())).thenReturn(Set.of(txEntity));
+        when(organisationPublicApiIF.listAll()).thenReturn(List.of(organisation()));
+        when(transactionEntityRepositoryGateway.findDispatchedTransactionsThatAreNotFinalizedYet(eq("org123"), any())).thenReturn(Set.of(txEntity));
         when(blockchainReaderPublicApi.getChainTip()).thenReturn(
                 Either.right(
                         ChainTip.builder()
@@ -191,14 +199,14 @@ class WatchDogServiceTest {
                                 .absoluteSlot(20L)
                                 .build()));
 
-        when(blockchainReaderPublicApi.getTxDetails(anyString())).thenReturn(Either.right(Optional.empty()));
+        when(blockchainReaderPublicApi.getTxDetails(anySet())).thenReturn(Either.right(Map.of()));
 
         watchDogService.checkTransactionStatusForOrganisations(1);
 
         verify(organisationPublicApiIF).listAll();
         verify(blockchainReaderPublicApi).getChainTip();
-        verify(transactionEntityRepositoryGateway).findDispatchedTransactionsThatAreNotFinalizedYet(null, Limit.of(1));
-        verify(blockchainReaderPublicApi).getTxDetails(anyString());
+        verify(transactionEntityRepositoryGateway).findDispatchedTransactionsThatAreNotFinalizedYet("org123", Limit.of(1));
+        verify(blockchainReaderPublicApi).getTxDetails(Set.of("txHash"));
         txEntity.setL1SubmissionData(Optional.of(L1SubmissionData.builder()
                 .creationSlot(null)
                 .transactionHash(null)
@@ -223,8 +231,8 @@ class WatchDogServiceTest {
                 .build();
 
 
-        when(organisationPublicApiIF.listAll()).thenReturn(List.of(new Organisation()));
-        when(transactionEntityRepositoryGateway.findDispatchedTransactionsThatAreNotFinalizedYet(isNull(), any())).thenReturn(Set.of(txEntity));
+        when(organisationPublicApiIF.listAll()).thenReturn(List.of(organisation()));
+        when(transactionEntityRepositoryGateway.findDispatchedTransactionsThatAreNotFinalizedYet(eq("org123"), any())).thenReturn(Set.of(txEntity));
         when(blockchainReaderPublicApi.getChainTip()).thenReturn(
                 Either.right(
                         ChainTip.builder()
@@ -232,14 +240,14 @@ class WatchDogServiceTest {
                                 .absoluteSlot(5L)
                                 .build()));
 
-        when(blockchainReaderPublicApi.getTxDetails(anyString())).thenReturn(Either.right(Optional.empty()));
+        when(blockchainReaderPublicApi.getTxDetails(anySet())).thenReturn(Either.right(Map.of()));
 
         watchDogService.checkTransactionStatusForOrganisations(1);
 
         verify(organisationPublicApiIF).listAll();
         verify(blockchainReaderPublicApi).getChainTip();
-        verify(transactionEntityRepositoryGateway).findDispatchedTransactionsThatAreNotFinalizedYet(null, Limit.of(1));
-        verify(blockchainReaderPublicApi).getTxDetails(anyString());
+        verify(transactionEntityRepositoryGateway).findDispatchedTransactionsThatAreNotFinalizedYet("org123", Limit.of(1));
+        verify(blockchainReaderPublicApi).getTxDetails(Set.of("txHash"));
         txEntity.setL1SubmissionData(Optional.of(L1SubmissionData.builder()
                 .creationSlot(1l)
                 .transactionHash("txHash")
@@ -254,4 +262,48 @@ class WatchDogServiceTest {
         verifyNoMoreInteractions(transactionEntityRepositoryGateway);
     }
 
+    @Test
+    void sharedL1TransactionIsLookedUpOnceForAllOrganisations() {
+        Organisation org1 = Organisation.builder().id("org1").build();
+        Organisation org2 = Organisation.builder().id("org2").build();
+        TransactionEntity tx1 = TransactionEntity.builder()
+                .id("tx1")
+                .l1SubmissionData(L1SubmissionData.builder().creationSlot(1L).transactionHash("txHash").build())
+                .build();
+        TransactionEntity tx2 = TransactionEntity.builder()
+                .id("tx2")
+                .l1SubmissionData(L1SubmissionData.builder().creationSlot(1L).transactionHash("txHash").build())
+                .build();
+        TransactionEntity tx3 = TransactionEntity.builder()
+                .id("tx3")
+                .l1SubmissionData(L1SubmissionData.builder().creationSlot(1L).transactionHash("otherTxHash").build())
+                .build();
+
+        when(organisationPublicApiIF.listAll()).thenReturn(List.of(org1, org2));
+        when(blockchainReaderPublicApi.getChainTip()).thenReturn(Either.right(ChainTip.builder().isSynced(true).absoluteSlot(2L).build()));
+        when(transactionEntityRepositoryGateway.findDispatchedTransactionsThatAreNotFinalizedYet("org1", Limit.of(10))).thenReturn(Set.of(tx1, tx2));
+        when(transactionEntityRepositoryGateway.findDispatchedTransactionsThatAreNotFinalizedYet("org2", Limit.of(10))).thenReturn(Set.of(tx3));
+        when(blockchainReaderPublicApi.getTxDetails(anySet())).thenReturn(Either.right(Map.of(
+                "txHash", OnChainTxDetails.builder().finalityScore(FinalityScore.FINAL).build(),
+                "otherTxHash", OnChainTxDetails.builder().finalityScore(FinalityScore.FINAL).build())));
+        when(blockchainPublishStatusMapper.convert(FinalityScore.FINAL)).thenReturn(BlockchainPublishStatus.FINALIZED);
+
+        watchDogService.checkTransactionStatusForOrganisations(10);
+
+        verify(blockchainReaderPublicApi).getChainTip();
+        verify(blockchainReaderPublicApi).getTxDetails(Set.of("txHash", "otherTxHash"));
+        verify(transactionEntityRepositoryGateway).storeTransactions(Set.of(tx1, tx2));
+        verify(transactionEntityRepositoryGateway).storeTransactions(Set.of(tx3));
+        verify(ledgerUpdatedEventPublisher).sendTxLedgerUpdatedEvents("org1", Set.of(tx1, tx2));
+        verify(ledgerUpdatedEventPublisher).sendTxLedgerUpdatedEvents("org2", Set.of(tx3));
+        verifyNoMoreInteractions(blockchainReaderPublicApi);
+    }
+
+    private static Organisation organisation() {
+        Organisation organisation = new Organisation();
+        organisation.setId("org123");
+
+        return organisation;
+    }
+
 }
@@ -1,5 +1,6 @@
 package org.cardanofoundation.lob.app.blockchain_publisher.service.dispatch;
 
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -7,8 +8,12 @@ import static org.mockito.Mockito.when;
 
 import java.util.List;
 
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.junit.jupiter.api.Test;
@@ -18,8 +23,11 @@ import org.cardanofoundation.lob.app.blockchain_publisher.domain.entity.reports.
 import org.cardanofoundation.lob.app.blockchain_publisher.repository.ReportEntityRepositoryGateway;
 import org.cardanofoundation.lob.app.blockchain_publisher.service.API3L1TransactionCreator;
 import org.cardanofoundation.lob.app.blockchain_publisher.service.event_publish.LedgerUpdatedEventPublisher;
+import org.cardanofoundation.lob.app.blockchain_publisher.service.transation_submit.L1ConfirmationTracker;
+import org.cardanofoundation.lob.app.blockchain_publisher.service.transation_submit.L1SubmissionLock;
 import org.cardanofoundation.lob.app.blockchain_publisher.service.transation_submit.TransactionSubmissionService;
 import org.cardanofoundation.lob.app.organisation.OrganisationPublicApi;
+import org.cardanofoundation.lob.app.support.scheduling.OrganisationWorkScheduler;
 
 @ExtendWith(MockitoExtension.class)
 class BlockchainReportsDispatchTest {
@@ -36,6 +44,13 @@ class BlockchainReportsDispatchTest {
     private TransactionSubmissionService transactionSubmissionService;
     @Mock
     private LedgerUpdatedEventPublisher ledgerUpdatedEventPublisher;
+    @Mock
+    private L1ConfirmationTracker l1ConfirmationTracker;
+
+    @Spy
+    private L1SubmissionLock l1SubmissionLock = new L1SubmissionLock();
+    @Spy
+    private OrganisationWorkScheduler organisationWorkScheduler = new OrganisationWorkScheduler(mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
 
     @InjectMocks
     private BlockchainReportsDispatcher blockchainReportsDispatcher;
@@ -1,38 +1,47 @@
 package org.cardanofoundation.lob.app.blockchain_publisher.service.dispatch;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.transaction.PlatformTransactionManager;
 
-import com.bloxbean.cardano.client.api.exception.ApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.vavr.control.Either;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
-import org.cardanofoundation.lob.app.blockchain_publisher.domain.core.API3BlockchainTransaction;
+import org.cardanofoundation.lob.app.blockchain_common.BlockchainException;
+import org.cardanofoundation.lob.app.blockchain_publisher.domain.core.API3BlockchainTransactions;
 import org.cardanofoundation.lob.app.blockchain_publisher.domain.core.BlockchainPublishStatus;
-import org.cardanofoundation.lob.app.blockchain_publisher.domain.core.L1Submission;
 import org.cardanofoundation.lob.app.blockchain_publisher.domain.entity.reports.ReportEntity;
 import org.cardanofoundation.lob.app.blockchain_publisher.domain.entity.txs.L1SubmissionData;
 import org.cardanofoundation.lob.app.blockchain_publisher.repository.ReportEntityRepositoryGateway;
 import org.cardanofoundation.lob.app.blockchain_publisher.service.API3L1TransactionCreator;
 import org.cardanofoundation.lob.app.blockchain_publisher.service.event_publish.LedgerUpdatedEventPublisher;
+import org.cardanofoundation.lob.app.blockchain_publisher.service.transation_submit.L1ConfirmationTracker;
+import org.cardanofoundation.lob.app.blockchain_publisher.service.transation_submit.L1SubmissionLock;
 import org.cardanofoundation.lob.app.blockchain_publisher.service.transation_submit.TransactionSubmissionService;
 import org.cardanofoundation.lob.app.organisation.OrganisationPublicApi;
 import org.cardanofoundation.lob.app.organisation.domain.entity.Organisation;
+import org.cardanofoundation.lob.app.support.scheduling.OrganisationWorkScheduler;
 
 @ExtendWith(MockitoExtension.class)
 class BlockchainReportsV2DispatchTest {
@@ -47,7 +56,13 @@ class BlockchainReportsV2DispatchTest {
     private TransactionSubmissionService transactionSubmissionService;
     @Mock
     private LedgerUpdatedEventPublisher ledgerUpdatedEventPublisher;
+    @Mock
+    private L1ConfirmationTracker l1ConfirmationTracker;
 
+    @Spy
+    private L1SubmissionLock l1SubmissionLock = new L1SubmissionLock();
+    @Spy
+    private OrganisationWorkScheduler organisationWorkScheduler = new OrganisationWorkScheduler(mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
     @InjectMocks
     private BlockchainReportsDispatcher dispatcher;
 
@@ -73,7 +88,7 @@ class BlockchainReportsV2DispatchTest {
         when(organisationPublicApi.listAll()).thenReturn(List.of(organisation));
         when(organisation.getId()).thenReturn("org123");
         when(reportEntityRepositoryGateway.findReportsV2ByStatus("org123", 50)).thenReturn(Set.of(reportEntity));
-        when(api3L1TransactionCreator.pullBlockchainTransaction(reportEntity)).thenReturn(Either.left(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "Detail")));
+        when(api3L1TransactionCreator.pullBlockchainTransaction("org123", List.of(reportEntity))).thenReturn(Either.left(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "Detail")));
         when(reportEntity.getL1SubmissionData()).thenReturn(Optional.empty());
         dispatcher.dispatchReports();
 
@@ -87,21 +102,18 @@ class BlockchainReportsV2DispatchTest {
     }
 
     @Test
-    void dispatchReports_success() throws ApiException {
+    void dispatchReports_success() {
         Organisation organisation = mock(Organisation.class);
         ReportEntity reportEntity = mock(ReportEntity.class);
-        API3BlockchainTransaction api3BlockchainTransaction = mock(API3BlockchainTransaction.class);
-        L1Submission l1Submission = new L1Submission("txHash123", Optional.of(1L), true);
+        API3BlockchainTransactions api3BlockchainTransactions = new API3BlockchainTransactions("org123", List.of(reportEntity), List.of(), 1L, new byte[0], "receiver123");
         L1SubmissionData l1SubmissionData = mock(L1SubmissionData.class);
 
         when(organisationPublicApi.listAll()).thenReturn(List.of(organisation));
         when(organisation.getId()).thenReturn("org123");
         when(reportEntityRepositoryGateway.findReportsV2ByStatus("org123", 50)).thenReturn(Set.of(reportEntity));
-        when(api3L1TransactionCreator.pullBlockchainTransaction(reportEntity)).thenReturn(Either.right(api3BlockchainTransaction));
-        when(reportEntity.getL1SubmissionData()).thenReturn(Optional.empty());
-        when(api3BlockchainTransaction.serialisedTxData()).thenReturn(new byte[0]);
-        when(api3BlockchainTransaction.receiverAddress()).thenReturn("receiver123");
-        when(transactionSubmissionService.submitTransactionWithPossibleConfirmation(new byte[0], "receiver123")).thenReturn(l1Submission);
+        when(api3L1TransactionCreator.pullBlockchainTransaction("org123", List.of(reportEntity))).thenReturn(Either.right(api3BlockchainTransactions));
+        when(transactionSubmissionService.submitTransaction(new byte[0])).thenReturn("txHash123");
+        when(reportEntity.getId()).thenReturn("report123");
         when(reportEntity.getL1SubmissionData()).thenReturn(Optional.of(l1SubmissionData));
 
         dispatcher.dispatchReports();
@@ -112,23 +124,32 @@ class BlockchainReportsV2DispatchTest {
                         && arg.get().getPublishStatus().equals(Optional.of(BlockchainPublishStatus.SUBMITTED))
         ));
         verify(reportEntityRepositoryGateway).storeReport(reportEntity);
+        verify(l1ConfirmationTracker).trackReports("txHash123", new byte[0], "receiver123", Set.of("report123"));
     }
 
     @Test
-    void dispatchReports_submissionError() throws ApiException {
+    void dispatchReports_tooManyPendingSubmissions() {
+        when(l1ConfirmationTracker.isAtCapacity()).thenReturn(true);
+
+        dispatcher.dispatchReports();
+
+        verifyNoInteractions(organisationPublicApi);
+        verifyNoInteractions(api3L1TransactionCreator);
+        verifyNoInteractions(transactionSubmissionService);
+    }
+
+    @Test
+    void dispatchReports_submissionError() {
         Organisation organisation = mock(Organisation.class);
         ReportEntity reportEntity = mock(ReportEntity.class);
-        API3BlockchainTransaction api3BlockchainTransaction = mock(API3BlockchainTransaction.class);
+        API3BlockchainTransactions api3BlockchainTransactions = new API3BlockchainTransactions("org123", List.of(reportEntity), List.of(), 1L, new byte[0], "receiver123");
         L1SubmissionData l1SubmissionData = mock(L1SubmissionData.class);
 
         when(organisationPublicApi.listAll()).thenReturn(List.of(organisation));
         when(organisation.getId()).thenReturn("org123");
         when(reportEntityRepositoryGateway.findReportsV2ByStatus("org123", 50)).thenReturn(Set.of(reportEntity));
-        when(api3L1TransactionCreator.pullBlockchainTransaction(reportEntity)).thenReturn(Either.right(api3BlockchainTransaction));
-        when(reportEntity.getL1SubmissionData()).thenReturn(Optional.empty());
-        when(api3BlockchainTransaction.serialisedTxData()).thenReturn(new byte[0]);
-        when(api3BlockchainTransaction.receiverAddress()).thenReturn("receiver123");
-        when(transactionSubmissionService.submitTransactionWithPossibleConfirmation(new byte[0], "receiver123")).thenThrow(ApiException.class);
+        when(api3L1TransactionCreator.pullBlockchainTransaction("org123", List.of(reportEntity))).thenReturn(Either.right(api3BlockchainTransactions));
+        when(transactionSubmissionService.submitTransaction(new byte[0])).thenThrow(BlockchainException.class);
         when(reportEntity.getL1SubmissionData()).thenReturn(Optional.of(l1SubmissionData));
 
         dispatcher.dispatchReports();
@@ -139,4 +160,53 @@ class BlockchainReportsV2DispatchTest {
                         && arg.get().getPublishRetry().equals(1L)
         ));
     }
+
+    @Test
+    void dispatchReports_packedReportsAreSubmittedTogether() {
+        ReportEntity first = mock(ReportEntity.class);
+        ReportEntity second = mock(ReportEntity.class);
+        ReportEntity third = mock(ReportEntity.class);
+        API3BlockchainTransactions api3BlockchainTransactions = new API3BlockchainTransactions("org123", List.of(first, second), List.of(third), 1L, new byte[0], "receiver123");
+
+        when(api3L1TransactionCreator.pullBlockchainTransaction("org123", List.of(first, second, third))).thenReturn(Either.right(api3BlockchainTransactions));
+        when(api3L1TransactionCreator.pullBlockchainTransaction("org123", List.of(third))).thenReturn(Either.left(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "Detail")));
+        when(transactionSubmissionService.submitTransaction(new byte[0])).thenReturn("txHash123");
+        when(first.getId()).thenReturn("report1");
+        when(second.getId()).thenReturn("report2");
+        when(first.getL1SubmissionData()).thenReturn(Optional.of(mock(L1SubmissionData.class)));
+        when(second.getL1SubmissionData()).thenReturn(Optional.of(mock(L1SubmissionData.class)));
+        when(third.getL1SubmissionData()).thenReturn(Optional.empty());
+
+        dispatcher.dispatchReports("org123", new LinkedHashSet<>(List.of(first, second, third)));
+
+        verify(transactionSubmissionService).submitTransaction(new byte[0]);
+        verify(l1ConfirmationTracker).trackReports("txHash123", new byte[0], "receiver123", Set.of("report1", "report2"));
+        verify(third).setL1SubmissionData(argThat(arg ->
+                arg.isPresent()
+                        && arg.get().getPublishStatusErrorReason().isPresent()
+                        && arg.get().getPublishRetry().equals(1L)
+        ));
+    }
+
+    @Test
+    void dispatchReports_stopsOnceAtCapacityBetweenChunks() {
+        ReportEntity first = mock(ReportEntity.class);
+        ReportEntity second = mock(ReportEntity.class);
+        API3BlockchainTransactions api3BlockchainTransactions = new API3BlockchainTransactions("org123", List.of(first), List.of(second), 1L, new byte[0], "receiver123");
+
+        // another submission takes the last free slot before the second chunk
+        when(l1ConfirmationTracker.isAtCapacity()).thenReturn(false, true);
+        when(api3L1TransactionCreator.pullBlockchainTransaction("org123", List.of(first, second))).thenReturn(Either.right(api3BlockchainTransactions));
+        when(transactionSubmissionService.submitTransaction(new byte[0])).thenReturn("txHash123");
+        when(first.getId()).thenReturn("report1");
+        when(first.getL1SubmissionData()).thenReturn(Optional.of(mock(L1SubmissionData.class)));
+
+        dispatcher.dispatchReports("org123", new LinkedHashSet<>(List.of(first, second)));
+
+        verify(transactionSubmissionService).submitTransaction(new byte[0]);
+        verify(api3L1TransactionCreator).pullBlockchainTransaction("org123", List.of(first, second));
+        verifyNoMoreInteractions(api3L1TransactionCreator);
+        verify(second, never()).setL1SubmissionData(any());
+    }
+
 }
@@ -17,25 +17,29 @@ import java.util.Optional;
 import java.util.Set;
 
 import org.springframework.http.ProblemDetail;
+import org.springframework.transaction.PlatformTransactionManager;
 
-import com.bloxbean.cardano.client.api.exception.ApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.vavr.control.Either;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import org.cardanofoundation.lob.app.blockchain_publisher.domain.core.API1BlockchainTransactions;
-import org.cardanofoundation.lob.app.blockchain_publisher.domain.core.L1Submission;
 import org.cardanofoundation.lob.app.blockchain_publisher.domain.entity.txs.TransactionEntity;
 import org.cardanofoundation.lob.app.blockchain_publisher.repository.TransactionEntityRepositoryGateway;
 import org.cardanofoundation.lob.app.blockchain_publisher.service.API1L1TransactionCreator;
 import org.cardanofoundation.lob.app.blockchain_publisher.service.event_publish.LedgerUpdatedEventPublisher;
+import org.cardanofoundation.lob.app.blockchain_publisher.service.transation_submit.L1ConfirmationTracker;
+import org.cardanofoundation.lob.app.blockchain_publisher.service.transation_submit.L1SubmissionLock;
 import org.cardanofoundation.lob.app.blockchain_publisher.service.transation_submit.TransactionSubmissionService;
 import org.cardanofoundation.lob.app.organisation.OrganisationPublicApi;
 import org.cardanofoundation.lob.app.organisation.domain.entity.Organisation;
+import org.cardanofoundation.lob.app.support.scheduling.OrganisationWorkScheduler;
 
 @ExtendWith(MockitoExtension.class)
 class BlockchainTransactionsDispatcherTest {
@@ -52,6 +56,12 @@ class BlockchainTransactionsDispatcherTest {
     private LedgerUpdatedEventPublisher ledgerUpdatedEventPublisher;
     @Mock
     private DispatchingStrategy<TransactionEntity> dispatchingStrategy;
+    @Mock
+    private L1ConfirmationTracker l1ConfirmationTracker;
+    @Spy
+    private L1SubmissionLock l1SubmissionLock = new L1SubmissionLock();
+    @Spy
+    private OrganisationWorkScheduler organisationWorkScheduler = new OrganisationWorkScheduler(mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
     @InjectMocks
     private BlockchainTransactionsDispatcher dispatcher;
 
@@ -72,6 +82,18 @@ class BlockchainTransactionsDispatcherTest {
         verifyNoInteractions(dispatchingStrategy);
     }
 
+    @Test
+    void dispatchTransactionsTooManyPendingSubmissions() {
+        when(l1ConfirmationTracker.isAtCapacity()).thenReturn(true);
+
+        dispatcher.dispatchTransactions();
+
+        verifyNoInteractions(organisationPublicApi);
+        verifyNoInteractions(transactionEntityRepositoryGateway);
+        verifyNoInteractions(l1TransactionCreator);
+        verifyNoInteractions(transactionSubmissionService);
+    }
+
     @Test
     void dispatchTransactionsNoTransactionToDispatch() {
         Organisation organisation = new Organisation();
@@ -177,14 +199,12 @@ class BlockchainTransactionsDispatcherTest {
 
 
     @Test
-    void dispatchTransactionsSuccess() throws ApiException, InterruptedException {
+    void dispatchTransactionsSuccess() {
         Organisation organisation = new Organisation();
         organisation.setId("organisationId");
         TransactionEntity transactionEntity = mock(TransactionEntity.class);
         API1BlockchainTransactions blockchainTransactions = mock(API1BlockchainTransactions.class);
-        L1Submission l1Submission = mock(L1Submission.class);
 
-        when(l1Submission.txHash()).thenReturn("txHash");
         when(blockchainTransactions.remainingTransactions()).thenReturn(new HashSet<>());
         when(blockchainTransactions.submittedTransactions()).thenReturn(new HashSet<>());
         when(blockchainTransactions.serialisedTxData()).thenReturn(new byte[0]);
@@ -193,14 +213,15 @@ class BlockchainTransactionsDispatcherTest {
         when(transactionEntityRepositoryGateway.findTransactionsReadyToBeDispatched("organisationId", 50)).thenReturn(Set.of());
         when(dispatchingStrategy.apply("organisationId", Set.of())).thenReturn(Set.of(transactionEntity));
         when(l1TransactionCreator.pullBlockchainTransaction(anyString(), anySet())).thenReturn(Either.right(Optional.ofNullable(blockchainTransactions)));
-        when(transactionSubmissionService.submitTransactionWithPossibleConfirmation(eq(new byte[0]), anyString())).thenReturn(l1Submission);
+        when(transactionSubmissionService.submitTransaction(eq(new byte[0]))).thenReturn("txHash");
         dispatcher.dispatchTransactions();
 
         verify(organisationPublicApi).listAll();
         verify(transactionEntityRepositoryGateway).findTransactionsReadyToBeDispatched("organisationId", 50);
         verify(dispatchingStrategy).apply("organisationId", Set.of());
         verify(l1TransactionCreator).pullBlockchainTransaction("organisationId", Set.of(transactionEntity));
-        verify(transactionSubmissionService).submitTransactionWithPossibleConfirmation(eq(new byte[0]), anyString());
+        verify(transactionSubmissionService).submitTransaction(eq(new byte[0]));
+        verify(l1ConfirmationTracker).trackTransactions("txHash", new byte[0], "receiverAddress", Set.of());
         verify(ledgerUpdatedEventPublisher).sendTxLedgerUpdatedEvents(null, new HashSet<>());
         verify(transactionEntityRepositoryGateway, times(3)).unlockTransactions(anySet());
         verifyNoMoreInteractions(organisationPublicApi);
@@ -210,5 +231,28 @@ class BlockchainTransactionsDispatcherTest {
         verifyNoMoreInteractions(ledgerUpdatedEventPublisher);
     }
 
+    @Test
+    void dispatchTransactionsStopsOnceAtCapacityBetweenChunks() {
+        Organisation organisation = new Organisation();
+        organisation.setId("organisationId");
+        TransactionEntity first = mock(TransactionEntity.class);
+        TransactionEntity second = mock(TransactionEntity.class);
+        API1BlockchainTransactions blockchainTransactions = new API1BlockchainTransactions("organisationId", Set.of(first), Set.of(second), 1L, new byte[0], "receiverAddress");
+
+        // free when the round starts and for the first chunk, taken by another submission before the second chunk
+        when(l1ConfirmationTracker.isAtCapacity()).thenReturn(false, false, true);
+        when(organisationPublicApi.listAll()).thenReturn(List.of(organisation));
+        when(transactionEntityRepositoryGateway.findTransactionsReadyToBeDispatched("organisationId", 50)).thenReturn(Set.of());
+        when(dispatchingStrategy.apply("organisationId", Set.of())).thenReturn(Set.of(first, second));
+        when(l1TransactionCreator.pullBlockchainTransaction("organisationId", Set.of(first, second))).thenReturn(Either.right(Optional.of(blockchainTransactions)));
+        when(transactionSubmissionService.submitTransaction(eq(new byte[0]))).thenReturn("txHash");
+
+        dispatcher.dispatchTransactions();
+
+        verify(transactionSubmissionService).submitTransaction(eq(new byte[0]));
+        verify(l1TransactionCreator).pullBlockchainTransaction("organisationId", Set.of(first, second));
+        verifyNoMoreInteractions(l1TransactionCreator);
+        verifyNoMoreInteractions(transactionSubmissionService);
+    }
 
 }
@@ -43,7 +43,7 @@ import org.cardanofoundation.lob.app.support.modulith.EventMetadata;
 @TestPropertySource(properties = "spring.main.allow-bean-definition-overriding=true")
 @EnableAutoConfiguration
 @ContextConfiguration(classes = TestContainerConfig.class)
-@ComponentScan(basePackages = {"org.cardanofoundation.lob.app.blockchain_publisher","org.cardanofoundation.lob.app.organisation","org.cardanofoundation.lob.app.blockchain_reader","org.cardanofoundation.lob.app.support.security", "org.cardanofoundation.lob.app.support.database"})
+@ComponentScan(basePackages = {"org.cardanofoundation.lob.app.blockchain_publisher","org.cardanofoundation.lob.app.organisation","org.cardanofoundation.lob.app.blockchain_reader","org.cardanofoundation.lob.app.support.security", "org.cardanofoundation.lob.app.support.database", "org.cardanofoundation.lob.app.support.scheduling"})
 class BlockchainPublisherServiceDuplicateEventsTest {
 
     @Autowired
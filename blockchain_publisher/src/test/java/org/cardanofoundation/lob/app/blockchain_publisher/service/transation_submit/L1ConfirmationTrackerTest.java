@@ -0,0 +1,166 @@
+package org.cardanofoundation.lob.app.blockchain_publisher.service.transation_submit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.Set;
+
+import com.bloxbean.cardano.client.api.exception.ApiException;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.cardanofoundation.lob.app.blockchain_publisher.repository.ReportEntityRepositoryGateway;
+import org.cardanofoundation.lob.app.blockchain_publisher.repository.TransactionEntityRepositoryGateway;
+
+@ExtendWith(MockitoExtension.class)
+class L1ConfirmationTrackerTest {
+
+    @Mock
+    private TransactionSubmissionService transactionSubmissionService;
+    @Mock
+    private TransactionEntityRepositoryGateway transactionEntityRepositoryGateway;
+    @Mock
+    private ReportEntityRepositoryGateway reportEntityRepositoryGateway;
+    @Mock
+    private PendingUtxoLedger pendingUtxoLedger;
+
+    private static final byte[] TX_DATA = new byte[] { 1 };
+
+    private final Instant now = Instant.parse("2025-01-01T10:00:00Z");
+
+    private L1ConfirmationTracker tracker(Clock clock) {
+        return new L1ConfirmationTracker(transactionSubmissionService, transactionEntityRepositoryGateway, reportEntityRepositoryGateway, pendingUtxoLedger, clock);
+    }
+
+    @Test
+    void confirmedTransactionsGetTheirSlotAndAreNoLongerTracked() throws ApiException {
+        L1ConfirmationTracker tracker = tracker(Clock.fixed(now, ZoneOffset.UTC));
+        tracker.trackTransactions("txHash", TX_DATA, "receiver", Set.of("tx1", "tx2"));
+
+        when(transactionSubmissionService.findConfirmedSlot("txHash", "receiver")).thenReturn(Optional.of(100L));
+        when(transactionEntityRepositoryGateway.confirmSubmission("txHash", Set.of("tx1", "tx2"), 100L)).thenReturn(true);
+
+        tracker.checkPendingSubmissions();
+
+        assertThat(tracker.hasPendingSubmissions()).isFalse();
+        verify(pendingUtxoLedger).record(TX_DATA);
+        verify(pendingUtxoLedger).confirm("txHash");
+        verifyNoInteractions(reportEntityRepositoryGateway);
+    }
+
+    @Test
+    void confirmedReportsGetTheirSlot() throws ApiException {
+        L1ConfirmationTracker tracker = tracker(Clock.fixed(now, ZoneOffset.UTC));
+        tracker.trackReports("txHash", TX_DATA, "receiver", Set.of("report1", "report2"));
+
+        when(transactionSubmissionService.findConfirmedSlot("txHash", "receiver")).thenReturn(Optional.of(100L));
+        when(reportEntityRepositoryGateway.confirmSubmission("txHash", Set.of("report1", "report2"), 100L)).thenReturn(true);
+
+        tracker.checkPendingSubmissions();
+
+        assertThat(tracker.hasPendingSubmissions()).isFalse();
+        verifyNoInteractions(transactionEntityRepositoryGateway);
+    }
+
+    @Test
+    void pendingTransactionStaysTrackedUntilTimeout() throws ApiException {
+        MutableClock clock = new MutableClock(now);
+        L1ConfirmationTracker tracker = tracker(clock);
+        tracker.trackTransactions("txHash", TX_DATA, "receiver", Set.of("tx1"));
+
+        when(transactionSubmissionService.findConfirmedSlot("txHash", "receiver")).thenReturn(Optional.empty());
+        when(pendingUtxoLedger.rollback("txHash")).thenReturn(Set.of("txHash"));
+
+        tracker.checkPendingSubmissions();
+        assertThat(tracker.hasPendingSubmissions()).isTrue();
+
+        clock.instant = now.plusSeconds(301);
+        tracker.checkPendingSubmissions();
+        assertThat(tracker.hasPendingSubmissions()).isFalse();
+
+        verify(transactionEntityRepositoryGateway, never()).confirmSubmission(anyString(), anySet(), anyLong());
+    }
+
+    @Test
+    void chainedSubmissionsAreDroppedWithTheirTimedOutParent() throws ApiException {
+        MutableClock clock = new MutableClock(now);
+        L1ConfirmationTracker tracker = tracker(clock);
+        tracker.trackTransactions("parent", TX_DATA, "receiver", Set.of("tx1"));
+        tracker.trackTransactions("child", TX_DATA, "receiver", Set.of("tx2"));
+
+        when(transactionSubmissionService.findConfirmedSlot("parent", "receiver")).thenReturn(Optional.empty());
+        when(pendingUtxoLedger.rollback("parent")).thenReturn(Set.of("parent", "child"));
+
+        clock.instant = now.plusSeconds(301);
+        tracker.checkPendingSubmissions();
+
+        assertThat(tracker.hasPendingSubmissions()).isFalse();
+        verify(transactionSubmissionService, never()).findConfirmedSlot("child", "receiver");
+    }
+
+    @Test
+    void isAtCapacityOnceTooManySubmissionsArePending() {
+        L1ConfirmationTracker tracker = tracker(Clock.fixed(now, ZoneOffset.UTC));
+
+        for (int i = 0; i < 9; i++) {
+            tracker.trackTransactions("txHash" + i, TX_DATA, "receiver", Set.of("tx" + i));
+        }
+        assertThat(tracker.isAtCapacity()).isFalse();
+
+        tracker.trackTransactions("txHash9", TX_DATA, "receiver", Set.of("tx9"));
+        assertThat(tracker.isAtCapacity()).isTrue();
+    }
+
+    @Test
+    void submissionStaysTrackedWhenItIsNotStoredYet() throws ApiException {
+        L1ConfirmationTracker tracker = tracker(Clock.fixed(now, ZoneOffset.UTC));
+        tracker.trackTransactions("txHash", TX_DATA, "receiver", Set.of("tx1"));
+
+        when(transactionSubmissionService.findConfirmedSlot("txHash", "receiver")).thenReturn(Optional.of(100L));
+        when(transactionEntityRepositoryGateway.confirmSubmission("txHash", Set.of("tx1"), 100L)).thenReturn(false);
+
+        tracker.checkPendingSubmissions();
+
+        assertThat(tracker.hasPendingSubmissions()).isTrue();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+    }
+
+}
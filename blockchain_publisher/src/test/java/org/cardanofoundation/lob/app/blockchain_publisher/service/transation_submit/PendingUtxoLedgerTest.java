@@ -0,0 +1,114 @@
+package org.cardanofoundation.lob.app.blockchain_publisher.service.transation_submit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import com.bloxbean.cardano.client.account.Account;
+import com.bloxbean.cardano.client.api.UtxoSupplier;
+import com.bloxbean.cardano.client.api.model.Amount;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.common.model.Networks;
+import com.bloxbean.cardano.client.exception.CborSerializationException;
+import com.bloxbean.cardano.client.transaction.spec.Transaction;
+import com.bloxbean.cardano.client.transaction.spec.TransactionBody;
+import com.bloxbean.cardano.client.transaction.spec.TransactionInput;
+import com.bloxbean.cardano.client.transaction.spec.TransactionOutput;
+import com.bloxbean.cardano.client.transaction.spec.Value;
+import com.bloxbean.cardano.client.transaction.util.TransactionUtil;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(MockitoExtension.class)
+class PendingUtxoLedgerTest {
+
+    private static final String CHAIN_TX_HASH = "a".repeat(64);
+
+    @Mock
+    private UtxoSupplier chainUtxoSupplier;
+
+    private final String address = new Account(Networks.testnet()).baseAddress();
+
+    private PendingUtxoLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        ledger = new PendingUtxoLedger(chainUtxoSupplier, Clock.fixed(Instant.parse("2025-01-01T10:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Test
+    void pendingChangeReplacesSpentChainUtxo() throws CborSerializationException {
+        when(chainUtxoSupplier.getAll(address)).thenReturn(List.of(utxo(CHAIN_TX_HASH, 0)));
+
+        byte[] parent = transaction(CHAIN_TX_HASH, 0, 20);
+        ledger.record(parent);
+
+        assertThat(ledger.utxoSupplier().getAll(address))
+                .extracting(Utxo::getTxHash, Utxo::getOutputIndex)
+                .containsExactly(tuple(TransactionUtil.getTxHash(parent), 0));
+    }
+
+    @Test
+    void chainedTransactionSpendsPendingChange() throws CborSerializationException {
+        when(chainUtxoSupplier.getAll(address)).thenReturn(List.of(utxo(CHAIN_TX_HASH, 0)));
+
+        byte[] parent = transaction(CHAIN_TX_HASH, 0, 20);
+        String parentHash = TransactionUtil.getTxHash(parent);
+        ledger.record(parent);
+
+        byte[] child = transaction(parentHash, 0, 18);
+        ledger.record(child);
+
+        assertThat(ledger.utxoSupplier().getAll(address))
+                .extracting(Utxo::getTxHash)
+                .containsExactly(TransactionUtil.getTxHash(child));
+        assertThat(ledger.utxoSupplier().getTxOutput(parentHash, 0)).isPresent();
+    }
+
+    @Test
+    void rollbackOfParentAlsoRollsBackChainedTransactions() throws CborSerializationException {
+        when(chainUtxoSupplier.getAll(address)).thenReturn(List.of(utxo(CHAIN_TX_HASH, 0)));
+
+        byte[] parent = transaction(CHAIN_TX_HASH, 0, 20);
+        String parentHash = TransactionUtil.getTxHash(parent);
+        ledger.record(parent);
+        byte[] child = transaction(parentHash, 0, 18);
+        ledger.record(child);
+
+        assertThat(ledger.rollback(parentHash)).containsExactly(parentHash, TransactionUtil.getTxHash(child));
+        assertThat(ledger.utxoSupplier().getAll(address))
+                .extracting(Utxo::getTxHash)
+                .containsExactly(CHAIN_TX_HASH);
+    }
+
+    private byte[] transaction(String inputTxHash, int inputIndex, long ada) throws CborSerializationException {
+        return Transaction.builder()
+                .body(TransactionBody.builder()
+                        .inputs(List.of(new TransactionInput(inputTxHash, inputIndex)))
+                        .outputs(List.of(new TransactionOutput(address, Value.builder().coin(BigInteger.valueOf(ada * 1_000_000)).build())))
+                        .fee(BigInteger.valueOf(200_000))
+                        .build())
+                .build()
+                .serialize();
+    }
+
+    private Utxo utxo(String txHash, int outputIndex) {
+        return Utxo.builder()
+                .txHash(txHash)
+                .outputIndex(outputIndex)
+                .address(address)
+                .amount(List.of(Amount.ada(25)))
+                .build();
+    }
+
+}
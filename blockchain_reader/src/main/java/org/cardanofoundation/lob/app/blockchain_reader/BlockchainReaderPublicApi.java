@@ -1,5 +1,6 @@
 package org.cardanofoundation.lob.app.blockchain_reader;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -7,7 +8,6 @@ import java.util.Set;
 
 import jakarta.annotation.PostConstruct;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -17,6 +17,7 @@ import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestClientResponseException;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.vavr.control.Either;
 
 import org.cardanofoundation.lob.app.blockchain_common.domain.CardanoNetwork;
@@ -24,8 +25,10 @@ import org.cardanofoundation.lob.app.blockchain_common.domain.ChainTip;
 import org.cardanofoundation.lob.app.blockchain_common.domain.OnChainTxDetails;
 import org.cardanofoundation.lob.app.blockchain_reader.domain.LOBOnChainTxStatusRequest;
 import org.cardanofoundation.lob.app.blockchain_reader.domain.LOBOnChainTxStatusResponse;
+import org.cardanofoundation.lob.app.blockchain_reader.domain.OnChainTxDetailsRequest;
+import org.cardanofoundation.lob.app.blockchain_reader.domain.OnChainTxDetailsResponse;
+import org.cardanofoundation.lob.app.blockchain_reader.domain.TxStatusEventsResponse;
 
-@RequiredArgsConstructor
 @Slf4j
 public class BlockchainReaderPublicApi implements BlockchainReaderPublicApiIF {
 
@@ -35,10 +38,20 @@ public class BlockchainReaderPublicApi implements BlockchainReaderPublicApiIF {
     public static final String INTERNAL_SERVER_ERROR_REASON_S = "Internal server error, reason: %s";
     private final RestClient restClient;
     private final CardanoNetwork network;
+    private final ChainTipCache chainTipCache;
 
     @Value("${lob.blockchain_reader.lob_follower_base_url:http://localhost:9090/api}")
     private String lobFollowerBaseUrl;
 
+    public BlockchainReaderPublicApi(RestClient restClient,
+                                     CardanoNetwork network,
+                                     Duration chainTipTtl,
+                                     MeterRegistry meterRegistry) {
+        this.restClient = restClient;
+        this.network = network;
+        this.chainTipCache = new ChainTipCache(chainTipTtl, meterRegistry);
+    }
+
     @PostConstruct
     public void init() {
         log.info("BlockchainReaderPublicApi initialized with network: {}", network);
@@ -46,6 +59,10 @@ public class BlockchainReaderPublicApi implements BlockchainReaderPublicApiIF {
 
     @Override
     public Either<ProblemDetail, ChainTip> getChainTip() {
+        return chainTipCache.get(this::fetchChainTip);
+    }
+
+    private Either<ProblemDetail, ChainTip> fetchChainTip() {
         try {
             ChainTip chainTip = restClient.get()
                     .uri("%s/v1/tip".formatted(lobFollowerBaseUrl))
@@ -53,10 +70,7 @@ public class BlockchainReaderPublicApi implements BlockchainReaderPublicApiIF {
                     .body(ChainTip.class);
 
             if (chainTip.getNetwork() != network) {
-                ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, NETWORK_MISMATCH_S_S.formatted(chainTip.getNetwork(), network));
-                problem.setTitle(NETWORK_MISMATCH);
-
-                return Either.left(problem);
+                return Either.left(networkMismatch(chainTip.getNetwork()));
             }
 
             return Either.right(chainTip);
@@ -81,10 +95,7 @@ public class BlockchainReaderPublicApi implements BlockchainReaderPublicApiIF {
                     .body(OnChainTxDetails.class);
 
             if (Objects.requireNonNull(txDetails).getNetwork() != network) {
-                ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, NETWORK_MISMATCH_S_S.formatted(txDetails.getNetwork(), network));
-                problem.setTitle(NETWORK_MISMATCH);
-
-                return Either.left(problem);
+                return Either.left(networkMismatch(txDetails.getNetwork()));
             }
 
             return Either.right(Optional.of(txDetails));
@@ -109,6 +120,37 @@ public class BlockchainReaderPublicApi implements BlockchainReaderPublicApiIF {
         }
     }
 
+    @Override
+    public Either<ProblemDetail, Map<String, OnChainTxDetails>> getTxDetails(Set<String> transactionHashes) {
+        if (transactionHashes.isEmpty()) {
+            return Either.right(Map.of());
+        }
+        try {
+            OnChainTxDetailsResponse txDetailsResponse = restClient.post()
+                    .uri("%s/v1/tx-details".formatted(lobFollowerBaseUrl))
+                    .body(new OnChainTxDetailsRequest(transactionHashes))
+                    .retrieve()
+                    .body(OnChainTxDetailsResponse.class);
+
+            if (Objects.requireNonNull(txDetailsResponse).getNetwork() != network) {
+                return Either.left(networkMismatch(txDetailsResponse.getNetwork()));
+            }
+
+            return Either.right(txDetailsResponse.getTransactionDetails());
+        } catch (RestClientResponseException ex) {
+            ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ERROR_FROM_THE_CLIENT_S.formatted(ex.getResponseBodyAsString()));
+            problem.setTitle("TX_DETAILS_ERROR");
+
+            return Either.left(problem);
+        } catch (RestClientException ex) {
+            log.error("Error while fetching tx details, count: {}", transactionHashes.size(), ex);
+            ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR, INTERNAL_SERVER_ERROR_REASON_S.formatted(ex.getMessage()));
+            problem.setTitle("TX_DETAILS_ERROR");
+
+            return Either.left(problem);
+        }
+    }
+
     @Override
     public Either<ProblemDetail, Map<String, Boolean>> isOnChain(Set<String> transactionIds) {
         try {
@@ -119,10 +161,7 @@ public class BlockchainReaderPublicApi implements BlockchainReaderPublicApiIF {
                     .body(LOBOnChainTxStatusResponse.class);
 
             if (lobOnChainDetailsResponse.getNetwork() != network) {
-                ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, NETWORK_MISMATCH_S_S.formatted(lobOnChainDetailsResponse.getNetwork(), network));
-                problem.setTitle(NETWORK_MISMATCH);
-
-                return Either.left(problem);
+                return Either.left(networkMismatch(lobOnChainDetailsResponse.getNetwork()));
             }
 
             return Either.right(lobOnChainDetailsResponse.getTransactionStatuses());
@@ -141,4 +180,41 @@ public class BlockchainReaderPublicApi implements BlockchainReaderPublicApiIF {
         }
     }
 
+    @Override
+    public Either<ProblemDetail, TxStatusEventsResponse> getTxStatusEvents(long after, int limit, Duration wait) {
+        try {
+            TxStatusEventsResponse txStatusEventsResponse = restClient.get()
+                    .uri("%s/v1/tx-status-events?after=%d&limit=%d&waitSeconds=%d".formatted(lobFollowerBaseUrl, after, limit, wait.toSeconds()))
+                    .retrieve()
+                    .body(TxStatusEventsResponse.class);
+
+            if (Objects.requireNonNull(txStatusEventsResponse).getNetwork() != network) {
+                return Either.left(networkMismatch(txStatusEventsResponse.getNetwork()));
+            }
+
+            return Either.right(txStatusEventsResponse);
+        } catch (RestClientResponseException ex) {
+            ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ERROR_FROM_THE_CLIENT_S.formatted(ex.getResponseBodyAsString()));
+            problem.setTitle("TX_STATUS_EVENTS_ERROR");
+
+            return Either.left(problem);
+        } catch (RestClientException ex) {
+            log.error("Error while fetching tx status events after: {}", after, ex);
+            ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR, INTERNAL_SERVER_ERROR_REASON_S.formatted(ex.getMessage()));
+            problem.setTitle("TX_STATUS_EVENTS_ERROR");
+
+            return Either.left(problem);
+        }
+    }
+
+    // a follower on another network means a misconfiguration, nothing it returned before is trusted any more
+    private ProblemDetail networkMismatch(CardanoNetwork followerNetwork) {
+        chainTipCache.invalidate();
+
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, NETWORK_MISMATCH_S_S.formatted(followerNetwork, network));
+        problem.setTitle(NETWORK_MISMATCH);
+
+        return problem;
+    }
+
 }
@@ -1,5 +1,7 @@
 package org.cardanofoundation.lob.app.blockchain_reader;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -16,6 +18,7 @@ import org.cardanofoundation.lob.app.blockchain_common.domain.CardanoNetwork;
 import org.cardanofoundation.lob.app.blockchain_common.domain.ChainTip;
 import org.cardanofoundation.lob.app.blockchain_common.domain.FinalityScore;
 import org.cardanofoundation.lob.app.blockchain_common.domain.OnChainTxDetails;
+import org.cardanofoundation.lob.app.blockchain_reader.domain.TxStatusEventsResponse;
 
 public interface BlockchainReaderPublicApiIF {
 
@@ -23,8 +26,20 @@ public interface BlockchainReaderPublicApiIF {
 
     Either<ProblemDetail, Optional<OnChainTxDetails>> getTxDetails(String transactionHash);
 
+    /**
+     * Details of many transactions in one call, keyed by transaction hash. Transactions not found on chain are left out.
+     */
+    Either<ProblemDetail, Map<String, OnChainTxDetails>> getTxDetails(Set<String> transactionHashes);
+
     Either<ProblemDetail, Map<String, Boolean>> isOnChain(Set<String> transactionIds);
 
+    /**
+     * Status changes of LOB L1 transactions with a sequence greater than {@code after}, waiting up to {@code wait} on
+     * the follower side when there are none yet. A negative {@code after} only returns the current end of the feed as
+     * the cursor.
+     */
+    Either<ProblemDetail, TxStatusEventsResponse> getTxStatusEvents(long after, int limit, Duration wait);
+
     @RequiredArgsConstructor
     class Noop implements BlockchainReaderPublicApiIF {
 
@@ -55,6 +70,17 @@ public interface BlockchainReaderPublicApiIF {
             );
         }
 
+        @Override
+        public Either<ProblemDetail, Map<String, OnChainTxDetails>> getTxDetails(Set<String> transactionHashes) {
+            val result = transactionHashes.stream()
+                    .collect(Collectors.toMap(
+                            transactionHash -> transactionHash,
+                            transactionHash -> getTxDetails(transactionHash).get().orElseThrow()
+                    ));
+
+            return Either.right(result);
+        }
+
         @Override
         public Either<ProblemDetail, Map<String, Boolean>> isOnChain(Set<String> transactionIds) {
             val result = transactionIds.stream()
@@ -66,6 +92,11 @@ public interface BlockchainReaderPublicApiIF {
             return Either.right(result);
         }
 
+        @Override
+        public Either<ProblemDetail, TxStatusEventsResponse> getTxStatusEvents(long after, int limit, Duration wait) {
+            return Either.right(new TxStatusEventsResponse(new ArrayList<>(), Math.max(after, 0), network));
+        }
+
     }
 
 }
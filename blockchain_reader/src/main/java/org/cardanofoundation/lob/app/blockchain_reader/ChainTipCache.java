@@ -0,0 +1,86 @@
+package org.cardanofoundation.lob.app.blockchain_reader;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.http.ProblemDetail;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vavr.control.Either;
+
+import org.cardanofoundation.lob.app.blockchain_common.domain.ChainTip;
+
+/**
+ * Keeps the last chain tip for a short time, roughly one slot, so tip lookups scale with time instead of with the
+ * number of callers. Concurrent refreshes are de-duplicated: one caller loads the tip while the others wait for it and
+ * use its result. Failed lookups are not cached.
+ */
+class ChainTipCache {
+
+    private final Duration ttl;
+    private final Clock clock;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile CachedChainTip cached;
+
+    ChainTipCache(Duration ttl, MeterRegistry meterRegistry) {
+        this.ttl = ttl;
+        this.clock = meterRegistry.config().clock();
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+    }
+
+    Either<ProblemDetail, ChainTip> get(Supplier<Either<ProblemDetail, ChainTip>> loader) {
+        CachedChainTip current = cached;
+        if (current != null && current.isFresh(clock.monotonicTime())) {
+            hits.increment();
+            return Either.right(current.chainTip());
+        }
+
+        refreshLock.lock();
+        try {
+            // another caller may have refreshed the tip while this one was waiting for the lock
+            current = cached;
+            if (current != null && current.isFresh(clock.monotonicTime())) {
+                hits.increment();
+                return Either.right(current.chainTip());
+            }
+            misses.increment();
+
+            Either<ProblemDetail, ChainTip> chainTipE = loader.get();
+            cached = chainTipE.isRight() ? new CachedChainTip(chainTipE.get(), clock.monotonicTime() + ttl.toNanos()) : null;
+
+            return chainTipE;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    void invalidate() {
+        cached = null;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("lob.blockchain_reader.chain_tip.cache")
+                .description("Chain tip lookups served from the cache (hit) or by the ledger follower (miss)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record CachedChainTip(ChainTip chainTip,
+                                  long expiresAtNanos) {
+
+        boolean isFresh(long nowNanos) {
+            return nowNanos - expiresAtNanos < 0;
+        }
+
+    }
+
+}
@@ -1,13 +1,18 @@
 package org.cardanofoundation.lob.app.blockchain_reader.config;
 
+import java.time.Duration;
+
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestClient;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 import org.cardanofoundation.lob.app.blockchain_common.domain.CardanoNetwork;
 import org.cardanofoundation.lob.app.blockchain_reader.BlockchainReaderPublicApi;
 import org.cardanofoundation.lob.app.blockchain_reader.BlockchainReaderPublicApiIF;
@@ -18,10 +23,14 @@ public class BlockchainReaderConfig {
 
     @Bean
     @ConditionalOnProperty(prefix = "lob.blockchain_reader", value = "enabled", havingValue = "true", matchIfMissing = true)
-    public BlockchainReaderPublicApiIF blockchainReaderPublicApiReal(@Qualifier("blockchainReaderRestClient") RestClient restClient, CardanoNetwork network) {
+    public BlockchainReaderPublicApiIF blockchainReaderPublicApiReal(@Qualifier("blockchainReaderRestClient") RestClient restClient,
+                                                                     CardanoNetwork network,
+                                                                     MeterRegistry meterRegistry,
+                                                                     // roughly one slot
+                                                                     @Value("${lob.blockchain_reader.chain_tip.ttl:PT1S}") Duration chainTipTtl) {
         log.info("Creating BlockchainReaderPublicApi with real YACI service, blockchain_reader enabled.");
 
-        return new BlockchainReaderPublicApi(restClient, network);
+        return new BlockchainReaderPublicApi(restClient, network, chainTipTtl, meterRegistry);
     }
 
     @Bean
@@ -1,33 +1,47 @@
 package org.cardanofoundation.lob.app.blockchain_reader.config;
 
+import java.time.Duration;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.HttpRequest;
 import org.springframework.web.client.RestClient;
 
+import org.cardanofoundation.lob.app.support.http.OutboundHttpTransport;
+
 @Configuration
 public class RestClientConfig {
 
-    @Value("${rest.client.connectTimeout:5000}")
-    private int connectTimeoutMillis;
+    private static final String API_VERSION = "/v1/";
 
     @Value("${rest.client.readTimeout:5000}")
     private int readTimeout;
 
+    // rest.client.connectTimeout (milliseconds) is still honoured when the shared connect timeout is not set
+    @Value("${lob.http.client.connect_timeout:${rest.client.connectTimeout:PT5S}}")
+    private Duration connectTimeout;
+
     @Bean("blockchainReaderRestClient")
-    public RestClient restClient(RestClient.Builder builder, ClientHttpRequestFactory clientHttpRequestFactory) {
-        return builder.requestFactory(clientHttpRequestFactory).build();
+    public RestClient restClient(RestClient.Builder builder, OutboundHttpTransport outboundHttpTransport) {
+        return outboundHttpTransport.configure(builder, "blockchain_reader", connectTimeout, Duration.ofMillis(readTimeout), RestClientConfig::operation)
+                .build();
     }
 
-    @Bean
-    public ClientHttpRequestFactory clientHttpRequestFactory() {
-        var factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(connectTimeoutMillis);
-        factory.setReadTimeout(readTimeout);
-
-        return factory;
+    /**
+     * Names the ledger follower endpoint called, i.e. the first path segment after the api version: tip, tx-details,
+     * on-chain-statuses, tx-status-events.
+     */
+    static String operation(HttpRequest request) {
+        String path = request.getURI().getPath();
+        int versionIndex = path.indexOf(API_VERSION);
+        if (versionIndex < 0) {
+            return "unknown";
+        }
+        String endpoint = path.substring(versionIndex + API_VERSION.length());
+        int slashIndex = endpoint.indexOf('/');
+
+        return slashIndex < 0 ? endpoint : endpoint.substring(0, slashIndex);
     }
 
 }
@@ -0,0 +1,19 @@
+package org.cardanofoundation.lob.app.blockchain_reader.domain;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class OnChainTxDetailsRequest {
+
+    private Set<String> transactionHashes = new LinkedHashSet<>();
+
+}
@@ -0,0 +1,29 @@
+package org.cardanofoundation.lob.app.blockchain_reader.domain;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jakarta.validation.constraints.NotNull;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import org.cardanofoundation.lob.app.blockchain_common.domain.CardanoNetwork;
+import org.cardanofoundation.lob.app.blockchain_common.domain.OnChainTxDetails;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class OnChainTxDetailsResponse {
+
+    // only transactions found on chain, keyed by transaction hash
+    @NotNull
+    private Map<String, OnChainTxDetails> transactionDetails = new LinkedHashMap<>();
+
+    @NotNull
+    private CardanoNetwork network;
+
+}
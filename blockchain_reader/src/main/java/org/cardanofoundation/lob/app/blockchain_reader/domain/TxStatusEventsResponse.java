@@ -0,0 +1,31 @@
+package org.cardanofoundation.lob.app.blockchain_reader.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.validation.constraints.NotNull;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import org.cardanofoundation.lob.app.blockchain_common.domain.CardanoNetwork;
+import org.cardanofoundation.lob.app.blockchain_common.domain.TxStatusEvent;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class TxStatusEventsResponse {
+
+    @NotNull
+    private List<TxStatusEvent> events = new ArrayList<>();
+
+    // sequence to read the next events after
+    private long cursor;
+
+    @NotNull
+    private CardanoNetwork network;
+
+}
@@ -0,0 +1,117 @@
+package org.cardanofoundation.lob.app.blockchain_reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vavr.control.Either;
+
+import org.junit.jupiter.api.Test;
+
+import org.cardanofoundation.lob.app.blockchain_common.domain.CardanoNetwork;
+import org.cardanofoundation.lob.app.blockchain_common.domain.ChainTip;
+
+class ChainTipCacheTest {
+
+    private final MockClock clock = new MockClock();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+
+    private final ChainTipCache chainTipCache = new ChainTipCache(Duration.ofSeconds(1), meterRegistry);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void tipIsLoadedOncePerTtl() {
+        assertThat(chainTipCache.get(this::load).get().getAbsoluteSlot()).isEqualTo(1L);
+        assertThat(chainTipCache.get(this::load).get().getAbsoluteSlot()).isEqualTo(1L);
+
+        clock.add(Duration.ofMillis(1001));
+        assertThat(chainTipCache.get(this::load).get().getAbsoluteSlot()).isEqualTo(2L);
+
+        assertThat(loads).hasValue(2);
+        assertThat(count("hit")).isEqualTo(1.0);
+        assertThat(count("miss")).isEqualTo(2.0);
+    }
+
+    @Test
+    void invalidatedTipIsLoadedAgain() {
+        chainTipCache.get(this::load);
+        chainTipCache.invalidate();
+        chainTipCache.get(this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void failedLookupsAreNotCached() {
+        ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.INTERNAL_SERVER_ERROR);
+
+        assertThat(chainTipCache.get(() -> Either.left(problem)).isLeft()).isTrue();
+        assertThat(chainTipCache.get(this::load).isRight()).isTrue();
+    }
+
+    @Test
+    void concurrentCallersShareOneRefresh() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<Either<ProblemDetail, ChainTip>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> chainTipCache.get(() -> {
+                loading.countDown();
+                await(release);
+                return load();
+            })));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 0; i < 10; i++) {
+                results.add(executor.submit(() -> chainTipCache.get(this::load)));
+            }
+            release.countDown();
+
+            for (Future<Either<ProblemDetail, ChainTip>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).get().getAbsoluteSlot()).isEqualTo(1L);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+    }
+
+    private Either<ProblemDetail, ChainTip> load() {
+        return Either.right(ChainTip.builder()
+                .absoluteSlot(loads.incrementAndGet())
+                .network(CardanoNetwork.PREPROD)
+                .isSynced(true)
+                .build());
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("lob.blockchain_reader.chain_tip.cache").tag("result", result).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
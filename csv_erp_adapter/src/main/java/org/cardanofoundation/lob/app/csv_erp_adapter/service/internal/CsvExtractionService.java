@@ -8,10 +8,15 @@ import static org.cardanofoundation.lob.app.support.crypto.SHA3.digestAsHex;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -47,6 +52,7 @@ import org.cardanofoundation.lob.app.organisation.domain.SystemExtractionParamet
 import org.cardanofoundation.lob.app.organisation.service.csv.CsvParser;
 import org.cardanofoundation.lob.app.organisation.util.SystemExtractionParametersFactory;
 import org.cardanofoundation.lob.app.support.collections.Partitions;
+import org.cardanofoundation.lob.app.support.collections.StreamingPartitioner;
 import org.cardanofoundation.lob.app.support.modulith.EventMetadata;
 
 @Service
@@ -64,6 +70,8 @@ public class CsvExtractionService {
     private String delimiter;
     @Value("${lob.csv.send-batch-size:100}")
     private int sendBatchSize;
+    @Value("${lob.csv.streaming.enabled:false}")
+    private boolean streamingEnabled;
 
     public void validateIngestion(String correlationId, String organisationId, byte[] file) {
         List<ProblemDetail> errors = new ArrayList<>();
@@ -204,6 +212,11 @@ public class CsvExtractionService {
             return;
         }
 
+        if (streamingEnabled) {
+            streamERPExtraction(batchId, organisationId, userExtractionParameters, systemExtractionParameters, extractionData.file());
+            return;
+        }
+
         Either<ProblemDetail, List<TransactionLine>> lists = csvParser.parseCsv(extractionData.file(), TransactionLine.class);
         if(lists.isLeft()) {
             ProblemDetail problem = ProblemDetail.forStatusAndDetail(org.springframework.http.HttpStatus.BAD_REQUEST, Constants.BATCH_ID + batchId);
@@ -285,6 +298,116 @@ public class CsvExtractionService {
         log.info("NetSuite ingestion fully completed.");
     }
 
+    /**
+     * Same as the regular extraction, but converts a transaction as soon as its last line has been read and publishes chunks
+     * as soon as they are full, instead of holding every parsed line and transaction of the file at once.
+     * A first pass over the file records the last row of each transaction number, since lines of a transaction need not be adjacent.
+     */
+    private void streamERPExtraction(String batchId,
+                                     String organisationId,
+                                     UserExtractionParameters userExtractionParameters,
+                                     SystemExtractionParameters systemExtractionParameters,
+                                     byte[] file) {
+        Either<ProblemDetail, Void> validation = csvParser.validateCsv(file, TransactionLine.class);
+        if (validation.isLeft()) {
+            failCsvParsing(batchId, organisationId, userExtractionParameters);
+            return;
+        }
+
+        Map<String, Integer> lastRowPerTransactionNumber = new HashMap<>();
+        AtomicInteger row = new AtomicInteger();
+        Either<ProblemDetail, Void> firstPass = csvParser.forEachRow(file, TransactionLine.class, line -> {
+            lastRowPerTransactionNumber.put(transactionNumber(line), row.getAndIncrement());
+            return true;
+        });
+        if (firstPass.isLeft()) {
+            failCsvParsing(batchId, organisationId, userExtractionParameters);
+            return;
+        }
+        if (lastRowPerTransactionNumber.isEmpty()) {
+            log.error("No transaction lines found in CSV file");
+            ProblemDetail problem = ProblemDetail.forStatusAndDetail(org.springframework.http.HttpStatus.BAD_REQUEST, Constants.BATCH_ID + batchId);
+            problem.setTitle(Constants.NO_TRANSACTION_LINES);
+            failBatch(batchId, organisationId, userExtractionParameters, new FatalError(ADAPTER_ERROR, Constants.NO_TRANSACTION_LINES, ErrorUtils.getBag(problem, Constants.NO_TRANSACTION_LINES)));
+            return;
+        }
+
+        TransactionBatchChunkEvent.TransactionBatchChunkEventBuilder batchChunkEventBuilder = TransactionBatchChunkEvent.builder()
+                .metadata(EventMetadata.create(TransactionBatchChunkEvent.VERSION))
+                .batchId(batchId)
+                .organisationId(organisationId)
+                .systemExtractionParameters(systemExtractionParameters);
+        StreamingPartitioner<Transaction> partitioner = new StreamingPartitioner<>(sendBatchSize, txPartition -> {
+            batchChunkEventBuilder.transactions(txPartition.elements());
+            // only the last chunk carries the final count, earlier ones carry the number of transactions published so far
+            batchChunkEventBuilder.totalTransactionsCount(txPartition.emittedCount());
+            batchChunkEventBuilder.status(PROCESSING);
+            if (txPartition.isFirst()) {
+                batchChunkEventBuilder.status(STARTED);
+            }
+            if (txPartition.isLast()) {
+                batchChunkEventBuilder.status(FINISHED);
+            }
+
+            applicationEventPublisher.publishEvent(batchChunkEventBuilder.build());
+        });
+
+        Map<String, List<TransactionLine>> pendingLines = new HashMap<>();
+        AtomicReference<ProblemDetail> conversionError = new AtomicReference<>();
+        row.set(0);
+        Either<ProblemDetail, Void> secondPass = csvParser.forEachRow(file, TransactionLine.class, line -> {
+            String transactionNumber = transactionNumber(line);
+            pendingLines.computeIfAbsent(transactionNumber, k -> new ArrayList<>()).add(line);
+            if (lastRowPerTransactionNumber.get(transactionNumber) != row.getAndIncrement()) {
+                return true;
+            }
+
+            Either<ProblemDetail, List<Transaction>> transactions = transactionConverter.convertToTransaction(organisationId, batchId, pendingLines.remove(transactionNumber));
+            if (transactions.isLeft()) {
+                conversionError.set(transactions.getLeft());
+                return false;
+            }
+            transactions.get().forEach(partitioner::add);
+
+            return true;
+        });
+        if (secondPass.isLeft()) {
+            failCsvParsing(batchId, organisationId, userExtractionParameters);
+            return;
+        }
+        if (conversionError.get() != null) {
+            log.error("Error converting transaction lines to transactions: {}", conversionError.get().getDetail());
+            failBatch(batchId, organisationId, userExtractionParameters, new FatalError(ADAPTER_ERROR, Constants.TRANSACTION_CONVERSION_ERROR, ErrorUtils.getBag(conversionError.get(), Constants.TRANSACTION_CONVERSION_ERROR)));
+            return;
+        }
+        partitioner.finish();
+
+        log.info("CSV streaming ingestion fully completed, batchId: {}, transactions: {}", batchId, partitioner.emittedCount());
+    }
+
+    private static String transactionNumber(TransactionLine line) {
+        return Optional.ofNullable(line.getTxNumber()).orElse("");
+    }
+
+    private void failCsvParsing(String batchId, String organisationId, UserExtractionParameters userExtractionParameters) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(org.springframework.http.HttpStatus.BAD_REQUEST, Constants.BATCH_ID + batchId);
+        problem.setTitle(Constants.CSV_PARSING_ERROR);
+        failBatch(batchId, organisationId, userExtractionParameters, new FatalError(ADAPTER_ERROR, Constants.CSV_PARSING_ERROR, ErrorUtils.getBag(problem, Constants.CSV_PARSING_ERROR)));
+    }
+
+    private void failBatch(String batchId, String organisationId, UserExtractionParameters userExtractionParameters, FatalError error) {
+        TransactionBatchFailedEvent batchFailedEvent = TransactionBatchFailedEvent.builder()
+                .metadata(EventMetadata.create(TransactionBatchFailedEvent.VERSION))
+                .batchId(batchId)
+                .extractorType(ExtractorType.CSV)
+                .organisationId(organisationId)
+                .userExtractionParameters(userExtractionParameters)
+                .error(error)
+                .build();
+
+        applicationEventPublisher.publishEvent(batchFailedEvent);
+    }
+
     public void startNewReconciliation(@NotNull String organisationId, String user, byte[] file, LocalDate reconcileFrom, LocalDate reconcileTo) {
         log.info("Running reconciliation...");
 
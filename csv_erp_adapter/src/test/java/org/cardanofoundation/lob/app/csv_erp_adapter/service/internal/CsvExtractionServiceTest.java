@@ -3,7 +3,10 @@ package org.cardanofoundation.lob.app.csv_erp_adapter.service.internal;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -11,6 +14,8 @@ import java.io.IOException;
 import java.lang.reflect.Field;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
@@ -250,6 +255,56 @@ class CsvExtractionServiceTest {
         assertEquals(TransactionBatchChunkEvent.Status.FINISHED, value.getStatus());
     }
 
+    @Test
+    void continueERPExtraction_streamingGroupsNonAdjacentLines() throws NoSuchFieldException, IllegalAccessException {
+        Field field = CsvExtractionService.class.getDeclaredField("streamingEnabled");
+        field.setAccessible(true);
+        field.set(csvExtractionService, true);
+
+        UserExtractionParameters userExtractionParameters = mock(UserExtractionParameters.class);
+        SystemExtractionParameters systemExtractionParameters = mock(SystemExtractionParameters.class);
+        ExtractionData extractionData = mock(ExtractionData.class);
+        Transaction transactionA = mock(Transaction.class);
+        Transaction transactionB = mock(Transaction.class);
+        TransactionLine lineA1 = new TransactionLine();
+        lineA1.setTxNumber("A");
+        TransactionLine lineB1 = new TransactionLine();
+        lineB1.setTxNumber("B");
+        TransactionLine lineA2 = new TransactionLine();
+        lineA2.setTxNumber("A");
+
+        when(temporaryFileCache.getIfPresent("batchId")).thenReturn(extractionData);
+        when(extractionData.organisationId()).thenReturn("orgId");
+        byte[] bytes = new byte[2];
+
+        when(extractionData.file()).thenReturn(bytes);
+        when(parser.validateCsv(bytes, TransactionLine.class)).thenReturn(Either.right(null));
+        when(parser.forEachRow(eq(bytes), eq(TransactionLine.class), any())).thenAnswer(invocation -> {
+            Predicate<TransactionLine> consumer = invocation.getArgument(2);
+            for (TransactionLine line : List.of(lineA1, lineB1, lineA2)) {
+                if (!consumer.test(line)) {
+                    break;
+                }
+            }
+            return Either.right(null);
+        });
+        when(transactionConverter.convertToTransaction("orgId", "batchId", List.of(lineB1))).thenReturn(Either.right(List.of(transactionB)));
+        when(transactionConverter.convertToTransaction("orgId", "batchId", List.of(lineA1, lineA2))).thenReturn(Either.right(List.of(transactionA)));
+
+        csvExtractionService.continueERPExtraction("batchId", "orgId", userExtractionParameters, systemExtractionParameters);
+
+        ArgumentCaptor<TransactionBatchChunkEvent> captor = ArgumentCaptor.forClass(TransactionBatchChunkEvent.class);
+        verify(applicationEventPublisher, times(2)).publishEvent(captor.capture());
+        List<TransactionBatchChunkEvent> chunks = captor.getAllValues();
+        assertEquals(Set.of(transactionB), chunks.get(0).getTransactions());
+        assertEquals(TransactionBatchChunkEvent.Status.STARTED, chunks.get(0).getStatus());
+        assertEquals(1, chunks.get(0).getTotalTransactionsCount());
+        assertEquals(Set.of(transactionA), chunks.get(1).getTransactions());
+        assertEquals(TransactionBatchChunkEvent.Status.FINISHED, chunks.get(1).getStatus());
+        assertEquals(2, chunks.get(1).getTotalTransactionsCount());
+        verify(parser, never()).parseCsv(any(byte[].class), any());
+    }
+
     @Test
     void continueERPExtraction_emptyList() {
         UserExtractionParameters userExtractionParameters = mock(UserExtractionParameters.class);
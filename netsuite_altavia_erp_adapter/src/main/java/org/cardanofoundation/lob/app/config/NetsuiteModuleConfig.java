@@ -1,11 +1,53 @@
 package org.cardanofoundation.lob.app.config;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestClient;
+
+import org.cardanofoundation.lob.app.netsuite_altavia_erp_adapter.client.NetSuiteClient;
+import org.cardanofoundation.lob.app.support.http.OutboundHttpTransport;
 
 @Configuration
 @ConditionalOnProperty(name = "lob.netsuite.enabled", havingValue = "true", matchIfMissing = false)
 @ComponentScan(basePackages = {"org.cardanofoundation.lob.app.organisation", "org.cardanofoundation.lob.app.netsuite_altavia_erp_adapter"})
 public class NetsuiteModuleConfig {
+
+    @Value("${lob.netsuite.client.read-timeout:PT2M}")
+    private Duration readTimeout;
+
+    /**
+     * {@link RestClient} on the shared outbound transport for the {@link NetSuiteClient} built by the embedding
+     * application, token and search page requests are timed as client {@code netsuite}. Use {@link RestClient#mutate()}
+     * to customise it further.
+     */
+    @Bean("netSuiteRestClient")
+    public RestClient netSuiteRestClient(RestClient.Builder builder, OutboundHttpTransport outboundHttpTransport) {
+        return outboundHttpTransport.configure(builder, "netsuite", readTimeout, NetSuiteClient::operation)
+                .build();
+    }
+
+    /**
+     * Applies {@code lob.netsuite.client.fetch-parallelism} to the {@link NetSuiteClient} built by the embedding
+     * application, before it is initialised.
+     */
+    @Bean
+    public static BeanPostProcessor netSuiteClientFetchParallelism(@Value("${lob.netsuite.client.fetch-parallelism:1}") int fetchParallelism) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof NetSuiteClient netSuiteClient) {
+                    netSuiteClient.setFetchParallelism(fetchParallelism);
+                }
+
+                return bean;
+            }
+        };
+    }
+
 }
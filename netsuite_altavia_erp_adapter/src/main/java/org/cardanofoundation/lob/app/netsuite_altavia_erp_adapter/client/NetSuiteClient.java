@@ -16,20 +16,27 @@ import java.security.spec.PKCS8EncodedKeySpec;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.chrono.ChronoLocalDateTime;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 import jakarta.annotation.PostConstruct;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
@@ -45,7 +52,6 @@ import io.jsonwebtoken.SignatureAlgorithm;
 import io.vavr.control.Either;
 
 import org.cardanofoundation.lob.app.netsuite_altavia_erp_adapter.client.responses.TokenReponse;
-import org.cardanofoundation.lob.app.netsuite_altavia_erp_adapter.domain.core.TransactionDataSearchResult;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -65,11 +71,28 @@ public class NetSuiteClient {
     private final String clientId;
     private final Integer recordsPerCall;
 
-    private Optional<String> accessToken = Optional.empty();
-    private Optional<LocalDateTime> accessTokenExpiration = Optional.empty();
+    /**
+     * Number of month sub-ranges of the requested trandate range fetched concurrently, with 1 the whole range is paged
+     * through sequentially. All lines of a transaction share its trandate, so a transaction never spans sub-ranges.
+     * Set from {@code lob.netsuite.client.fetch-parallelism}, see {@code NetsuiteModuleConfig}.
+     */
+    @Getter
+    @Setter
+    private int fetchParallelism = 1;
+
+    private volatile Optional<AccessToken> accessToken = Optional.empty();
+    private final Object accessTokenLock = new Object();
 
     private static final String NETSUITE_API_ERROR = "NETSUITE_API_ERROR";
 
+    /**
+     * Names the NetSuite operation of an outbound request for the http client timers, used by the
+     * {@code netSuiteRestClient} built on the shared outbound transport.
+     */
+    public static String operation(HttpRequest request) {
+        return request.getMethod() == HttpMethod.POST ? "token" : "search-page";
+    }
+
     @PostConstruct
     public void init() {
         log.info("Initializing NetSuite client...");
@@ -103,6 +126,23 @@ public class NetSuiteClient {
                 .compact();
     }
 
+    private Optional<String> currentAccessToken() {
+        if (isExpired(accessToken)) {
+            // only one caller refreshes, the others wait and then use the refreshed token
+            synchronized (accessTokenLock) {
+                if (isExpired(accessToken)) {
+                    refreshToken();
+                }
+            }
+        }
+
+        return accessToken.map(AccessToken::value);
+    }
+
+    private static boolean isExpired(Optional<AccessToken> token) {
+        return token.map(t -> LocalDateTime.now().isAfter(t.expiresAt())).orElse(true);
+    }
+
     private void refreshToken() {
         log.info("Refreshing NetSuite access token...");
         String jwtToken = null;
@@ -127,14 +167,14 @@ public class NetSuiteClient {
                     .retrieve()
                     .toEntity(String.class);
             if (entity.getStatusCode().is2xxSuccessful()) {
-                TokenReponse tokenResponse = null;
+                TokenReponse tokenResponse;
                 try {
                     tokenResponse = objectMapper.readValue(entity.getBody(), TokenReponse.class);
                 } catch (JsonProcessingException e) {
                     log.error(ERROR_PARSING_JSON_RESPONSE_FROM_NET_SUITE_API, e.getMessage());
+                    return;
                 }
-                accessTokenExpiration = Optional.of(LocalDateTime.now().plusSeconds(tokenResponse.getExpiresIn()));
-                accessToken = Optional.of(tokenResponse.getAccessToken());
+                accessToken = Optional.of(new AccessToken(tokenResponse.getAccessToken(), LocalDateTime.now().plusSeconds(tokenResponse.getExpiresIn())));
                 log.info("NetSuite access token refreshed successfully...");
             } else {
                 log.error(ERROR_REFRESHING_NET_SUITE_ACCESS_TOKEN, entity.getBody());
@@ -145,37 +185,107 @@ public class NetSuiteClient {
     }
 
     public Either<ProblemDetail, Optional<List<String>>> retrieveLatestNetsuiteTransactionLines(LocalDate extractionFrom, LocalDate extractionTo) {
-        boolean hasMore;
         List<String> lines = new ArrayList<>();
+
+        return retrieveLatestNetsuiteTransactionLines(extractionFrom, extractionTo, lines::add)
+                .map(pages -> {
+                    log.info("Netsuite response success...customerCode:{}, messageCount:{}", 200, pages);
+                    return Optional.of(lines);
+                });
+    }
+
+    /**
+     * Retrieves all search result pages of the trandate range and hands every page body to the consumer as soon as it
+     * arrived, one page at a time. With {@link #setFetchParallelism(int)} above 1 the range is split into months which
+     * are fetched concurrently, pages of different months then arrive in no particular order.
+     *
+     * @return the number of pages retrieved, or the problem of the first failing request
+     */
+    public Either<ProblemDetail, Integer> retrieveLatestNetsuiteTransactionLines(LocalDate extractionFrom,
+                                                                                LocalDate extractionTo,
+                                                                                Consumer<String> pageConsumer) {
+        List<DateRange> ranges = fetchParallelism > 1 ? monthlyRanges(extractionFrom, extractionTo) : List.of(new DateRange(extractionFrom, extractionTo));
+        if (ranges.size() <= 1) {
+            return retrievePages(extractionFrom, extractionTo, pageConsumer);
+        }
+        log.info("Retrieving {} trandate ranges from NetSuite, {} at a time", ranges.size(), fetchParallelism);
+
+        Object pageLock = new Object();
+        Consumer<String> serialPageConsumer = page -> {
+            synchronized (pageLock) {
+                pageConsumer.accept(page);
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(fetchParallelism, ranges.size()), Thread.ofVirtual().factory());
+        try {
+            List<Future<Either<ProblemDetail, Integer>>> futures = ranges.stream()
+                    .map(range -> executor.submit(() -> retrievePages(range.from(), range.to(), serialPageConsumer)))
+                    .toList();
+
+            int pages = 0;
+            for (Future<Either<ProblemDetail, Integer>> future : futures) {
+                Either<ProblemDetail, Integer> rangePages = future.get();
+                if (rangePages.isLeft()) {
+                    return rangePages;
+                }
+                pages += rangePages.get();
+            }
+
+            return Either.right(pages);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            return Either.left(netSuiteProblem(e.getMessage()));
+        } catch (ExecutionException e) {
+            // same as in the sequential mode, client errors are thrown to the caller
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            log.error("Error retrieving data from NetSuite: {}", e.getCause().getMessage());
+
+            return Either.left(netSuiteProblem(e.getCause().getMessage()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Either<ProblemDetail, Integer> retrievePages(LocalDate extractionFrom, LocalDate extractionTo, Consumer<String> pageConsumer) {
         int start = 0;
-        do {
-            Either<ProblemDetail, Optional<String>> retrievedData = retrieveTransactionLineData(extractionFrom, extractionTo, Optional.of(start));
+        while (true) {
+            Either<ProblemDetail, Optional<SearchResultPage>> retrievedData = retrieveTransactionLineData(extractionFrom, extractionTo, Optional.of(start));
             if (retrievedData.isLeft()) {
                 return Either.left(retrievedData.getLeft());
-            } else {
-                Optional<String> searchResultString = retrievedData.get();
-                if (searchResultString.isEmpty()) {
-                    return Either.right(Optional.of(lines));
-                } else {
-                    try {
-                        TransactionDataSearchResult transactionDataSearchResult = objectMapper.readValue(searchResultString.get(), TransactionDataSearchResult.class);
-                        lines.add(searchResultString.get());
-                        if (transactionDataSearchResult.more()) {
-                            hasMore = true;
-                            start += 1;
-                        } else {
-                            hasMore = false;
-                        }
-                    } catch (JsonProcessingException e) {
-                        hasMore = false;
-                        log.error(ERROR_PARSING_JSON_RESPONSE_FROM_NET_SUITE_API, e.getMessage());
-                    }
-                }
-
             }
-        } while (hasMore);
-        log.info("Netsuite response success...customerCode:{}, messageCount:{}", 200, lines.size());
-        return Either.right(Optional.of(lines));
+            Optional<SearchResultPage> pageM = retrievedData.get();
+            if (pageM.isEmpty()) {
+                return Either.right(start);
+            }
+            pageConsumer.accept(pageM.get().body());
+            if (!pageM.get().more()) {
+                return Either.right(start + 1);
+            }
+            start += 1;
+        }
+    }
+
+    static List<DateRange> monthlyRanges(LocalDate from, LocalDate to) {
+        List<DateRange> ranges = new ArrayList<>();
+        LocalDate rangeFrom = from;
+        while (!rangeFrom.isAfter(to)) {
+            LocalDate endOfMonth = rangeFrom.withDayOfMonth(rangeFrom.lengthOfMonth());
+            LocalDate rangeTo = endOfMonth.isBefore(to) ? endOfMonth : to;
+            ranges.add(new DateRange(rangeFrom, rangeTo));
+            rangeFrom = rangeTo.plusDays(1);
+        }
+
+        return ranges;
+    }
+
+    private static ProblemDetail netSuiteProblem(String detail) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR, detail);
+        problem.setTitle(NETSUITE_API_ERROR);
+
+        return problem;
     }
 
     public Either<ProblemDetail, Void> testConnection() {
@@ -200,7 +310,7 @@ public class NetSuiteClient {
         }
     }
 
-    private Either<ProblemDetail, Optional<String>> retrieveTransactionLineData(LocalDate extractionFrom, LocalDate extractionTo, Optional<Integer> start) {
+    private Either<ProblemDetail, Optional<SearchResultPage>> retrieveTransactionLineData(LocalDate extractionFrom, LocalDate extractionTo, Optional<Integer> start) {
         ResponseEntity<String> response;
         try {
             response = callForTransactionLinesData(extractionFrom, extractionTo, start);
@@ -232,7 +342,8 @@ public class NetSuiteClient {
                     return Either.left(problem);
                 }
 
-                return Either.right(Optional.of(body));
+                // the body is parsed only here, the lines are read from the stored body later on
+                return Either.right(Optional.of(new SearchResultPage(body, bodyJsonTree.path("more").asBoolean(false))));
             } catch (JsonProcessingException e) {
                 log.error(ERROR_PARSING_JSON_RESPONSE_FROM_NET_SUITE_API, e.getMessage());
 
@@ -254,9 +365,7 @@ public class NetSuiteClient {
     private ResponseEntity<String> callForTransactionLinesData(LocalDate from, LocalDate to, Optional<Integer> start) throws IOException {
         log.info("Retrieving data from NetSuite...");
 
-        if (LocalDateTime.now().isAfter(ChronoLocalDateTime.from(accessTokenExpiration.orElse(LocalDateTime.MIN)))) {
-            refreshToken();
-        }
+        Optional<String> token = currentAccessToken();
         String url = this.baseUrl;
         // Remove the recordspercall parameter if it exists, since we are setting it by ourselves
         // This is just to be sure that we are not sending multiple recordspercall parameters
@@ -270,7 +379,7 @@ public class NetSuiteClient {
         String uriString = uriComponentsBuilder.toUriString();
         log.info("Call to url: {}", uriString);
         RestClient.RequestHeadersSpec<?> uri = restClient.get().uri(uriString);
-        accessToken.ifPresent(s -> uri.header("Authorization", "Bearer %s".formatted(s)));
+        token.ifPresent(s -> uri.header("Authorization", "Bearer %s".formatted(s)));
         return uri.retrieve().toEntity(String.class);
     }
 
@@ -278,4 +387,13 @@ public class NetSuiteClient {
         return String.format("%s,%s", ISO_LOCAL_DATE.format(from), ISO_LOCAL_DATE.format(to));
     }
 
+    private record AccessToken(String value, LocalDateTime expiresAt) {
+    }
+
+    record DateRange(LocalDate from, LocalDate to) {
+    }
+
+    private record SearchResultPage(String body, boolean more) {
+    }
+
 }
@@ -1,9 +1,21 @@
 package org.cardanofoundation.lob.app.netsuite_altavia_erp_adapter.repository;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import org.cardanofoundation.lob.app.netsuite_altavia_erp_adapter.domain.entity.NetsuiteIngestionBody;
 
 public interface IngestionBodyRepository extends JpaRepository<NetsuiteIngestionBody, String> {
 
+    @Query("SELECT b.id FROM NetsuiteIngestionBody b WHERE b.netsuiteIngestionId = :netsuiteIngestionId ORDER BY b.id")
+    List<Long> findAllIdsByNetsuiteIngestionId(@Param("netsuiteIngestionId") String netsuiteIngestionId);
+
+    // scalar query on purpose, the body does not end up in the persistence context
+    @Query("SELECT b.ingestionBody FROM NetsuiteIngestionBody b WHERE b.id = :id")
+    Optional<String> findIngestionBodyById(@Param("id") Long id);
+
 }
@@ -37,6 +37,7 @@ import org.cardanofoundation.lob.app.netsuite_altavia_erp_adapter.util.Constants
 import org.cardanofoundation.lob.app.organisation.domain.SystemExtractionParameters;
 import org.cardanofoundation.lob.app.organisation.util.SystemExtractionParametersFactory;
 import org.cardanofoundation.lob.app.support.collections.Partitions;
+import org.cardanofoundation.lob.app.support.collections.StreamingPartitioner;
 import org.cardanofoundation.lob.app.support.modulith.EventMetadata;
 
 @Slf4j
@@ -57,6 +58,9 @@ public class NetSuiteExtractionService {
     @Value("${lob.events.netsuite.to.core.netsuite.instance.debug.mode:true}")
     private final boolean isNetSuiteInstanceDebugMode;
 
+    @Value("${lob.netsuite.streaming.enabled:false}")
+    private boolean streamingEnabled;
+
     public void validateIngestion(String correlationId, String organisationId, String user) {
         log.info("Validating ingestion for organisationId: {}, user: {}, correlationId: {}", organisationId, user, correlationId);
         Either<ProblemDetail, SystemExtractionParameters> systemExtractionParametersE = systemExtractionParametersFactory.createSystemExtractionParameters(organisationId);
@@ -191,6 +195,11 @@ public class NetSuiteExtractionService {
         try {
             log.info("Continuing ERP extraction..., batchId: {}, organisationId: {}", batchId, organisationId);
 
+            if (streamingEnabled) {
+                streamERPExtraction(batchId, organisationId, userExtractionParameters, systemExtractionParameters);
+                return;
+            }
+
             Optional<NetSuiteIngestionEntity> netsuiteIngestionM = ingestionRepository.findById(batchId);
             if (netsuiteIngestionM.isEmpty()) {
                 log.error("NetSuite ingestion not found, batchId: {}", batchId);
@@ -293,10 +302,11 @@ public class NetSuiteExtractionService {
                 assert netsuiteIngestion.getId() != null;
 
                 batchChunkEventBuilder.transactions(txPartition.asSet());
-                if (txPartition.isFirst()) {
-                    batchChunkEventBuilder.status(STARTED);
-                } else if (txPartition.isLast()) {
+                // a single chunk is both first and last, it has to be marked FINISHED for the batch to complete
+                if (txPartition.isLast()) {
                     batchChunkEventBuilder.status(FINISHED);
+                } else if (txPartition.isFirst()) {
+                    batchChunkEventBuilder.status(STARTED);
                 } else {
                     batchChunkEventBuilder.status(PROCESSING);
                 }
@@ -334,4 +344,116 @@ public class NetSuiteExtractionService {
             applicationEventPublisher.publishEvent(batchFailedEvent);
         }
     }
+
+    /**
+     * Same as the regular extraction, but reads the stored bodies one at a time and publishes chunks as soon as they are full,
+     * so only the transactions of the chunks in flight are on the heap. A first pass over the bodies records in which body
+     * each transaction number appears for the last time, lines of a transaction spread over several bodies are held back until then.
+     */
+    private void streamERPExtraction(String batchId,
+                                     String organisationId,
+                                     UserExtractionParameters userExtractionParameters,
+                                     SystemExtractionParameters systemExtractionParameters) {
+        if (!ingestionRepository.existsById(batchId)) {
+            log.error("NetSuite ingestion not found, batchId: {}", batchId);
+
+            ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, Constants.NETSUITE_BAG_ORGANISATION_ID);
+            problemDetail.setTitle(Constants.NETSUITE_BAG_ADAPTER_INSTANCE_ID);
+            failBatch(batchId, organisationId, userExtractionParameters, systemExtractionParameters, new FatalError(ADAPTER_ERROR, "INGESTION_NOT_FOUND", ErrorUtils.getBag(problemDetail, "INGESTION_NOT_FOUND")));
+            return;
+        }
+        if (!userExtractionParameters.getOrganisationId().equals(systemExtractionParameters.getOrganisationId())) {
+            ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, Constants.NETSUITE_BAG_ORGANISATION_ID);
+            problemDetail.setTitle(Constants.NETSUITE_BAG_ADAPTER_INSTANCE_ID);
+            failBatch(batchId, organisationId, userExtractionParameters, systemExtractionParameters, new FatalError(ADAPTER_ERROR, "ORGANISATION_MISMATCH", ErrorUtils.getBag(problemDetail, "ORGANISATION_MISMATCH")));
+            return;
+        }
+
+        List<Long> ingestionBodyIds = netSuiteParser.findIngestionBodyIds(batchId);
+
+        Map<String, Integer> lastBodyIndexPerTransactionNumber = new HashMap<>();
+        for (int bodyIndex = 0; bodyIndex < ingestionBodyIds.size(); bodyIndex++) {
+            Either<ProblemDetail, List<TxLine>> txLinesE = netSuiteParser.parseIngestionBody(ingestionBodyIds.get(bodyIndex));
+            if (txLinesE.isLeft()) {
+                failBatch(batchId, organisationId, userExtractionParameters, systemExtractionParameters, new FatalError(ADAPTER_ERROR, "TRANSACTIONS_PARSING_FAILED", ErrorUtils.getBag(txLinesE.getLeft(), "TRANSACTIONS_PARSING_FAILED")));
+                return;
+            }
+            for (TxLine txLine : txLinesE.get()) {
+                lastBodyIndexPerTransactionNumber.put(txLine.transactionNumber(), bodyIndex);
+            }
+        }
+
+        TransactionBatchChunkEvent.TransactionBatchChunkEventBuilder batchChunkEventBuilder = TransactionBatchChunkEvent.builder()
+                .metadata(EventMetadata.create(TransactionBatchChunkEvent.VERSION))
+                .batchId(batchId)
+                .organisationId(organisationId)
+                .systemExtractionParameters(systemExtractionParameters);
+        StreamingPartitioner<Transaction> partitioner = new StreamingPartitioner<>(sendBatchSize, txPartition -> {
+            batchChunkEventBuilder.transactions(txPartition.elements());
+            // only the last chunk carries the final count, earlier ones carry the number of transactions published so far
+            batchChunkEventBuilder.totalTransactionsCount(txPartition.emittedCount());
+            if (txPartition.isLast()) {
+                batchChunkEventBuilder.status(FINISHED);
+            } else if (txPartition.isFirst()) {
+                batchChunkEventBuilder.status(STARTED);
+            } else {
+                batchChunkEventBuilder.status(PROCESSING);
+            }
+
+            applicationEventPublisher.publishEvent(batchChunkEventBuilder.build());
+        });
+
+        Map<String, List<TxLine>> pendingTxLines = new LinkedHashMap<>();
+        for (int bodyIndex = 0; bodyIndex < ingestionBodyIds.size(); bodyIndex++) {
+            Either<ProblemDetail, List<TxLine>> txLinesE = netSuiteParser.parseIngestionBody(ingestionBodyIds.get(bodyIndex));
+            if (txLinesE.isLeft()) {
+                failBatch(batchId, organisationId, userExtractionParameters, systemExtractionParameters, new FatalError(ADAPTER_ERROR, "TRANSACTIONS_PARSING_FAILED", ErrorUtils.getBag(txLinesE.getLeft(), "TRANSACTIONS_PARSING_FAILED")));
+                return;
+            }
+            for (TxLine txLine : txLinesE.get()) {
+                pendingTxLines.computeIfAbsent(txLine.transactionNumber(), k -> new ArrayList<>()).add(txLine);
+            }
+
+            List<TxLine> completeTxLines = new ArrayList<>();
+            Iterator<Map.Entry<String, List<TxLine>>> pendingIt = pendingTxLines.entrySet().iterator();
+            while (pendingIt.hasNext()) {
+                Map.Entry<String, List<TxLine>> entry = pendingIt.next();
+                if (lastBodyIndexPerTransactionNumber.get(entry.getKey()) == bodyIndex) {
+                    completeTxLines.addAll(entry.getValue());
+                    pendingIt.remove();
+                }
+            }
+
+            Either<FatalError, Transactions> transactionsE = transactionConverter.convert(organisationId, batchId, completeTxLines);
+            if (transactionsE.isLeft()) {
+                failBatch(batchId, organisationId, userExtractionParameters, systemExtractionParameters, transactionsE.getLeft());
+                return;
+            }
+            extractionParametersFilteringService
+                    .applyExtractionParameters(transactionsE.get().transactions(), userExtractionParameters, systemExtractionParameters)
+                    .forEach(partitioner::add);
+        }
+        partitioner.finish();
+
+        log.info("NetSuite streaming ingestion fully completed, batchId: {}, transactions: {}", batchId, partitioner.emittedCount());
+    }
+
+    private void failBatch(String batchId,
+                           String organisationId,
+                           UserExtractionParameters userExtractionParameters,
+                           SystemExtractionParameters systemExtractionParameters,
+                           FatalError error) {
+        TransactionBatchFailedEvent batchFailedEvent = TransactionBatchFailedEvent.builder()
+                .metadata(EventMetadata.create(TransactionBatchFailedEvent.VERSION))
+                .batchId(batchId)
+                .extractorType(ExtractorType.NETSUITE)
+                .organisationId(organisationId)
+                .userExtractionParameters(userExtractionParameters)
+                .systemExtractionParameters(Optional.of(systemExtractionParameters))
+                .error(error)
+                .build();
+
+        applicationEventPublisher.publishEvent(batchFailedEvent);
+    }
+
 }
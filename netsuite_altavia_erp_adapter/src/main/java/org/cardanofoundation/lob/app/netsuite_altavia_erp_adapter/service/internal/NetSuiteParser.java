@@ -64,6 +64,21 @@ public class NetSuiteParser {
         return Either.right(txLines);
     }
 
+    public List<Long> findIngestionBodyIds(String batchId) {
+        return ingestionBodyRepository.findAllIdsByNetsuiteIngestionId(batchId);
+    }
+
+    public Either<ProblemDetail, List<TxLine>> parseIngestionBody(Long ingestionBodyId) {
+        Optional<String> ingestionBodyM = ingestionBodyRepository.findIngestionBodyById(ingestionBodyId);
+        if (ingestionBodyM.isEmpty()) {
+            ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, "NetSuite ingestion body not found, id: %s".formatted(ingestionBodyId));
+            problemDetail.setTitle("INGESTION_BODY_NOT_FOUND");
+            return Either.left(problemDetail);
+        }
+
+        return parseSearchResults(requireNonNull(decompress(ingestionBodyM.orElseThrow())));
+    }
+
     public void addLinesToNetsuiteIngestion(Optional<List<String>> bodyM, NetSuiteIngestionEntity netSuiteIngestion, String batchId, boolean isNetSuiteInstanceDebugMode, String user) {
         if(bodyM.isEmpty()) {
             return;
@@ -0,0 +1,27 @@
+package org.cardanofoundation.lob.app.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.springframework.web.client.RestClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+
+import org.cardanofoundation.lob.app.netsuite_altavia_erp_adapter.client.NetSuiteClient;
+
+class NetsuiteModuleConfigTest {
+
+    @Test
+    void fetchParallelismIsAppliedToTheNetSuiteClient() {
+        NetSuiteClient netSuiteClient = new NetSuiteClient(new ObjectMapper(), RestClient.create(), "http://netsuite/restlet?script=1", "http://netsuite/token", "missing.pem", "certificateId", "clientId", 100);
+        Object otherBean = new Object();
+
+        var postProcessor = NetsuiteModuleConfig.netSuiteClientFetchParallelism(4);
+
+        assertThat(postProcessor.postProcessBeforeInitialization(netSuiteClient, "netSuiteClient")).isSameAs(netSuiteClient);
+        assertThat(netSuiteClient.getFetchParallelism()).isEqualTo(4);
+        assertThat(postProcessor.postProcessBeforeInitialization(otherBean, "other")).isSameAs(otherBean);
+    }
+
+}
@@ -0,0 +1,93 @@
+package org.cardanofoundation.lob.app.netsuite_altavia_erp_adapter.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.queryParam;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vavr.control.Either;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NetSuiteClientTest {
+
+    private MockRestServiceServer server;
+    private NetSuiteClient netSuiteClient;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder();
+        server = MockRestServiceServer.bindTo(builder).ignoreExpectOrder(true).build();
+
+        netSuiteClient = new NetSuiteClient(new ObjectMapper(), builder.build(), "http://netsuite/restlet?script=1", "http://netsuite/token", "missing.pem", "certificateId", "clientId", 100);
+    }
+
+    @Test
+    void rangeIsSplitIntoMonths() {
+        assertThat(NetSuiteClient.monthlyRanges(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 3, 10))).containsExactly(
+                new NetSuiteClient.DateRange(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 1, 31)),
+                new NetSuiteClient.DateRange(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29)),
+                new NetSuiteClient.DateRange(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 10)));
+        assertThat(NetSuiteClient.monthlyRanges(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 1, 15))).hasSize(1);
+    }
+
+    @Test
+    void pagesAreFetchedSequentially() {
+        expectPage("within:2024-01-15,2024-03-10", 0, true);
+        expectPage("within:2024-01-15,2024-03-10", 1, false);
+
+        Either<ProblemDetail, Optional<List<String>>> pages = netSuiteClient.retrieveLatestNetsuiteTransactionLines(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 3, 10));
+
+        assertThat(pages.get()).hasValueSatisfying(bodies -> assertThat(bodies).hasSize(2));
+        server.verify();
+    }
+
+    @Test
+    void monthsAreFetchedConcurrently() {
+        netSuiteClient.setFetchParallelism(2);
+        expectPage("within:2024-01-15,2024-01-31", 0, true);
+        expectPage("within:2024-01-15,2024-01-31", 1, false);
+        expectPage("within:2024-02-01,2024-02-29", 0, false);
+        expectPage("within:2024-03-01,2024-03-10", 0, false);
+
+        List<String> bodies = new CopyOnWriteArrayList<>();
+        Either<ProblemDetail, Integer> pages = netSuiteClient.retrieveLatestNetsuiteTransactionLines(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 3, 10), bodies::add);
+
+        assertThat(pages.get()).isEqualTo(4);
+        assertThat(bodies).hasSize(4);
+        server.verify();
+    }
+
+    @Test
+    void noDataEndsTheRange() {
+        netSuiteClient.setFetchParallelism(2);
+        expectPage("within:2024-01-15,2024-01-31", 0, false);
+        server.expect(queryParam("trandate", "within:2024-02-01,2024-02-10"))
+                .andRespond(withSuccess("{\"error\": 105, \"text\": \"No data\"}", MediaType.APPLICATION_JSON));
+
+        Either<ProblemDetail, Integer> pages = netSuiteClient.retrieveLatestNetsuiteTransactionLines(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 2, 10), body -> {});
+
+        assertThat(pages.get()).isEqualTo(1);
+    }
+
+    private void expectPage(String trandate, int start, boolean more) {
+        server.expect(queryParam("trandate", trandate))
+                .andExpect(queryParam("start", String.valueOf(start)))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess("{\"more\": %s, \"lines\": []}".formatted(more), MediaType.APPLICATION_JSON));
+    }
+
+}
@@ -2,6 +2,7 @@ package org.cardanofoundation.lob.app.organisation;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -56,4 +57,28 @@ public class OrganisationPublicApi implements OrganisationPublicApiIF {
     public Optional<AccountEvent> findEventCode(String organisationId, String debitcustomerCode, String creditCustomerCode) {
         return accountEventService.findByIdAndActive(organisationId, debitcustomerCode, creditCustomerCode);
     }
+
+    public Set<Currency> findAllCurrencies(String organisationId) {
+        return currencyService.findAllByOrganisationId(organisationId);
+    }
+
+    public List<Vat> findAllActiveVats(String organisationId) {
+        return vatService.findAllActiveByOrganisationId(organisationId);
+    }
+
+    public List<CostCenter> findAllActiveCostCenters(String organisationId) {
+        return costCenterService.findAllActiveByOrganisationId(organisationId);
+    }
+
+    public List<Project> findAllActiveProjects(String organisationId) {
+        return projectCodeService.findAllActiveByOrganisationId(organisationId);
+    }
+
+    public Set<ChartOfAccount> findAllActiveChartOfAccounts(String organisationId) {
+        return chartOfAccountsService.findAllActiveByOrganisationId(organisationId);
+    }
+
+    public Set<AccountEvent> findAllActiveEventCodes(String organisationId) {
+        return accountEventService.findAllActiveByOrganisationId(organisationId);
+    }
 }
@@ -2,6 +2,7 @@ package org.cardanofoundation.lob.app.organisation;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.cardanofoundation.lob.app.organisation.domain.entity.*;
 
@@ -24,4 +25,18 @@ public interface OrganisationPublicApiIF {
 
     Optional<AccountEvent> findEventCode(String organisationId, String debitcustomerCode, String creditCustomerCode);
 
+    // bulk variants of the lookups above, used to build in-memory reference data snapshots
+
+    Set<Currency> findAllCurrencies(String organisationId);
+
+    List<Vat> findAllActiveVats(String organisationId);
+
+    List<CostCenter> findAllActiveCostCenters(String organisationId);
+
+    List<Project> findAllActiveProjects(String organisationId);
+
+    Set<ChartOfAccount> findAllActiveChartOfAccounts(String organisationId);
+
+    Set<AccountEvent> findAllActiveEventCodes(String organisationId);
+
 }
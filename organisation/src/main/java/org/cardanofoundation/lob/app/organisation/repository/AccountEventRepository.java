@@ -37,6 +37,10 @@ public interface AccountEventRepository extends JpaRepository<AccountEvent, Acco
     @Query("SELECT av FROM AccountEvent av WHERE av.id = :Id AND av.active = :active AND av.Id.debitReferenceCode = (SELECT rc.Id.referenceCode FROM ReferenceCode rc WHERE rc.isActive = true AND rc.Id.referenceCode = av.Id.debitReferenceCode) AND av.Id.creditReferenceCode = (SELECT rc.Id.referenceCode FROM ReferenceCode rc WHERE rc.isActive = true AND  rc.Id.referenceCode = av.Id.creditReferenceCode)")
     Optional<AccountEvent> findByIdAndActive(@Param("Id") AccountEvent.Id Id, @Param("active") boolean active);
 
+    // same semantics as findByIdAndActive but for all event codes of the organisation at once
+    @Query("SELECT av FROM AccountEvent av WHERE av.id.organisationId = :orgId AND av.active = true AND EXISTS (SELECT rc FROM ReferenceCode rc WHERE rc.isActive = true AND rc.Id.referenceCode = av.Id.debitReferenceCode) AND EXISTS (SELECT rc FROM ReferenceCode rc WHERE rc.isActive = true AND rc.Id.referenceCode = av.Id.creditReferenceCode)")
+    Set<AccountEvent> findAllActiveByOrganisationId(@Param("orgId") String orgId);
+
     @Query("SELECT rc FROM AccountEvent rc WHERE rc.id.organisationId = :orgId AND (rc.id.debitReferenceCode = :referenceCode OR rc.id.creditReferenceCode = :referenceCode)")
     List<AccountEvent> findByOrgIdAndRefCodeAccount(@Param("orgId") String orgId, @Param("referenceCode") String referenceCode);
 
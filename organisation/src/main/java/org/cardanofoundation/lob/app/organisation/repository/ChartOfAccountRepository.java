@@ -48,6 +48,9 @@ public interface ChartOfAccountRepository extends JpaRepository<ChartOfAccount,
     @Query("SELECT t FROM ChartOfAccount t WHERE t.id = :Id AND t.active = :active ")
     Optional<ChartOfAccount> findByIdAndActive(@Param("Id") ChartOfAccount.Id Id, @Param("active") boolean active);
 
+    @Query("SELECT t FROM ChartOfAccount t WHERE t.Id.organisationId = :orgId AND t.active = true")
+    Set<ChartOfAccount> findAllActiveByOrganisationId(@Param("orgId") String orgId);
+
 
     Optional<ChartOfAccount> findTopByCurrencyIdAndIdOrganisationId(
             String currencyId,
@@ -26,4 +26,7 @@ public interface CostCenterRepository extends JpaRepository<CostCenter, CostCent
     @Query("SELECT t FROM CostCenter t WHERE t.id = :Id AND t.active = :active ")
     Optional<CostCenter> findByIdAndActive(@Param("Id") CostCenter.Id Id, @Param("active") boolean active);
 
+    @Query("SELECT t FROM CostCenter t WHERE t.id.organisationId = :organisationId AND t.active = true")
+    List<CostCenter> findAllActiveByOrganisationId(@Param("organisationId") String organisationId);
+
 }
@@ -1,6 +1,7 @@
 package org.cardanofoundation.lob.app.organisation.repository;
 
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -27,4 +28,7 @@ public interface ProjectRepository extends JpaRepository<Project, Project.Id> {
 
     @Query("SELECT p FROM Project p WHERE p.id = :id AND p.active = :active")
     Optional<Project> findActiveProjectById(@Param("id") Project.Id id, @Param("active") Boolean active);
+
+    @Query("SELECT p FROM Project p WHERE p.id.organisationId = :organisationId AND p.active = true")
+    List<Project> findAllActiveByOrganisationId(@Param("organisationId") String organisationId);
 }
@@ -36,4 +36,7 @@ public interface VatRepository extends JpaRepository<Vat, Vat.Id> {
 
     @Query("SELECT t FROM Vat t WHERE t.id = :Id AND t.active = :active ")
     Optional<Vat> findByIdAndActive(@Param("Id") Vat.Id Id, @Param("active") boolean active);
+
+    @Query("SELECT t FROM Vat t WHERE t.id.organisationId = :organisationId AND t.active = true")
+    List<Vat> findAllActiveByOrganisationId(@Param("organisationId") String organisationId);
 }
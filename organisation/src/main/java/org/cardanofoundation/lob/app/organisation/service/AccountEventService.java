@@ -8,6 +8,7 @@ import java.io.Writer;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
@@ -55,6 +56,10 @@ public class AccountEventService {
         return accountEventRepository.findByIdAndActive(new AccountEvent.Id(organisationId, debitReferenceCode, creditReferenceCode), true);
     }
 
+    public Set<AccountEvent> findAllActiveByOrganisationId(String organisationId) {
+        return accountEventRepository.findAllActiveByOrganisationId(organisationId);
+    }
+
     public Either<ProblemDetail, List<AccountEventView>> getAllAccountEvent(String orgId, String customerCode, String name, List<String> creditRefCodes, List<String> debitRefCodes, Boolean active, Pageable pageable) {
         Either<ProblemDetail, Pageable> pageables = jpaSortFieldValidator.validateEntity(AccountEvent.class, pageable, ACCOUNT_EVENT_MAPPINGS);
         if(pageables.isLeft()) {
@@ -68,6 +68,10 @@ public class ChartOfAccountsService {
         return chartOfAccountRepository.findByIdAndActive(new ChartOfAccount.Id(organisationId, customerCode), true);
     }
 
+    public Set<ChartOfAccount> findAllActiveByOrganisationId(String organisationId) {
+        return chartOfAccountRepository.findAllActiveByOrganisationId(organisationId);
+    }
+
     @Transactional
     public Set<ChartOfAccountType> getAllChartType(String organisationId) {
         return chartOfAccountTypeRepository.findAllByOrganisationId(organisationId);
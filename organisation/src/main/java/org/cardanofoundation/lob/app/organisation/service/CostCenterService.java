@@ -49,6 +49,10 @@ public class CostCenterService {
         return costCenterRepository.findByIdAndActive(new CostCenter.Id(organisationId, customerCode), true);
     }
 
+    public List<CostCenter> findAllActiveByOrganisationId(String organisationId) {
+        return costCenterRepository.findAllActiveByOrganisationId(organisationId);
+    }
+
     public Either<ProblemDetail, List<CostCenterView>> getAllCostCenter(String organisationId, String customerCode, String name, List<String> parentCustomerCodes, Boolean active, Pageable pageable) {
         Either<ProblemDetail, Pageable> pageables = jpaSortFieldValidator.validateEntity(CostCenter.class, pageable, COST_CENTER_MAPPINGS);
         if(pageables.isLeft()) {
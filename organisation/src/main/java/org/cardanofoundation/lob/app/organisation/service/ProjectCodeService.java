@@ -54,6 +54,10 @@ public class ProjectCodeService {
         return projectRepository.findActiveProjectById(new Project.Id(organisationId, customerCode),true);
     }
 
+    public List<Project> findAllActiveByOrganisationId(String organisationId) {
+        return projectRepository.findAllActiveByOrganisationId(organisationId);
+    }
+
 
     public Either<ProblemDetail, List<ProjectView>> getAllProjects(String organisationId, String customerCode, String name, String parentCustomerCode, Boolean active, Pageable pageable) {
         Either<ProblemDetail, Pageable> pageables = jpaSortFieldValidator.validateEntity(Project.class, pageable, PROJECT_MAPPINGS);
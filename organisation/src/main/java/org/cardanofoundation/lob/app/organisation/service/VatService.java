@@ -50,6 +50,10 @@ public class VatService {
         return vatRepository.findByIdAndActive(new Vat.Id(organisationId, customerCode),true);
     }
 
+    public List<Vat> findAllActiveByOrganisationId(String organisationId) {
+        return vatRepository.findAllActiveByOrganisationId(organisationId);
+    }
+
     public Either<ProblemDetail, List<VatView>> findAllByOrganisationId(String organisationId, String customerCode, Double minRate, Double maxRate, String description, List<String> countryCodes, Boolean active, Pageable pageable) {
         Either<ProblemDetail, Pageable> pageables = jpaSortFieldValidator.validateEntity(Vat.class, pageable, VAT_MAPPINGS);
         if(pageables.isLeft()) {
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,7 @@ import org.springframework.web.multipart.MultipartFile;
 import com.opencsv.CSVReader;
 import com.opencsv.CSVReaderBuilder;
 import com.opencsv.bean.CsvBindByName;
+import com.opencsv.bean.CsvToBean;
 import com.opencsv.bean.CsvToBeanBuilder;
 import com.opencsv.enums.CSVReaderNullFieldIndicator;
 import com.opencsv.exceptions.CsvValidationException;
@@ -98,30 +100,12 @@ public class CsvParser<T> {
 
     public Either<ProblemDetail, List<T>> parseCsv(byte[] file, Class<T> type) {
         try {
-            if (!antiVirusScanner.isFileSafe(file)) {
-                ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "The uploaded file contains malicious content and has been rejected.");
-                problem.setTitle("MALICIOUS_FILE_DETECTED");
-                return Either.left(problem);
-            }
-            try {
-                Either<ProblemDetail, Void> headerCheck = checkHeaders(file, type);
-                if (headerCheck.isLeft()) {
-                    return Either.left(headerCheck.getLeft());
-                }
-            } catch (CsvValidationException | IOException e) {
-                ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "Error while validating CSV headers: " + e.getMessage());
-                problem.setTitle("CSV_HEADER_ERROR");
-                return Either.left(problem);
+            Either<ProblemDetail, Void> validation = validateCsv(file, type);
+            if (validation.isLeft()) {
+                return Either.left(validation.getLeft());
             }
 
-            return Either.right(new CsvToBeanBuilder<T>(new InputStreamReader(new ByteArrayInputStream(file)))
-                    .withIgnoreLeadingWhiteSpace(true)
-                    .withType(type)
-                    .withSeparator(delimiter.charAt(0))
-                    .withIgnoreEmptyLine(true)
-                    .withProfile("optional")
-                    .withFieldAsNull(CSVReaderNullFieldIndicator.BOTH)
-                    .build().parse()
+            return Either.right(csvToBean(file, type).parse()
                     .stream().map(CsvParser::sanitizeBean).toList() // Sanitize each bean and removing malicious prefixes
             );
         } catch (Exception e) {
@@ -131,6 +115,55 @@ public class CsvParser<T> {
         }
     }
 
+    /**
+     * Runs the virus scan and the header check that {@link #parseCsv(byte[], Class)} does before parsing.
+     */
+    public Either<ProblemDetail, Void> validateCsv(byte[] file, Class<T> type) {
+        if (!antiVirusScanner.isFileSafe(file)) {
+            ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "The uploaded file contains malicious content and has been rejected.");
+            problem.setTitle("MALICIOUS_FILE_DETECTED");
+            return Either.left(problem);
+        }
+        try {
+            return checkHeaders(file, type);
+        } catch (CsvValidationException | IOException e) {
+            ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "Error while validating CSV headers: " + e.getMessage());
+            problem.setTitle("CSV_HEADER_ERROR");
+            return Either.left(problem);
+        }
+    }
+
+    /**
+     * Parses an already validated file row by row, handing each sanitised bean to the consumer instead of collecting them.
+     * Iteration stops as soon as the consumer returns false.
+     */
+    public Either<ProblemDetail, Void> forEachRow(byte[] file, Class<T> type, Predicate<T> consumer) {
+        try {
+            for (T bean : csvToBean(file, type)) {
+                if (!consumer.test(sanitizeBean(bean))) {
+                    break;
+                }
+            }
+
+            return Either.right(null);
+        } catch (Exception e) {
+            ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "Error while parsing CSV: " + e.getMessage());
+            problem.setTitle("CSV_PARSING_ERROR");
+            return Either.left(problem);
+        }
+    }
+
+    private CsvToBean<T> csvToBean(byte[] file, Class<T> type) {
+        return new CsvToBeanBuilder<T>(new InputStreamReader(new ByteArrayInputStream(file)))
+                .withIgnoreLeadingWhiteSpace(true)
+                .withType(type)
+                .withSeparator(delimiter.charAt(0))
+                .withIgnoreEmptyLine(true)
+                .withProfile("optional")
+                .withFieldAsNull(CSVReaderNullFieldIndicator.BOTH)
+                .build();
+    }
+
     public static String sanitizeCell(String value) {
         if (value == null || value.isEmpty()) return value;
 
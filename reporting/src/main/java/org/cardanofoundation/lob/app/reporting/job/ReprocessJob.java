@@ -2,46 +2,120 @@ package org.cardanofoundation.lob.app.reporting.job;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.TxStatusUpdate;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.Account;
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionEntity;
 import org.cardanofoundation.lob.app.accounting_reporting_core.service.internal.TransactionRepositoryGateway;
 import org.cardanofoundation.lob.app.blockchain_common.domain.LedgerDispatchStatus;
 import org.cardanofoundation.lob.app.reporting.repository.ReportingRepository;
 import org.cardanofoundation.lob.app.reporting.service.ReportingService;
 
+/**
+ * Reprocesses the reports affected by finalised transactions. Affected reports are queued once per report with the
+ * account codes changed since they were last reprocessed, so only the fields mapped to one of them are recalculated.
+ */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class ReprocessJob {
 
     private final ReportingService reportingService;
-    private final Set<String> finalizedTransactionsUpdates = new HashSet<>();
+    private final Set<String> finalizedTransactionsUpdates = ConcurrentHashMap.newKeySet();
+    private final Map<String, PendingReport> pendingReports = new ConcurrentHashMap<>();
     private final TransactionRepositoryGateway transactionRepositoryGateway;
     private final ReportingRepository reportingRepository;
+    private final Timer reprocessTimer;
+
+    public ReprocessJob(ReportingService reportingService,
+                        TransactionRepositoryGateway transactionRepositoryGateway,
+                        ReportingRepository reportingRepository,
+                        MeterRegistry meterRegistry) {
+        this.reportingService = reportingService;
+        this.transactionRepositoryGateway = transactionRepositoryGateway;
+        this.reportingRepository = reportingRepository;
+        this.reprocessTimer = Timer.builder("lob.report.reprocess.duration")
+                .description("Time to reprocess a single report affected by finalised transactions")
+                .register(meterRegistry);
+        Gauge.builder("lob.report.reprocess.queue.size", pendingReports, Map::size)
+                .description("Reports waiting to be reprocessed")
+                .register(meterRegistry);
+    }
 
     @Scheduled(
             fixedDelayString = "${lob.report_v2.reprocess.fixed_delay:PT1M}",
             initialDelayString = "${lob.report_v2.reprocess.initial_delay:PT10S}")
     public void execute() {
-        log.debug("Executing TransactionDispatcherJob...");
+        log.debug("Executing ReprocessJob...");
+        enqueueAffectedReports();
+        reprocessPendingReports();
+        log.debug("Finished executing ReprocessJob.");
+    }
+
+    private void enqueueAffectedReports() {
         Set<String> transactionsToProcess = new HashSet<>(finalizedTransactionsUpdates);
+        if (transactionsToProcess.isEmpty()) {
+            return;
+        }
         // Getting all transactions which are finalized and then removing them from the processing set to avoid duplicated processing
         // but still ensuring this runs only for finalized transactions
-        List<String> allFinalizedTransactions = transactionRepositoryGateway.findByAllId(transactionsToProcess)
+        List<TransactionEntity> finalizedTransactions = transactionRepositoryGateway.findByAllId(transactionsToProcess)
                 .stream().filter(tx -> tx.getLedgerDispatchStatus().equals(LedgerDispatchStatus.FINALIZED))
-                .map(TransactionEntity::getId).toList();
+                .toList();
+        List<String> allFinalizedTransactions = finalizedTransactions.stream().map(TransactionEntity::getId).toList();
         // Removing since it's processed
-        finalizedTransactionsUpdates.removeIf(allFinalizedTransactions::contains);
-        reportingRepository.findAffectedByTxId(allFinalizedTransactions).forEach(reportEntity -> reportingService.reprocess(reportEntity.getOrganisationId(), reportEntity.getId()));
-        log.debug("Finished executing TransactionDispatcherJob.");
+        allFinalizedTransactions.forEach(finalizedTransactionsUpdates::remove);
+        if (allFinalizedTransactions.isEmpty()) {
+            return;
+        }
+
+        Set<String> changedAccountCodes = finalizedTransactions.stream()
+                .flatMap(tx -> tx.getAllItems().stream())
+                .flatMap(item -> Stream.of(item.getAccountDebit(), item.getAccountCredit()))
+                .flatMap(Optional::stream)
+                .map(Account::getCode)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        reportingRepository.findAffectedByTxId(allFinalizedTransactions)
+                .forEach(report -> enqueue(report.getId(), report.getOrganisationId(), changedAccountCodes));
+    }
+
+    private void reprocessPendingReports() {
+        for (String reportId : Set.copyOf(pendingReports.keySet())) {
+            PendingReport pendingReport = pendingReports.remove(reportId);
+            if (pendingReport == null) {
+                continue;
+            }
+            try {
+                reprocessTimer.record(() -> {
+                    reportingService.reprocess(pendingReport.organisationId(), reportId, pendingReport.changedAccountCodes())
+                            .peekLeft(problem -> log.warn("Report {} was not reprocessed: {}", reportId, problem.getDetail()));
+                });
+            } catch (RuntimeException e) {
+                log.error("Failed to reprocess report {} - it will be retried", reportId, e);
+                enqueue(reportId, pendingReport.organisationId(), pendingReport.changedAccountCodes());
+            }
+        }
+    }
+
+    private void enqueue(String reportId, String organisationId, Set<String> changedAccountCodes) {
+        pendingReports.merge(reportId, new PendingReport(organisationId, Set.copyOf(changedAccountCodes)), PendingReport::merge);
     }
 
     public void addAll(Set<TxStatusUpdate> txStatusUpdates) {
@@ -51,4 +125,13 @@ public class ReprocessJob {
     public void addAll(List<String> txIds) {
         finalizedTransactionsUpdates.addAll(txIds);
     }
+
+    private record PendingReport(String organisationId, Set<String> changedAccountCodes) {
+
+        PendingReport merge(PendingReport other) {
+            return new PendingReport(organisationId, Stream.concat(changedAccountCodes.stream(), other.changedAccountCodes.stream()).collect(Collectors.toUnmodifiableSet()));
+        }
+
+    }
+
 }
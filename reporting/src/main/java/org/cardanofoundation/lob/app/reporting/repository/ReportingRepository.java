@@ -44,7 +44,7 @@ public interface ReportingRepository extends JpaRepository<ReportEntity, String>
             JOIN r.reportTemplate.fields rf
             JOIN rf.mappingAccounts coa
             WHERE coa.id.customerCode IN (
-                SELECT coa.id.customerCode
+                SELECT coa2.id.customerCode
                 FROM ChartOfAccount coa2
                 JOIN accounting_reporting_core.TransactionItemEntity item
                 ON (coa2.id.customerCode = item.accountDebit.code OR coa2.id.customerCode = item.accountCredit.code)
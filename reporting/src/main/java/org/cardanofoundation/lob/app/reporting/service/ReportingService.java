@@ -5,8 +5,12 @@ import static org.cardanofoundation.lob.app.reporting.model.enums.ReportMode.SYS
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -21,13 +25,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import io.vavr.control.Either;
 
-import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.Account;
-import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionItemEntity;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.AccountPairAmount;
+import org.cardanofoundation.lob.app.accounting_reporting_core.repository.AccountPeriodBalanceRepository;
 import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionItemRepository;
 import org.cardanofoundation.lob.app.blockchain_common.domain.LedgerDispatchStatus;
 import org.cardanofoundation.lob.app.organisation.domain.entity.ChartOfAccount;
@@ -66,6 +71,7 @@ public class ReportingService {
     private final ReportTemplateRepository reportTemplateRepository;
     private final ReportMapper reportMapper;
     private final TransactionItemRepository transactionItemRepository;
+    private final AccountPeriodBalanceRepository accountPeriodBalanceRepository;
     private final AuthenticationUserService authenticationUserService;
     private final ApplicationEventPublisher applicationEventPublisher;
 
@@ -300,7 +306,7 @@ public class ReportingService {
         LocalDate startDate = getReportStartDate(intervalType, period, request.getYear());
         LocalDate endDate = getReportEndDate(intervalType, startDate);
 
-        List<ReportFieldDto> fields = fillFieldsFromTemplate(template.getFields(), startDate, endDate, request.isPreview());
+        List<ReportFieldDto> fields = fillFieldsFromTemplate(template.getOrganisationId(), template.getFields(), startDate, endDate, request.isPreview());
 
         // Generate report name
         String reportName = generateReportName(template.getName(), request.getIntervalType(), request.getYear(), request.getPeriod());
@@ -370,7 +376,7 @@ public class ReportingService {
         LocalDate startDate = getReportStartDate(intervalType, period, dto.getYear());
         LocalDate endDate = getReportEndDate(intervalType, startDate);
 
-        List<ReportFieldDto> fields = fillFieldsFromTemplate(template.getFields(), startDate, endDate, false);
+        List<ReportFieldDto> fields = fillFieldsFromTemplate(template.getOrganisationId(), template.getFields(), startDate, endDate, false);
         return Either.right(fields);
     }
 
@@ -628,71 +634,93 @@ public class ReportingService {
     }
 
     private List<ReportFieldDto> fillFieldsFromTemplate
-            (List<ReportTemplateFieldEntity> templateFields, LocalDate startDate, LocalDate endDate, boolean preview) {
+            (String organisationId, List<ReportTemplateFieldEntity> templateFields, LocalDate startDate, LocalDate endDate, boolean preview) {
         if (templateFields == null) {
             return null;
         }
-
-        return templateFields.stream()
+        List<ReportTemplateFieldEntity> topLevelFields = templateFields.stream()
                 .filter(field -> field.getParentField() == null) // Only top-level fields
-                .map(field -> fillTemplateFieldRecursively(field, startDate, endDate, preview))
+                .toList();
+        Map<ReportTemplateFieldEntity, BigDecimal> fieldValues = calculateFieldValues(organisationId, topLevelFields, startDate, endDate, preview);
+
+        return topLevelFields.stream()
+                .map(field -> fillTemplateFieldRecursively(field, fieldValues))
                 .toList();
     }
 
-    private ReportFieldDto fillTemplateFieldRecursively(ReportTemplateFieldEntity templateField, LocalDate
-            startDate, LocalDate endDate, boolean preview) {
+    private ReportFieldDto fillTemplateFieldRecursively(ReportTemplateFieldEntity templateField, Map<ReportTemplateFieldEntity, BigDecimal> fieldValues) {
         List<ReportFieldDto> childColumns = null;
 
         if (templateField.getChildFields() != null && !templateField.getChildFields().isEmpty()) {
             // Has children - recursively fill child fields
             childColumns = templateField.getChildFields().stream()
-                    .map(child -> fillTemplateFieldRecursively(child, startDate, endDate, preview))
+                    .map(child -> fillTemplateFieldRecursively(child, fieldValues))
                     .toList();
         }
 
-        // Calculate value based on mapping types (if no children or if it's an accumulated field)
-        BigDecimal value = null;
-        if (templateField.getMappingAccounts() != null && !templateField.getMappingAccounts().isEmpty()) {
-            value = calculateFieldValue(templateField, startDate, endDate, preview);
-        }
-
         return ReportFieldDto.builder()
                 .templateFieldId(templateField.getId())
                 .templateFieldName(templateField.getName())
-                .value(value)
+                // only fields with mapping accounts have a value
+                .value(fieldValues.get(templateField))
                 .childFields(childColumns)
                 .build();
     }
 
-    private BigDecimal calculateFieldValue(ReportTemplateFieldEntity field, LocalDate startDate, LocalDate endDate, boolean preview) {
+    /**
+     * Calculates the values of all fields with mapping accounts in the template. The fields are grouped by their
+     * effective date range and the amounts of each date range are summed per debit / credit account pair by a single
+     * grouped query, so the ledger is queried once per date range instead of once per field.
+     */
+    private Map<ReportTemplateFieldEntity, BigDecimal> calculateFieldValues(String organisationId, List<ReportTemplateFieldEntity> topLevelFields, LocalDate startDate, LocalDate endDate, boolean preview) {
+        List<ReportTemplateFieldEntity> mappedFields = new ArrayList<>();
+        topLevelFields.forEach(field -> collectMappedFields(field, mappedFields));
 
-        LocalDate effectiveStartDate = getEffectiveStartDate(field, startDate);
-        LocalDate effectiveEndDate = getEffectiveEndDate(field, startDate, endDate);
-        BigDecimal totalAmount = BigDecimal.ZERO;
+        return calculateMappedFieldValues(organisationId, mappedFields, startDate, endDate, preview);
+    }
 
-        // Get all chart of accounts mapped to this field's subtypes
-        if (field.getMappingAccounts() != null && !field.getMappingAccounts().isEmpty()) {
-            Set<ChartOfAccount> chartOfAccounts = field.getMappingAccounts();
-            totalAmount = addOpeningBalances(chartOfAccounts, effectiveStartDate, effectiveEndDate, totalAmount);
-            // Get account codes for transaction lookup
-            List<String> accountCodes = chartOfAccounts.stream()
+    private Map<ReportTemplateFieldEntity, BigDecimal> calculateMappedFieldValues(String organisationId, List<ReportTemplateFieldEntity> mappedFields, LocalDate startDate, LocalDate endDate, boolean preview) {
+        Map<List<LocalDate>, List<ReportTemplateFieldEntity>> fieldsByDateRange = mappedFields.stream()
+                .collect(Collectors.groupingBy(
+                        field -> List.of(getEffectiveStartDate(field, startDate), getEffectiveEndDate(field, startDate, endDate)),
+                        LinkedHashMap::new,
+                        Collectors.toList()));
+
+        Map<ReportTemplateFieldEntity, BigDecimal> fieldValues = new IdentityHashMap<>();
+        fieldsByDateRange.forEach((dateRange, fields) -> {
+            LocalDate effectiveStartDate = dateRange.get(0);
+            LocalDate effectiveEndDate = dateRange.get(1);
+            Set<String> accountCodes = fields.stream()
+                    .flatMap(field -> field.getMappingAccounts().stream())
                     .map(coa -> coa.getId().getCustomerCode())
-                    .toList();
+                    .collect(Collectors.toSet());
 
-            if (!accountCodes.isEmpty()) {
-                // Query transaction items for these accounts in the date range
-                List<TransactionItemEntity> transactionItems = getTransactionItems(preview, accountCodes, effectiveStartDate, effectiveEndDate);
+            List<AccountPairAmount> amounts = getAccountPairAmounts(organisationId, preview, accountCodes, effectiveStartDate, effectiveEndDate);
+            for (ReportTemplateFieldEntity field : fields) {
+                fieldValues.put(field, calculateFieldValue(field, amounts, effectiveStartDate, effectiveEndDate));
+            }
+        });
 
-                // Map accounts for quick lookup
-                Map<String, ChartOfAccount> accountMap = chartOfAccounts.stream()
-                        .collect(Collectors.toMap(
-                                coa -> coa.getId().getCustomerCode(),
-                                coa -> coa
-                        ));
+        return fieldValues;
+    }
 
-                totalAmount = SumTransactionItems(transactionItems, accountMap, totalAmount);
-            }
+    private static void collectMappedFields(ReportTemplateFieldEntity field, List<ReportTemplateFieldEntity> mappedFields) {
+        if (field.getChildFields() != null) {
+            field.getChildFields().forEach(child -> collectMappedFields(child, mappedFields));
         }
+        if (field.getMappingAccounts() != null && !field.getMappingAccounts().isEmpty()) {
+            mappedFields.add(field);
+        }
+    }
+
+    private static BigDecimal calculateFieldValue(ReportTemplateFieldEntity field, List<AccountPairAmount> amounts, LocalDate effectiveStartDate, LocalDate effectiveEndDate) {
+        Set<ChartOfAccount> chartOfAccounts = field.getMappingAccounts();
+        BigDecimal totalAmount = addOpeningBalances(chartOfAccounts, effectiveStartDate, effectiveEndDate, BigDecimal.ZERO);
+
+        Set<String> accountCodes = chartOfAccounts.stream()
+                .map(coa -> coa.getId().getCustomerCode())
+                .collect(Collectors.toSet());
+        totalAmount = totalAmount.add(AccountPairAmount.balance(amounts, accountCodes));
 
         // Apply negation if configured
         if (field.isNegated()) {
@@ -702,16 +730,22 @@ public class ReportingService {
         return totalAmount.stripTrailingZeros();
     }
 
-    private List<TransactionItemEntity> getTransactionItems(boolean preview, List<String> accountCodes, LocalDate effectiveStartDate, LocalDate effectiveEndDate) {
-        List<TransactionItemEntity> transactionItems;
+    private List<AccountPairAmount> getAccountPairAmounts(String organisationId, boolean preview, Set<String> accountCodes, LocalDate effectiveStartDate, LocalDate effectiveEndDate) {
         if (preview) {
-            transactionItems = transactionItemRepository
-                    .findPreviewTransactionItemsByAccountCodeAndDateRange(accountCodes, effectiveStartDate, effectiveEndDate);
-        } else {
-            transactionItems = transactionItemRepository
-                    .findTransactionItemsByAccountCodeAndDateRange(accountCodes, effectiveStartDate, effectiveEndDate);
+            return transactionItemRepository.sumPreviewAmountsByAccountCodeAndDateRange(accountCodes, effectiveStartDate, effectiveEndDate);
+        }
+        if (isClosedMonthRange(effectiveStartDate, effectiveEndDate)) {
+            // whole months before the current one, the balances of the finalised transactions are kept per month
+            return accountPeriodBalanceRepository.sumBalances(organisationId, accountCodes, YearMonth.from(effectiveStartDate), YearMonth.from(effectiveEndDate));
         }
-        return transactionItems;
+
+        return transactionItemRepository.sumAmountsByAccountCodeAndDateRange(accountCodes, effectiveStartDate, effectiveEndDate);
+    }
+
+    private static boolean isClosedMonthRange(LocalDate startDate, LocalDate endDate) {
+        return startDate.getDayOfMonth() == 1
+                && endDate.equals(YearMonth.from(endDate).atEndOfMonth())
+                && endDate.isBefore(LocalDate.now().withDayOfMonth(1));
     }
 
     private static LocalDate getEffectiveEndDate(ReportTemplateFieldEntity field, LocalDate startDate, LocalDate endDate) {
@@ -761,44 +795,6 @@ public class ReportingService {
         return totalAmount;
     }
 
-    private BigDecimal SumTransactionItems(List<TransactionItemEntity> transactionItems, Map<String, ChartOfAccount> accountMap, BigDecimal totalAmount) {
-        // Sum transaction amounts
-        for (TransactionItemEntity txItem : transactionItems) {
-            // Skip invalid items
-            if (txItem.getStatus() != org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.TxItemValidationStatus.OK) {
-                continue;
-            }
-
-            BigDecimal itemAmount = getItemAmountFromItem(txItem, accountMap);
-
-            totalAmount = totalAmount.add(itemAmount);
-        }
-        return totalAmount;
-    }
-
-    private BigDecimal getItemAmountFromItem(TransactionItemEntity txItem, Map<String, ChartOfAccount> accountMap) {
-        BigDecimal itemAmount = BigDecimal.ZERO;
-
-        // Check if account is on debit side
-        if (accountMap.containsKey(txItem.getAccountDebit().orElse(Account.builder().code("").build()).getCode())) {
-            if (txItem.getOperationType() == org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.OperationType.DEBIT) {
-                itemAmount = itemAmount.add(txItem.getAmountLcy());
-            } else {
-                itemAmount = itemAmount.add(txItem.getAmountLcy().negate());
-            }
-        }
-
-        // Check if account is on credit side
-        if (accountMap.containsKey(txItem.getAccountCredit().orElse(Account.builder().code("").build()).getCode())) {
-            if (txItem.getOperationType() == org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.OperationType.DEBIT) {
-                itemAmount = itemAmount.subtract(txItem.getAmountLcy());
-            } else {
-                itemAmount = itemAmount.subtract(txItem.getAmountLcy().negate());
-            }
-        }
-        return itemAmount;
-    }
-
     private LocalDate getReportStartDate(IntervalType intervalType, short period, short year) {
         return switch (intervalType) {
             case MONTH -> LocalDate.of(year, period, 1);
@@ -858,6 +854,20 @@ public class ReportingService {
      * @return Either a Problem if the report cannot be found or processed, or the updated ReportResponseDto
      */
     public Either<ProblemDetail, ReportResponseDto> reprocess(String organisationId, String reportId) {
+        return reprocess(organisationId, reportId, null);
+    }
+
+    /**
+     * Reprocesses a report after the transactions of some account codes changed. For SYSTEM data mode only the fields
+     * mapped to one of the changed account codes are recalculated, all fields are regenerated when the report has no
+     * field for some mapped template field or when no account codes are given.
+     *
+     * @param organisationId      The organisation ID
+     * @param reportId            The report ID to reprocess
+     * @param changedAccountCodes The account codes whose transactions changed, null if unknown
+     * @return Either a Problem if the report cannot be found or processed, or the updated ReportResponseDto
+     */
+    public Either<ProblemDetail, ReportResponseDto> reprocess(String organisationId, String reportId, @Nullable Set<String> changedAccountCodes) {
         log.info("Reprocessing report: {}", reportId);
 
         // Find the report
@@ -896,8 +906,13 @@ public class ReportingService {
             LocalDate startDate = getReportStartDate(report.getIntervalType(), report.getPeriod(), report.getYear());
             LocalDate endDate = getReportEndDate(report.getIntervalType(), startDate);
 
+            if (changedAccountCodes != null && recalculateChangedFields(report, changedAccountCodes, startDate, endDate)) {
+                return revalidateAndSave(report);
+            }
+
             // Regenerate fields from template
             List<ReportFieldDto> regeneratedFields = fillFieldsFromTemplate(
+                    report.getReportTemplate().getOrganisationId(),
                     report.getReportTemplate().getFields(),
                     startDate,
                     endDate,
@@ -926,6 +941,11 @@ public class ReportingService {
             log.info("Report {} is USER mode - keeping existing field values", reportId);
         }
 
+        return revalidateAndSave(report);
+    }
+
+    private Either<ProblemDetail, ReportResponseDto> revalidateAndSave(ReportEntity report) {
+        String reportId = report.getId();
         // Re-evaluate validation rules (with current or regenerated field values)
         List<ReportTemplateValidationRuleEntity> notPassedValidationRules = findNotPassedValidationRules(report);
 
@@ -945,6 +965,47 @@ public class ReportingService {
         return Either.right(reportMapper.toResponseDto(report));
     }
 
+    /**
+     * Recalculates the value of every report field whose template field is mapped to one of the changed account codes.
+     *
+     * @return false if the report has no field for some mapped template field, then it has to be regenerated
+     */
+    private boolean recalculateChangedFields(ReportEntity report, Set<String> changedAccountCodes, LocalDate startDate, LocalDate endDate) {
+        if (report.getReportTemplate().getFields() == null) {
+            return false;
+        }
+        Map<Long, List<ReportFieldEntity>> reportFieldsByTemplateFieldId = new HashMap<>();
+        if (report.getFields() != null) {
+            report.getFields().forEach(field -> collectReportFields(field, reportFieldsByTemplateFieldId));
+        }
+
+        List<ReportTemplateFieldEntity> mappedFields = new ArrayList<>();
+        report.getReportTemplate().getFields().stream()
+                .filter(field -> field.getParentField() == null)
+                .forEach(field -> collectMappedFields(field, mappedFields));
+        if (!mappedFields.stream().allMatch(field -> reportFieldsByTemplateFieldId.containsKey(field.getId()))) {
+            return false;
+        }
+
+        List<ReportTemplateFieldEntity> changedFields = mappedFields.stream()
+                .filter(field -> field.getMappingAccounts().stream().anyMatch(coa -> changedAccountCodes.contains(coa.getId().getCustomerCode())))
+                .toList();
+        calculateMappedFieldValues(report.getReportTemplate().getOrganisationId(), changedFields, startDate, endDate, false)
+                .forEach((templateField, value) -> reportFieldsByTemplateFieldId.get(templateField.getId()).forEach(field -> field.setValue(value)));
+        log.info("Recalculated {} of {} mapped field(s) for report {}", changedFields.size(), mappedFields.size(), report.getId());
+
+        return true;
+    }
+
+    private static void collectReportFields(ReportFieldEntity field, Map<Long, List<ReportFieldEntity>> reportFieldsByTemplateFieldId) {
+        if (field.getFieldTemplate() != null) {
+            reportFieldsByTemplateFieldId.computeIfAbsent(field.getFieldTemplate().getId(), id -> new ArrayList<>()).add(field);
+        }
+        if (field.getChildFields() != null) {
+            field.getChildFields().forEach(child -> collectReportFields(child, reportFieldsByTemplateFieldId));
+        }
+    }
+
     /**
      * Recursively sets the report reference for the field and all its children.
      * This ensures the report_id is properly populated in the database.
@@ -1,27 +1,36 @@
 package org.cardanofoundation.lob.app.reporting.job;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
-import org.mockito.InjectMocks;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vavr.control.Either;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.TxStatusUpdate;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.Account;
 import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionEntity;
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.entity.TransactionItemEntity;
 import org.cardanofoundation.lob.app.accounting_reporting_core.service.internal.TransactionRepositoryGateway;
 import org.cardanofoundation.lob.app.blockchain_common.domain.LedgerDispatchStatus;
+import org.cardanofoundation.lob.app.reporting.dto.ReportResponseDto;
+import org.cardanofoundation.lob.app.reporting.model.entity.ReportEntity;
 import org.cardanofoundation.lob.app.reporting.repository.ReportingRepository;
 import org.cardanofoundation.lob.app.reporting.service.ReportingService;
 
@@ -35,9 +44,15 @@ public class ReprocessJobTest {
     @Mock
     private ReportingRepository reportingRepository;
 
-    @InjectMocks
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private ReprocessJob reprocessJob;
 
+    @BeforeEach
+    void setUp() {
+        reprocessJob = new ReprocessJob(reportingService, transactionRepositoryGateway, reportingRepository, meterRegistry);
+    }
+
     @Test
     void addAllTest() throws NoSuchFieldException, IllegalAccessException {
         TxStatusUpdate txStatusUpdate = mock(TxStatusUpdate.class);
@@ -78,4 +93,61 @@ public class ReprocessJobTest {
         verify(reportingRepository).findAffectedByTxId(List.of("tx123"));
     }
 
+    @Test
+    void affectedReportsAreReprocessedOnceWithTheChangedAccountCodes() {
+        reprocessJob.addAll(List.of("tx123", "tx456"));
+
+        TransactionEntity tx1 = finalisedTransaction("tx123", "1000", "2000");
+        TransactionEntity tx2 = finalisedTransaction("tx456", "3000", null);
+        when(transactionRepositoryGateway.findByAllId(Set.of("tx123", "tx456"))).thenReturn(List.of(tx1, tx2));
+
+        ReportEntity report = mock(ReportEntity.class);
+        when(report.getId()).thenReturn("report1");
+        when(report.getOrganisationId()).thenReturn("org1");
+        when(reportingRepository.findAffectedByTxId(List.of("tx123", "tx456"))).thenReturn(List.of(report, report));
+        when(reportingService.reprocess("org1", "report1", Set.of("1000", "2000", "3000"))).thenReturn(Either.right(new ReportResponseDto()));
+
+        reprocessJob.execute();
+
+        verify(reportingService, times(1)).reprocess("org1", "report1", Set.of("1000", "2000", "3000"));
+        assertEquals(1, meterRegistry.get("lob.report.reprocess.duration").timer().count());
+        assertEquals(0, meterRegistry.get("lob.report.reprocess.queue.size").gauge().value());
+    }
+
+    @Test
+    void failedReportIsRetriedOnTheNextRun() {
+        reprocessJob.addAll(List.of("tx123"));
+
+        TransactionEntity tx = finalisedTransaction("tx123", "1000", "2000");
+        when(transactionRepositoryGateway.findByAllId(Set.of("tx123"))).thenReturn(List.of(tx));
+
+        ReportEntity report = mock(ReportEntity.class);
+        when(report.getId()).thenReturn("report1");
+        when(report.getOrganisationId()).thenReturn("org1");
+        when(reportingRepository.findAffectedByTxId(List.of("tx123"))).thenReturn(List.of(report));
+        when(reportingService.reprocess("org1", "report1", Set.of("1000", "2000")))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(Either.right(new ReportResponseDto()));
+
+        reprocessJob.execute();
+        assertEquals(1, meterRegistry.get("lob.report.reprocess.queue.size").gauge().value());
+
+        reprocessJob.execute();
+        assertEquals(0, meterRegistry.get("lob.report.reprocess.queue.size").gauge().value());
+        verify(reportingService, times(2)).reprocess("org1", "report1", Set.of("1000", "2000"));
+    }
+
+    private static TransactionEntity finalisedTransaction(String id, String debitCode, String creditCode) {
+        TransactionItemEntity item = new TransactionItemEntity();
+        item.setAccountDebit(Optional.of(Account.builder().code(debitCode).build()));
+        item.setAccountCredit(Optional.ofNullable(creditCode).map(code -> Account.builder().code(code).build()));
+
+        TransactionEntity tx = mock(TransactionEntity.class);
+        when(tx.getId()).thenReturn(id);
+        when(tx.getLedgerDispatchStatus()).thenReturn(LedgerDispatchStatus.FINALIZED);
+        when(tx.getAllItems()).thenReturn(Set.of(item));
+
+        return tx;
+    }
+
 }
@@ -15,15 +15,18 @@ import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ProblemDetail;
 
 import io.vavr.control.Either;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -32,7 +35,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import org.cardanofoundation.lob.app.accounting_reporting_core.domain.core.AccountPairAmount;
+import org.cardanofoundation.lob.app.accounting_reporting_core.repository.AccountPeriodBalanceRepository;
 import org.cardanofoundation.lob.app.accounting_reporting_core.repository.TransactionItemRepository;
+import org.cardanofoundation.lob.app.organisation.domain.entity.ChartOfAccount;
 import org.cardanofoundation.lob.app.organisation.repository.ChartOfAccountRepository;
 import org.cardanofoundation.lob.app.reporting.dto.ReportDto;
 import org.cardanofoundation.lob.app.reporting.dto.ReportFieldDto;
@@ -69,6 +75,8 @@ class ReportingServiceTest {
     @Mock
     private TransactionItemRepository transactionItemRepository;
     @Mock
+    private AccountPeriodBalanceRepository accountPeriodBalanceRepository;
+    @Mock
     private AuthenticationUserService authenticationUserService;
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
@@ -117,14 +125,17 @@ class ReportingServiceTest {
     @Test
     void create_Success() {
         // Given
+        templateEntity.setFields(List.of(cashField()));
         when(reportTemplateRepository.findById("abc")).thenReturn(Optional.of(templateEntity));
         lenient().when(chartOfAccountRepository.findAllByOrganisationIdSubTypeIds(any())).thenReturn(new HashSet<>());
-        lenient().when(transactionItemRepository.findTransactionItemsByAccountCodeAndDateRange(
-                any(), any(), any())).thenReturn(new ArrayList<>());
+        // January 2024 is a closed month, it is summed from the account period balances
+        when(accountPeriodBalanceRepository.sumBalances("org123", Set.of("1000"), YearMonth.of(2024, 1), YearMonth.of(2024, 1)))
+                .thenReturn(List.of(new AccountPairAmount("1000", "2000", BigDecimal.valueOf(42)), new AccountPairAmount("3000", "1000", BigDecimal.valueOf(2))));
         when(reportRepository.findLatestByTemplateAndPeriod(
                 eq("org123"), eq("abc"), any(IntervalType.class), eq((short) 2024), eq((short) 1)))
                 .thenReturn(Optional.empty());
-        when(reportMapper.toEntity(any(ReportDto.class), isNull(), eq(templateEntity))).thenReturn(reportEntity);
+        ArgumentCaptor<ReportDto> reportDtoCaptor = ArgumentCaptor.forClass(ReportDto.class);
+        when(reportMapper.toEntity(reportDtoCaptor.capture(), isNull(), eq(templateEntity))).thenReturn(reportEntity);
         when(reportRepository.save(any(ReportEntity.class))).thenReturn(reportEntity);
         when(reportMapper.toResponseDto(any(ReportEntity.class))).thenReturn(reportResponseDto);
         reportResponseDto.setError(Optional.empty());
@@ -135,9 +146,39 @@ class ReportingServiceTest {
         // Then
         assertTrue(result.getError().isEmpty());
         assertEquals("Test Report", result.getName());
+        assertEquals(0, BigDecimal.valueOf(40).compareTo(reportDtoCaptor.getValue().getFields().getFirst().getValue()));
         verify(reportRepository).save(any(ReportEntity.class));
     }
 
+    @Test
+    void create_Success_CurrentYearIsSummedFromTransactionItems() {
+        // Given
+        short year = (short) LocalDate.now().getYear();
+        reportDto.setIntervalType("YEAR");
+        reportDto.setYear(year);
+        reportDto.setPeriod((short) 1);
+        templateEntity.setFields(List.of(cashField()));
+        when(reportTemplateRepository.findById("abc")).thenReturn(Optional.of(templateEntity));
+        // the current year is not closed yet, it is summed from the transaction items
+        when(transactionItemRepository.sumAmountsByAccountCodeAndDateRange(Set.of("1000"), LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31)))
+                .thenReturn(List.of(new AccountPairAmount("1000", "2000", BigDecimal.valueOf(42)), new AccountPairAmount("3000", "1000", BigDecimal.valueOf(2))));
+        when(reportRepository.findLatestByTemplateAndPeriod(
+                eq("org123"), eq("abc"), eq(IntervalType.YEAR), eq(year), eq((short) 1)))
+                .thenReturn(Optional.empty());
+        ArgumentCaptor<ReportDto> reportDtoCaptor = ArgumentCaptor.forClass(ReportDto.class);
+        when(reportMapper.toEntity(reportDtoCaptor.capture(), isNull(), eq(templateEntity))).thenReturn(reportEntity);
+        when(reportRepository.save(any(ReportEntity.class))).thenReturn(reportEntity);
+        when(reportMapper.toResponseDto(any(ReportEntity.class))).thenReturn(reportResponseDto);
+        reportResponseDto.setError(Optional.empty());
+
+        // When
+        ReportResponseDto result = reportingService.create(reportDto);
+
+        // Then
+        assertTrue(result.getError().isEmpty());
+        assertEquals(0, BigDecimal.valueOf(40).compareTo(reportDtoCaptor.getValue().getFields().getFirst().getValue()));
+    }
+
     @Test
     void create_Success_NotActiveValidationRule() {
         // Given
@@ -152,8 +193,6 @@ class ReportingServiceTest {
 
         when(reportTemplateRepository.findById("abc")).thenReturn(Optional.of(templateEntity));
         lenient().when(chartOfAccountRepository.findAllByOrganisationIdSubTypeIds(any())).thenReturn(new HashSet<>());
-        lenient().when(transactionItemRepository.findTransactionItemsByAccountCodeAndDateRange(
-                any(), any(), any())).thenReturn(new ArrayList<>());
         when(reportRepository.findLatestByTemplateAndPeriod(
                 eq("org123"), eq("abc"), any(IntervalType.class), eq((short) 2024), eq((short) 1)))
                 .thenReturn(Optional.empty());
@@ -201,8 +240,6 @@ class ReportingServiceTest {
 
         when(reportTemplateRepository.findById("abc")).thenReturn(Optional.of(templateEntity));
         lenient().when(chartOfAccountRepository.findAllByOrganisationIdSubTypeIds(any())).thenReturn(new HashSet<>());
-        lenient().when(transactionItemRepository.findTransactionItemsByAccountCodeAndDateRange(
-                any(), any(), any())).thenReturn(new ArrayList<>());
         when(reportRepository.findLatestByTemplateAndPeriod(
                 eq("org123"), eq("abc"), any(IntervalType.class), eq((short) 2024), eq((short) 1)))
                 .thenReturn(Optional.empty());
@@ -244,8 +281,6 @@ class ReportingServiceTest {
         // Given
         when(reportTemplateRepository.findById("abc")).thenReturn(Optional.of(templateEntity));
         lenient().when(chartOfAccountRepository.findAllByOrganisationIdSubTypeIds(any())).thenReturn(new HashSet<>());
-        lenient().when(transactionItemRepository.findTransactionItemsByAccountCodeAndDateRange(
-                any(), any(), any())).thenReturn(new ArrayList<>());
 
         // When
         ReportResponseDto result = reportingService.create(reportDto);
@@ -261,8 +296,6 @@ class ReportingServiceTest {
         // Given
         when(reportTemplateRepository.findById("abc")).thenReturn(Optional.of(templateEntity));
         lenient().when(chartOfAccountRepository.findAllByOrganisationIdSubTypeIds(any())).thenReturn(new HashSet<>());
-        lenient().when(transactionItemRepository.findTransactionItemsByAccountCodeAndDateRange(
-                any(), any(), any())).thenReturn(new ArrayList<>());
 
         // When
         ReportResponseDto result = reportingService.create(reportDto);
@@ -458,8 +491,6 @@ class ReportingServiceTest {
 
         when(reportTemplateRepository.findById("abc")).thenReturn(Optional.of(templateEntity));
         lenient().when(chartOfAccountRepository.findAllByOrganisationIdSubTypeIds(any())).thenReturn(new HashSet<>());
-        lenient().when(transactionItemRepository.findTransactionItemsByAccountCodeAndDateRange(
-                any(), any(), any())).thenReturn(new ArrayList<>());
         when(reportRepository.findLatestByTemplateAndPeriod(
                 eq("org123"), eq("abc"), eq(IntervalType.MONTH), eq((short) 2024), eq((short) 1)))
                 .thenReturn(Optional.of(existingReport));
@@ -491,8 +522,6 @@ class ReportingServiceTest {
 
         when(reportTemplateRepository.findById("abc")).thenReturn(Optional.of(templateEntity));
         lenient().when(chartOfAccountRepository.findAllByOrganisationIdSubTypeIds(any())).thenReturn(new HashSet<>());
-        lenient().when(transactionItemRepository.findTransactionItemsByAccountCodeAndDateRange(
-                any(), any(), any())).thenReturn(new ArrayList<>());
         when(reportRepository.findLatestByTemplateAndPeriod(
                 eq("org123"), eq("abc"), eq(IntervalType.MONTH), eq((short) 2024), eq((short) 1)))
                 .thenReturn(Optional.of(publishedReport));
@@ -625,9 +654,15 @@ class ReportingServiceTest {
         request.setIntervalType("MONTH");
         request.setYear((short) 2024);
         request.setPeriod((short) 1);
+        request.setPreview(true);
 
+        templateEntity.setFields(List.of(cashField()));
         when(reportTemplateRepository.findById("abc")).thenReturn(Optional.of(templateEntity));
-        when(reportMapper.toEntity(any(ReportDto.class), isNull(), eq(templateEntity))).thenReturn(reportEntity);
+        // a preview also counts the approved transactions that are not finalised yet
+        when(transactionItemRepository.sumPreviewAmountsByAccountCodeAndDateRange(Set.of("1000"), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)))
+                .thenReturn(List.of(new AccountPairAmount("1000", "2000", BigDecimal.valueOf(42)), new AccountPairAmount("3000", "1000", BigDecimal.valueOf(2))));
+        ArgumentCaptor<ReportDto> reportDtoCaptor = ArgumentCaptor.forClass(ReportDto.class);
+        when(reportMapper.toEntity(reportDtoCaptor.capture(), isNull(), eq(templateEntity))).thenReturn(reportEntity);
         when(reportMapper.toResponseDto(any(ReportEntity.class))).thenReturn(reportResponseDto);
 
         // When
@@ -636,6 +671,7 @@ class ReportingServiceTest {
         // Then
         assertTrue(result.isRight());
         assertEquals("Test Report", result.get().getName());
+        assertEquals(0, BigDecimal.valueOf(40).compareTo(reportDtoCaptor.getValue().getFields().getFirst().getValue()));
         verify(reportRepository, never()).save(any());
     }
 
@@ -727,4 +763,40 @@ class ReportingServiceTest {
         verify(reportRepository).save(any());
     }
 
+    @Test
+    void reprocess_RecalculatesOnlyFieldsOfChangedAccounts() {
+        ReportTemplateFieldEntity cashField = ReportTemplateFieldEntity.builder().id(1L).name("Cash").mappingAccounts(Set.of(chartOfAccount("1000"))).build();
+        ReportTemplateFieldEntity debtField = ReportTemplateFieldEntity.builder().id(2L).name("Debt").mappingAccounts(Set.of(chartOfAccount("2000"))).build();
+        templateEntity.setFields(List.of(cashField, debtField));
+
+        ReportFieldEntity cashValue = ReportFieldEntity.builder().fieldTemplate(cashField).value(BigDecimal.valueOf(5)).build();
+        ReportFieldEntity debtValue = ReportFieldEntity.builder().fieldTemplate(debtField).value(BigDecimal.valueOf(7)).build();
+        reportEntity.setFields(new ArrayList<>(List.of(cashValue, debtValue)));
+        reportEntity.setDataMode(DataMode.SYSTEM);
+        reportEntity.setIntervalType(IntervalType.MONTH);
+        reportEntity.setYear((short) 2024);
+        reportEntity.setPeriod((short) 1);
+
+        when(reportRepository.findByOrganisationIdAndId("org123", "abc")).thenReturn(Optional.of(reportEntity));
+        when(accountPeriodBalanceRepository.sumBalances("org123", Set.of("1000"), YearMonth.of(2024, 1), YearMonth.of(2024, 1)))
+                .thenReturn(List.of(new AccountPairAmount("1000", null, BigDecimal.valueOf(42))));
+        when(reportRepository.save(reportEntity)).thenReturn(reportEntity);
+        when(reportMapper.toResponseDto(reportEntity)).thenReturn(reportResponseDto);
+
+        Either<ProblemDetail, ReportResponseDto> result = reportingService.reprocess("org123", "abc", Set.of("1000"));
+
+        assertTrue(result.isRight());
+        assertEquals(0, BigDecimal.valueOf(42).compareTo(cashValue.getValue()));
+        assertEquals(0, BigDecimal.valueOf(7).compareTo(debtValue.getValue()));
+        assertEquals(List.of(cashValue, debtValue), reportEntity.getFields());
+    }
+
+    private static ReportTemplateFieldEntity cashField() {
+        return ReportTemplateFieldEntity.builder().id(1L).name("Cash").mappingAccounts(Set.of(chartOfAccount("1000"))).build();
+    }
+
+    private static ChartOfAccount chartOfAccount(String customerCode) {
+        return ChartOfAccount.builder().id(new ChartOfAccount.Id("org123", customerCode)).build();
+    }
+
 }
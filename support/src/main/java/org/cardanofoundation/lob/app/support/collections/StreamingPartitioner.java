@@ -0,0 +1,92 @@
+package org.cardanofoundation.lob.app.support.collections;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Partitions elements as they arrive instead of from a complete collection. One full partition is held back
+ * until the next element (or {@link #finish()}) shows whether it was the last one, so at most two partitions
+ * are in memory at any time.
+ */
+public class StreamingPartitioner<T> {
+
+    private final int size;
+    private final Consumer<StreamingPartition<T>> consumer;
+
+    private Set<T> current = new LinkedHashSet<>();
+    private Set<T> full;
+    private int partitionIndex;
+    private int emittedCount;
+    private boolean finished;
+
+    public StreamingPartitioner(int size, Consumer<StreamingPartition<T>> consumer) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Partition size must be positive, size: " + size);
+        }
+        this.size = size;
+        this.consumer = consumer;
+    }
+
+    public void add(T element) {
+        if (finished) {
+            throw new IllegalStateException("Partitioner already finished");
+        }
+        if (full != null) {
+            emit(full, false);
+            full = null;
+        }
+        current.add(element);
+        if (current.size() == size) {
+            full = current;
+            current = new LinkedHashSet<>();
+        }
+    }
+
+    /**
+     * Emits the remaining elements as the last partition. An empty stream still emits one (empty) last partition.
+     */
+    public void finish() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+
+        if (full != null && current.isEmpty()) {
+            emit(full, true);
+        } else {
+            if (full != null) {
+                emit(full, false);
+            }
+            emit(current, true);
+        }
+        full = null;
+        current = Set.of();
+    }
+
+    public int emittedCount() {
+        return emittedCount;
+    }
+
+    private void emit(Set<T> elements, boolean last) {
+        partitionIndex++;
+        emittedCount += elements.size();
+
+        consumer.accept(new StreamingPartition<>(elements, partitionIndex, last, emittedCount));
+    }
+
+    /**
+     * @param emittedCount number of elements emitted so far, including this partition; exact total for the last one
+     */
+    public record StreamingPartition<T>(Set<T> elements,
+                                        int partitionIndex,
+                                        boolean isLast,
+                                        int emittedCount) {
+
+        public boolean isFirst() {
+            return partitionIndex == 1;
+        }
+
+    }
+
+}
@@ -0,0 +1,57 @@
+package org.cardanofoundation.lob.app.support.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Response of the outbound transport, runs the completion of its request (release the host slot, stop the timer)
+ * once, when the response is closed.
+ */
+class CompletingClientHttpResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final Runnable completion;
+    private final AtomicBoolean completed = new AtomicBoolean();
+
+    CompletingClientHttpResponse(ClientHttpResponse delegate, Runnable completion) {
+        this.delegate = delegate;
+        this.completion = completion;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+        return delegate.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+        return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return delegate.getHeaders();
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+        return delegate.getBody();
+    }
+
+    @Override
+    public void close() {
+        try {
+            delegate.close();
+        } finally {
+            if (completed.compareAndSet(false, true)) {
+                completion.run();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,174 @@
+package org.cardanofoundation.lob.app.support.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The one outbound HTTP transport shared by all clients calling external services (blockchain reader, on-chain
+ * indexer, NetSuite, ...).
+ * <p>
+ * All clients share a JDK {@link HttpClient}, which keeps connections alive and reuses them per target and
+ * negotiates HTTP/2 where the target supports it. Clients configured with their own connect timeout share one
+ * {@link HttpClient} per distinct timeout. At most {@code lob.http.client.max_requests_per_host} requests are in
+ * flight per target host, callers above that limit wait for a free slot instead of opening yet another connection.
+ * <p>
+ * Every request is timed as {@code lob.http.client.requests}, tagged with the client, the remote operation, the
+ * method and the response status. A request holds its slot and is timed until its response is closed, i.e. including
+ * reading the body.
+ */
+@Service
+@Slf4j
+public class OutboundHttpTransport {
+
+    public static final String TIMER_NAME = "lob.http.client.requests";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration connectTimeout;
+    private final HttpClient.Version version;
+    private final int maxRequestsPerHost;
+
+    private final Map<Duration, HttpClient> httpClients = new ConcurrentHashMap<>();
+    private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+    public OutboundHttpTransport(MeterRegistry meterRegistry,
+                                 @Value("${lob.http.client.connect_timeout:PT5S}") Duration connectTimeout,
+                                 @Value("${lob.http.client.version:HTTP_2}") HttpClient.Version version,
+                                 @Value("${lob.http.client.max_requests_per_host:20}") int maxRequestsPerHost) {
+        this.meterRegistry = meterRegistry;
+        this.connectTimeout = connectTimeout;
+        this.version = version;
+        this.maxRequestsPerHost = maxRequestsPerHost;
+
+        log.info("Outbound HTTP transport, version: {}, connectTimeout: {}, maxRequestsPerHost: {}", version, connectTimeout, maxRequestsPerHost);
+    }
+
+    /**
+     * Request factory on top of the shared client, the read timeout applies per request.
+     */
+    public ClientHttpRequestFactory requestFactory(Duration readTimeout) {
+        return requestFactory(connectTimeout, readTimeout);
+    }
+
+    /**
+     * Request factory on top of the client shared by all callers with the same connect timeout.
+     */
+    public ClientHttpRequestFactory requestFactory(Duration connectTimeout, Duration readTimeout) {
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient(connectTimeout));
+        factory.setReadTimeout(readTimeout);
+
+        return factory;
+    }
+
+    /**
+     * Configures the builder to use the shared transport, limited and timed per request.
+     *
+     * @param client    name of the external client, used as the {@code client} tag
+     * @param readTimeout read timeout of the requests of this client
+     * @param operation names the remote operation of a request, used as the {@code operation} tag, must map to a small
+     *                  fixed set of names (no identifiers taken from the path)
+     */
+    public RestClient.Builder configure(RestClient.Builder builder,
+                                        String client,
+                                        Duration readTimeout,
+                                        Function<HttpRequest, String> operation) {
+        return configure(builder, client, connectTimeout, readTimeout, operation);
+    }
+
+    /**
+     * Same as {@link #configure(RestClient.Builder, String, Duration, Function)}, for clients with their own connect
+     * timeout.
+     */
+    public RestClient.Builder configure(RestClient.Builder builder,
+                                        String client,
+                                        Duration connectTimeout,
+                                        Duration readTimeout,
+                                        Function<HttpRequest, String> operation) {
+        return builder
+                .requestFactory(requestFactory(connectTimeout, readTimeout))
+                .requestInterceptor(interceptor(client, operation));
+    }
+
+    ClientHttpRequestInterceptor interceptor(String client, Function<HttpRequest, String> operation) {
+        return (request, body, execution) -> execute(client, operation.apply(request), request, body, execution);
+    }
+
+    private ClientHttpResponse execute(String client,
+                                       String operation,
+                                       HttpRequest request,
+                                       byte[] body,
+                                       ClientHttpRequestExecution execution) throws IOException {
+        Semaphore permits = hostPermits.computeIfAbsent(host(request.getURI()), host -> new Semaphore(maxRequestsPerHost, true));
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a connection to: " + request.getURI().getHost());
+        }
+        Function<String, Runnable> completion = status -> () -> {
+            permits.release();
+            sample.stop(Timer.builder(TIMER_NAME)
+                    .tag("client", client)
+                    .tag("operation", operation)
+                    .tag("method", request.getMethod().name())
+                    .tag("status", status)
+                    .register(meterRegistry));
+        };
+
+        ClientHttpResponse response = null;
+        try {
+            response = execution.execute(request, body);
+
+            return new CompletingClientHttpResponse(response, completion.apply(String.valueOf(response.getStatusCode().value())));
+        } catch (IOException | RuntimeException e) {
+            if (response != null) {
+                response.close();
+            }
+            completion.apply("IO_ERROR").run();
+            throw e;
+        }
+    }
+
+    private HttpClient httpClient(Duration connectTimeout) {
+        return httpClients.computeIfAbsent(connectTimeout, timeout -> HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(timeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build());
+    }
+
+    private static String host(URI uri) {
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+
+    @PreDestroy
+    public void close() {
+        httpClients.values().forEach(HttpClient::close);
+    }
+
+}
@@ -0,0 +1,3 @@
+@org.springframework.lang.NonNullApi
+
+package org.cardanofoundation.lob.app.support.http;
@@ -0,0 +1,113 @@
+package org.cardanofoundation.lob.app.support.reactive;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Debounces calls per key on one shared, fixed size scheduler. A call for a key that still has a pending call
+ * replaces it (the pending one is cancelled and counted as coalesced), so no matter how many keys are active,
+ * no threads are created per call.
+ */
+@Slf4j
+public class DebounceScheduler {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final ScheduledThreadPoolExecutor executor;
+    private final TransactionalTaskRunner transactionalTaskRunner;
+
+    private final Map<String, PendingCall> pendingCalls = new ConcurrentHashMap<>();
+
+    private final AtomicLong scheduled = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public DebounceScheduler(TransactionalTaskRunner transactionalTaskRunner, int threads) {
+        this.transactionalTaskRunner = transactionalTaskRunner;
+        this.executor = new ScheduledThreadPoolExecutor(Math.max(1, threads), new ThreadFactoryBuilder()
+                .setNameFormat("debounce-scheduler-%d")
+                .setDaemon(true)
+                .build());
+        // cancelled calls are dropped from the queue straight away instead of waiting for their delay to pass
+        this.executor.setRemoveOnCancelPolicy(true);
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    public void schedule(String key, Runnable task, Duration delay) {
+        pendingCalls.compute(key, (k, previous) -> {
+            if (previous != null && previous.future.cancel(false)) {
+                coalesced.incrementAndGet();
+            }
+            scheduled.incrementAndGet();
+
+            PendingCall call = new PendingCall(task);
+            call.future = executor.schedule(() -> execute(k, call), delay.toMillis(), MILLISECONDS);
+
+            return call;
+        });
+    }
+
+    public void cancel(String key) {
+        PendingCall call = pendingCalls.remove(key);
+        if (call != null && call.future.cancel(false)) {
+            coalesced.incrementAndGet();
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(scheduled.get(), coalesced.get(), executed.get(), failed.get(), pendingCalls.size());
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        log.info("Debounce scheduler stopped, stats: {}, dropped pending calls: {}", stats(), pendingCalls.size());
+        pendingCalls.clear();
+    }
+
+    private void execute(String key, PendingCall call) {
+        pendingCalls.remove(key, call);
+        try {
+            transactionalTaskRunner.runAfterTransaction(call.task);
+            executed.incrementAndGet();
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            log.error("Debounced call failed, key: {}", key, e);
+        }
+    }
+
+    public record Stats(long scheduled, long coalesced, long executed, long failed, int pending) {
+    }
+
+    private static final class PendingCall {
+
+        private final Runnable task;
+
+        // assigned right after scheduling, while the key is still locked by compute
+        private volatile ScheduledFuture<?> future;
+
+        private PendingCall(Runnable task) {
+            this.task = task;
+        }
+
+    }
+
+}
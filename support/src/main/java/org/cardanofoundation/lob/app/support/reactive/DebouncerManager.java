@@ -5,33 +5,29 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import java.time.Duration;
 import java.util.concurrent.ExecutionException;
 
-import lombok.val;
-
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 
 public class DebouncerManager {
 
-    private final TransactionalTaskRunner transactionalTaskRunner;
+    private final DebounceScheduler debounceScheduler;
     private final Cache<String, Debouncer> debouncerCache;
 
-    public DebouncerManager(Duration duration, TransactionalTaskRunner transactionalTaskRunner) {
+    public DebouncerManager(Duration duration, DebounceScheduler debounceScheduler) {
         debouncerCache = CacheBuilder.newBuilder()
                 .expireAfterAccess(duration.toMillis(), MILLISECONDS)
-                .removalListener(notification -> {
-                    val debouncer = (Debouncer) notification.getValue();
-                    if (debouncer != null) {
-                        debouncer.shutdown();
-                    }
-                })
                 .build();
-        this.transactionalTaskRunner = transactionalTaskRunner;
+        this.debounceScheduler = debounceScheduler;
+    }
+
+    public DebouncerManager(Duration duration, TransactionalTaskRunner transactionalTaskRunner) {
+        this(duration, new DebounceScheduler(transactionalTaskRunner, 1));
     }
 
     public Debouncer getDebouncer(String id,
                                   Runnable task,
                                   Duration delay) throws ExecutionException {
-        return debouncerCache.get(id, () -> new Debouncer(task, delay, transactionalTaskRunner));
+        return debouncerCache.get(id, () -> new Debouncer(id, task, delay, debounceScheduler));
     }
 
     public void cleanup() {
@@ -39,13 +35,11 @@ public class DebouncerManager {
     }
 
     public void callInNewDebouncer(String id, Runnable task, Duration delay) {
-        debouncerCache.asMap().compute(id, (key, existing) -> {
-            if (existing != null) {
-                existing.shutdown(); // Cancel existing task
-            }
-            Debouncer newDebouncer = new Debouncer(task, delay, transactionalTaskRunner);
-            newDebouncer.call(); // Schedule the new task
-            return newDebouncer;
-        });
+        debounceScheduler.schedule(id, task, delay); // Replaces the pending call for this id, if any
+    }
+
+    public DebounceScheduler.Stats stats() {
+        return debounceScheduler.stats();
     }
+
 }
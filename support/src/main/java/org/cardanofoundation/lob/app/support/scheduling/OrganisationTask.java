@@ -0,0 +1,15 @@
+package org.cardanofoundation.lob.app.support.scheduling;
+
+/**
+ * Work done for one organisation in one round of an {@link OrganisationWorkScheduler}.
+ */
+@FunctionalInterface
+public interface OrganisationTask {
+
+    /**
+     * @return number of items that were waiting for the organisation when the task picked them up, reported as the
+     * organisation's queue depth
+     */
+    int run(String organisationId);
+
+}
@@ -0,0 +1,193 @@
+package org.cardanofoundation.lob.app.support.scheduling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Runs a job's work for every organisation concurrently, so one large organisation does not hold up the others.
+ * <p>
+ * Every organisation's task runs on its own virtual thread and in its own transaction, at most
+ * {@code lob.organisation_work.parallelism} of them per job at a time. Tasks are started round-robin: every round
+ * starts one organisation further than the previous one, so with more organisations than workers no organisation is
+ * always the last one served. A task which is still running from an earlier round is not started again.
+ */
+@Service
+@Slf4j
+public class OrganisationWorkScheduler {
+
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${lob.organisation_work.parallelism:4}")
+    private int parallelism = 4;
+
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Map<String, JobState> jobs = new ConcurrentHashMap<>();
+    private final Map<String, OrganisationState> organisations = new ConcurrentHashMap<>();
+
+    public OrganisationWorkScheduler(PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry) {
+        this.transactionManager = transactionManager;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Runs the task for all given organisations and waits until all of them are done. A failing task is logged and
+     * rolled back, it does not affect the other organisations.
+     */
+    public void runRound(String job,
+                         List<String> organisationIds,
+                         boolean readOnly,
+                         OrganisationTask task) {
+        if (organisationIds.isEmpty()) {
+            return;
+        }
+        JobState jobState = jobs.computeIfAbsent(job, this::jobState);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+
+        int offset = Math.floorMod(jobState.nextStart().getAndIncrement(), organisationIds.size());
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < organisationIds.size(); i++) {
+            String organisationId = organisationIds.get((offset + i) % organisationIds.size());
+            if (!jobState.running().add(organisationId)) {
+                log.info("Previous {} task still running, skipping organisationId: {}", job, organisationId);
+                continue;
+            }
+            OrganisationState organisationState = organisations.computeIfAbsent(key(job, organisationId), k -> organisationState(job, organisationId));
+
+            // workers are taken in round-robin order, a task waits here until one is free
+            Timer.Sample waitSample = Timer.start(meterRegistry);
+            try {
+                jobState.permits().acquire();
+            } catch (InterruptedException e) {
+                jobState.running().remove(organisationId);
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted while waiting for a free {} worker, remaining organisations are skipped this round", job);
+                break;
+            } finally {
+                waitSample.stop(jobState.waitTimer());
+            }
+
+            futures.add(workers.submit(() -> {
+                try {
+                    run(job, organisationId, transactionTemplate, task, jobState, organisationState);
+                } finally {
+                    jobState.running().remove(organisationId);
+                    jobState.permits().release();
+                }
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                log.error("Unexpected error in {} worker", job, e.getCause());
+            }
+        }
+    }
+
+    private void run(String job,
+                     String organisationId,
+                     TransactionTemplate transactionTemplate,
+                     OrganisationTask task,
+                     JobState jobState,
+                     OrganisationState organisationState) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Integer queueDepth = transactionTemplate.execute(status -> task.run(organisationId));
+
+            organisationState.queueDepth().set(queueDepth == null ? 0 : queueDepth);
+            organisationState.lastCompleted().set(clock().monotonicTime());
+        } catch (RuntimeException e) {
+            log.error("Error in {} task, organisationId: {}", job, organisationId, e);
+        } finally {
+            sample.stop(jobState.taskTimer());
+        }
+    }
+
+    private JobState jobState(String job) {
+        return new JobState(
+                new Semaphore(Math.max(1, parallelism), true),
+                ConcurrentHashMap.newKeySet(),
+                new AtomicInteger(),
+                Timer.builder("lob.organisation_work.task")
+                        .description("Time spent on one organisation's task")
+                        .tag("job", job)
+                        .register(meterRegistry),
+                Timer.builder("lob.organisation_work.wait")
+                        .description("Time an organisation's task waited for a free worker")
+                        .tag("job", job)
+                        .register(meterRegistry)
+        );
+    }
+
+    private OrganisationState organisationState(String job, String organisationId) {
+        OrganisationState state = new OrganisationState(new AtomicInteger(), new AtomicLong(clock().monotonicTime()));
+
+        Gauge.builder("lob.organisation_work.queue_depth", state.queueDepth(), AtomicInteger::get)
+                .description("Items waiting for the organisation when its last task started")
+                .tags("job", job, "organisation", organisationId)
+                .register(meterRegistry);
+        Gauge.builder("lob.organisation_work.lag", state.lastCompleted(), lastCompleted -> (clock().monotonicTime() - lastCompleted.get()) / 1e9)
+                .description("Seconds since the organisation's last successful task")
+                .tags("job", job, "organisation", organisationId)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        return state;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    private Clock clock() {
+        return meterRegistry.config().clock();
+    }
+
+    private static String key(String job, String organisationId) {
+        return job + "/" + organisationId;
+    }
+
+    private record JobState(Semaphore permits,
+                            Set<String> running,
+                            AtomicInteger nextStart,
+                            Timer taskTimer,
+                            Timer waitTimer) { }
+
+    private record OrganisationState(AtomicInteger queueDepth,
+                                     AtomicLong lastCompleted) { }
+
+}
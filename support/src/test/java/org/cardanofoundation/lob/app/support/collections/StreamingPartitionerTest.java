@@ -0,0 +1,60 @@
+package org.cardanofoundation.lob.app.support.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class StreamingPartitionerTest {
+
+    @Test
+    void shouldMarkFirstAndLastPartitionAndCountEmittedElements() {
+        List<StreamingPartitioner.StreamingPartition<Integer>> partitions = new ArrayList<>();
+        StreamingPartitioner<Integer> partitioner = new StreamingPartitioner<>(2, partitions::add);
+
+        for (int i = 1; i <= 5; i++) {
+            partitioner.add(i);
+        }
+        partitioner.finish();
+
+        assertThat(partitions).extracting(StreamingPartitioner.StreamingPartition::elements)
+                .containsExactly(Set.of(1, 2), Set.of(3, 4), Set.of(5));
+        assertThat(partitions).extracting(StreamingPartitioner.StreamingPartition::isFirst).containsExactly(true, false, false);
+        assertThat(partitions).extracting(StreamingPartitioner.StreamingPartition::isLast).containsExactly(false, false, true);
+        assertThat(partitions).extracting(StreamingPartitioner.StreamingPartition::emittedCount).containsExactly(2, 4, 5);
+    }
+
+    @Test
+    void shouldHoldBackFullPartitionUntilNextElement() {
+        List<StreamingPartitioner.StreamingPartition<Integer>> partitions = new ArrayList<>();
+        StreamingPartitioner<Integer> partitioner = new StreamingPartitioner<>(2, partitions::add);
+
+        partitioner.add(1);
+        partitioner.add(2);
+        assertThat(partitions).isEmpty();
+
+        partitioner.finish();
+        assertThat(partitions).hasSize(1);
+        assertThat(partitions.getFirst().isFirst()).isTrue();
+        assertThat(partitions.getFirst().isLast()).isTrue();
+    }
+
+    @Test
+    void shouldEmitOneEmptyLastPartitionForEmptyStream() {
+        List<StreamingPartitioner.StreamingPartition<Integer>> partitions = new ArrayList<>();
+        StreamingPartitioner<Integer> partitioner = new StreamingPartitioner<>(10, partitions::add);
+
+        partitioner.finish();
+        partitioner.finish();
+
+        assertThat(partitions).hasSize(1);
+        assertThat(partitions.getFirst().elements()).isEmpty();
+        assertThat(partitions.getFirst().isLast()).isTrue();
+        assertThatThrownBy(() -> partitioner.add(1)).isInstanceOf(IllegalStateException.class);
+    }
+
+}
@@ -0,0 +1,143 @@
+package org.cardanofoundation.lob.app.support.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OutboundHttpTransportTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboundHttpTransport transport;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        transport = new OutboundHttpTransport(meterRegistry, Duration.ofSeconds(1), HttpClient.Version.HTTP_2, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transport.close();
+    }
+
+    @Test
+    void requestsAreTimedPerClientAndOperation() throws IOException {
+        ClientHttpRequestInterceptor interceptor = transport.interceptor("reader", request -> "tip");
+
+        interceptor.intercept(request("http://follower/api/v1/tip"), new byte[0], (request, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK))
+                .close();
+
+        assertThat(meterRegistry.get(OutboundHttpTransport.TIMER_NAME)
+                .tag("client", "reader")
+                .tag("operation", "tip")
+                .tag("method", "GET")
+                .tag("status", "200")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    void failedRequestsAreTimedAsIoError() {
+        ClientHttpRequestInterceptor interceptor = transport.interceptor("reader", request -> "tip");
+        ClientHttpRequestExecution failing = (request, body) -> {
+            throw new IOException("connection refused");
+        };
+
+        assertThatThrownBy(() -> interceptor.intercept(request("http://follower/api/v1/tip"), new byte[0], failing))
+                .isInstanceOf(IOException.class);
+
+        assertThat(meterRegistry.get(OutboundHttpTransport.TIMER_NAME).tag("status", "IO_ERROR").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void requestsInFlightAreLimitedPerHost() throws Exception {
+        ClientHttpRequestInterceptor interceptor = transport.interceptor("reader", request -> "tip");
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ClientHttpRequestExecution slow = (request, body) -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+
+            return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+        };
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                futures.add(executor.submit(() -> {
+                    try (ClientHttpResponse response = interceptor.intercept(request("http://follower/api/v1/tip"), new byte[0], slow)) {
+                        return response.getStatusCode();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+        assertThat(meterRegistry.get(OutboundHttpTransport.TIMER_NAME).timer().count()).isEqualTo(6);
+    }
+
+    @Test
+    void slotIsHeldAndRequestTimedUntilTheResponseIsClosed() throws Exception {
+        transport = new OutboundHttpTransport(meterRegistry, Duration.ofSeconds(1), HttpClient.Version.HTTP_2, 1);
+        ClientHttpRequestInterceptor interceptor = transport.interceptor("netsuite", request -> "search-page");
+        ClientHttpRequestExecution ok = (request, body) -> new MockClientHttpResponse("page".getBytes(), HttpStatus.OK);
+
+        ClientHttpResponse first = interceptor.intercept(request("http://netsuite/restlet"), new byte[0], ok);
+        assertThat(meterRegistry.find(OutboundHttpTransport.TIMER_NAME).timer()).isNull();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<ClientHttpResponse> second = executor.submit(() -> interceptor.intercept(request("http://netsuite/restlet"), new byte[0], ok));
+            assertThatThrownBy(() -> second.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+            first.close();
+            first.close();
+            second.get(5, TimeUnit.SECONDS).close();
+        }
+
+        assertThat(meterRegistry.get(OutboundHttpTransport.TIMER_NAME)
+                .tag("client", "netsuite")
+                .tag("operation", "search-page")
+                .tag("status", "200")
+                .timer()
+                .count()).isEqualTo(2);
+    }
+
+    private static MockClientHttpRequest request(String uri) {
+        return new MockClientHttpRequest(HttpMethod.GET, URI.create(uri));
+    }
+
+}
@@ -0,0 +1,91 @@
+package org.cardanofoundation.lob.app.support.reactive;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DebounceSchedulerTest {
+
+    private TransactionalTaskRunner taskRunner;
+    private DebounceScheduler debounceScheduler;
+
+    @BeforeEach
+    public void setUp() {
+        taskRunner = spy(new TransactionalTaskRunner());
+        debounceScheduler = new DebounceScheduler(taskRunner, 1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        debounceScheduler.shutdown();
+    }
+
+    @Test
+    public void shouldRunOnlyLatestCallPerKey() throws InterruptedException {
+        Runnable first = mock(Runnable.class);
+        Runnable second = mock(Runnable.class);
+        Runnable other = mock(Runnable.class);
+
+        debounceScheduler.schedule("batch1", first, Duration.ofMillis(100));
+        debounceScheduler.schedule("batch1", second, Duration.ofMillis(100));
+        debounceScheduler.schedule("batch2", other, Duration.ofMillis(100));
+
+        MILLISECONDS.sleep(300);
+
+        verify(first, never()).run();
+        verify(second, times(1)).run();
+        verify(other, times(1)).run();
+        assertThat(debounceScheduler.stats()).isEqualTo(new DebounceScheduler.Stats(3, 1, 2, 0, 0));
+    }
+
+    @Test
+    public void shouldNotCreateThreadPerKey() throws InterruptedException {
+        int threadsBefore = Thread.activeCount();
+
+        for (int i = 0; i < 500; i++) {
+            debounceScheduler.schedule("batch" + i, () -> {}, Duration.ofMillis(50));
+        }
+
+        assertThat(Thread.activeCount() - threadsBefore).isLessThanOrEqualTo(1);
+
+        MILLISECONDS.sleep(300);
+
+        assertThat(debounceScheduler.stats().executed()).isEqualTo(500);
+    }
+
+    @Test
+    public void shouldCountFailedCallsAndKeepRunning() throws InterruptedException {
+        Runnable task = mock(Runnable.class);
+
+        debounceScheduler.schedule("failing", () -> {
+            throw new IllegalStateException("boom");
+        }, Duration.ZERO);
+        debounceScheduler.schedule("ok", task, Duration.ofMillis(50));
+
+        MILLISECONDS.sleep(200);
+
+        verify(task, times(1)).run();
+        assertThat(debounceScheduler.stats().failed()).isEqualTo(1);
+        assertThat(debounceScheduler.stats().executed()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldDropPendingCallsOnShutdown() throws InterruptedException {
+        Runnable task = mock(Runnable.class);
+
+        debounceScheduler.schedule("batch1", task, Duration.ofSeconds(10));
+        debounceScheduler.shutdown();
+
+        MILLISECONDS.sleep(100);
+
+        verify(task, never()).run();
+        assertThat(debounceScheduler.stats().pending()).isZero();
+    }
+
+}
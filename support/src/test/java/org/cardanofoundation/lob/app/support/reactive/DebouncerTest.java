@@ -14,17 +14,19 @@ public class DebouncerTest {
     private Runnable task;
     private Debouncer debouncer;
     private TransactionalTaskRunner taskRunner;
+    private DebounceScheduler debounceScheduler;
 
     @BeforeEach
     public void setUp() {
         task = mock(Runnable.class);
         taskRunner = mock(TransactionalTaskRunner.class);
-        debouncer = new Debouncer(task, Duration.ofMillis(100), taskRunner); // Using a short delay for testing
+        debounceScheduler = new DebounceScheduler(taskRunner, 1);
+        debouncer = new Debouncer("id1", task, Duration.ofMillis(100), debounceScheduler); // Using a short delay for testing
     }
 
     @AfterEach
     public void tearDown() {
-        debouncer.shutdown();
+        debounceScheduler.shutdown();
     }
 
     @Test
@@ -0,0 +1,118 @@
+package org.cardanofoundation.lob.app.support.scheduling;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OrganisationWorkSchedulerTest {
+
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private OrganisationWorkScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new OrganisationWorkScheduler(transactionManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void everyOrganisationRunsInItsOwnTransaction() {
+        List<String> served = new CopyOnWriteArrayList<>();
+
+        scheduler.runRound("test", List.of("a", "b", "c"), false, organisationId -> {
+            served.add(organisationId);
+            return 0;
+        });
+
+        assertThat(served).containsExactlyInAnyOrder("a", "b", "c");
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    void everyRoundStartsOneOrganisationFurther() {
+        ReflectionTestUtils.setField(scheduler, "parallelism", 1);
+        List<String> served = new CopyOnWriteArrayList<>();
+
+        scheduler.runRound("test", List.of("a", "b", "c"), false, organisationId -> {
+            served.add(organisationId);
+            return 0;
+        });
+        scheduler.runRound("test", List.of("a", "b", "c"), false, organisationId -> {
+            served.add(organisationId);
+            return 0;
+        });
+
+        assertThat(served).containsExactly("a", "b", "c", "b", "c", "a");
+    }
+
+    @Test
+    void noMoreThanParallelismTasksRunAtOnce() {
+        ReflectionTestUtils.setField(scheduler, "parallelism", 2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        scheduler.runRound("test", List.of("a", "b", "c", "d", "e", "f"), false, organisationId -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                MILLISECONDS.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return 0;
+        });
+
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    @Test
+    void failingOrganisationIsRolledBackWithoutStoppingTheOthers() {
+        List<String> served = new CopyOnWriteArrayList<>();
+
+        scheduler.runRound("test", List.of("a", "b", "c"), false, organisationId -> {
+            if (organisationId.equals("b")) {
+                throw new IllegalStateException("boom");
+            }
+            served.add(organisationId);
+            return 0;
+        });
+
+        assertThat(served).containsExactlyInAnyOrder("a", "c");
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void queueDepthIsReportedPerOrganisation() {
+        scheduler.runRound("test", List.of("a", "b"), true, organisationId -> organisationId.equals("a") ? 5 : 0);
+
+        assertThat(meterRegistry.get("lob.organisation_work.queue_depth").tags("job", "test", "organisation", "a").gauge().value()).isEqualTo(5);
+        assertThat(meterRegistry.get("lob.organisation_work.queue_depth").tags("job", "test", "organisation", "b").gauge().value()).isZero();
+        assertThat(meterRegistry.get("lob.organisation_work.lag").tags("job", "test", "organisation", "a").gauge()).isNotNull();
+    }
+
+}